@@ -257,6 +257,9 @@ run_latency_test_multiple() {
     echo "  ./docker-test.sh --stop"
 }
 
+# 결과 이력에 기록할 커밋 (컨테이너 안에는 git이 없으므로 여기서 전달)
+export GIT_SHA=${GIT_SHA:-$(git rev-parse --short HEAD 2>/dev/null || echo unknown)}
+
 # 인자 파싱
 case "$1" in
     --basic)
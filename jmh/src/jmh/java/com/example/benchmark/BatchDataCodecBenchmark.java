@@ -0,0 +1,76 @@
+package com.example.benchmark;
+
+import com.example.serviceb.model.BatchDataResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.google.protobuf.InvalidProtocolBufferException;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BatchDataResponse 인코딩/디코딩 비용 비교 (JSON - Jackson vs Protobuf)
+ * 네트워크와 Spring 오버헤드 없이 코덱 비용만 측정하며, -prof gc로 연산당 할당량(gc.alloc.rate.norm)도 함께 기록
+ *
+ * 실행: ./gradlew :jmh:jmh (반복 횟수/프로파일러는 jmh/build.gradle에서 설정)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BatchDataCodecBenchmark {
+
+    @Param({"100", "1000", "5000"})
+    public int batchSize;
+
+    private ObjectWriter jsonWriter;
+    private ObjectReader jsonReader;
+
+    private BatchDataResponse pojoResponse;
+    private com.example.proto.BatchDataResponse protoResponse;
+
+    private byte[] jsonBytes;
+    private byte[] protoBytes;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper();
+        jsonWriter = objectMapper.writerFor(BatchDataResponse.class);
+        jsonReader = objectMapper.readerFor(BatchDataResponse.class);
+
+        pojoResponse = BenchmarkData.pojoResponse(batchSize, 42);
+        protoResponse = BenchmarkData.protoResponse(pojoResponse);
+
+        jsonBytes = jsonWriter.writeValueAsBytes(pojoResponse);
+        protoBytes = protoResponse.toByteArray();
+    }
+
+    @Benchmark
+    public byte[] jsonEncode() throws IOException {
+        return jsonWriter.writeValueAsBytes(pojoResponse);
+    }
+
+    @Benchmark
+    public BatchDataResponse jsonDecode() throws IOException {
+        return jsonReader.readValue(jsonBytes);
+    }
+
+    @Benchmark
+    public byte[] protobufEncode() {
+        return protoResponse.toByteArray();
+    }
+
+    @Benchmark
+    public com.example.proto.BatchDataResponse protobufDecode() throws InvalidProtocolBufferException {
+        return com.example.proto.BatchDataResponse.parseFrom(protoBytes);
+    }
+
+    /**
+     * service-b의 기존 gRPC 경로(POJO -> Proto 필드 복사 후 인코딩)
+     */
+    @Benchmark
+    public byte[] protobufConvertAndEncode() {
+        return BenchmarkData.protoResponse(pojoResponse).toByteArray();
+    }
+}
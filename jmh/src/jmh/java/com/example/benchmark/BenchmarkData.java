@@ -0,0 +1,91 @@
+package com.example.benchmark;
+
+import com.example.serviceb.model.BatchDataResponse;
+import com.example.serviceb.model.DataItem;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+/**
+ * 벤치마크 입력 데이터 - service-b DataGenerator와 같은 구성(약 2KB/건)을 고정 시드로 생성
+ * (실행마다 같은 데이터로 측정하기 위해 난수 대신 시드 사용)
+ */
+final class BenchmarkData {
+
+    private static final String CHARS = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789 ";
+    private static final long BASE_TIMESTAMP = 1_700_000_000_000L;
+
+    private BenchmarkData() {
+    }
+
+    static BatchDataResponse pojoResponse(int batchSize, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        List<DataItem> items = new ArrayList<>(batchSize);
+        for (int i = 0; i < batchSize; i++) {
+            String id = new UUID(random.nextLong(), random.nextLong()).toString();
+            long timestamp = BASE_TIMESTAMP + i;
+            items.add(new DataItem(
+                id,
+                "Product-" + id.substring(0, 8),
+                generateString(200, random), // description
+                "Category-" + (timestamp % 10),
+                generateString(500, random), // content
+                timestamp,
+                generateString(150, random), // metadata1
+                generateString(150, random), // metadata2
+                generateString(150, random), // metadata3
+                generateString(150, random), // metadata4
+                generateString(150, random), // metadata5
+                generateString(200, random), // additionalInfo
+                random.nextDouble() * 1000,
+                (int) (timestamp % 5),
+                "tag1,tag2,tag3,tag4,tag5"
+            ));
+        }
+        return new BatchDataResponse(true, batchSize, "Batch data generated successfully",
+            BASE_TIMESTAMP, BASE_TIMESTAMP, items);
+    }
+
+    /**
+     * 같은 내용의 Proto 응답 (service-b GrpcDataService의 POJO -> Proto 변환과 동일한 필드 매핑)
+     */
+    static com.example.proto.BatchDataResponse protoResponse(BatchDataResponse response) {
+        com.example.proto.BatchDataResponse.Builder builder = com.example.proto.BatchDataResponse.newBuilder()
+            .setSuccess(response.isSuccess())
+            .setProcessedCount(response.getProcessedCount())
+            .setMessage(response.getMessage())
+            .setStartTime(response.getStartTime())
+            .setEndTime(response.getEndTime());
+
+        for (DataItem item : response.getItems()) {
+            builder.addItems(com.example.proto.DataItem.newBuilder()
+                .setId(item.getId())
+                .setName(item.getName())
+                .setDescription(item.getDescription())
+                .setCategory(item.getCategory())
+                .setContent(item.getContent())
+                .setTimestamp(item.getTimestamp())
+                .setMetadata1(item.getMetadata1())
+                .setMetadata2(item.getMetadata2())
+                .setMetadata3(item.getMetadata3())
+                .setMetadata4(item.getMetadata4())
+                .setMetadata5(item.getMetadata5())
+                .setAdditionalInfo(item.getAdditionalInfo())
+                .setValue(item.getValue())
+                .setStatus(item.getStatus())
+                .setTags(item.getTags())
+                .build());
+        }
+        return builder.build();
+    }
+
+    private static String generateString(int length, SplittableRandom random) {
+        StringBuilder sb = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            sb.append(CHARS.charAt(random.nextInt(CHARS.length())));
+        }
+        return sb.toString();
+    }
+}
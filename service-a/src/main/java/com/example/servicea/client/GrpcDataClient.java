@@ -2,22 +2,264 @@ package com.example.servicea.client;
 
 import com.example.proto.BatchDataGenerateRequest;
 import com.example.proto.BatchDataResponse;
+import com.example.proto.DataItemChunk;
 import com.example.proto.DataServiceGrpc;
+import com.example.proto.EncodedBatchRequest;
+import com.example.proto.EncodedBatchResponse;
+import com.example.proto.IngestResponse;
+import com.example.proto.ProfiledBatchRequest;
+import com.example.proto.ProfiledBatchResponse;
+import com.example.servicea.model.PayloadProfile;
+import com.example.servicea.model.ProjectedBatch;
+import com.example.servicea.model.WireFormat;
+import com.example.shared.grpc.ZeroCopyProtoMarshaller;
+import com.example.shared.model.PayloadCompression;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.protobuf.CodedInputStream;
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+import io.grpc.stub.ClientCallStreamObserver;
+import io.grpc.stub.ClientCalls;
+import io.grpc.stub.ClientResponseObserver;
 import lombok.extern.slf4j.Slf4j;
 import net.devh.boot.grpc.client.inject.GrpcClient;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+
 @Slf4j
 @Component
 public class GrpcDataClient {
 
+    // 응답 파싱에 ZeroCopyProtoMarshaller를 쓰는 메서드 (응답에 bytes 필드가 없는 메서드만)
+    private static final MethodDescriptor<BatchDataGenerateRequest, BatchDataResponse> ZERO_COPY_GET_BATCH_DATA =
+        ZeroCopyProtoMarshaller.rebind(DataServiceGrpc.getGetBatchDataMethod());
+    private static final MethodDescriptor<BatchDataGenerateRequest, DataItemChunk> ZERO_COPY_STREAM_BATCH_DATA =
+        ZeroCopyProtoMarshaller.rebind(DataServiceGrpc.getStreamBatchDataMethod());
+
+    // GetBatchData 응답을 BatchDataResponse 대신 ProjectedDecoder로 바로 읽는 메서드
+    private final MethodDescriptor<BatchDataGenerateRequest, ProjectedBatch> projectedGetBatchData;
+
     @GrpcClient("service-b")
     private DataServiceGrpc.DataServiceBlockingStub dataServiceStub;
 
+    @GrpcClient("service-b")
+    private DataServiceGrpc.DataServiceFutureStub dataServiceFutureStub;
+
+    // 클라이언트 스트리밍 호출용 (IngestData)
+    @GrpcClient("service-b")
+    private DataServiceGrpc.DataServiceStub dataServiceAsyncStub;
+
+    // 마샬러를 바꾼 MethodDescriptor로 직접 호출할 때 사용 (스텁과 같은 채널, 전역 인터셉터 포함)
+    @GrpcClient("service-b")
+    private Channel channel;
+
+    // true면 getBatchData/getBatchDataAsync/streamBatchData 기본 호출이 zero-copy 마샬러 사용
+    @Value("${service-b.grpc.zero-copy:false}")
+    private boolean zeroCopy;
+
+    public GrpcDataClient(ProjectedDecoder projectedDecoder) {
+        MethodDescriptor<BatchDataGenerateRequest, BatchDataResponse> method = DataServiceGrpc.getGetBatchDataMethod();
+        this.projectedGetBatchData = method.toBuilder(method.getRequestMarshaller(), projectedMarshaller(projectedDecoder))
+            .build();
+    }
+
+    /**
+     * 응답 전용 마샬러 - 수신 바이트를 CodedInputStream으로 읽으면서 필요한 필드만 디코딩
+     */
+    private static MethodDescriptor.Marshaller<ProjectedBatch> projectedMarshaller(ProjectedDecoder decoder) {
+        return new MethodDescriptor.Marshaller<>() {
+            @Override
+            public InputStream stream(ProjectedBatch value) {
+                throw new UnsupportedOperationException("ProjectedBatch is decode-only");
+            }
+
+            @Override
+            public ProjectedBatch parse(InputStream stream) {
+                try {
+                    CodedInputStream input = CodedInputStream.newInstance(stream);
+                    input.setSizeLimit(Integer.MAX_VALUE);
+                    return decoder.decodeProto(input);
+                } catch (IOException e) {
+                    throw Status.INTERNAL.withDescription("Invalid protobuf byte sequence")
+                        .withCause(e)
+                        .asRuntimeException();
+                }
+            }
+        };
+    }
+
+    public boolean isZeroCopy() {
+        return zeroCopy;
+    }
+
     public BatchDataResponse getBatchData(int count) {
+        return getBatchData(count, zeroCopy);
+    }
+
+    /**
+     * 마샬러를 지정해서 호출 (zeroCopy=false면 생성된 스텁의 기본 protobuf 마샬러)
+     */
+    public BatchDataResponse getBatchData(int count, boolean zeroCopy) {
+        BatchDataGenerateRequest request = BatchDataGenerateRequest.newBuilder()
+            .setCount(count)
+            .build();
+        return zeroCopy
+            ? ClientCalls.blockingUnaryCall(channel, ZERO_COPY_GET_BATCH_DATA, CallOptions.DEFAULT, request)
+            : dataServiceStub.getBatchData(request);
+    }
+
+    /**
+     * 요청을 지정한 방식으로 압축해서 호출 - 서버도 같은 방식으로 응답을 압축함 (NONE이면 압축 없음)
+     */
+    public BatchDataResponse getBatchData(int count, PayloadCompression compression) {
+        BatchDataGenerateRequest request = BatchDataGenerateRequest.newBuilder()
+            .setCount(count)
+            .build();
+        DataServiceGrpc.DataServiceBlockingStub stub = compression == PayloadCompression.NONE
+            ? dataServiceStub
+            : dataServiceStub.withCompression(compression.getEncoding());
+        return stub.getBatchData(request);
+    }
+
+    /**
+     * GetBatchData를 호출하되 응답에서 id, category, value만 디코딩 (나머지 필드는 바이트 단위로 건너뜀)
+     */
+    public ProjectedBatch getProjectedBatchData(int count) {
+        BatchDataGenerateRequest request = BatchDataGenerateRequest.newBuilder()
+            .setCount(count)
+            .build();
+        return ClientCalls.blockingUnaryCall(channel, projectedGetBatchData, CallOptions.DEFAULT, request);
+    }
+
+    /**
+     * 비동기 호출 - 여러 배치를 동시에 in-flight 상태로 유지할 때 사용 (같은 HTTP/2 연결에서 멀티플렉싱)
+     */
+    public ListenableFuture<BatchDataResponse> getBatchDataAsync(int count) {
+        return getBatchDataAsync(count, zeroCopy);
+    }
+
+    public ListenableFuture<BatchDataResponse> getBatchDataAsync(int count, boolean zeroCopy) {
         BatchDataGenerateRequest request = BatchDataGenerateRequest.newBuilder()
             .setCount(count)
             .build();
-        return dataServiceStub.getBatchData(request);
+        return zeroCopy
+            ? ClientCalls.futureUnaryCall(channel.newCall(ZERO_COPY_GET_BATCH_DATA, CallOptions.DEFAULT), request)
+            : dataServiceFutureStub.getBatchData(request);
+    }
+
+    /**
+     * 서버 스트리밍 호출 - 반환된 Iterator를 소비하는 만큼만 서버가 전송함 (flow control)
+     */
+    public Iterator<DataItemChunk> streamBatchData(int count, int chunkSize) {
+        BatchDataGenerateRequest request = BatchDataGenerateRequest.newBuilder()
+            .setCount(count)
+            .setChunkSize(chunkSize)
+            .build();
+        return zeroCopy
+            ? ClientCalls.blockingServerStreamingCall(channel, ZERO_COPY_STREAM_BATCH_DATA, CallOptions.DEFAULT, request)
+            : dataServiceStub.streamBatchData(request);
+    }
+
+    /**
+     * 지정한 포맷으로 인코딩된 BatchDataResponse를 bytes로 수신 (디코딩은 호출 측에서 수행)
+     */
+    public EncodedBatchResponse getEncodedBatchData(int count, WireFormat format) {
+        EncodedBatchRequest request = EncodedBatchRequest.newBuilder()
+            .setCount(count)
+            .setFormat(format.name())
+            .build();
+        return dataServiceStub.getEncodedBatchData(request);
+    }
+
+    /**
+     * 페이로드 프로필 모양의 배치 수신 (itemSizeBytes가 0이면 프로필 기본 크기)
+     */
+    public ProfiledBatchResponse getProfiledBatchData(PayloadProfile profile, int count, int itemSizeBytes) {
+        ProfiledBatchRequest request = ProfiledBatchRequest.newBuilder()
+            .setCount(count)
+            .setProfile(profile.name())
+            .setItemSizeBytes(itemSizeBytes)
+            .build();
+        return dataServiceStub.getProfiledBatchData(request);
+    }
+
+    /**
+     * 클라이언트 스트리밍 업로드 - batchCount개의 배치를 DataItemChunk로 한 스트림에 순서대로 보내고 확인 응답 1건 수신
+     * (서버가 수신 가능한 상태(isReady)일 때만 전송하므로 배치를 미리 만들어 쌓아 두지 않음)
+     * timeout이 지나면 DEADLINE_EXCEEDED로 실패하고, 반환된 future를 취소하면 호출도 취소됨
+     *
+     * @param batches 배치 번호를 받아 해당 배치의 항목을 반환 (onReady 콜백 스레드에서 호출됨)
+     */
+    public CompletableFuture<IngestResponse> ingestData(int batchCount, IntFunction<List<com.example.proto.DataItem>> batches,
+                                                        Duration timeout) {
+        CompletableFuture<IngestResponse> result = new CompletableFuture<>();
+
+        dataServiceAsyncStub.withDeadlineAfter(timeout.toMillis(), TimeUnit.MILLISECONDS)
+            .ingestData(new ClientResponseObserver<DataItemChunk, IngestResponse>() {
+                private IngestResponse response;
+
+                @Override
+                public void beforeStart(ClientCallStreamObserver<DataItemChunk> requestStream) {
+                    result.whenComplete((value, error) -> {
+                        if (result.isCancelled()) {
+                            requestStream.cancel("Ingest cancelled by caller", null);
+                        }
+                    });
+                    // onReady 핸들러는 호출 단위로 직렬화되어 실행되므로 sent에 별도 동기화가 필요 없음
+                    requestStream.setOnReadyHandler(new Runnable() {
+                        private int sent;
+                        private boolean halfClosed;
+
+                        @Override
+                        public void run() {
+                            try {
+                                while (!halfClosed && requestStream.isReady() && sent < batchCount) {
+                                    requestStream.onNext(DataItemChunk.newBuilder()
+                                        .setSequence(sent)
+                                        .addAllItems(batches.apply(sent))
+                                        .build());
+                                    sent++;
+                                }
+                                if (!halfClosed && sent >= batchCount) {
+                                    halfClosed = true;
+                                    requestStream.onCompleted();
+                                }
+                            } catch (RuntimeException e) {
+                                // 배치를 만들다 실패하면 호출을 취소하고 바로 실패로 끝냄 (응답을 기다리며 멈추지 않도록)
+                                halfClosed = true;
+                                requestStream.onError(e);
+                                result.completeExceptionally(e);
+                            }
+                        }
+                    });
+                }
+
+                @Override
+                public void onNext(IngestResponse value) {
+                    response = value;
+                }
+
+                @Override
+                public void onError(Throwable t) {
+                    result.completeExceptionally(t);
+                }
+
+                @Override
+                public void onCompleted() {
+                    result.complete(response);
+                }
+            });
+        return result;
     }
-}
\ No newline at end of file
+}
@@ -1,40 +1,335 @@
 package com.example.servicea.client;
 
 import com.example.servicea.model.BatchDataResponse;
+import com.example.servicea.model.DataItem;
+import com.example.servicea.model.IngestRequest;
+import com.example.servicea.model.IngestResponse;
+import com.example.servicea.model.PayloadCacheStats;
+import com.example.servicea.model.PayloadProfile;
+import com.example.servicea.model.ProfiledBatchResponse;
+import com.example.servicea.model.ProjectedBatch;
 import com.example.servicea.model.ServerPerformanceMetrics;
+import com.example.servicea.model.WireFormat;
+import com.example.servicea.service.WireByteStats;
+import com.example.shared.compression.CompressionStats;
+import com.example.shared.model.CompressionMetrics;
+import com.example.shared.model.PayloadCompression;
 import lombok.extern.slf4j.Slf4j;
+import org.reactivestreams.Publisher;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ClientHttpRequestDecorator;
+import org.springframework.http.codec.cbor.Jackson2CborDecoder;
+import org.springframework.http.codec.json.Jackson2SmileDecoder;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Slf4j
 @Component
 public class HttpDataClient {
 
+    // 바이트 측정 대상 (배치 데이터 수신/업로드 요청만 - 메트릭 조회 등 관리용 호출은 제외)
+    private static final String DATA_PATH = "/api/data/generate";
+    private static final String INGEST_PATH = "/api/data/ingest";
+
+    // 응답 본문을 모아 디코딩할 때의 최대 크기 (배치 크기 상한 계산에도 사용)
+    public static final int MAX_IN_MEMORY_SIZE = 10 * 1024 * 1024;
+
+    // 평문(TLS 없는) 연결로 Service B에 붙을 수 있는 프로토콜
+    private static final List<HttpProtocol> SUPPORTED_PROTOCOLS = List.of(HttpProtocol.HTTP11, HttpProtocol.H2C);
+
+    // service-b.http.protocol 설정에 따른 기본 클라이언트 (배치 테스트, 메트릭 조회 등 모든 기본 호출에 사용)
     private final WebClient webClient;
+    private final HttpProtocol defaultProtocol;
+    // 전송 방식 비교용 - 설정과 관계없이 HTTP/1.1, h2c 클라이언트를 모두 유지 (연결 풀도 각각 분리)
+    private final Map<HttpProtocol, WebClient> clientsByProtocol = new EnumMap<>(HttpProtocol.class);
+    private final CompressionStats compressionStats;
+    private final WireByteStats wireByteStats;
+    private final ProjectedDecoder projectedDecoder;
+
+    public HttpDataClient(@Value("${service-b.http-url}") String serviceBUrl,
+                          @Value("${service-b.http.protocol:HTTP11}") HttpProtocol protocol,
+                          @Value("${service-b.http.max-connections:500}") int maxConnections,
+                          @Value("${service-b.http.pending-acquire-max-count:1000}") int pendingAcquireMaxCount,
+                          @Value("${service-b.http.pending-acquire-timeout:45s}") Duration pendingAcquireTimeout,
+                          CompressionStats compressionStats,
+                          WireByteStats wireByteStats,
+                          ProjectedDecoder projectedDecoder) {
+        if (!SUPPORTED_PROTOCOLS.contains(protocol)) {
+            throw new IllegalArgumentException("Unsupported service-b.http.protocol: " + protocol
+                + " (supported: " + SUPPORTED_PROTOCOLS + ")");
+        }
+        this.compressionStats = compressionStats;
+        this.wireByteStats = wireByteStats;
+        this.projectedDecoder = projectedDecoder;
+        for (HttpProtocol candidate : SUPPORTED_PROTOCOLS) {
+            // h2c는 연결 하나에서 여러 요청을 멀티플렉싱하므로 maxConnections는 HTTP/2 연결 수 상한
+            ConnectionProvider connectionProvider = ConnectionProvider.builder("service-b-" + candidate.name().toLowerCase())
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                .pendingAcquireTimeout(pendingAcquireTimeout)
+                .build();
+            clientsByProtocol.put(candidate, createWebClient(serviceBUrl, candidate, connectionProvider,
+                List.of(decompressingFilter(), wireByteFilter())));
+        }
+
+        this.defaultProtocol = protocol;
+        this.webClient = clientsByProtocol.get(protocol);
+        log.info("Service B HTTP client: protocol={}, maxConnections={}, pendingAcquireMaxCount={}",
+            protocol, maxConnections, pendingAcquireMaxCount);
+    }
+
+    private static WebClient createWebClient(String baseUrl, HttpProtocol protocol, ConnectionProvider connectionProvider,
+                                             List<ExchangeFilterFunction> filters) {
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+            .protocol(protocol);
+
+        return WebClient.builder()
+            .baseUrl(baseUrl)
+            .clientConnector(new ReactorClientHttpConnector(httpClient))
+            // 앞의 필터가 바깥쪽 - wireByteFilter는 압축 해제 전 본문을 봄
+            .filters(chain -> chain.addAll(filters))
+            .codecs(configurer -> {
+                configurer.defaultCodecs().maxInMemorySize(MAX_IN_MEMORY_SIZE);
+                // 포맷 비교용 바이너리 디코더 (maxInMemorySize 등 기본 설정을 그대로 적용)
+                configurer.customCodecs().registerWithDefaultConfig(new Jackson2SmileDecoder());
+                configurer.customCodecs().registerWithDefaultConfig(new Jackson2CborDecoder());
+            })
+            .build();
+    }
+
+    /**
+     * 요청에 Accept-Encoding을 직접 지정한 경우에만 응답 본문 바이트와 압축 해제 시간을 CompressionStats에 기록
+     * (Reactor Netty 자동 압축 해제는 gzip만 지원하고 바이트를 따로 볼 수 없어 사용하지 않음)
+     */
+    private ExchangeFilterFunction decompressingFilter() {
+        return (request, next) -> {
+            if (!request.headers().containsKey(HttpHeaders.ACCEPT_ENCODING)) {
+                return next.exchange(request);
+            }
+            return next.exchange(request).map(response -> {
+                PayloadCompression compression = PayloadCompression.fromEncoding(
+                    response.headers().asHttpHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+                return compression == PayloadCompression.NONE
+                    ? countIdentityBody(response)
+                    : decompressBody(response, compression);
+            });
+        };
+    }
+
+    /**
+     * 배치 데이터 호출마다 요청/응답 본문 바이트를 WireByteStats에 기록 (본문 구독이 끝나거나 취소될 때 1건)
+     * 요청 본문은 인코더가 쓰는 시점에야 크기를 알 수 있으므로 (Content-Length 미정) 쓰는 버퍼를 세어서 기록
+     */
+    private ExchangeFilterFunction wireByteFilter() {
+        return (request, next) -> {
+            String path = request.url().getPath();
+            if (!path.startsWith(DATA_PATH) && !path.startsWith(INGEST_PATH)) {
+                return next.exchange(request);
+            }
+            AtomicLong requestBytes = new AtomicLong();
+            ClientRequest countingRequest = ClientRequest.from(request)
+                .body((outputMessage, context) -> request.body().insert(new ClientHttpRequestDecorator(outputMessage) {
+                    @Override
+                    public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+                        return super.writeWith(Flux.from(body)
+                            .doOnNext(buffer -> requestBytes.addAndGet(buffer.readableByteCount())));
+                    }
+                }, context))
+                .build();
+            return next.exchange(countingRequest).map(response -> {
+                AtomicLong responseBytes = new AtomicLong();
+                return response.mutate()
+                    .body(body -> body
+                        .doOnNext(buffer -> responseBytes.addAndGet(buffer.readableByteCount()))
+                        .doFinally(signal -> wireByteStats.record("HTTP", path, requestBytes.get(), responseBytes.get())))
+                    .build();
+            });
+        };
+    }
+
+    private ClientResponse countIdentityBody(ClientResponse response) {
+        AtomicLong bodyBytes = new AtomicLong();
+        return response.mutate()
+            .body(body -> body
+                .doOnNext(buffer -> bodyBytes.addAndGet(buffer.readableByteCount()))
+                .doOnComplete(() -> compressionStats.record(PayloadCompression.NONE, bodyBytes.get(), bodyBytes.get(), 0)))
+            .build();
+    }
 
-    public HttpDataClient(@Value("${service-b.http-url}") String serviceBUrl) {
-        this.webClient = WebClient.builder()
-            .baseUrl(serviceBUrl)
-            .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(10 * 1024 * 1024))
+    /**
+     * 압축된 본문을 모두 모은 뒤 한 번에 풀어서 전달 (디코더도 어차피 본문 전체를 모아 디코딩함)
+     */
+    private ClientResponse decompressBody(ClientResponse response, PayloadCompression compression) {
+        return response.mutate()
+            .headers(headers -> headers.remove(HttpHeaders.CONTENT_ENCODING))
+            .body(body -> DataBufferUtils.join(body)
+                .map(buffer -> decompress(buffer, compression))
+                .flux())
             .build();
     }
 
+    private DataBuffer decompress(DataBuffer buffer, PayloadCompression compression) {
+        try (InputStream in = compressionStats.meterDecompress(compression, buffer.asInputStream(true))) {
+            return DefaultDataBufferFactory.sharedInstance.wrap(in.readAllBytes());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public HttpProtocol getDefaultProtocol() {
+        return defaultProtocol;
+    }
+
     public Mono<BatchDataResponse> getBatchData(int count) {
+        return getBatchData(count, defaultProtocol);
+    }
+
+    /**
+     * 지정한 전송 방식(HTTP/1.1 또는 h2c) 클라이언트로 JSON 배치 수신
+     */
+    public Mono<BatchDataResponse> getBatchData(int count, HttpProtocol protocol) {
+        return clientsByProtocol.get(protocol).get()
+            .uri(uriBuilder -> uriBuilder
+                .path("/api/data/generate")
+                .queryParam("count", count)
+                .build())
+            .retrieve()
+            .bodyToMono(BatchDataResponse.class);
+    }
+
+    /**
+     * Accept-Encoding으로 응답 압축(gzip/zstd/snappy)을 요청해서 JSON 배치 수신 (NONE이면 identity)
+     */
+    public Mono<BatchDataResponse> getBatchData(int count, PayloadCompression compression) {
+        return webClient.get()
+            .uri(uriBuilder -> uriBuilder
+                .path("/api/data/generate")
+                .queryParam("count", count)
+                .build())
+            .header(HttpHeaders.ACCEPT_ENCODING, compression.getEncoding())
+            .retrieve()
+            .bodyToMono(BatchDataResponse.class);
+    }
+
+    /**
+     * Accept 헤더로 응답 포맷(JSON/Smile/CBOR)을 협상해서 수신
+     */
+    public Mono<BatchDataResponse> getBatchData(int count, WireFormat format) {
         return webClient.get()
             .uri(uriBuilder -> uriBuilder
                 .path("/api/data/generate")
                 .queryParam("count", count)
                 .build())
+            .accept(MediaType.parseMediaType(format.getMediaType()))
             .retrieve()
             .bodyToMono(BatchDataResponse.class);
     }
 
+    /**
+     * 페이로드 프로필 모양의 JSON 배치 수신 (itemSizeBytes가 0이면 프로필 기본 크기)
+     */
+    public Mono<ProfiledBatchResponse> getProfiledBatchData(PayloadProfile profile, int count, int itemSizeBytes) {
+        return webClient.get()
+            .uri(uriBuilder -> uriBuilder
+                .path("/api/data/generate/profiled")
+                .queryParam("count", count)
+                .queryParam("profile", profile.name())
+                .queryParam("itemSizeBytes", itemSizeBytes)
+                .build())
+            .accept(MediaType.APPLICATION_JSON)
+            .retrieve()
+            .bodyToMono(ProfiledBatchResponse.class);
+    }
+
+    /**
+     * JSON 배치를 POJO로 바인딩하지 않고 id, category, value만 스트리밍 파싱해서 수신
+     */
+    public Mono<ProjectedBatch> getProjectedBatchData(int count) {
+        return webClient.get()
+            .uri(uriBuilder -> uriBuilder
+                .path("/api/data/generate")
+                .queryParam("count", count)
+                .build())
+            .accept(MediaType.APPLICATION_JSON)
+            .retrieve()
+            .bodyToMono(DataBuffer.class)
+            .map(this::decodeProjected);
+    }
+
+    private ProjectedBatch decodeProjected(DataBuffer buffer) {
+        try (InputStream in = buffer.asInputStream(true)) {
+            return projectedDecoder.decodeJson(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * gRPC와 같은 Protobuf 메시지를 REST로 수신 (기본 ProtobufDecoder 사용)
+     */
+    public Mono<com.example.proto.BatchDataResponse> getProtobufBatchData(int count) {
+        return webClient.get()
+            .uri(uriBuilder -> uriBuilder
+                .path("/api/data/generate")
+                .queryParam("count", count)
+                .build())
+            .accept(MediaType.parseMediaType(WireFormat.PROTOBUF.getMediaType()))
+            .retrieve()
+            .bodyToMono(com.example.proto.BatchDataResponse.class);
+    }
+
+    /**
+     * NDJSON 스트리밍 수신 - 한 줄(DataItem 하나)씩 디코딩하므로 maxInMemorySize는 항목 하나 크기에만 적용되고
+     * 구독자가 요청한 만큼만 읽음 (backpressure)
+     */
+    public Flux<DataItem> streamBatchData(int count, int chunkSize) {
+        return webClient.get()
+            .uri(uriBuilder -> uriBuilder
+                .path("/api/data/generate/stream")
+                .queryParam("count", count)
+                .queryParam("chunkSize", chunkSize)
+                .build())
+            .accept(MediaType.APPLICATION_NDJSON)
+            .retrieve()
+            .bodyToFlux(DataItem.class);
+    }
+
+    /**
+     * 배치 하나를 JSON으로 업로드하고 Service B의 확인 응답 수신 (요청 1건 = 배치 1개)
+     */
+    public Mono<IngestResponse> ingest(List<DataItem> items) {
+        return webClient.post()
+            .uri("/api/data/ingest")
+            .contentType(MediaType.APPLICATION_JSON)
+            .bodyValue(new IngestRequest(items))
+            .retrieve()
+            .bodyToMono(IngestResponse.class);
+    }
+
     public Mono<Map<String, List<ServerPerformanceMetrics>>> getServerMetrics() {
         return webClient.get()
             .uri("/api/data/metrics")
@@ -42,6 +337,27 @@ public class HttpDataClient {
             .bodyToMono(new ParameterizedTypeReference<Map<String, List<ServerPerformanceMetrics>>>() {});
     }
 
+    public Mono<Map<String, PayloadCacheStats>> getServerCacheStats() {
+        return webClient.get()
+            .uri("/api/data/metrics/cache")
+            .retrieve()
+            .bodyToMono(new ParameterizedTypeReference<Map<String, PayloadCacheStats>>() {});
+    }
+
+    public Mono<Map<String, CompressionMetrics>> getServerCompressionMetrics() {
+        return webClient.get()
+            .uri("/api/data/metrics/compression")
+            .retrieve()
+            .bodyToMono(new ParameterizedTypeReference<Map<String, CompressionMetrics>>() {});
+    }
+
+    public Mono<Map<String, String>> getServerRuntime() {
+        return webClient.get()
+            .uri("/api/data/runtime")
+            .retrieve()
+            .bodyToMono(new ParameterizedTypeReference<Map<String, String>>() {});
+    }
+
     public Mono<Void> clearServerMetrics() {
         return webClient.delete()
             .uri("/api/data/metrics")
@@ -0,0 +1,43 @@
+package com.example.servicea.client;
+
+import com.example.servicea.model.BatchDataResponse;
+import com.example.servicea.model.WireFormat;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.google.protobuf.ByteString;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * gRPC bytes 응답(EncodedBatchResponse.payload)을 Jackson 계열 포맷(JSON/Smile/CBOR)으로 디코딩
+ */
+@Component
+public class PayloadDecoder {
+
+    private final Map<WireFormat, ObjectMapper> mappers = new EnumMap<>(WireFormat.class);
+
+    public PayloadDecoder(ObjectMapper objectMapper) {
+        mappers.put(WireFormat.JSON, objectMapper);
+        mappers.put(WireFormat.SMILE, objectMapper.copyWith(new SmileFactory()));
+        mappers.put(WireFormat.CBOR, objectMapper.copyWith(new CBORFactory()));
+    }
+
+    public BatchDataResponse decode(ByteString payload, WireFormat format) {
+        ObjectMapper mapper = mappers.get(format);
+        if (mapper == null) {
+            throw new IllegalArgumentException("Not a Jackson wire format: " + format);
+        }
+
+        // ByteString 내부 버퍼를 스트림으로 읽어 byte[] 복사 없이 디코딩
+        try {
+            return mapper.readValue(payload.newInput(), BatchDataResponse.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to decode " + format + " payload", e);
+        }
+    }
+}
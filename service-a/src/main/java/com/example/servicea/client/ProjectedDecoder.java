@@ -0,0 +1,116 @@
+package com.example.servicea.client;
+
+import com.example.proto.BatchDataResponse;
+import com.example.proto.DataItem;
+import com.example.servicea.model.ProjectedBatch;
+import com.example.servicea.model.ProjectedDataItem;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.protobuf.CodedInputStream;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * BatchDataResponse에서 id, category, value만 꺼내는 프로젝션 디코더
+ * - Protobuf: CodedInputStream으로 태그를 읽고 나머지 필드는 skipField로 건너뜀 (String을 만들지 않음)
+ * - JSON: 데이터 바인딩 대신 스트리밍 JsonParser로 토큰을 읽고 나머지 값은 건너뜀
+ */
+@Component
+public class ProjectedDecoder {
+
+    // protobuf 태그의 하위 3비트는 wire type
+    private static final int TAG_TYPE_BITS = 3;
+
+    private final JsonFactory jsonFactory;
+
+    public ProjectedDecoder(ObjectMapper objectMapper) {
+        this.jsonFactory = objectMapper.getFactory();
+    }
+
+    public ProjectedBatch decodeProto(CodedInputStream input) throws IOException {
+        boolean success = false;
+        List<ProjectedDataItem> items = new ArrayList<>();
+
+        int tag;
+        while ((tag = input.readTag()) != 0) {
+            switch (tag >>> TAG_TYPE_BITS) {
+                case BatchDataResponse.SUCCESS_FIELD_NUMBER -> success = input.readBool();
+                case BatchDataResponse.ITEMS_FIELD_NUMBER -> {
+                    // 길이 구분 필드 - 해당 길이만큼만 읽도록 제한을 걸고 DataItem 내부를 읽음
+                    int limit = input.pushLimit(input.readRawVarint32());
+                    items.add(decodeProtoItem(input));
+                    input.popLimit(limit);
+                }
+                default -> input.skipField(tag);
+            }
+        }
+        return new ProjectedBatch(success, items);
+    }
+
+    private ProjectedDataItem decodeProtoItem(CodedInputStream input) throws IOException {
+        ProjectedDataItem item = new ProjectedDataItem("", "", 0);
+
+        int tag;
+        while ((tag = input.readTag()) != 0) {
+            switch (tag >>> TAG_TYPE_BITS) {
+                case DataItem.ID_FIELD_NUMBER -> item.setId(input.readStringRequireUtf8());
+                case DataItem.CATEGORY_FIELD_NUMBER -> item.setCategory(input.readStringRequireUtf8());
+                case DataItem.VALUE_FIELD_NUMBER -> item.setValue(input.readDouble());
+                default -> input.skipField(tag);
+            }
+        }
+        return item;
+    }
+
+    public ProjectedBatch decodeJson(InputStream in) throws IOException {
+        boolean success = false;
+        List<ProjectedDataItem> items = new ArrayList<>();
+
+        try (JsonParser parser = jsonFactory.createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("Expected JSON object for BatchDataResponse");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                switch (field) {
+                    case "success" -> success = value == JsonToken.VALUE_TRUE;
+                    case "items" -> {
+                        if (value == JsonToken.START_ARRAY) {
+                            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                                items.add(decodeJsonItem(parser));
+                            }
+                        }
+                    }
+                    default -> parser.skipChildren();
+                }
+            }
+        }
+        return new ProjectedBatch(success, items);
+    }
+
+    /**
+     * 필요 없는 문자열 값은 getText를 호출하지 않으므로 파서가 String을 만들지 않고 건너뜀
+     */
+    private ProjectedDataItem decodeJsonItem(JsonParser parser) throws IOException {
+        ProjectedDataItem item = new ProjectedDataItem("", "", 0);
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "id" -> item.setId(parser.getValueAsString());
+                case "category" -> item.setCategory(parser.getValueAsString());
+                case "value" -> item.setValue(parser.getValueAsDouble());
+                default -> parser.skipChildren();
+            }
+        }
+        return item;
+    }
+}
@@ -0,0 +1,223 @@
+package com.example.servicea.client;
+
+import com.example.proto.BatchDataGenerateRequest;
+import com.example.proto.DataServiceGrpc;
+import com.example.servicea.model.BatchDataResponse;
+import com.example.servicea.model.LoadBalancingPolicy;
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ClientInterceptors;
+import io.grpc.Metadata;
+import io.grpc.stub.ClientCalls;
+import io.grpc.stub.MetadataUtils;
+import io.grpc.stub.StreamObserver;
+import lombok.extern.slf4j.Slf4j;
+import net.devh.boot.grpc.client.inject.GrpcClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.net.Inet4Address;
+import java.net.InetAddress;
+import java.net.URI;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 여러 Service B 레플리카에 부하를 나눠 보내는 클라이언트 (레플리카 확장 비교용)
+ * - gRPC: 같은 레플리카 목록(service-b.replicas.grpc-target)에 loadBalancingPolicy만 다른 채널 두 개
+ *   (grpc.client.service-b-pick-first / service-b-round-robin 설정)
+ * - HTTP: 요청마다 필터가 대상 레플리카를 골라 URL을 바꾸는 WebClient (round_robin은 순환, pick_first는 항상 첫 번째)
+ * 응답 헤더 x-served-by로 실제로 응답한 레플리카를 함께 반환
+ */
+@Slf4j
+@Component
+public class ReplicaPoolClient {
+
+    public static final String SERVED_BY_HEADER = "x-served-by";
+
+    private static final Metadata.Key<String> SERVED_BY_KEY =
+        Metadata.Key.of(SERVED_BY_HEADER, Metadata.ASCII_STRING_MARSHALLER);
+    private static final String POLICY_ATTRIBUTE = ReplicaPoolClient.class.getName() + ".policy";
+
+    @GrpcClient("service-b-pick-first")
+    private Channel pickFirstChannel;
+
+    @GrpcClient("service-b-round-robin")
+    private Channel roundRobinChannel;
+
+    private final String grpcTarget;
+    private final List<URI> configuredHttpUrls;
+    private final WebClient webClient;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private volatile List<URI> httpReplicas;
+
+    public ReplicaPoolClient(@Value("${service-b.replicas.grpc-target}") String grpcTarget,
+                             @Value("${service-b.replicas.http-urls}") String httpUrls,
+                             @Value("${service-b.http.max-connections:500}") int maxConnections) {
+        this.grpcTarget = grpcTarget;
+        this.configuredHttpUrls = Arrays.stream(httpUrls.split(","))
+            .map(String::trim)
+            .filter(url -> !url.isEmpty())
+            .map(URI::create)
+            .toList();
+        if (configuredHttpUrls.isEmpty()) {
+            throw new IllegalStateException("service-b.replicas.http-urls must contain at least one URL");
+        }
+
+        // 기본 클라이언트와 연결 풀을 분리 (레플리카마다 연결이 따로 생김)
+        ConnectionProvider connectionProvider = ConnectionProvider.builder("service-b-replicas")
+            .maxConnections(maxConnections)
+            .build();
+        this.webClient = WebClient.builder()
+            .clientConnector(new ReactorClientHttpConnector(HttpClient.create(connectionProvider)))
+            .filter(replicaSelectingFilter())
+            .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(HttpDataClient.MAX_IN_MEMORY_SIZE))
+            .build();
+        this.httpReplicas = resolveHttpReplicas();
+    }
+
+    /**
+     * 응답 본문과 응답한 레플리카 ID (헤더가 없으면 "unknown")
+     */
+    public record Served<T>(T response, String servedBy) {
+    }
+
+    public String getGrpcTarget() {
+        return grpcTarget;
+    }
+
+    public List<URI> getHttpReplicas() {
+        return httpReplicas;
+    }
+
+    /**
+     * HTTP 레플리카 목록을 다시 해석 - 호스트 이름이 여러 IPv4 주소로 해석되면(docker compose --scale) 주소마다 레플리카 하나
+     * (테스트 시작 전에 호출해서 그 사이 늘어나거나 줄어든 레플리카를 반영)
+     */
+    public List<URI> refreshHttpReplicas() {
+        httpReplicas = resolveHttpReplicas();
+        log.info("Service B HTTP replicas: {}", httpReplicas);
+        return httpReplicas;
+    }
+
+    private List<URI> resolveHttpReplicas() {
+        Set<URI> replicas = new LinkedHashSet<>();
+        for (URI url : configuredHttpUrls) {
+            try {
+                InetAddress[] addresses = InetAddress.getAllByName(url.getHost());
+                List<InetAddress> ipv4 = Arrays.stream(addresses)
+                    .filter(Inet4Address.class::isInstance)
+                    .sorted(Comparator.comparing(InetAddress::getHostAddress))
+                    .toList();
+                for (InetAddress address : ipv4.isEmpty() ? List.of(addresses) : ipv4) {
+                    replicas.add(UriComponentsBuilder.fromUri(url).host(address.getHostAddress()).build().toUri());
+                }
+            } catch (UnknownHostException e) {
+                log.warn("Failed to resolve Service B replica host {}: {}", url.getHost(), e.getMessage());
+                replicas.add(url);
+            }
+        }
+        return new ArrayList<>(replicas);
+    }
+
+    /**
+     * 요청 속성에 지정된 방식으로 레플리카를 골라 상대 경로 요청을 절대 URL로 바꿈
+     */
+    private ExchangeFilterFunction replicaSelectingFilter() {
+        return (request, next) -> {
+            List<URI> replicas = httpReplicas;
+            LoadBalancingPolicy policy = (LoadBalancingPolicy) request.attribute(POLICY_ATTRIBUTE)
+                .orElse(LoadBalancingPolicy.ROUND_ROBIN);
+            URI replica = policy == LoadBalancingPolicy.PICK_FIRST
+                ? replicas.get(0)
+                : replicas.get(Math.floorMod(nextReplica.getAndIncrement(), replicas.size()));
+
+            URI target = UriComponentsBuilder.fromUri(replica)
+                .replacePath(request.url().getRawPath())
+                .replaceQuery(request.url().getRawQuery())
+                .build(true)
+                .toUri();
+            return next.exchange(ClientRequest.from(request).url(target).build());
+        };
+    }
+
+    /**
+     * 지정한 방식으로 고른 레플리카에서 JSON 배치 수신 (Mono.toFuture()라 future를 취소하면 요청 구독도 취소됨)
+     */
+    public CompletableFuture<Served<BatchDataResponse>> getHttpBatchData(LoadBalancingPolicy policy, int count) {
+        return webClient.get()
+            .uri(uriBuilder -> uriBuilder
+                .path("/api/data/generate")
+                .queryParam("count", count)
+                .build())
+            .attribute(POLICY_ATTRIBUTE, policy)
+            .retrieve()
+            .toEntity(BatchDataResponse.class)
+            .map(entity -> new Served<>(entity.getBody(), servedBy(entity.getHeaders().getFirst(SERVED_BY_HEADER))))
+            .toFuture();
+    }
+
+    /**
+     * 지정한 loadBalancingPolicy 채널로 GetBatchData 호출 (응답 헤더에서 레플리카 ID를 읽음)
+     * 반환된 future를 취소하면 gRPC 호출도 취소됨
+     */
+    public CompletableFuture<Served<com.example.proto.BatchDataResponse>> getGrpcBatchData(LoadBalancingPolicy policy, int count) {
+        BatchDataGenerateRequest request = BatchDataGenerateRequest.newBuilder()
+            .setCount(count)
+            .build();
+        AtomicReference<Metadata> headers = new AtomicReference<>();
+        Channel channel = ClientInterceptors.intercept(
+            policy == LoadBalancingPolicy.PICK_FIRST ? pickFirstChannel : roundRobinChannel,
+            MetadataUtils.newCaptureMetadataInterceptor(headers, new AtomicReference<>()));
+
+        CompletableFuture<Served<com.example.proto.BatchDataResponse>> result = new CompletableFuture<>();
+        ClientCall<BatchDataGenerateRequest, com.example.proto.BatchDataResponse> call =
+            channel.newCall(DataServiceGrpc.getGetBatchDataMethod(), CallOptions.DEFAULT);
+        result.whenComplete((served, error) -> {
+            if (result.isCancelled()) {
+                call.cancel("Cancelled by caller", null);
+            }
+        });
+        ClientCalls.asyncUnaryCall(call, request,
+            new StreamObserver<>() {
+                private com.example.proto.BatchDataResponse response;
+
+                @Override
+                public void onNext(com.example.proto.BatchDataResponse value) {
+                    response = value;
+                }
+
+                @Override
+                public void onError(Throwable t) {
+                    result.completeExceptionally(t);
+                }
+
+                @Override
+                public void onCompleted() {
+                    Metadata metadata = headers.get();
+                    result.complete(new Served<>(response, servedBy(metadata != null ? metadata.get(SERVED_BY_KEY) : null)));
+                }
+            });
+        return result;
+    }
+
+    private static String servedBy(String header) {
+        return header != null && !header.isBlank() ? header : "unknown";
+    }
+}
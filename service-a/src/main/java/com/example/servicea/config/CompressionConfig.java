@@ -0,0 +1,56 @@
+package com.example.servicea.config;
+
+import com.example.shared.compression.CompressionCodecs;
+import com.example.shared.compression.CompressionStats;
+import com.example.shared.compression.MeteredGrpcCodec;
+import com.example.shared.model.PayloadCompression;
+import io.grpc.Codec;
+import io.grpc.CompressorRegistry;
+import io.grpc.DecompressorRegistry;
+import lombok.extern.slf4j.Slf4j;
+import net.devh.boot.grpc.client.channelfactory.GrpcChannelConfigurer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * gRPC 채널 압축 설정 - gzip/zstd/snappy 코덱을 등록하고 grpc-accept-encoding으로 서버에 알림
+ * 실제 압축 여부는 호출마다 withCompression으로 선택 (서버는 요청과 같은 방식으로 응답을 압축)
+ */
+@Slf4j
+@Configuration
+public class CompressionConfig {
+
+    /**
+     * 압축 방식별 바이트/코덱 시간 통계 (공용 클래스라 컴포넌트 스캔 대상이 아니므로 여기서 등록)
+     */
+    @Bean
+    public CompressionStats compressionStats() {
+        return new CompressionStats();
+    }
+
+    @Bean
+    public GrpcChannelConfigurer compressionGrpcChannelConfigurer(CompressionStats compressionStats) {
+        CompressorRegistry compressorRegistry = CompressorRegistry.newEmptyInstance();
+        compressorRegistry.register(Codec.Identity.NONE);
+        DecompressorRegistry decompressorRegistry = DecompressorRegistry.emptyInstance()
+            .with(Codec.Identity.NONE, false);
+
+        for (PayloadCompression compression : PayloadCompression.values()) {
+            if (compression == PayloadCompression.NONE) {
+                continue;
+            }
+            if (!CompressionCodecs.isAvailable(compression)) {
+                log.warn("{} compression is not available in this JVM (native library load failed)", compression.getEncoding());
+                continue;
+            }
+            MeteredGrpcCodec codec = new MeteredGrpcCodec(compression, compressionStats);
+            compressorRegistry.register(codec);
+            decompressorRegistry = decompressorRegistry.with(codec, true);
+        }
+
+        DecompressorRegistry decompressors = decompressorRegistry;
+        return (channelBuilder, name) -> channelBuilder
+            .compressorRegistry(compressorRegistry)
+            .decompressorRegistry(decompressors);
+    }
+}
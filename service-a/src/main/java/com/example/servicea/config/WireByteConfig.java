@@ -0,0 +1,84 @@
+package com.example.servicea.config;
+
+import com.example.servicea.service.WireByteStats;
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ClientInterceptor;
+import io.grpc.ClientStreamTracer;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+import net.devh.boot.grpc.client.interceptor.GrpcGlobalClientInterceptor;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 모든 gRPC 호출에 ClientStreamTracer를 붙여 요청/응답 메시지 크기를 WireByteStats에 기록
+ */
+@Configuration
+public class WireByteConfig {
+
+    @GrpcGlobalClientInterceptor
+    public ClientInterceptor wireByteClientInterceptor(WireByteStats wireByteStats) {
+        return new ClientInterceptor() {
+            @Override
+            public <ReqT, RespT> ClientCall<ReqT, RespT> interceptCall(MethodDescriptor<ReqT, RespT> method,
+                                                                       CallOptions callOptions, Channel next) {
+                String methodName = method.getBareMethodName();
+                ClientStreamTracer.Factory tracerFactory = new ClientStreamTracer.Factory() {
+                    @Override
+                    public ClientStreamTracer newClientStreamTracer(ClientStreamTracer.StreamInfo info, Metadata headers) {
+                        return new WireByteTracer(wireByteStats, methodName);
+                    }
+                };
+                return next.newCall(method, callOptions.withStreamTracerFactory(tracerFactory));
+            }
+        };
+    }
+
+    /**
+     * wireSize 콜백은 메시지마다 압축 후 크기로 호출되며, 스트림이 닫힐 때 호출 1건으로 기록
+     */
+    private static final class WireByteTracer extends ClientStreamTracer {
+
+        // 메시지마다 붙는 gRPC 길이 접두부 (압축 플래그 1 + 길이 4)
+        private static final int MESSAGE_PREFIX_BYTES = 5;
+
+        private final WireByteStats wireByteStats;
+        private final String methodName;
+        private final AtomicLong outboundBytes = new AtomicLong();
+        private final AtomicLong inboundBytes = new AtomicLong();
+
+        WireByteTracer(WireByteStats wireByteStats, String methodName) {
+            this.wireByteStats = wireByteStats;
+            this.methodName = methodName;
+        }
+
+        @Override
+        public void outboundMessage(int seqNo) {
+            outboundBytes.addAndGet(MESSAGE_PREFIX_BYTES);
+        }
+
+        @Override
+        public void outboundWireSize(long bytes) {
+            outboundBytes.addAndGet(bytes);
+        }
+
+        @Override
+        public void inboundMessage(int seqNo) {
+            inboundBytes.addAndGet(MESSAGE_PREFIX_BYTES);
+        }
+
+        @Override
+        public void inboundWireSize(long bytes) {
+            inboundBytes.addAndGet(bytes);
+        }
+
+        @Override
+        public void streamClosed(Status status) {
+            wireByteStats.record("gRPC", methodName, outboundBytes.get(), inboundBytes.get());
+        }
+    }
+}
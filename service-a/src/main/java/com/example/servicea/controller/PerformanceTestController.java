@@ -1,12 +1,30 @@
 package com.example.servicea.controller;
 
+import com.example.servicea.model.BatchTuningResult;
+import com.example.servicea.model.BenchmarkJobStatus;
+import com.example.servicea.model.PayloadProfile;
+import com.example.servicea.model.RegressionReport;
+import com.example.servicea.model.SoakReport;
+import com.example.servicea.service.BenchmarkJobService;
+import com.example.servicea.service.MeasurementGate;
+import com.example.servicea.service.OpenLoopLoadService;
 import com.example.servicea.service.PerformanceTestService;
+import com.example.servicea.service.RegressionDetector;
+import com.example.servicea.service.SoakTestService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Supplier;
 
 @Slf4j
 @RestController
@@ -15,6 +33,10 @@ import java.util.Map;
 public class PerformanceTestController {
 
     private final PerformanceTestService performanceTestService;
+    private final OpenLoopLoadService openLoopLoadService;
+    private final RegressionDetector regressionDetector;
+    private final SoakTestService soakTestService;
+    private final BenchmarkJobService benchmarkJobService;
 
     /**
      * HTTP 성능 테스트
@@ -22,11 +44,13 @@ public class PerformanceTestController {
     @PostMapping("/http")
     public Map<String, Object> testHttp(
             @RequestParam(defaultValue = "400000") int totalCount,
-            @RequestParam(defaultValue = "1000") int batchSize) {
+            @RequestParam(defaultValue = "1000") int batchSize,
+            @RequestParam(defaultValue = "1") int concurrency) {
 
-        log.info("Starting HTTP performance test: totalCount={}, batchSize={}", totalCount, batchSize);
+        log.info("Starting HTTP performance test: totalCount={}, batchSize={}, concurrency={}",
+                totalCount, batchSize, concurrency);
 
-        PerformanceTestService.TestResult result = performanceTestService.testHttpBatch(totalCount, batchSize);
+        PerformanceTestService.TestResult result = runExclusive("/http", () -> performanceTestService.testHttpBatch(totalCount, batchSize, concurrency));
 
         Map<String, Object> response = new HashMap<>();
         response.put("protocol", result.protocol);
@@ -36,7 +60,11 @@ public class PerformanceTestController {
         response.put("durationMs", result.durationMs);
         response.put("durationSec", result.durationMs / 1000.0);
         response.put("memoryUsedMB", result.memoryUsedBytes / (1024.0 * 1024.0));
+        response.put("resourceUsage", result.resourceUsage);
+        response.put("latencyP50Ms", result.getLatencyPercentileMs(50));
+        response.put("latencyP99Ms", result.getLatencyPercentileMs(99));
         response.put("throughput", result.getThroughput());
+        response.put("concurrency", concurrency);
 
         return response;
     }
@@ -47,11 +75,13 @@ public class PerformanceTestController {
     @PostMapping("/grpc")
     public Map<String, Object> testGrpc(
             @RequestParam(defaultValue = "400000") int totalCount,
-            @RequestParam(defaultValue = "1000") int batchSize) {
+            @RequestParam(defaultValue = "1000") int batchSize,
+            @RequestParam(defaultValue = "1") int concurrency) {
 
-        log.info("Starting gRPC performance test: totalCount={}, batchSize={}", totalCount, batchSize);
+        log.info("Starting gRPC performance test: totalCount={}, batchSize={}, concurrency={}",
+                totalCount, batchSize, concurrency);
 
-        PerformanceTestService.TestResult result = performanceTestService.testGrpcBatch(totalCount, batchSize);
+        PerformanceTestService.TestResult result = runExclusive("/grpc", () -> performanceTestService.testGrpcBatch(totalCount, batchSize, concurrency));
 
         Map<String, Object> response = new HashMap<>();
         response.put("protocol", result.protocol);
@@ -61,7 +91,66 @@ public class PerformanceTestController {
         response.put("durationMs", result.durationMs);
         response.put("durationSec", result.durationMs / 1000.0);
         response.put("memoryUsedMB", result.memoryUsedBytes / (1024.0 * 1024.0));
+        response.put("resourceUsage", result.resourceUsage);
+        response.put("latencyP50Ms", result.getLatencyPercentileMs(50));
+        response.put("latencyP99Ms", result.getLatencyPercentileMs(99));
         response.put("throughput", result.getThroughput());
+        response.put("concurrency", concurrency);
+
+        return response;
+    }
+
+    /**
+     * gRPC 서버 스트리밍 성능 테스트
+     */
+    @PostMapping("/grpc-stream")
+    public Map<String, Object> testGrpcStream(
+            @RequestParam(defaultValue = "400000") int totalCount,
+            @RequestParam(defaultValue = "1000") int batchSize,
+            @RequestParam(defaultValue = "100") int chunkSize) {
+
+        log.info("Starting gRPC streaming performance test: totalCount={}, batchSize={}, chunkSize={}",
+                totalCount, batchSize, chunkSize);
+
+        PerformanceTestService.TestResult result = runExclusive("/grpc-stream", () -> performanceTestService.testGrpcStreamBatch(totalCount, batchSize, chunkSize));
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("protocol", result.protocol);
+        response.put("totalCount", result.totalCount);
+        response.put("successCount", result.successCount);
+        response.put("failCount", result.failCount);
+        response.put("durationMs", result.durationMs);
+        response.put("durationSec", result.durationMs / 1000.0);
+        response.put("memoryUsedMB", result.memoryUsedBytes / (1024.0 * 1024.0));
+        response.put("resourceUsage", result.resourceUsage);
+        response.put("throughput", result.getThroughput());
+        response.put("avgFirstItemLatencyMs", result.avgFirstItemLatencyMs);
+
+        return response;
+    }
+
+    @PostMapping("/http-stream")
+    public Map<String, Object> testHttpStream(
+            @RequestParam(defaultValue = "400000") int totalCount,
+            @RequestParam(defaultValue = "1000") int batchSize,
+            @RequestParam(defaultValue = "100") int chunkSize) {
+
+        log.info("Starting HTTP NDJSON streaming performance test: totalCount={}, batchSize={}, chunkSize={}",
+                totalCount, batchSize, chunkSize);
+
+        PerformanceTestService.TestResult result = runExclusive("/http-stream", () -> performanceTestService.testHttpStreamBatch(totalCount, batchSize, chunkSize));
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("protocol", result.protocol);
+        response.put("totalCount", result.totalCount);
+        response.put("successCount", result.successCount);
+        response.put("failCount", result.failCount);
+        response.put("durationMs", result.durationMs);
+        response.put("durationSec", result.durationMs / 1000.0);
+        response.put("memoryUsedMB", result.memoryUsedBytes / (1024.0 * 1024.0));
+        response.put("resourceUsage", result.resourceUsage);
+        response.put("throughput", result.getThroughput());
+        response.put("avgFirstItemLatencyMs", result.avgFirstItemLatencyMs);
 
         return response;
     }
@@ -72,17 +161,317 @@ public class PerformanceTestController {
     @PostMapping("/compare")
     public Map<String, String> compareProtocols(
             @RequestParam(defaultValue = "400000") int totalCount,
-            @RequestParam(defaultValue = "1000") int batchSize) {
+            @RequestParam(defaultValue = "1000") int batchSize,
+            @RequestParam(defaultValue = "100") int chunkSize,
+            @RequestParam(defaultValue = "1") int concurrency) {
 
-        log.info("Starting comparison test: totalCount={}, batchSize={}", totalCount, batchSize);
+        log.info("Starting comparison test: totalCount={}, batchSize={}, chunkSize={}, concurrency={}",
+                totalCount, batchSize, chunkSize, concurrency);
 
-        performanceTestService.compareAndSaveResults(totalCount, batchSize);
+        runExclusive("/compare", () -> performanceTestService.compareAndSaveResults(totalCount, batchSize, chunkSize, concurrency));
 
         Map<String, String> response = new HashMap<>();
         response.put("status", "completed");
         response.put("message", "Performance comparison completed. Results saved to docs/response-basic-multiple.md");
         response.put("totalCount", String.valueOf(totalCount));
         response.put("batchSize", String.valueOf(batchSize));
+        response.put("concurrency", String.valueOf(concurrency));
+
+        return response;
+    }
+
+    /**
+     * 직렬화 포맷(JSON/Smile/CBOR/Protobuf) x 전송(HTTP/gRPC) 조합 비교 테스트 실행 및 결과를 response-formats.md에 저장
+     */
+    @PostMapping("/compare-formats")
+    public Map<String, Object> compareFormats(
+            @RequestParam(defaultValue = "100000") int totalCount,
+            @RequestParam(defaultValue = "1000") int batchSize) {
+
+        log.info("Starting wire format comparison test: totalCount={}, batchSize={}", totalCount, batchSize);
+
+        Map<String, PerformanceTestService.TestResult> results = runExclusive("/compare-formats", () -> performanceTestService.compareFormatsAndSave(totalCount, batchSize));
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("status", "completed");
+        response.put("message", "Wire format comparison completed. Results saved to docs/response-formats.md");
+        Map<String, Double> throughput = new LinkedHashMap<>();
+        results.forEach((label, result) -> throughput.put(label, result.getThroughput()));
+        response.put("throughput", throughput);
+
+        return response;
+    }
+
+    /**
+     * 압축 방식(NONE/gzip/zstd/snappy) x 전송 방식 비교 및 결과를 response-compression.md에 저장
+     */
+    @PostMapping("/compare-compression")
+    public Map<String, Object> compareCompression(
+            @RequestParam(defaultValue = "100000") int totalCount,
+            @RequestParam(defaultValue = "1000") int batchSize) {
+
+        log.info("Starting compression comparison test: totalCount={}, batchSize={}", totalCount, batchSize);
+
+        Map<String, PerformanceTestService.TestResult> results =
+                runExclusive("/compare-compression", () -> performanceTestService.compareCompressionAndSave(totalCount, batchSize));
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("status", "completed");
+        response.put("message", "Compression comparison completed. Results saved to docs/response-compression.md");
+        Map<String, Double> throughput = new LinkedHashMap<>();
+        Map<String, Long> wireBytes = new LinkedHashMap<>();
+        results.forEach((label, result) -> {
+            throughput.put(label, result.getThroughput());
+            wireBytes.put(label, result.clientCompression.getEncodedBytes());
+        });
+        response.put("throughput", throughput);
+        response.put("wireBytes", wireBytes);
+
+        return response;
+    }
+
+    /**
+     * gRPC 기본 protobuf 마샬러 vs zero-copy 마샬러 비교 및 결과를 response-marshaller.md에 저장
+     */
+    @PostMapping("/compare-marshallers")
+    public Map<String, Object> compareMarshallers(
+            @RequestParam(defaultValue = "100000") int totalCount,
+            @RequestParam(defaultValue = "1000") int batchSize,
+            @RequestParam(defaultValue = "1") int concurrency,
+            @RequestParam(defaultValue = "3") int runs) {
+
+        log.info("Starting marshaller comparison test: totalCount={}, batchSize={}, concurrency={}, runs={}",
+                totalCount, batchSize, concurrency, runs);
+
+        Map<String, List<PerformanceTestService.TestResult>> results =
+                runExclusive("/compare-marshallers", () -> performanceTestService.compareMarshallersAndSave(totalCount, batchSize, concurrency, runs));
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("status", "completed");
+        response.put("message", "Marshaller comparison completed. Results saved to docs/response-marshaller.md");
+        Map<String, Double> throughput = new LinkedHashMap<>();
+        Map<String, Double> allocatedMB = new LinkedHashMap<>();
+        results.forEach((label, runResults) -> {
+            throughput.put(label, runResults.stream().mapToDouble(PerformanceTestService.TestResult::getThroughput).average().orElse(0));
+            allocatedMB.put(label, runResults.stream().mapToDouble(r -> r.resourceUsage.getAllocatedMB()).average().orElse(0));
+        });
+        response.put("throughput", throughput);
+        response.put("allocatedMB", allocatedMB);
+
+        return response;
+    }
+
+    /**
+     * 전체 디코딩 vs 프로젝션 디코딩(id, category, value만) 비교 및 결과를 response-projection.md에 저장
+     */
+    @PostMapping("/compare-projection")
+    public Map<String, Object> compareProjection(
+            @RequestParam(defaultValue = "100000") int totalCount,
+            @RequestParam(defaultValue = "1000") int batchSize,
+            @RequestParam(defaultValue = "3") int runs) {
+
+        log.info("Starting projection comparison test: totalCount={}, batchSize={}, runs={}",
+                totalCount, batchSize, runs);
+
+        Map<String, List<PerformanceTestService.TestResult>> results =
+                runExclusive("/compare-projection", () -> performanceTestService.compareProjectionAndSave(totalCount, batchSize, runs));
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("status", "completed");
+        response.put("message", "Projection comparison completed. Results saved to docs/response-projection.md");
+        Map<String, Double> throughput = new LinkedHashMap<>();
+        Map<String, Double> allocatedMB = new LinkedHashMap<>();
+        results.forEach((label, runResults) -> {
+            throughput.put(label, runResults.stream().mapToDouble(PerformanceTestService.TestResult::getThroughput).average().orElse(0));
+            allocatedMB.put(label, runResults.stream().mapToDouble(r -> r.resourceUsage.getAllocatedMB()).average().orElse(0));
+        });
+        response.put("throughput", throughput);
+        response.put("allocatedMB", allocatedMB);
+
+        return response;
+    }
+
+    /**
+     * 업로드 방향 HTTP POST vs gRPC 클라이언트 스트리밍 비교 및 결과를 response-ingest.md에 저장
+     */
+    @PostMapping("/compare-ingest")
+    public Map<String, Object> compareIngest(
+            @RequestParam(defaultValue = "100000") int totalCount,
+            @RequestParam(defaultValue = "1000") int batchSize,
+            @RequestParam(defaultValue = "3") int runs) {
+
+        log.info("Starting ingest comparison test: totalCount={}, batchSize={}, runs={}",
+                totalCount, batchSize, runs);
+
+        Map<String, List<PerformanceTestService.TestResult>> results =
+                runExclusive("/compare-ingest", () -> performanceTestService.compareIngestAndSave(totalCount, batchSize, runs));
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("status", "completed");
+        response.put("message", "Ingest comparison completed. Results saved to docs/response-ingest.md");
+        Map<String, Double> throughput = new LinkedHashMap<>();
+        Map<String, Double> uploadMB = new LinkedHashMap<>();
+        results.forEach((label, runResults) -> {
+            throughput.put(label, runResults.stream().mapToDouble(PerformanceTestService.TestResult::getThroughput).average().orElse(0));
+            uploadMB.put(label, runResults.stream().mapToDouble(r -> r.wireBytes.getRequestBytes() / (1024.0 * 1024.0)).average().orElse(0));
+        });
+        response.put("throughput", throughput);
+        response.put("uploadMB", uploadMB);
+
+        return response;
+    }
+
+    /**
+     * 페이로드 프로필(SMALL/LARGE/NUMERIC/NESTED/MAP_HEAVY) x 전송(HTTP JSON/gRPC Protobuf) 비교 및 결과를 response-profiles.md에 저장
+     * (프로필마다 payloadMegabytes만큼의 원본 데이터를 수신, itemSizeBytes가 0이면 프로필별 기본 크기)
+     */
+    @PostMapping("/compare-profiles")
+    public Map<String, Object> compareProfiles(
+            @RequestParam(defaultValue = "SMALL,LARGE,NUMERIC,NESTED,MAP_HEAVY") List<PayloadProfile> profiles,
+            @RequestParam(defaultValue = "0") int itemSizeBytes,
+            @RequestParam(defaultValue = "50") int payloadMegabytes,
+            @RequestParam(defaultValue = "1000") int batchSize,
+            @RequestParam(defaultValue = "3") int runs) {
+
+        log.info("Starting payload profile comparison test: profiles={}, itemSizeBytes={}, payloadMegabytes={}, batchSize={}, runs={}",
+                profiles, itemSizeBytes, payloadMegabytes, batchSize, runs);
+
+        Map<String, List<PerformanceTestService.TestResult>> results =
+                runExclusive("/compare-profiles", () -> performanceTestService.compareProfilesAndSave(profiles, itemSizeBytes, payloadMegabytes, batchSize, runs));
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("status", "completed");
+        response.put("message", "Payload profile comparison completed. Results saved to docs/response-profiles.md");
+        Map<String, Double> throughput = new LinkedHashMap<>();
+        Map<String, Double> responseBytesPerItem = new LinkedHashMap<>();
+        results.forEach((label, runResults) -> {
+            throughput.put(label, runResults.stream().mapToDouble(PerformanceTestService.TestResult::getThroughput).average().orElse(0));
+            responseBytesPerItem.put(label, runResults.stream().mapToDouble(PerformanceTestService.TestResult::getResponseBytesPerItem).average().orElse(0));
+        });
+        response.put("throughput", throughput);
+        response.put("responseBytesPerItem", responseBytesPerItem);
+
+        return response;
+    }
+
+    /**
+     * Service B 레플리카 확장 비교 (HTTP/gRPC x pick_first/round_robin) 및 결과를 response-replicas.md에 저장
+     */
+    @PostMapping("/compare-replicas")
+    public Map<String, Object> compareReplicas(
+            @RequestParam(defaultValue = "100000") int totalCount,
+            @RequestParam(defaultValue = "1000") int batchSize,
+            @RequestParam(defaultValue = "16") int concurrency,
+            @RequestParam(defaultValue = "3") int runs) {
+
+        log.info("Starting replica comparison test: totalCount={}, batchSize={}, concurrency={}, runs={}",
+                totalCount, batchSize, concurrency, runs);
+
+        Map<String, List<PerformanceTestService.TestResult>> results =
+                runExclusive("/compare-replicas", () -> performanceTestService.compareReplicasAndSave(totalCount, batchSize, concurrency, runs));
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("status", "completed");
+        response.put("message", "Replica comparison completed. Results saved to docs/response-replicas.md");
+        Map<String, Double> throughput = new LinkedHashMap<>();
+        Map<String, Map<String, Long>> batchesByReplica = new LinkedHashMap<>();
+        results.forEach((label, runResults) -> {
+            throughput.put(label, runResults.stream().mapToDouble(PerformanceTestService.TestResult::getThroughput).average().orElse(0));
+            Map<String, Long> distribution = new TreeMap<>();
+            runResults.forEach(r -> r.batchesByReplica.forEach((replica, count) -> distribution.merge(replica, count, Long::sum)));
+            batchesByReplica.put(label, distribution);
+        });
+        response.put("throughput", throughput);
+        response.put("batchesByReplica", batchesByReplica);
+
+        return response;
+    }
+
+    /**
+     * 프로토콜별 처리량 최적 배치 크기 탐색 (coarse 측정 후 최고점 주변을 좁혀 감) 및 결과를 response-batch-tuning.md에 저장
+     * maxBatchSize가 0이면 응답 크기 상한에서 계산한 값까지 탐색
+     */
+    @PostMapping("/tune-batch-size")
+    public Map<String, Object> tuneBatchSize(
+            @RequestParam(defaultValue = "20000") int itemsPerPoint,
+            @RequestParam(defaultValue = "1") int concurrency,
+            @RequestParam(defaultValue = "10") int minBatchSize,
+            @RequestParam(defaultValue = "0") int maxBatchSize,
+            @RequestParam(defaultValue = "3") int refineRounds) {
+
+        log.info("Starting batch size tuning: itemsPerPoint={}, concurrency={}, minBatchSize={}, maxBatchSize={}, refineRounds={}",
+                itemsPerPoint, concurrency, minBatchSize, maxBatchSize, refineRounds);
+
+        Map<String, BatchTuningResult> results = runExclusive("/tune-batch-size", () -> performanceTestService.tuneBatchSizeAndSave(
+                itemsPerPoint, concurrency, minBatchSize, maxBatchSize, refineRounds));
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("status", "completed");
+        response.put("message", "Batch size tuning completed. Results saved to docs/response-batch-tuning.md");
+        Map<String, Integer> optimalBatchSize = new LinkedHashMap<>();
+        Map<String, Double> throughput = new LinkedHashMap<>();
+        results.forEach((protocol, result) -> {
+            optimalBatchSize.put(protocol, result.getOptimalBatchSize());
+            throughput.put(protocol, result.getOptimalThroughput());
+        });
+        response.put("optimalBatchSize", optimalBatchSize);
+        response.put("throughput", throughput);
+        response.put("results", results);
+
+        return response;
+    }
+
+    /**
+     * HTTP/1.1 REST vs h2c REST vs gRPC 전송 방식 비교 및 결과를 response-transports.md에 저장
+     * (h2c 경로는 Service B를 HTTP2_ENABLED=true로 실행해야 함)
+     */
+    @PostMapping("/compare-transports")
+    public Map<String, Object> compareTransports(
+            @RequestParam(defaultValue = "100000") int totalCount,
+            @RequestParam(defaultValue = "1000") int batchSize,
+            @RequestParam(defaultValue = "8") int concurrency) {
+
+        log.info("Starting transport comparison test: totalCount={}, batchSize={}, concurrency={}",
+                totalCount, batchSize, concurrency);
+
+        Map<String, PerformanceTestService.TestResult> results =
+                runExclusive("/compare-transports", () -> performanceTestService.compareTransportsAndSave(totalCount, batchSize, concurrency));
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("status", "completed");
+        response.put("message", "Transport comparison completed. Results saved to docs/response-transports.md");
+        Map<String, Double> throughput = new LinkedHashMap<>();
+        Map<String, Double> latencyP99Ms = new LinkedHashMap<>();
+        results.forEach((label, result) -> {
+            throughput.put(label, result.getThroughput());
+            latencyP99Ms.put(label, result.getLatencyPercentileMs(99));
+        });
+        response.put("throughput", throughput);
+        response.put("latencyP99Ms", latencyP99Ms);
+
+        return response;
+    }
+
+    /**
+     * 플랫폼 스레드 vs 가상 스레드 비교 테스트 실행 및 결과를 response-threads.md에 저장
+     */
+    @PostMapping("/compare-threads")
+    public Map<String, String> compareThreadModes(
+            @RequestParam(defaultValue = "400000") int totalCount,
+            @RequestParam(defaultValue = "1000") int batchSize,
+            @RequestParam(defaultValue = "8") int concurrency) {
+
+        log.info("Starting thread mode comparison test: totalCount={}, batchSize={}, concurrency={}",
+                totalCount, batchSize, concurrency);
+
+        runExclusive("/compare-threads", () -> performanceTestService.compareThreadModesAndSave(totalCount, batchSize, concurrency));
+
+        Map<String, String> response = new HashMap<>();
+        response.put("status", "completed");
+        response.put("message", "Thread mode comparison completed. Results saved to docs/response-threads.md");
+        response.put("totalCount", String.valueOf(totalCount));
+        response.put("batchSize", String.valueOf(batchSize));
+        response.put("concurrency", String.valueOf(concurrency));
 
         return response;
     }
@@ -94,14 +483,17 @@ public class PerformanceTestController {
     public Map<String, String> compareProtocolsMultipleRuns(
             @RequestParam(defaultValue = "400000") int totalCount,
             @RequestParam(defaultValue = "1000") int batchSize,
+            @RequestParam(defaultValue = "100") int chunkSize,
+            @RequestParam(defaultValue = "1") int concurrency,
             @RequestParam(defaultValue = "10") int runs,
             @RequestParam(defaultValue = "30") int intervalSeconds,
             @RequestParam(defaultValue = "false") boolean withLatency) {
 
-        log.info("Starting multiple runs comparison test: totalCount={}, batchSize={}, runs={}, intervalSeconds={}, withLatency={}",
-                totalCount, batchSize, runs, intervalSeconds, withLatency);
+        log.info("Starting multiple runs comparison test: totalCount={}, batchSize={}, concurrency={}, runs={}, intervalSeconds={}, withLatency={}",
+                totalCount, batchSize, concurrency, runs, intervalSeconds, withLatency);
 
-        performanceTestService.compareAndSaveResultsWithMultipleRuns(totalCount, batchSize, runs, intervalSeconds, withLatency);
+        runExclusive("/compare-multiple", () -> performanceTestService.compareAndSaveResultsWithMultipleRuns(totalCount, batchSize, chunkSize, concurrency,
+                runs, intervalSeconds, withLatency));
 
         String fileName = withLatency ? "response-latency-multiple.md" : "response-basic-multiple.md";
         Map<String, String> response = new HashMap<>();
@@ -109,10 +501,236 @@ public class PerformanceTestController {
         response.put("message", "Performance comparison with " + runs + " runs completed. Results saved to docs/" + fileName);
         response.put("totalCount", String.valueOf(totalCount));
         response.put("batchSize", String.valueOf(batchSize));
+        response.put("concurrency", String.valueOf(concurrency));
         response.put("runs", String.valueOf(runs));
         response.put("intervalSeconds", String.valueOf(intervalSeconds));
         response.put("withLatency", String.valueOf(withLatency));
 
         return response;
     }
+
+    /**
+     * 소크 테스트 시작 - 백그라운드에서 실행하고 바로 jobId 반환 (완료되면 response-soak.md에 저장)
+     */
+    @PostMapping("/soak")
+    public SoakReport startSoak(
+            @RequestParam(defaultValue = "HTTP,gRPC") List<String> protocols,
+            @RequestParam(defaultValue = "60") int durationMinutes,
+            @RequestParam(defaultValue = "10") double requestsPerSecond,
+            @RequestParam(defaultValue = "100") int batchSize,
+            @RequestParam(defaultValue = "30") int sampleIntervalSeconds,
+            @RequestParam(defaultValue = "true") boolean forceGc,
+            @RequestParam(defaultValue = "50") double leakThresholdMBPerHour) {
+
+        log.info("Starting soak test: protocols={}, durationMinutes={}, requestsPerSecond={}, batchSize={}, sampleIntervalSeconds={}",
+                protocols, durationMinutes, requestsPerSecond, batchSize, sampleIntervalSeconds);
+
+        try {
+            return soakTestService.start(new SoakTestService.SoakSpec(protocols, durationMinutes * 60L,
+                    requestsPerSecond, batchSize, sampleIntervalSeconds, forceGc, leakThresholdMBPerHour));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        } catch (IllegalStateException e) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, e.getMessage());
+        }
+    }
+
+    /**
+     * 소크 테스트 진행 상황 (최근 샘플, 누수 추세 - includeSamples=true면 전체 샘플 포함)
+     */
+    @GetMapping("/soak/{jobId}")
+    public SoakReport getSoak(@PathVariable String jobId,
+                              @RequestParam(defaultValue = "false") boolean includeSamples) {
+        try {
+            return soakTestService.getReport(jobId, includeSamples);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, e.getMessage());
+        }
+    }
+
+    @GetMapping("/soak")
+    public List<SoakReport> listSoak() {
+        return soakTestService.listReports();
+    }
+
+    /**
+     * 소크 테스트 중단 - 그때까지의 샘플로 결과 저장
+     */
+    @DeleteMapping("/soak/{jobId}")
+    public SoakReport cancelSoak(@PathVariable String jobId) {
+        try {
+            return soakTestService.cancel(jobId);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, e.getMessage());
+        }
+    }
+
+    /**
+     * 벤치마크 작업 제출 - 큐에 넣고 바로 jobId 반환 (작업은 제출 순서대로 하나씩 실행)
+     * type은 compare, compare-multiple 등 동기 엔드포인트 이름, 나머지 파라미터도 해당 엔드포인트와 같음
+     */
+    @PostMapping("/jobs")
+    public BenchmarkJobStatus submitJob(@RequestParam String type, @RequestParam Map<String, String> params) {
+        Map<String, String> jobParams = new LinkedHashMap<>(params);
+        jobParams.remove("type");
+
+        log.info("Submitting benchmark job: type={}, params={}", type, jobParams);
+
+        try {
+            return benchmarkJobService.submit(new BenchmarkJobService.JobSpec(type, jobParams));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        } catch (MeasurementGate.BusyException e) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, e.getMessage());
+        }
+    }
+
+    @GetMapping("/jobs")
+    public List<BenchmarkJobStatus> listJobs() {
+        return benchmarkJobService.listStatuses();
+    }
+
+    @GetMapping("/jobs/{jobId}")
+    public BenchmarkJobStatus getJob(@PathVariable String jobId) {
+        try {
+            return benchmarkJobService.getStatus(jobId);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, e.getMessage());
+        }
+    }
+
+    /**
+     * 벤치마크 작업 취소 - 대기 중이면 큐에서 빼고, 실행 중이면 다음 배치부터 중단
+     */
+    @DeleteMapping("/jobs/{jobId}")
+    public BenchmarkJobStatus cancelJob(@PathVariable String jobId) {
+        try {
+            return benchmarkJobService.cancel(jobId);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, e.getMessage());
+        }
+    }
+
+    /**
+     * 벤치마크 작업 진행 상황 스트림 (SSE: status, batches 이벤트 - 작업이 끝나면 종료)
+     */
+    @GetMapping(value = "/jobs/{jobId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamJobEvents(@PathVariable String jobId) {
+        try {
+            return benchmarkJobService.subscribe(jobId);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, e.getMessage());
+        }
+    }
+
+    /**
+     * 결과 이력(docs/history/benchmark-results.jsonl)에 기록된 실행 목록
+     * (scenario: basic-multiple, latency-multiple, marshaller, projection, ingest, replicas, profiles - 생략하면 전체)
+     */
+    @GetMapping("/history")
+    public List<Map<String, Object>> history(@RequestParam(required = false) String scenario) {
+        return regressionDetector.listSuites(scenario);
+    }
+
+    /**
+     * 두 실행의 회차별 처리량/지연 백분위를 Mann-Whitney U 검정으로 비교해 유의한 회귀를 표시
+     * (candidate를 생략하면 가장 최근 실행, baseline을 생략하면 그 직전 실행)
+     */
+    @GetMapping("/history/regression")
+    public RegressionReport regression(
+            @RequestParam(defaultValue = "basic-multiple") String scenario,
+            @RequestParam(required = false) String baseline,
+            @RequestParam(required = false) String candidate,
+            @RequestParam(defaultValue = "0.05") double alpha) {
+
+        try {
+            return regressionDetector.compare(scenario, baseline, candidate, alpha);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, e.getMessage());
+        }
+    }
+
+    /**
+     * Open-loop 고정 속도 테스트 (예정 전송 시각 기준 지연 시간 측정)
+     */
+    @PostMapping("/open-loop")
+    public Map<String, Object> testOpenLoop(
+            @RequestParam(defaultValue = "HTTP") String protocol,
+            @RequestParam(defaultValue = "20") double rate,
+            @RequestParam(defaultValue = "1000") int batchSize,
+            @RequestParam(defaultValue = "30") int durationSeconds) {
+
+        log.info("Starting open-loop test: protocol={}, rate={}, batchSize={}, durationSeconds={}",
+                protocol, rate, batchSize, durationSeconds);
+
+        OpenLoopLoadService.OpenLoopResult result;
+        try {
+            result = runExclusive("/open-loop", () -> openLoopLoadService.runFixedRate(protocol, rate, batchSize, durationSeconds));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("protocol", result.protocol);
+        response.put("targetRate", result.targetRate);
+        response.put("achievedRate", result.getAchievedRate());
+        response.put("sentCount", result.sentCount);
+        response.put("successCount", result.successCount);
+        response.put("failCount", result.failCount);
+        response.put("droppedCount", result.droppedCount);
+        response.put("latencyP50Ms", result.getCorrectedPercentileMs(50));
+        response.put("latencyP99Ms", result.getCorrectedPercentileMs(99));
+        response.put("latencyP999Ms", result.getCorrectedPercentileMs(99.9));
+
+        return response;
+    }
+
+    /**
+     * Open-loop 속도를 올려가며 SLO를 지키는 최대 처리량을 HTTP/gRPC 각각 탐색하고 response-open-loop.md에 저장
+     */
+    @PostMapping("/open-loop/ramp")
+    public Map<String, Object> rampOpenLoop(
+            @RequestParam(defaultValue = "1000") int batchSize,
+            @RequestParam(defaultValue = "10") double startRate,
+            @RequestParam(defaultValue = "10") double rateStep,
+            @RequestParam(defaultValue = "200") double maxRate,
+            @RequestParam(defaultValue = "20") int stepDurationSeconds,
+            @RequestParam(defaultValue = "500") double sloP99Ms) {
+
+        log.info("Starting open-loop ramp: batchSize={}, startRate={}, rateStep={}, maxRate={}, stepDurationSeconds={}, sloP99Ms={}",
+                batchSize, startRate, rateStep, maxRate, stepDurationSeconds, sloP99Ms);
+
+        Map<String, OpenLoopLoadService.RampResult> results;
+        try {
+            results = runExclusive("/open-loop/ramp", () -> openLoopLoadService.rampAndSaveResults(
+                    batchSize, startRate, rateStep, maxRate, stepDurationSeconds, sloP99Ms));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("status", "completed");
+        response.put("message", "Open-loop ramp completed. Results saved to docs/response-open-loop.md");
+        results.forEach((protocol, result) -> response.put(protocol + "MaxSustainableRate", result.maxSustainableRate));
+
+        return response;
+    }
+
+    /**
+     * 동기 측정은 벤치마크 작업과 같은 실행 스레드에서 실행 (작업이 대기 중이거나 실행 중이면 409 - /api/test/jobs로 제출)
+     */
+    private <T> T runExclusive(String name, Supplier<T> measurement) {
+        try {
+            return benchmarkJobService.runExclusive(name, measurement);
+        } catch (MeasurementGate.BusyException e) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, e.getMessage());
+        }
+    }
+
+    private void runExclusive(String name, Runnable measurement) {
+        runExclusive(name, () -> {
+            measurement.run();
+            return null;
+        });
+    }
 }
\ No newline at end of file
@@ -0,0 +1,23 @@
+package com.example.servicea.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 벤치마크 작업 진행 중 배치 하나가 끝날 때마다 SSE로 보내는 이벤트
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchProgressEvent {
+    private String test;
+    private int items;
+    private double latencyMs;
+    // 현재 테스트 시작 이후 누적 값
+    private long testBatches;
+    private long testItems;
+    // 현재 테스트 시작 이후 평균 처리량 (items/sec)
+    private double throughput;
+    private long timestamp;
+}
@@ -0,0 +1,23 @@
+package com.example.servicea.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 배치 크기 탐색에서 측정한 점 하나
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchTuningPoint {
+    private int batchSize;
+    // coarse(넓은 간격 탐색) 또는 refine-N(N번째 좁히기 단계)
+    private String phase;
+    private int totalCount;
+    private double throughput;
+    private double p50Ms;
+    private double p99Ms;
+    private double allocatedMB;
+    private int failCount;
+}
@@ -0,0 +1,29 @@
+package com.example.servicea.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 프로토콜 하나의 배치 크기 탐색 결과 (측정 곡선 + 최적점)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchTuningResult {
+    private String protocol;
+    // 탐색 전 작은 배치로 측정한 건당 응답 바이트
+    private double bytesPerItem;
+    // 응답 크기 상한 (gRPC max-inbound-message-size 또는 HTTP 코덱 maxInMemorySize)
+    private long messageLimitBytes;
+    private int maxBatchSize;
+    private int optimalBatchSize;
+    private double optimalThroughput;
+    // 최적 처리량의 95% 이상을 낸 배치 크기 범위
+    private int plateauMinBatchSize;
+    private int plateauMaxBatchSize;
+    // 배치 크기 순
+    private List<BatchTuningPoint> points;
+}
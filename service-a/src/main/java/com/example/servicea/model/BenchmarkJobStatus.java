@@ -0,0 +1,36 @@
+package com.example.servicea.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * 벤치마크 작업의 현재 상태 (대기 중, 실행 중에도 조회 가능)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BenchmarkJobStatus {
+    private String jobId;
+    // compare, compare-multiple, compare-formats, ... (/api/test 동기 엔드포인트 이름과 같음)
+    private String type;
+    // 기본값이 채워진 실제 실행 파라미터
+    private Map<String, String> params;
+    // QUEUED, RUNNING, COMPLETED, CANCELLED, FAILED
+    private String status;
+    // 대기 중일 때 앞에 남은 작업 수 (대기 중이 아니면 0)
+    private int queuePosition;
+    private String submittedAt;
+    private String startedAt;
+    private String finishedAt;
+    // 현재(또는 마지막으로) 실행 중인 테스트 라벨 (HTTP, gRPC, gRPC-Stream, ...)
+    private String currentTest;
+    private long completedBatches;
+    private long completedItems;
+    // 전송 대기열이 가득 차서 SSE로 보내지 못한 배치 이벤트 수
+    private long droppedEvents;
+    private String reportFile;
+    private String error;
+}
@@ -0,0 +1,37 @@
+package com.example.servicea.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * 결과 이력 파일(JSONL)의 한 줄 - 테스트 1회분(프로토콜 1개 x 회차 1개)의 요약
+ * 같은 비교 실행에서 나온 레코드는 suiteId가 같음
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BenchmarkRecord {
+    private String suiteId;
+    private String scenario;
+    private String recordedAt;
+    private String gitSha;
+    // 테스트 설정 (totalCount, batchSize, concurrency 등)
+    private Map<String, Object> config;
+    private String protocol;
+    private int run;
+    private int totalCount;
+    private int successCount;
+    private int failCount;
+    private long durationMs;
+    private double throughput;
+    // 배치 왕복 시간 백분위 (측정하지 않은 테스트는 -1)
+    private double p50Ms;
+    private double p95Ms;
+    private double p99Ms;
+    private double allocatedMB;
+    private double cpuTimeMs;
+    private double responseBytesPerItem;
+}
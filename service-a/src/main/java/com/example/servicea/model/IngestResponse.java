@@ -0,0 +1,21 @@
+package com.example.servicea.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 업로드 확인 응답 (gRPC IngestResponse와 같은 구성 - HTTP는 요청 1건이 배치 1개)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class IngestResponse {
+    private boolean success;
+    private int acknowledgedBatches;
+    private int acknowledgedCount;
+    private Long startTime;
+    private Long endTime;
+    // 항목 처리에 쓴 시간 (본문 역직렬화 제외)
+    private long processingMicros;
+}
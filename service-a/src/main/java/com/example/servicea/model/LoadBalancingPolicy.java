@@ -0,0 +1,21 @@
+package com.example.servicea.model;
+
+/**
+ * Service B 레플리카 선택 방식 (이름은 gRPC 채널의 loadBalancingPolicy와 같음)
+ * - PICK_FIRST: 첫 번째로 연결된 레플리카 하나에 모든 요청을 보냄 (gRPC 기본값)
+ * - ROUND_ROBIN: 요청마다 레플리카를 돌아가며 선택 (gRPC는 레플리카마다 서브채널/연결을 하나씩 유지)
+ */
+public enum LoadBalancingPolicy {
+    PICK_FIRST("pick_first"),
+    ROUND_ROBIN("round_robin");
+
+    private final String policyName;
+
+    LoadBalancingPolicy(String policyName) {
+        this.policyName = policyName;
+    }
+
+    public String getPolicyName() {
+        return policyName;
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.servicea.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 프로토콜 하나의 지표 하나에 대한 기준 실행 vs 대상 실행 비교 (Mann-Whitney U 검정)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MetricComparison {
+    private String protocol;
+    private String metric;
+    private int baselineRuns;
+    private int candidateRuns;
+    private double baselineMedian;
+    private double candidateMedian;
+    private double changePercent;
+    private double pValue;
+    // REGRESSION, IMPROVEMENT, NO_CHANGE
+    private String verdict;
+}
@@ -0,0 +1,35 @@
+package com.example.servicea.model;
+
+/**
+ * ProfiledItem 페이로드 모양 (HTTP는 profile 쿼리 파라미터로, gRPC는 ProfiledBatchRequest.profile로 선택)
+ * 항목 크기는 문자열 길이와 숫자(8바이트)를 합친 대략적인 원본 크기 - 인코딩 후 크기는 포맷마다 다름
+ */
+public enum PayloadProfile {
+    // 작은 이벤트 (id, timestamp, 카운터 몇 개, 짧은 본문)
+    SMALL(128),
+    // 큰 문서 (긴 문자열 본문 하나)
+    LARGE(100 * 1024),
+    // 수치 위주 (double, long 배열)
+    NUMERIC(2 * 1024),
+    // 깊게 중첩된 섹션 트리
+    NESTED(2 * 1024),
+    // 작은 문자열 키/값이 많은 맵
+    MAP_HEAVY(2 * 1024);
+
+    private final int defaultItemSizeBytes;
+
+    PayloadProfile(int defaultItemSizeBytes) {
+        this.defaultItemSizeBytes = defaultItemSizeBytes;
+    }
+
+    public int getDefaultItemSizeBytes() {
+        return defaultItemSizeBytes;
+    }
+
+    /**
+     * 요청한 항목 크기 (0 이하면 프로필 기본 크기)
+     */
+    public int resolveItemSize(int itemSizeBytes) {
+        return itemSizeBytes > 0 ? itemSizeBytes : defaultItemSizeBytes;
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.servicea.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 페이로드 프로필별 항목 (proto ProfiledItem과 같은 구성)
+ * 프로필마다 채우는 필드가 다르므로 빈 필드는 JSON에서도 생략 (Protobuf가 기본값을 인코딩하지 않는 것과 맞춤)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_EMPTY)
+public class ProfiledItem {
+    private String id;
+    private Long timestamp;
+    private String body;
+    private double[] measurements;
+    private long[] counters;
+    private List<ProfiledSection> sections;
+    private Map<String, String> attributes;
+}
@@ -0,0 +1,23 @@
+package com.example.servicea.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * NESTED 프로필의 섹션 (children으로 트리 구성, 가장 깊은 섹션은 children이 비어 있어 생략됨)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_EMPTY)
+public class ProfiledSection {
+    private String title;
+    private Integer level;
+    private String text;
+    private double[] scores;
+    private List<ProfiledSection> children;
+}
@@ -0,0 +1,18 @@
+package com.example.servicea.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 프로젝션 디코딩한 BatchDataResponse (success와 items의 일부 필드만)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectedBatch {
+    private boolean success;
+    private List<ProjectedDataItem> items;
+}
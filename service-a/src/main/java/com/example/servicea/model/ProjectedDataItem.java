@@ -0,0 +1,17 @@
+package com.example.servicea.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 소비자가 실제로 쓰는 필드만 남긴 DataItem (나머지 필드는 디코딩하지 않음)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectedDataItem {
+    private String id;
+    private String category;
+    private double value;
+}
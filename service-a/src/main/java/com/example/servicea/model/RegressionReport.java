@@ -0,0 +1,26 @@
+package com.example.servicea.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 결과 이력에서 기준 실행(baseline)과 대상 실행(candidate)을 비교한 회귀 판정 결과
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RegressionReport {
+    private String scenario;
+    private String baselineSuiteId;
+    private String baselineGitSha;
+    private String candidateSuiteId;
+    private String candidateGitSha;
+    private double alpha;
+    private boolean regressionDetected;
+    private List<MetricComparison> comparisons;
+    // 회차 수 부족 등 판정 신뢰도에 관한 안내
+    private List<String> warnings;
+}
@@ -1,5 +1,6 @@
 package com.example.servicea.model;
 
+import com.example.shared.model.ResourceUsage;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -16,6 +17,8 @@ public class ServerPerformanceMetrics {
     private long memoryUsedBytes;
     private long dataGenerationMs;
     private long serializationMs;
+    // 할당 바이트/CPU 시간/GC (힙 사용량 차이 대신 비교 기준으로 사용)
+    private ResourceUsage resources;
 
     public double getThroughput() {
         return (double) count / (durationMs / 1000.0);
@@ -24,4 +27,20 @@ public class ServerPerformanceMetrics {
     public double getMemoryUsedMB() {
         return memoryUsedBytes / (1024.0 * 1024.0);
     }
+
+    public double getAllocatedMB() {
+        return resources != null ? resources.getAllocatedMB() : 0;
+    }
+
+    public double getCpuTimeMs() {
+        return resources != null ? resources.getCpuTimeMs() : 0;
+    }
+
+    public long getGcCount() {
+        return resources != null ? resources.getGcCount() : 0;
+    }
+
+    public long getGcTimeMs() {
+        return resources != null ? resources.getGcTimeMs() : 0;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,22 @@
+package com.example.servicea.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 소크 테스트 샘플 구간 하나의 프로토콜별 트래픽 (지연 시간은 예정 전송 시각 기준, 측정 값이 없으면 -1)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SoakProtocolSample {
+    private long requests;
+    private long errors;
+    // in-flight 상한을 넘어 보내지 못한 요청
+    private long dropped;
+    private double throughput;
+    private double p50Ms;
+    private double p99Ms;
+    private double maxMs;
+}
@@ -0,0 +1,32 @@
+package com.example.servicea.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 소크 테스트 작업의 현재 상태 (진행 중에도 조회 가능)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SoakReport {
+    private String jobId;
+    // RUNNING, COMPLETED, CANCELLED, FAILED
+    private String status;
+    private Map<String, Object> config;
+    private String startedAt;
+    private long elapsedSeconds;
+    private long durationSeconds;
+    private double progressPercent;
+    private int sampleCount;
+    private SoakSample latestSample;
+    // includeSamples=false로 조회하면 null
+    private List<SoakSample> samples;
+    private List<TrendAnalysis> trends;
+    private boolean leakSuspected;
+    private String error;
+}
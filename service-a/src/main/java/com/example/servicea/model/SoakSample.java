@@ -0,0 +1,26 @@
+package com.example.servicea.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * 소크 테스트 주기 샘플 - 트래픽 지표와 클라이언트 JVM 상태 (읽을 수 없는 메모리 값은 -1)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SoakSample {
+    private long elapsedSeconds;
+    private Map<String, SoakProtocolSample> protocols;
+    private double heapAfterGcMB;
+    private double heapUsedMB;
+    // ByteBuffer.allocateDirect 기준 (BufferPoolMXBean "direct")
+    private double jvmDirectMB;
+    // Netty가 Cleaner 없이 직접 관리하는 direct 메모리 - WebClient(reactor-netty), gRPC(grpc-netty-shaded) 각각
+    private double reactorNettyDirectMB;
+    private double grpcNettyDirectMB;
+    private int threadCount;
+}
@@ -0,0 +1,24 @@
+package com.example.servicea.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 소크 테스트 샘플 값의 선형 추세 (최소제곱 회귀) - 기울기가 임계값을 넘고 추세가 뚜렷하면 누수 의심
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TrendAnalysis {
+    private String metric;
+    private String unit;
+    private int samples;
+    private double first;
+    private double last;
+    // 시간당 증가량 (unit/h)
+    private double slopePerHour;
+    private double rSquared;
+    private double thresholdPerHour;
+    private boolean leakSuspected;
+}
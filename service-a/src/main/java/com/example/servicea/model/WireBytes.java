@@ -0,0 +1,32 @@
+package com.example.servicea.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 배치 데이터 호출의 직렬화된 요청/응답 바이트 합계 (HTTP는 본문, gRPC는 메시지 + 5바이트 길이 접두부 - 헤더 제외)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class WireBytes {
+    private long calls;
+    private long requestBytes;
+    private long responseBytes;
+
+    public double getResponseMB() {
+        return responseBytes / (1024.0 * 1024.0);
+    }
+
+    public double getAvgResponseBytesPerCall() {
+        return calls == 0 ? 0 : (double) responseBytes / calls;
+    }
+
+    /**
+     * 두 시점 스냅샷의 차이 (테스트 1회분 계산용)
+     */
+    public WireBytes minus(WireBytes before) {
+        return new WireBytes(calls - before.calls, requestBytes - before.requestBytes, responseBytes - before.responseBytes);
+    }
+}
@@ -0,0 +1,593 @@
+package com.example.servicea.service;
+
+import com.example.servicea.model.BatchProgressEvent;
+import com.example.servicea.model.BenchmarkJobStatus;
+import com.example.servicea.model.PayloadProfile;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 벤치마크 작업 큐 - /api/test의 비교 테스트를 백그라운드 작업으로 실행하고 진행 상황을 SSE로 스트리밍
+ *
+ * 작업은 단일 스레드 실행기에서 제출 순서대로 하나씩 실행되므로 측정이 서로 겹치지 않음
+ * 실행 중인 작업을 취소하면 실행 스레드를 인터럽트하고, 배치 루프는 다음 배치를 보내기 전에 멈춤
+ * (그때까지의 결과로 보고서는 저장되지만 일부만 측정된 결과라 이력(ResultHistoryStore)에는 남기지 않음)
+ *
+ * 배치 이벤트는 응답 콜백 스레드에서 대기열에 넣기만 하고, 전송은 별도 스레드가 FLUSH_INTERVAL_MS마다 모아서 보냄
+ * (SSE 전송이 느려도 측정 중인 요청 경로가 막히지 않도록)
+ * 배치 리스너는 실행 스레드에만 연결하므로 다른 스레드에서 시작한 측정의 배치는 작업 이벤트에 섞이지 않음
+ *
+ * /api/test의 동기 엔드포인트도 runExclusive로 같은 실행 스레드에서 실행되므로 작업과 측정이 겹치지 않음
+ * 소크 테스트와는 MeasurementGate로 서로 확인하므로, 소크 테스트가 실행 중이면 작업 제출과 동기 측정을 거부함
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BenchmarkJobService {
+
+    private static final long FLUSH_INTERVAL_MS = 250;
+    // 작업별 미전송 배치 이벤트 상한 (초과분은 버리고 droppedEvents로 집계)
+    private static final int MAX_PENDING_EVENTS = 10_000;
+    // MeasurementGate에 등록하는 측정 종류 이름
+    private static final String GATE_NAME = "benchmark job";
+
+    private final PerformanceTestService performanceTestService;
+    private final LatencyRecorder latencyRecorder;
+    private final MeasurementGate measurementGate;
+
+    private final Map<String, BenchmarkJob> jobs = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+    // runExclusive로 실행 중이거나 실행을 기다리는 동기 측정 수
+    private final AtomicInteger exclusiveRuns = new AtomicInteger();
+    // 작업 큐 - 스레드가 하나라 한 번에 한 작업만 실행
+    private final ExecutorService runner = Executors.newSingleThreadExecutor(r -> new Thread(r, "benchmark-job"));
+    private final ScheduledExecutorService publisher =
+        Executors.newSingleThreadScheduledExecutor(r -> new Thread(r, "benchmark-job-events"));
+
+    /**
+     * 작업 설정 (params에 없는 값은 작업 종류별 기본값 사용 - 동기 엔드포인트의 기본값과 같음)
+     */
+    public record JobSpec(String type, Map<String, String> params) {
+    }
+
+    @PostConstruct
+    void startPublisher() {
+        measurementGate.register(GATE_NAME, this::isBusy);
+        publisher.scheduleWithFixedDelay(this::flushRunningJobs, FLUSH_INTERVAL_MS, FLUSH_INTERVAL_MS, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        jobs.values().forEach(job -> job.cancelRequested = true);
+        runner.shutdownNow();
+        publisher.shutdownNow();
+    }
+
+    /**
+     * 작업을 큐에 넣고 바로 상태 반환 (앞선 작업이 끝나면 실행됨, 소크 테스트가 실행 중이면 MeasurementGate.BusyException)
+     */
+    public BenchmarkJobStatus submit(JobSpec spec) {
+        JobType type = JobType.fromId(spec.type());
+        Map<String, String> params = type.resolveParams(spec.params());
+
+        return measurementGate.startIfIdle(GATE_NAME, () -> {
+            BenchmarkJob job = new BenchmarkJob(UUID.randomUUID().toString(), sequence.incrementAndGet(), type, params);
+            jobs.put(job.id, job);
+            job.future = runner.submit(() -> run(job));
+
+            log.info("Benchmark job {} queued: type={}, params={}", job.id, type.id, params);
+            return toStatus(job);
+        });
+    }
+
+    /**
+     * 대기 중이거나 실행 중인 작업 또는 동기 측정이 있는지 (큐를 거치지 않는 측정이 작업과 겹치지 않도록 확인용)
+     */
+    public boolean isBusy() {
+        return exclusiveRuns.get() > 0 || jobs.values().stream().anyMatch(job -> !job.isFinished());
+    }
+
+    /**
+     * 동기 측정을 작업과 같은 실행 스레드에서 실행하고 끝날 때까지 대기
+     * 큐 뒤에서 오래 기다리지 않도록, 대기 중이거나 실행 중인 작업 또는 소크 테스트가 있으면 바로 MeasurementGate.BusyException
+     */
+    public <T> T runExclusive(String name, Supplier<T> measurement) {
+        Future<T> future = measurementGate.startIfIdle(GATE_NAME, () -> {
+            if (isBusy()) {
+                throw new MeasurementGate.BusyException(
+                    "A benchmark job is queued or running, submit " + name + " to /api/test/jobs instead");
+            }
+            exclusiveRuns.incrementAndGet();
+            return runner.submit(() -> {
+                try {
+                    return measurement.get();
+                } finally {
+                    exclusiveRuns.decrementAndGet();
+                    Thread.interrupted();
+                }
+            });
+        });
+        log.info("Synchronous benchmark {} started on the job runner", name);
+
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for " + name, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(name + " failed", e.getCause());
+        }
+    }
+
+    public BenchmarkJobStatus getStatus(String jobId) {
+        return toStatus(findJob(jobId));
+    }
+
+    public List<BenchmarkJobStatus> listStatuses() {
+        return jobs.values().stream()
+            .sorted(Comparator.comparingLong(job -> job.sequence))
+            .map(this::toStatus)
+            .toList();
+    }
+
+    /**
+     * 대기 중인 작업은 큐에서 빼고, 실행 중인 작업은 실행 스레드를 인터럽트해서 중단
+     */
+    public BenchmarkJobStatus cancel(String jobId) {
+        BenchmarkJob job = findJob(jobId);
+        if (!job.isFinished()) {
+            job.cancelRequested = true;
+            if (job.future != null) {
+                job.future.cancel(true);
+            }
+            synchronized (job.emitters) {
+                if ("QUEUED".equals(job.status)) {
+                    finish(job, "CANCELLED", null);
+                }
+            }
+            log.info("Benchmark job {} cancellation requested", jobId);
+        }
+        return toStatus(job);
+    }
+
+    /**
+     * 작업 이벤트 구독 - 바로 현재 상태(status)를 보내고, 실행 중에는 배치 이벤트(batches),
+     * 상태가 바뀔 때 status 이벤트를 보냄 (작업이 끝나면 스트림도 종료)
+     */
+    public SseEmitter subscribe(String jobId) {
+        BenchmarkJob job = findJob(jobId);
+        SseEmitter emitter = new SseEmitter(0L);
+        emitter.onCompletion(() -> job.emitters.remove(emitter));
+        emitter.onTimeout(() -> job.emitters.remove(emitter));
+        emitter.onError(e -> job.emitters.remove(emitter));
+
+        synchronized (job.emitters) {
+            if (send(emitter, SseEmitter.event().name("status").data(toStatus(job))) && job.isFinished()) {
+                emitter.complete();
+            } else if (!job.isFinished()) {
+                job.emitters.add(emitter);
+            }
+        }
+        return emitter;
+    }
+
+    private BenchmarkJob findJob(String jobId) {
+        BenchmarkJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new IllegalArgumentException("Benchmark job not found: " + jobId);
+        }
+        return job;
+    }
+
+    private void run(BenchmarkJob job) {
+        synchronized (job.emitters) {
+            // 큐에서 기다리는 동안 취소된 작업
+            if (job.isFinished()) {
+                return;
+            }
+            job.status = "RUNNING";
+            job.startedAt = Instant.now();
+        }
+        latencyRecorder.bindBatchListener((label, items, latencyMicros) -> onBatch(job, label, items, latencyMicros));
+        publishStatus(job);
+        log.info("Benchmark job {} started: type={}", job.id, job.type.id);
+
+        String status;
+        String error = null;
+        try {
+            job.type.runner.run(performanceTestService, new JobParams(job.params));
+            status = job.cancelRequested || Thread.currentThread().isInterrupted() ? "CANCELLED" : "COMPLETED";
+        } catch (Exception e) {
+            if (job.cancelRequested) {
+                status = "CANCELLED";
+            } else {
+                log.error("Benchmark job {} failed", job.id, e);
+                status = "FAILED";
+                error = e.getMessage();
+            }
+        } finally {
+            latencyRecorder.bindBatchListener(null);
+            // 다음 작업이 인터럽트 상태로 시작하지 않도록 정리
+            Thread.interrupted();
+        }
+        finish(job, status, error);
+    }
+
+    /**
+     * 배치 하나 완료 - 기록 스레드에서 호출되므로 누적 값만 갱신하고 이벤트는 대기열에 넣기만 함
+     */
+    private void onBatch(BenchmarkJob job, String label, int items, long latencyMicros) {
+        long now = System.nanoTime();
+        BatchProgressEvent event;
+        synchronized (job) {
+            // 라벨이 바뀌면 새 테스트 시작 (같은 테스트의 동시 배치는 같은 라벨을 공유)
+            if (!label.equals(job.currentTest)) {
+                job.currentTest = label;
+                job.testStartNanos = now - TimeUnit.MICROSECONDS.toNanos(latencyMicros);
+                job.testBatches = 0;
+                job.testItems = 0;
+            }
+            job.testBatches++;
+            job.testItems += items;
+            double elapsedSec = Math.max(1, now - job.testStartNanos) / 1e9;
+            event = new BatchProgressEvent(label, items, latencyMicros / 1000.0, job.testBatches, job.testItems,
+                job.testItems / elapsedSec, System.currentTimeMillis());
+        }
+        job.completedBatches.increment();
+        job.completedItems.add(items);
+        if (!job.pendingEvents.offer(event)) {
+            job.droppedEvents.increment();
+        }
+    }
+
+    private void flushRunningJobs() {
+        for (BenchmarkJob job : jobs.values()) {
+            if ("RUNNING".equals(job.status)) {
+                flushEvents(job);
+            }
+        }
+    }
+
+    /**
+     * 대기열에 쌓인 배치 이벤트를 batches 이벤트 하나(배열)로 묶어서 전송
+     */
+    private void flushEvents(BenchmarkJob job) {
+        synchronized (job.emitters) {
+            List<BatchProgressEvent> events = new ArrayList<>();
+            job.pendingEvents.drainTo(events);
+            if (events.isEmpty() || job.emitters.isEmpty()) {
+                return;
+            }
+            for (SseEmitter emitter : job.emitters) {
+                if (!send(emitter, SseEmitter.event().name("batches").data(events))) {
+                    job.emitters.remove(emitter);
+                }
+            }
+        }
+    }
+
+    private void publishStatus(BenchmarkJob job) {
+        synchronized (job.emitters) {
+            BenchmarkJobStatus status = toStatus(job);
+            for (SseEmitter emitter : job.emitters) {
+                if (!send(emitter, SseEmitter.event().name("status").data(status))) {
+                    job.emitters.remove(emitter);
+                }
+            }
+        }
+    }
+
+    /**
+     * 남은 배치 이벤트와 최종 상태를 보내고 구독 스트림 종료
+     */
+    private void finish(BenchmarkJob job, String status, String error) {
+        synchronized (job.emitters) {
+            if (job.isFinished()) {
+                return;
+            }
+            job.status = status;
+            job.error = error;
+            job.finishedAt = Instant.now();
+            flushEvents(job);
+            publishStatus(job);
+            job.emitters.forEach(SseEmitter::complete);
+            job.emitters.clear();
+        }
+        log.info("Benchmark job {} {}: {} batches, {} items", job.id, status,
+            job.completedBatches.sum(), job.completedItems.sum());
+    }
+
+    private boolean send(SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트가 연결을 끊은 경우
+            emitter.completeWithError(e);
+            return false;
+        }
+    }
+
+    private BenchmarkJobStatus toStatus(BenchmarkJob job) {
+        int queuePosition = "QUEUED".equals(job.status)
+            ? (int) jobs.values().stream()
+                .filter(other -> "QUEUED".equals(other.status) && other.sequence < job.sequence)
+                .count()
+            : 0;
+
+        return new BenchmarkJobStatus(
+            job.id,
+            job.type.id,
+            job.params,
+            job.status,
+            queuePosition,
+            job.submittedAt.toString(),
+            job.startedAt != null ? job.startedAt.toString() : null,
+            job.finishedAt != null ? job.finishedAt.toString() : null,
+            job.currentTest,
+            job.completedBatches.sum(),
+            job.completedItems.sum(),
+            job.droppedEvents.sum(),
+            "docs/" + job.type.reportFile.apply(new JobParams(job.params)),
+            job.error
+        );
+    }
+
+    @FunctionalInterface
+    private interface JobRunner {
+        void run(PerformanceTestService service, JobParams params);
+    }
+
+    /**
+     * 작업 종류 - /api/test 동기 엔드포인트와 같은 이름, 같은 기본값
+     */
+    private enum JobType {
+        COMPARE("compare",
+            defaults("totalCount", "400000", "batchSize", "1000", "chunkSize", "100", "concurrency", "1"),
+            params -> "response-basic.md",
+            (service, p) -> service.compareAndSaveResults(p.getInt("totalCount"), p.getInt("batchSize"),
+                p.getInt("chunkSize"), p.getInt("concurrency"))),
+        COMPARE_MULTIPLE("compare-multiple",
+            defaults("totalCount", "400000", "batchSize", "1000", "chunkSize", "100", "concurrency", "1",
+                "runs", "10", "intervalSeconds", "30", "withLatency", "false"),
+            params -> params.getBoolean("withLatency") ? "response-latency-multiple.md" : "response-basic-multiple.md",
+            (service, p) -> service.compareAndSaveResultsWithMultipleRuns(p.getInt("totalCount"), p.getInt("batchSize"),
+                p.getInt("chunkSize"), p.getInt("concurrency"), p.getInt("runs"), p.getInt("intervalSeconds"),
+                p.getBoolean("withLatency"))),
+        COMPARE_THREADS("compare-threads",
+            defaults("totalCount", "400000", "batchSize", "1000", "concurrency", "8"),
+            params -> "response-threads.md",
+            (service, p) -> service.compareThreadModesAndSave(p.getInt("totalCount"), p.getInt("batchSize"),
+                p.getInt("concurrency"))),
+        COMPARE_FORMATS("compare-formats",
+            defaults("totalCount", "100000", "batchSize", "1000"),
+            params -> "response-formats.md",
+            (service, p) -> service.compareFormatsAndSave(p.getInt("totalCount"), p.getInt("batchSize"))),
+        COMPARE_TRANSPORTS("compare-transports",
+            defaults("totalCount", "100000", "batchSize", "1000", "concurrency", "8"),
+            params -> "response-transports.md",
+            (service, p) -> service.compareTransportsAndSave(p.getInt("totalCount"), p.getInt("batchSize"),
+                p.getInt("concurrency"))),
+        COMPARE_COMPRESSION("compare-compression",
+            defaults("totalCount", "100000", "batchSize", "1000"),
+            params -> "response-compression.md",
+            (service, p) -> service.compareCompressionAndSave(p.getInt("totalCount"), p.getInt("batchSize"))),
+        COMPARE_MARSHALLERS("compare-marshallers",
+            defaults("totalCount", "100000", "batchSize", "1000", "concurrency", "1", "runs", "3"),
+            params -> "response-marshaller.md",
+            (service, p) -> service.compareMarshallersAndSave(p.getInt("totalCount"), p.getInt("batchSize"),
+                p.getInt("concurrency"), p.getInt("runs"))),
+        COMPARE_PROJECTION("compare-projection",
+            defaults("totalCount", "100000", "batchSize", "1000", "runs", "3"),
+            params -> "response-projection.md",
+            (service, p) -> service.compareProjectionAndSave(p.getInt("totalCount"), p.getInt("batchSize"),
+                p.getInt("runs"))),
+        COMPARE_INGEST("compare-ingest",
+            defaults("totalCount", "100000", "batchSize", "1000", "runs", "3"),
+            params -> "response-ingest.md",
+            (service, p) -> service.compareIngestAndSave(p.getInt("totalCount"), p.getInt("batchSize"),
+                p.getInt("runs"))),
+        COMPARE_PROFILES("compare-profiles",
+            defaults("profiles", "SMALL,LARGE,NUMERIC,NESTED,MAP_HEAVY", "itemSizeBytes", "0", "payloadMegabytes", "50",
+                "batchSize", "1000", "runs", "3"),
+            params -> "response-profiles.md",
+            (service, p) -> service.compareProfilesAndSave(p.getProfiles("profiles"), p.getInt("itemSizeBytes"),
+                p.getInt("payloadMegabytes"), p.getInt("batchSize"), p.getInt("runs"))),
+        COMPARE_REPLICAS("compare-replicas",
+            defaults("totalCount", "100000", "batchSize", "1000", "concurrency", "16", "runs", "3"),
+            params -> "response-replicas.md",
+            (service, p) -> service.compareReplicasAndSave(p.getInt("totalCount"), p.getInt("batchSize"),
+                p.getInt("concurrency"), p.getInt("runs"))),
+        TUNE_BATCH_SIZE("tune-batch-size",
+            defaults("itemsPerPoint", "20000", "concurrency", "1", "minBatchSize", "10", "maxBatchSize", "0",
+                "refineRounds", "3"),
+            params -> "response-batch-tuning.md",
+            (service, p) -> service.tuneBatchSizeAndSave(p.getInt("itemsPerPoint"), p.getInt("concurrency"),
+                p.getInt("minBatchSize"), p.getInt("maxBatchSize"), p.getInt("refineRounds")));
+
+        final String id;
+        final Map<String, String> defaults;
+        final Function<JobParams, String> reportFile;
+        final JobRunner runner;
+
+        JobType(String id, Map<String, String> defaults, Function<JobParams, String> reportFile, JobRunner runner) {
+            this.id = id;
+            this.defaults = defaults;
+            this.reportFile = reportFile;
+            this.runner = runner;
+        }
+
+        static JobType fromId(String id) {
+            for (JobType type : values()) {
+                if (type.id.equals(id)) {
+                    return type;
+                }
+            }
+            List<String> ids = new ArrayList<>();
+            for (JobType type : values()) {
+                ids.add(type.id);
+            }
+            throw new IllegalArgumentException("Unknown job type: " + id + " (" + String.join(", ", ids) + ")");
+        }
+
+        /**
+         * 기본값에 요청 값을 덮어씀 - 모르는 이름이나 기본값과 형식이 다른 값은 거부 (실행 도중이 아니라 제출 시점에 실패하도록)
+         */
+        Map<String, String> resolveParams(Map<String, String> requested) {
+            Map<String, String> resolved = new LinkedHashMap<>(defaults);
+            if (requested != null) {
+                for (Map.Entry<String, String> entry : requested.entrySet()) {
+                    String defaultValue = defaults.get(entry.getKey());
+                    if (defaultValue == null) {
+                        throw new IllegalArgumentException("Unknown parameter for " + id + ": " + entry.getKey()
+                            + " (" + String.join(", ", defaults.keySet()) + ")");
+                    }
+                    String value = entry.getValue().trim();
+                    if (!isValid(defaultValue, value)) {
+                        throw new IllegalArgumentException("Invalid value for " + entry.getKey() + ": " + value);
+                    }
+                    resolved.put(entry.getKey(), value);
+                }
+            }
+            return resolved;
+        }
+
+        /**
+         * 기본값과 같은 형식인지 확인 (숫자, true/false, 그 외는 페이로드 프로필 목록)
+         */
+        private static boolean isValid(String defaultValue, String value) {
+            if (isBoolean(defaultValue)) {
+                return isBoolean(value);
+            }
+            if (isInt(defaultValue)) {
+                return isInt(value);
+            }
+            try {
+                return !JobParams.parseProfiles(value).isEmpty();
+            } catch (IllegalArgumentException e) {
+                return false;
+            }
+        }
+
+        private static boolean isBoolean(String value) {
+            return "true".equalsIgnoreCase(value) || "false".equalsIgnoreCase(value);
+        }
+
+        private static boolean isInt(String value) {
+            try {
+                Integer.parseInt(value);
+                return true;
+            } catch (NumberFormatException e) {
+                return false;
+            }
+        }
+
+        private static Map<String, String> defaults(String... keyValues) {
+            Map<String, String> defaults = new LinkedHashMap<>();
+            for (int i = 0; i < keyValues.length; i += 2) {
+                defaults.put(keyValues[i], keyValues[i + 1]);
+            }
+            return defaults;
+        }
+    }
+
+    /**
+     * 검증이 끝난 작업 파라미터 읽기
+     */
+    private record JobParams(Map<String, String> values) {
+
+        int getInt(String name) {
+            return Integer.parseInt(values.get(name));
+        }
+
+        boolean getBoolean(String name) {
+            return Boolean.parseBoolean(values.get(name));
+        }
+
+        List<PayloadProfile> getProfiles(String name) {
+            return parseProfiles(values.get(name));
+        }
+
+        static List<PayloadProfile> parseProfiles(String value) {
+            List<PayloadProfile> profiles = new ArrayList<>();
+            for (String name : value.split(",")) {
+                if (!name.isBlank()) {
+                    profiles.add(PayloadProfile.valueOf(name.trim().toUpperCase()));
+                }
+            }
+            return profiles;
+        }
+    }
+
+    /**
+     * 작업 하나의 상태 - 누적 값은 기록 스레드, 상태는 실행 스레드에서 갱신하고 조회는 어느 스레드에서나 가능
+     */
+    private static final class BenchmarkJob {
+        final String id;
+        final long sequence;
+        final JobType type;
+        final Map<String, String> params;
+        final Instant submittedAt = Instant.now();
+        final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+        final BlockingQueue<BatchProgressEvent> pendingEvents = new ArrayBlockingQueue<>(MAX_PENDING_EVENTS);
+        final LongAdder completedBatches = new LongAdder();
+        final LongAdder completedItems = new LongAdder();
+        final LongAdder droppedEvents = new LongAdder();
+
+        volatile String status = "QUEUED";
+        volatile Instant startedAt;
+        volatile Instant finishedAt;
+        volatile String currentTest;
+        volatile String error;
+        volatile boolean cancelRequested;
+        volatile Future<?> future;
+
+        // 현재 테스트의 누적 값 (onBatch에서 job 락을 잡고 갱신)
+        long testStartNanos;
+        long testBatches;
+        long testItems;
+
+        BenchmarkJob(String id, long sequence, JobType type, Map<String, String> params) {
+            this.id = id;
+            this.sequence = sequence;
+            this.type = type;
+            this.params = params;
+        }
+
+        boolean isFinished() {
+            return "COMPLETED".equals(status) || "CANCELLED".equals(status) || "FAILED".equals(status);
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.example.servicea.service;
+
+import com.example.servicea.client.GrpcDataClient;
+import com.example.servicea.client.HttpDataClient;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.MoreExecutors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Open-loop 트래픽 전송 - 응답을 기다리지 않고 고정된 간격(시작 + i * 간격)에 맞춰 배치 요청을 보냄
+ *
+ * OpenLoopLoadService(고정 속도/속도 증가 탐색)와 SoakTestService(장시간 실행)가 같이 사용하고,
+ * 결과 집계는 호출하는 쪽이 완료 콜백으로 처리함
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FixedRateDriver {
+
+    // 응답이 계속 밀릴 때 in-flight 요청이 무한히 쌓이지 않도록 하는 상한 (초과분은 누락으로 기록)
+    public static final int MAX_IN_FLIGHT = 512;
+
+    // 전송을 멈춘 뒤 남은 in-flight 요청을 기다리는 최대 시간
+    private static final long DRAIN_TIMEOUT_SECONDS = 60;
+
+    private final HttpDataClient httpDataClient;
+    private final GrpcDataClient grpcDataClient;
+
+    /**
+     * 요청 1건의 결과 알림 - onSuccess/onFailure는 응답 콜백 스레드(Netty 이벤트 루프, gRPC 콜백 스레드),
+     * onDropped는 전송 스레드에서 호출되므로 가볍게 처리해야 함
+     */
+    public interface Listener {
+
+        /**
+         * 응답 수신 - intendedStartNanos는 예정 전송 시각, actualStartNanos는 실제 전송 시각 (System.nanoTime)
+         */
+        void onSuccess(long intendedStartNanos, long actualStartNanos);
+
+        void onFailure(Throwable t);
+
+        /**
+         * in-flight 상한에 걸려 보내지 못한 요청
+         */
+        void onDropped();
+    }
+
+    /**
+     * 전송 구간과 잔여 응답 대기까지 포함한 전체 구간의 시각 (System.nanoTime)
+     */
+    public record Run(long scheduledCount, long startNanos, long sendEndNanos, long endNanos) {
+    }
+
+    /**
+     * 지원하는 프로토콜(HTTP, gRPC)인지 확인 - 아니면 IllegalArgumentException
+     */
+    public static void requireSupportedProtocol(String protocol) {
+        if (!"HTTP".equals(protocol) && !"gRPC".equals(protocol)) {
+            throw new IllegalArgumentException("Unknown protocol: " + protocol + " (HTTP or gRPC)");
+        }
+    }
+
+    /**
+     * 초당 requestsPerSecond 속도로 maxRequests건을 보내거나 keepSending이 false가 될 때까지 전송하고,
+     * 남은 in-flight 요청이 끝날 때까지(최대 60초) 기다림
+     */
+    public Run drive(String name, String protocol, double requestsPerSecond, int batchSize, long maxRequests,
+                     BooleanSupplier keepSending, Listener listener) {
+        requireSupportedProtocol(protocol);
+        // 0 이하 속도는 간격이 무한대/음수가 되어 한 번에 몰아서 보내게 됨
+        if (!(requestsPerSecond > 0) || batchSize <= 0) {
+            throw new IllegalArgumentException("rate and batch size must be positive");
+        }
+        boolean grpc = "gRPC".equals(protocol);
+        long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / requestsPerSecond);
+        Semaphore inFlight = new Semaphore(MAX_IN_FLIGHT);
+
+        long startNanos = System.nanoTime();
+        long scheduled = 0;
+        for (; scheduled < maxRequests && keepSending.getAsBoolean(); scheduled++) {
+            long intendedStart = startNanos + scheduled * intervalNanos;
+            long waitNanos = intendedStart - System.nanoTime();
+            if (waitNanos > 0) {
+                LockSupport.parkNanos(waitNanos);
+            }
+
+            if (!inFlight.tryAcquire()) {
+                listener.onDropped();
+                continue;
+            }
+
+            long actualStart = System.nanoTime();
+            if (grpc) {
+                Futures.addCallback(grpcDataClient.getBatchDataAsync(batchSize), new FutureCallback<>() {
+                    @Override
+                    public void onSuccess(com.example.proto.BatchDataResponse response) {
+                        complete(() -> listener.onSuccess(intendedStart, actualStart), inFlight);
+                    }
+
+                    @Override
+                    public void onFailure(Throwable t) {
+                        log.debug("{} gRPC request failed", name, t);
+                        complete(() -> listener.onFailure(t), inFlight);
+                    }
+                }, MoreExecutors.directExecutor());
+            } else {
+                httpDataClient.getBatchData(batchSize).subscribe(
+                    response -> complete(() -> listener.onSuccess(intendedStart, actualStart), inFlight),
+                    e -> {
+                        log.debug("{} HTTP request failed", name, e);
+                        complete(() -> listener.onFailure(e), inFlight);
+                    });
+            }
+        }
+        long sendEndNanos = System.nanoTime();
+
+        try {
+            if (!inFlight.tryAcquire(MAX_IN_FLIGHT, DRAIN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                log.warn("{}: {} {} requests still in flight after timeout",
+                    name, MAX_IN_FLIGHT - inFlight.availablePermits(), protocol);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("{} {} traffic interrupted", name, protocol);
+        }
+        return new Run(scheduled, startNanos, sendEndNanos, System.nanoTime());
+    }
+
+    /**
+     * 리스너가 실패해도 in-flight 자리는 반드시 반환
+     */
+    private static void complete(Runnable notify, Semaphore inFlight) {
+        try {
+            notify.run();
+        } finally {
+            inFlight.release();
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.example.servicea.service;
+
+import com.example.servicea.model.DataItem;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+/**
+ * 업로드 테스트용 데이터 풀 - Service B DataGenerator와 같은 구성(약 2KB)의 항목을 POJO/Proto 두 형태로 미리 만들어 두고
+ * 배치마다 구간을 꺼내 씀 (측정 구간에 데이터 생성 비용이 섞이지 않도록 처음 사용할 때 한 번만 생성)
+ */
+@Slf4j
+@Component
+public class IngestDataPool {
+
+    private static final String CHARS = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789 ";
+    private static final long BASE_TIMESTAMP = 1_700_000_000_000L;
+
+    private final int poolSize;
+    private final long seed;
+
+    private volatile Pool pool;
+
+    public IngestDataPool(@Value("${benchmark.ingest.pool-size:10000}") int poolSize,
+                          @Value("${benchmark.ingest.seed:42}") long seed) {
+        this.poolSize = poolSize;
+        this.seed = seed;
+    }
+
+    /**
+     * 풀 생성 (이미 만들어져 있으면 아무것도 하지 않음) - 측정 시작 전에 호출
+     */
+    public void prepare() {
+        pool();
+    }
+
+    /**
+     * offset번째 항목부터 count개 (풀 끝에 닿으면 처음으로 순환)
+     */
+    public List<DataItem> slice(int offset, int count) {
+        return slice(pool().items, offset, count);
+    }
+
+    public List<com.example.proto.DataItem> sliceProto(int offset, int count) {
+        return slice(pool().protoItems, offset, count);
+    }
+
+    private static <T> List<T> slice(List<T> items, int offset, int count) {
+        int start = Math.floorMod(offset, items.size());
+        if (start + count <= items.size()) {
+            return items.subList(start, start + count);
+        }
+        List<T> wrapped = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            wrapped.add(items.get((start + i) % items.size()));
+        }
+        return wrapped;
+    }
+
+    private Pool pool() {
+        Pool current = pool;
+        if (current == null) {
+            synchronized (this) {
+                current = pool;
+                if (current == null) {
+                    current = createPool();
+                    pool = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private Pool createPool() {
+        long start = System.currentTimeMillis();
+        SplittableRandom random = new SplittableRandom(seed);
+        List<DataItem> items = new ArrayList<>(poolSize);
+        List<com.example.proto.DataItem> protoItems = new ArrayList<>(poolSize);
+        for (int i = 0; i < Math.max(1, poolSize); i++) {
+            DataItem item = createDataItem(random, BASE_TIMESTAMP + i);
+            items.add(item);
+            protoItems.add(toProto(item));
+        }
+        log.info("Ingest data pool ready: {} items, {}ms", items.size(), System.currentTimeMillis() - start);
+        return new Pool(Collections.unmodifiableList(items), Collections.unmodifiableList(protoItems));
+    }
+
+    private DataItem createDataItem(SplittableRandom random, long timestamp) {
+        String id = new UUID(random.nextLong(), random.nextLong()).toString();
+        return new DataItem(
+            id,
+            "Product-" + id.substring(0, 8),
+            generateString(200, random), // description
+            "Category-" + (timestamp % 10),
+            generateString(500, random), // content
+            timestamp,
+            generateString(150, random), // metadata1
+            generateString(150, random), // metadata2
+            generateString(150, random), // metadata3
+            generateString(150, random), // metadata4
+            generateString(150, random), // metadata5
+            generateString(200, random), // additionalInfo
+            random.nextDouble() * 1000,
+            (int) (timestamp % 5),
+            "tag1,tag2,tag3,tag4,tag5"
+        );
+    }
+
+    private com.example.proto.DataItem toProto(DataItem item) {
+        return com.example.proto.DataItem.newBuilder()
+            .setId(item.getId())
+            .setName(item.getName())
+            .setDescription(item.getDescription())
+            .setCategory(item.getCategory())
+            .setContent(item.getContent())
+            .setTimestamp(item.getTimestamp())
+            .setMetadata1(item.getMetadata1())
+            .setMetadata2(item.getMetadata2())
+            .setMetadata3(item.getMetadata3())
+            .setMetadata4(item.getMetadata4())
+            .setMetadata5(item.getMetadata5())
+            .setAdditionalInfo(item.getAdditionalInfo())
+            .setValue(item.getValue())
+            .setStatus(item.getStatus())
+            .setTags(item.getTags())
+            .build();
+    }
+
+    private String generateString(int length, SplittableRandom random) {
+        StringBuilder sb = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            sb.append(CHARS.charAt(random.nextInt(CHARS.length())));
+        }
+        return sb.toString();
+    }
+
+    private record Pool(List<DataItem> items, List<com.example.proto.DataItem> protoItems) {
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.servicea.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 배치 요청 왕복 시간(요청 전송 ~ 응답 수신) 기록
+ * - 테스트 1회분은 HdrHistogram Recorder에 마이크로초 단위로 기록 (기록 스레드끼리 락 없이 동시 기록 가능)
+ * - 같은 값을 프로토콜 태그가 붙은 Micrometer Timer(batch.latency)에도 기록하여 /actuator/prometheus로 노출
+ * - 세션을 시작한 스레드에 배치 리스너가 연결되어 있으면 배치마다 알림 (벤치마크 작업의 진행 상황 스트리밍용)
+ */
+@Component
+@RequiredArgsConstructor
+public class LatencyRecorder {
+
+    // 유효 자릿수 3 = 기록 값 대비 0.1% 이내 오차
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    // 스레드별 리스너 - 세션이 시작할 때 잡아두므로, 다른 스레드에서 시작한 측정의 배치는 이 리스너로 가지 않음
+    private final ThreadLocal<BatchListener> batchListener = new ThreadLocal<>();
+
+    /**
+     * 배치 하나가 끝날 때마다 호출됨 - 기록 스레드(Netty 이벤트 루프, gRPC 콜백 스레드 등)에서 바로 호출되므로 가볍게 처리해야 함
+     */
+    @FunctionalInterface
+    public interface BatchListener {
+        void onBatch(String label, int items, long latencyMicros);
+    }
+
+    /**
+     * 현재 스레드에 배치 리스너 연결 (null이면 해제) - 이후 이 스레드에서 시작하는 세션에만 적용
+     */
+    public void bindBatchListener(BatchListener listener) {
+        if (listener == null) {
+            batchListener.remove();
+        } else {
+            batchListener.set(listener);
+        }
+    }
+
+    /**
+     * 테스트 1회분 기록 시작 (현재 스레드에 연결된 배치 리스너를 세션에 고정)
+     */
+    public Session start(String protocol) {
+        return new Session(protocol, timers.computeIfAbsent(protocol, this::createTimer), batchListener.get());
+    }
+
+    private Timer createTimer(String protocol) {
+        return Timer.builder("batch.latency")
+            .description("Batch round-trip latency measured by Service A")
+            .tag("protocol", protocol)
+            .publishPercentiles(0.5, 0.95, 0.99, 0.999)
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+    }
+
+    /**
+     * 테스트 1회분의 왕복 시간 기록 (record는 여러 스레드에서 동시에 호출 가능)
+     */
+    public static class Session {
+
+        private final Recorder recorder = new Recorder(SIGNIFICANT_DIGITS);
+        private final String label;
+        private final Timer timer;
+        private final BatchListener listener;
+
+        private Session(String label, Timer timer, BatchListener listener) {
+            this.label = label;
+            this.timer = timer;
+            this.listener = listener;
+        }
+
+        /**
+         * startNanos(System.nanoTime)부터 현재까지를 한 번의 왕복 시간으로 기록
+         */
+        public void record(long startNanos) {
+            record(startNanos, 0);
+        }
+
+        /**
+         * record와 같고, 배치 리스너에 배치 건수(items)도 함께 전달
+         */
+        public void record(long startNanos, int items) {
+            long elapsedNanos = System.nanoTime() - startNanos;
+            long elapsedMicros = Math.max(1, TimeUnit.NANOSECONDS.toMicros(elapsedNanos));
+            recorder.recordValue(elapsedMicros);
+            timer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+            if (listener != null) {
+                listener.onBatch(label, items, elapsedMicros);
+            }
+        }
+
+        /**
+         * 지금까지 기록한 값의 히스토그램 (마이크로초 단위)
+         */
+        public Histogram finish() {
+            return recorder.getIntervalHistogram();
+        }
+    }
+}
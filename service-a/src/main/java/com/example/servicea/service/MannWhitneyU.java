@@ -0,0 +1,131 @@
+package com.example.servicea.service;
+
+import java.util.Arrays;
+
+/**
+ * 두 독립 표본의 분포 차이에 대한 Mann-Whitney U 검정 (양측)
+ * - 동순위가 없고 표본이 작으면 U의 정확한 분포로 p-value 계산
+ * - 그 외에는 동순위 보정 + 연속성 보정을 적용한 정규 근사
+ */
+final class MannWhitneyU {
+
+    // 정확한 분포를 계산할 표본 크기 상한 (n1 * n2 * (n1 + 1) * (n2 + 1) 크기의 표를 만듦)
+    private static final int EXACT_LIMIT = 20;
+
+    private MannWhitneyU() {
+    }
+
+    /**
+     * 양측 p-value (어느 한쪽 표본이 비어 있으면 1)
+     */
+    static double pValue(double[] x, double[] y) {
+        int n1 = x.length;
+        int n2 = y.length;
+        if (n1 == 0 || n2 == 0) {
+            return 1.0;
+        }
+
+        // 합친 표본에 평균 순위를 매기고 x쪽 순위 합으로 U 계산
+        int n = n1 + n2;
+        double[][] pooled = new double[n][];
+        for (int i = 0; i < n1; i++) {
+            pooled[i] = new double[] {x[i], 0};
+        }
+        for (int i = 0; i < n2; i++) {
+            pooled[n1 + i] = new double[] {y[i], 1};
+        }
+        Arrays.sort(pooled, (a, b) -> Double.compare(a[0], b[0]));
+
+        double rankSumX = 0;
+        double tieTerm = 0;
+        for (int i = 0; i < n; ) {
+            int j = i;
+            while (j + 1 < n && pooled[j + 1][0] == pooled[i][0]) {
+                j++;
+            }
+            double averageRank = (i + j) / 2.0 + 1;
+            for (int k = i; k <= j; k++) {
+                if (pooled[k][1] == 0) {
+                    rankSumX += averageRank;
+                }
+            }
+            int ties = j - i + 1;
+            tieTerm += (double) ties * ties * ties - ties;
+            i = j + 1;
+        }
+
+        double u1 = rankSumX - n1 * (n1 + 1) / 2.0;
+        double u = Math.min(u1, (double) n1 * n2 - u1);
+
+        if (tieTerm == 0 && n1 <= EXACT_LIMIT && n2 <= EXACT_LIMIT) {
+            return Math.min(1.0, 2 * exactCdf(n1, n2, (int) Math.round(u)));
+        }
+
+        double mean = n1 * n2 / 2.0;
+        double variance = n1 * n2 / 12.0 * ((n + 1) - tieTerm / ((double) n * (n - 1)));
+        if (variance <= 0) {
+            return 1.0;
+        }
+        double z = Math.max(0, Math.abs(u1 - mean) - 0.5) / Math.sqrt(variance);
+        return Math.min(1.0, erfc(z / Math.sqrt(2)));
+    }
+
+    /**
+     * 동순위가 없을 때 얻을 수 있는 가장 작은 양측 p-value (회차 수가 너무 적어 유의성을 낼 수 없는지 판단용)
+     */
+    static double minimumPValue(int n1, int n2) {
+        if (n1 == 0 || n2 == 0) {
+            return 1.0;
+        }
+        // 2 / C(n1 + n2, n1)
+        double combinations = 1;
+        for (int i = 1; i <= Math.min(n1, n2); i++) {
+            combinations = combinations * (Math.max(n1, n2) + i) / i;
+        }
+        return Math.min(1.0, 2 / combinations);
+    }
+
+    /**
+     * P(U <= u) - count[i][j][v]: 크기 i, j 표본에서 U = v가 되는 배치 수
+     */
+    private static double exactCdf(int n1, int n2, int u) {
+        int maxU = n1 * n2;
+        double[][][] count = new double[n1 + 1][n2 + 1][];
+        for (int i = 0; i <= n1; i++) {
+            for (int j = 0; j <= n2; j++) {
+                count[i][j] = new double[i * j + 1];
+                if (i == 0 || j == 0) {
+                    count[i][j][0] = 1;
+                    continue;
+                }
+                for (int v = 0; v <= i * j; v++) {
+                    // 가장 큰 값이 x쪽이면 y 전체(j개)보다 크므로 U에 j를 더함
+                    double largestInX = v >= j && v - j <= (i - 1) * j ? count[i - 1][j][v - j] : 0;
+                    double largestInY = v <= i * (j - 1) ? count[i][j - 1][v] : 0;
+                    count[i][j][v] = largestInX + largestInY;
+                }
+            }
+        }
+
+        double total = 0;
+        double below = 0;
+        for (int v = 0; v <= maxU; v++) {
+            total += count[n1][n2][v];
+            if (v <= u) {
+                below += count[n1][n2][v];
+            }
+        }
+        return below / total;
+    }
+
+    /**
+     * 상보 오차 함수 (Numerical Recipes erfcc, 상대 오차 1.2e-7 이내)
+     */
+    private static double erfc(double z) {
+        double t = 1 / (1 + 0.5 * Math.abs(z));
+        double result = t * Math.exp(-z * z - 1.26551223 + t * (1.00002368 + t * (0.37409196 + t * (0.09678418
+            + t * (-0.18628806 + t * (0.27886807 + t * (-1.13520398 + t * (1.48851587
+            + t * (-0.82215223 + t * 0.17087277)))))))));
+        return z >= 0 ? result : 2 - result;
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.servicea.service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+/**
+ * 측정끼리 겹치지 않도록 벤치마크 작업(BenchmarkJobService)과 소크 테스트(SoakTestService)가 함께 확인하는 게이트
+ *
+ * 각 서비스는 자기 측정이 대기 중이거나 실행 중인지 알려주는 상태를 등록하고, 측정을 시작할 때 startIfIdle을 거침
+ * 두 서비스가 서로를 직접 참조하지 않으므로 순환 의존 없이 양쪽에서 상대를 확인할 수 있음
+ */
+@Component
+public class MeasurementGate {
+
+    // 측정 종류 이름 -> 대기 중이거나 실행 중인지
+    private final Map<String, BooleanSupplier> activities = new LinkedHashMap<>();
+
+    /**
+     * 다른 종류의 측정이 대기 중이거나 실행 중이라 시작할 수 없음
+     */
+    public static class BusyException extends IllegalStateException {
+        public BusyException(String message) {
+            super(message);
+        }
+    }
+
+    /**
+     * 측정 종류 등록 - busy는 게이트 락 안에서 호출되므로 다른 락을 잡지 않아야 함
+     */
+    public synchronized void register(String name, BooleanSupplier busy) {
+        activities.put(name, busy);
+    }
+
+    /**
+     * name 외의 측정이 진행 중이면 BusyException, 아니면 게이트 락을 잡은 채로 start 실행
+     * (확인과 시작 사이에 다른 측정이 끼어들지 않도록 start 안에서 자기 상태를 busy로 만들어야 함)
+     */
+    public synchronized <T> T startIfIdle(String name, Supplier<T> start) {
+        for (Map.Entry<String, BooleanSupplier> activity : activities.entrySet()) {
+            if (!activity.getKey().equals(name) && activity.getValue().getAsBoolean()) {
+                throw new BusyException("A " + activity.getKey() + " is queued or running");
+            }
+        }
+        return start.get();
+    }
+}
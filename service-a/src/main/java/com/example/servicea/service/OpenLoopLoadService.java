@@ -0,0 +1,295 @@
+package com.example.servicea.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.stereotype.Service;
+
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Open-loop 부하 테스트 - 응답을 기다리지 않고 고정된 목표 속도(요청/초)로 배치 요청을 보냄
+ *
+ * 기존 테스트(closed-loop)는 이전 배치 응답을 받아야 다음 요청을 보내므로 느린 응답이 일정 자체를 늦추고
+ * 그 동안 보내졌어야 할 요청의 대기 시간이 기록되지 않음 (coordinated omission).
+ * 여기서는 i번째 요청의 "예정 전송 시각"(시작 + i * 간격)부터 응답 수신까지를 지연 시간으로 기록하여
+ * 서버가 밀려서 요청이 늦게 나간 시간까지 포함시킴.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OpenLoopLoadService {
+
+    // 달성 처리량이 목표의 이 비율 이상이어야 "유지 가능"으로 판단
+    private static final double MIN_ACHIEVED_RATIO = 0.95;
+
+    private final FixedRateDriver fixedRateDriver;
+    private final LatencyRecorder latencyRecorder;
+
+    /**
+     * 목표 속도로 durationSeconds 동안 배치 요청을 보내고 결과 측정 (잘못된 입력이면 IllegalArgumentException)
+     */
+    public OpenLoopResult runFixedRate(String protocol, double targetRate, int batchSize, int durationSeconds) {
+        FixedRateDriver.requireSupportedProtocol(protocol);
+        if (!(targetRate > 0) || batchSize <= 0 || durationSeconds <= 0) {
+            throw new IllegalArgumentException("rate, batch size and duration must be positive");
+        }
+        int totalRequests = (int) Math.max(1, Math.round(targetRate * durationSeconds));
+
+        log.info("Starting open-loop {} test: {} req/s for {}s ({} requests, batch size: {})",
+            protocol, targetRate, durationSeconds, totalRequests, batchSize);
+
+        // 예정 전송 시각 기준(보정) 지연은 Micrometer에도 노출, 실제 전송 시각 기준(미보정)은 비교용으로만 기록
+        LatencyRecorder.Session correctedLatency = latencyRecorder.start(protocol + "-open-loop");
+        Recorder serviceLatency = new Recorder(3);
+
+        AtomicInteger successCount = new AtomicInteger();
+        AtomicInteger failCount = new AtomicInteger();
+        AtomicInteger droppedCount = new AtomicInteger();
+
+        FixedRateDriver.Run run = fixedRateDriver.drive("Open-loop", protocol, targetRate, batchSize, totalRequests,
+            () -> true, new FixedRateDriver.Listener() {
+                @Override
+                public void onSuccess(long intendedStartNanos, long actualStartNanos) {
+                    correctedLatency.record(intendedStartNanos);
+                    serviceLatency.recordValue(Math.max(1, TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - actualStartNanos)));
+                    successCount.incrementAndGet();
+                }
+
+                @Override
+                public void onFailure(Throwable t) {
+                    failCount.incrementAndGet();
+                }
+
+                @Override
+                public void onDropped() {
+                    droppedCount.incrementAndGet();
+                }
+            });
+
+        OpenLoopResult result = new OpenLoopResult(
+            protocol,
+            targetRate,
+            batchSize,
+            totalRequests,
+            successCount.get(),
+            failCount.get(),
+            droppedCount.get(),
+            TimeUnit.NANOSECONDS.toMillis(run.sendEndNanos() - run.startNanos()),
+            TimeUnit.NANOSECONDS.toMillis(run.endNanos() - run.startNanos()),
+            correctedLatency.finish(),
+            serviceLatency.getIntervalHistogram()
+        );
+
+        log.info("Open-loop {} Result: {}", protocol, result);
+        return result;
+    }
+
+    /**
+     * startRate부터 rateStep씩 속도를 올리며 SLO(p99, 오류 없음, 목표 속도 달성)를 지키는 최대 처리량 탐색
+     * (잘못된 입력이면 첫 단계를 보내기 전에 IllegalArgumentException)
+     */
+    public RampResult findMaxSustainableRate(String protocol, int batchSize, double startRate, double rateStep,
+                                             double maxRate, int stepDurationSeconds, double sloP99Ms) {
+        FixedRateDriver.requireSupportedProtocol(protocol);
+        validateRamp(batchSize, startRate, rateStep, maxRate, stepDurationSeconds, sloP99Ms);
+        log.info("Starting open-loop ramp for {}: {} -> {} req/s (step {}), SLO p99 <= {}ms",
+            protocol, startRate, maxRate, rateStep, sloP99Ms);
+
+        List<OpenLoopResult> steps = new ArrayList<>();
+        double maxSustainableRate = 0;
+
+        for (double rate = startRate; rate <= maxRate; rate += rateStep) {
+            OpenLoopResult step = runFixedRate(protocol, rate, batchSize, stepDurationSeconds);
+            steps.add(step);
+
+            if (!step.meetsSlo(sloP99Ms)) {
+                log.info("{} breached SLO at {} req/s (p99: {}ms, errors: {}, achieved: {} req/s)",
+                    protocol, rate, String.format("%.2f", step.getCorrectedPercentileMs(99)),
+                    step.failCount + step.droppedCount, String.format("%.2f", step.getAchievedRate()));
+                break;
+            }
+            maxSustainableRate = rate;
+
+            // 다음 단계 전에 이전 단계의 잔여 부하가 빠지도록 잠시 대기
+            try {
+                Thread.sleep(2000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+
+        return new RampResult(protocol, sloP99Ms, maxSustainableRate, steps);
+    }
+
+    /**
+     * HTTP, gRPC 각각 최대 유지 가능 처리량을 찾고 결과를 response-open-loop.md에 저장
+     */
+    public Map<String, RampResult> rampAndSaveResults(int batchSize, double startRate, double rateStep,
+                                                      double maxRate, int stepDurationSeconds, double sloP99Ms) {
+        validateRamp(batchSize, startRate, rateStep, maxRate, stepDurationSeconds, sloP99Ms);
+        Map<String, RampResult> results = new LinkedHashMap<>();
+        for (String protocol : List.of("HTTP", "gRPC")) {
+            System.gc();
+            try {
+                Thread.sleep(2000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            results.put(protocol, findMaxSustainableRate(protocol, batchSize, startRate, rateStep,
+                maxRate, stepDurationSeconds, sloP99Ms));
+        }
+
+        saveRampResultsToFile(results, batchSize, stepDurationSeconds, sloP99Ms);
+        return results;
+    }
+
+    /**
+     * 속도 탐색 입력 확인 - rateStep이 0 이하면 속도가 오르지 않아 루프가 끝나지 않음
+     */
+    private static void validateRamp(int batchSize, double startRate, double rateStep, double maxRate,
+                                     int stepDurationSeconds, double sloP99Ms) {
+        if (!(startRate > 0) || !(rateStep > 0) || batchSize <= 0 || stepDurationSeconds <= 0 || !(sloP99Ms > 0)) {
+            throw new IllegalArgumentException("start rate, rate step, batch size, step duration and SLO must be positive");
+        }
+        if (!(maxRate >= startRate)) {
+            throw new IllegalArgumentException("maxRate must be at least startRate");
+        }
+    }
+
+    private void saveRampResultsToFile(Map<String, RampResult> results, int batchSize, int stepDurationSeconds, double sloP99Ms) {
+        String filePath = PerformanceTestService.resolveDocsPath("response-open-loop.md");
+        try (FileWriter writer = new FileWriter(filePath)) {
+            writer.write("# HTTP vs gRPC Open-loop 부하 테스트 결과\n\n");
+            writer.write("## 테스트 설정\n\n");
+            writer.write(String.format("- 배치 크기: %,d건\n", batchSize));
+            writer.write(String.format("- 단계별 실행 시간: %d초\n", stepDurationSeconds));
+            writer.write(String.format("- SLO: p99 <= %.0f ms, 오류/누락 없음, 목표 속도의 %.0f%% 이상 달성\n", sloP99Ms, MIN_ACHIEVED_RATIO * 100));
+            writer.write(String.format("- 최대 in-flight 요청 수: %d (초과 시 누락으로 기록)\n\n", FixedRateDriver.MAX_IN_FLIGHT));
+
+            writer.write("## 최대 유지 가능 처리량\n\n");
+            writer.write("| 프로토콜 | 최대 요청/초 | 최대 건/초 |\n");
+            writer.write("|---------|------------|-----------|\n");
+            for (RampResult result : results.values()) {
+                writer.write(String.format("| %s | %.2f | %,.0f |\n",
+                    result.protocol, result.maxSustainableRate, result.maxSustainableRate * batchSize));
+            }
+            writer.write("\n");
+
+            for (RampResult result : results.values()) {
+                writer.write(String.format("## %s 단계별 결과\n\n", result.protocol));
+                writer.write("| 목표 (요청/초) | 달성 (요청/초) | 성공 | 실패 | 누락 | p50 (ms) | p99 (ms) | p99.9 (ms) | 최대 (ms) | 보정 전 p99 (ms) | SLO |\n");
+                writer.write("|--------------|--------------|------|------|------|----------|----------|------------|----------|-----------------|-----|\n");
+                for (OpenLoopResult step : result.steps) {
+                    writer.write(String.format("| %.2f | %.2f | %,d | %,d | %,d | %.2f | %.2f | %.2f | %.2f | %.2f | %s |\n",
+                        step.targetRate,
+                        step.getAchievedRate(),
+                        step.successCount,
+                        step.failCount,
+                        step.droppedCount,
+                        step.getCorrectedPercentileMs(50),
+                        step.getCorrectedPercentileMs(99),
+                        step.getCorrectedPercentileMs(99.9),
+                        step.correctedLatency.getMaxValue() / 1000.0,
+                        step.serviceLatency.getTotalCount() > 0 ? step.serviceLatency.getValueAtPercentile(99) / 1000.0 : -1,
+                        step.meetsSlo(sloP99Ms) ? "충족" : "위반"));
+                }
+                writer.write("\n");
+            }
+
+            writer.write("**참고사항**:\n");
+            writer.write("- 지연 시간은 예정 전송 시각(시작 + i / 목표 속도)부터 응답 수신까지로 측정합니다 (coordinated omission 보정).\n");
+            writer.write("- \"보정 전 p99\"는 실제 전송 시각 기준이며, 두 값의 차이가 클수록 요청이 클라이언트에서 밀려 있었다는 의미입니다.\n");
+            writer.write("- 단계 사이에는 2초 대기하며, 첫 SLO 위반 단계에서 탐색을 중단합니다.\n");
+
+            log.info("Open-loop results saved to " + filePath);
+        } catch (IOException e) {
+            log.error("Failed to save results to file", e);
+        }
+    }
+
+    /**
+     * 고정 속도 1회 실행 결과 (지연 시간 히스토그램은 마이크로초 단위)
+     */
+    public static class OpenLoopResult {
+        public final String protocol;
+        public final double targetRate;
+        public final int batchSize;
+        public final int sentCount;
+        public final int successCount;
+        public final int failCount;
+        public final int droppedCount;
+        public final long sendDurationMs;
+        public final long durationMs;
+        public final Histogram correctedLatency;
+        public final Histogram serviceLatency;
+
+        public OpenLoopResult(String protocol, double targetRate, int batchSize, int sentCount, int successCount,
+                              int failCount, int droppedCount, long sendDurationMs, long durationMs,
+                              Histogram correctedLatency, Histogram serviceLatency) {
+            this.protocol = protocol;
+            this.targetRate = targetRate;
+            this.batchSize = batchSize;
+            this.sentCount = sentCount;
+            this.successCount = successCount;
+            this.failCount = failCount;
+            this.droppedCount = droppedCount;
+            this.sendDurationMs = sendDurationMs;
+            this.durationMs = durationMs;
+            this.correctedLatency = correctedLatency;
+            this.serviceLatency = serviceLatency;
+        }
+
+        /**
+         * 잔여 응답 대기까지 포함한 전체 구간 기준으로 실제 완료된 요청 속도
+         */
+        public double getAchievedRate() {
+            return (double) successCount / (Math.max(1, durationMs) / 1000.0);
+        }
+
+        public double getCorrectedPercentileMs(double percentile) {
+            return correctedLatency.getTotalCount() > 0 ? correctedLatency.getValueAtPercentile(percentile) / 1000.0 : -1;
+        }
+
+        public boolean meetsSlo(double sloP99Ms) {
+            return failCount == 0
+                && droppedCount == 0
+                && successCount > 0
+                && getCorrectedPercentileMs(99) <= sloP99Ms
+                && getAchievedRate() >= targetRate * MIN_ACHIEVED_RATIO;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s - Target: %.2f req/s, Achieved: %.2f req/s, Success: %d, Fail: %d, Dropped: %d, p50: %.2fms, p99: %.2fms, p99.9: %.2fms",
+                protocol, targetRate, getAchievedRate(), successCount, failCount, droppedCount,
+                getCorrectedPercentileMs(50), getCorrectedPercentileMs(99), getCorrectedPercentileMs(99.9));
+        }
+    }
+
+    /**
+     * 속도 증가 탐색 결과
+     */
+    public static class RampResult {
+        public final String protocol;
+        public final double sloP99Ms;
+        public final double maxSustainableRate;
+        public final List<OpenLoopResult> steps;
+
+        public RampResult(String protocol, double sloP99Ms, double maxSustainableRate, List<OpenLoopResult> steps) {
+            this.protocol = protocol;
+            this.sloP99Ms = sloP99Ms;
+            this.maxSustainableRate = maxSustainableRate;
+            this.steps = steps;
+        }
+    }
+}
@@ -2,37 +2,384 @@ package com.example.servicea.service;
 
 import com.example.servicea.client.GrpcDataClient;
 import com.example.servicea.client.HttpDataClient;
+import com.example.servicea.client.PayloadDecoder;
+import com.example.servicea.client.ReplicaPoolClient;
 import com.example.servicea.model.BatchDataResponse;
+import com.example.servicea.model.BatchTuningPoint;
+import com.example.servicea.model.BatchTuningResult;
+import com.example.servicea.model.IngestResponse;
+import com.example.servicea.model.LoadBalancingPolicy;
+import com.example.servicea.model.PayloadCacheStats;
+import com.example.servicea.model.PayloadProfile;
+import com.example.servicea.model.ProfiledBatchResponse;
+import com.example.servicea.model.ProfiledItem;
+import com.example.servicea.model.ProfiledSection;
+import com.example.servicea.model.ProjectedBatch;
+import com.example.servicea.model.ProjectedDataItem;
 import com.example.servicea.model.ServerPerformanceMetrics;
+import com.example.servicea.model.WireBytes;
+import com.example.servicea.model.WireFormat;
+import com.example.shared.compression.CompressionCodecs;
+import com.example.shared.compression.CompressionStats;
+import com.example.shared.model.CompressionMetrics;
+import com.example.shared.model.PayloadCompression;
+import com.example.shared.model.ResourceUsage;
+import com.example.shared.resource.ResourceProbe;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramIterationValue;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.HttpProtocol;
 
 import java.io.FileWriter;
 import java.io.IOException;
 import java.lang.management.ManagementFactory;
 import java.lang.management.MemoryMXBean;
+import java.net.URI;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.ToDoubleFunction;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class PerformanceTestService {
 
+    // 배치 크기 탐색 상수 - 상한의 90%까지만 사용 (메시지 외 필드, 항목 크기 편차 여유분)
+    private static final double MESSAGE_LIMIT_HEADROOM = 0.9;
+    private static final int TUNING_PROBE_BATCH_SIZE = 100;
+    // 배치가 커도 측정점마다 최소 이 횟수만큼 요청
+    private static final int TUNING_MIN_BATCHES_PER_POINT = 5;
+    // 최적 처리량 대비 이 비율 이상이면 평탄 구간으로 봄
+    private static final double TUNING_PLATEAU_RATIO = 0.95;
+    // 프로필 비교 배치 크기 계산용 응답 크기 추정 배율 (항목 원본 크기 대비)
+    // JSON은 숫자를 문자열로, 구조를 필드 이름으로 표기해 커지고 Protobuf는 태그/길이 정도만 붙음
+    private static final double PROFILE_JSON_SIZE_FACTOR = 3.0;
+    private static final double PROFILE_PROTO_SIZE_FACTOR = 1.5;
+    // 동시 요청 테스트가 취소될 때 취소한 호출의 콜백을 기다리는 최대 시간
+    private static final long CANCEL_DRAIN_TIMEOUT_SECONDS = 30;
+    // gRPC 업로드 스트림 호출 1건의 deadline
+    private static final Duration INGEST_STREAM_TIMEOUT = Duration.ofMinutes(5);
+
     private final HttpDataClient httpDataClient;
     private final GrpcDataClient grpcDataClient;
+    private final LatencyRecorder latencyRecorder;
+    private final PayloadDecoder payloadDecoder;
+    private final CompressionStats compressionStats;
+    private final WireByteStats wireByteStats;
+    private final ResultHistoryStore historyStore;
+    private final IngestDataPool ingestDataPool;
+    private final ReplicaPoolClient replicaPoolClient;
+
+    // 배치 크기 탐색 시 gRPC 응답 크기 상한 (service-b 채널 설정과 같은 값)
+    @Value("${grpc.client.service-b.max-inbound-message-size:4MB}")
+    private DataSize grpcMaxInboundMessageSize;
 
     /**
      * HTTP 방식으로 배치 데이터 수신 테스트 (Service B가 데이터 생성)
      */
     public TestResult testHttpBatch(int totalCount, int batchSize) {
+        return testHttpBatch(totalCount, batchSize, 1);
+    }
+
+    /**
+     * HTTP 방식으로 배치 데이터 수신 테스트 - concurrency개의 배치를 동시에 요청
+     */
+    public TestResult testHttpBatch(int totalCount, int batchSize, int concurrency) {
+        if (concurrency > 1) {
+            return testHttpBatchConcurrent("HTTP", totalCount, batchSize, concurrency, httpDataClient::getBatchData);
+        }
+
         log.info("Starting HTTP batch test: {} items, batch size: {}", totalCount, batchSize);
 
+        TestResult result = runSequentialBatches("HTTP", totalCount, batchSize, false, (offset, size, received) -> {
+            BatchDataResponse response = httpDataClient.getBatchData(size).block();
+            received.run();
+            if (response == null || !response.isSuccess()) {
+                return 0;
+            }
+            // 실제 운영 환경처럼 데이터를 처리 (역직렬화 강제 + 메모리 사용 측정)
+            processDataItems(response.getItems());
+            return size;
+        });
+
+        log.info("HTTP Test Result: {}", result);
+        return result;
+    }
+
+    /**
+     * 전송 방식(HTTP/1.1 또는 h2c)을 지정한 HTTP 동시 요청 테스트 - 설정(service-b.http.protocol)과 관계없이 해당 클라이언트 사용
+     */
+    public TestResult testHttpTransportBatch(HttpProtocol httpProtocol, int totalCount, int batchSize, int concurrency) {
+        return testHttpBatchConcurrent(transportLabel(httpProtocol), totalCount, batchSize, concurrency,
+            count -> httpDataClient.getBatchData(count, httpProtocol));
+    }
+
+    private String transportLabel(HttpProtocol httpProtocol) {
+        return httpProtocol == HttpProtocol.H2C ? "HTTP/2 (h2c)" : "HTTP/1.1";
+    }
+
+    /**
+     * HTTP 동시 요청 테스트 - WebClient 요청을 flatMap으로 최대 concurrency개까지 in-flight 유지
+     */
+    private TestResult testHttpBatchConcurrent(String label, int totalCount, int batchSize, int concurrency,
+                                               IntFunction<Mono<BatchDataResponse>> fetchBatch) {
+        log.info("Starting concurrent {} batch test: {} items, batch size: {}, concurrency: {}",
+            label, totalCount, batchSize, concurrency);
+
+        long startTime = System.currentTimeMillis();
+        ResourceProbe probe = startClientProbe(false);
+        WireByteStats.Session wire = wireByteStats.start();
+        LatencyRecorder.Session latency = latencyRecorder.start(label);
+
+        MemoryMXBean memoryBean = ManagementFactory.getMemoryMXBean();
+        long startMemory = memoryBean.getHeapMemoryUsage().getUsed();
+        AtomicLong peakMemory = new AtomicLong(startMemory);
+
+        AtomicInteger successCount = new AtomicInteger();
+        AtomicInteger failCount = new AtomicInteger();
+        AtomicInteger completedCount = new AtomicInteger();
+
+        int batchCount = (totalCount + batchSize - 1) / batchSize;
+
+        Flux.range(0, batchCount)
+            .flatMap(batchIndex -> {
+                int currentBatchSize = Math.min(batchSize, totalCount - batchIndex * batchSize);
+
+                // 구독 시점(실제 요청 전송)부터 왕복 시간 측정
+                return Mono.defer(() -> {
+                        long callStart = System.nanoTime();
+                        return fetchBatch.apply(currentBatchSize)
+                            .doOnNext(response -> latency.record(callStart, currentBatchSize));
+                    })
+                    .doOnNext(response -> {
+                        if (response.isSuccess()) {
+                            // 실제 운영 환경처럼 데이터를 처리 (역직렬화 강제 + 메모리 사용 측정)
+                            processDataItems(response.getItems());
+                            successCount.addAndGet(currentBatchSize);
+                        }
+                    })
+                    .then()
+                    .onErrorResume(e -> {
+                        log.error("{} batch receive failed", label, e);
+                        failCount.addAndGet(currentBatchSize);
+                        return Mono.empty();
+                    })
+                    .doFinally(signal -> {
+                        // 각 배치 처리 후 peak memory 추적
+                        peakMemory.accumulateAndGet(memoryBean.getHeapMemoryUsage().getUsed(), Math::max);
+                        logProgress(label, completedCount.addAndGet(currentBatchSize), currentBatchSize, totalCount);
+                    });
+            }, concurrency)
+            .blockLast();
+
+        long endTime = System.currentTimeMillis();
+
+        TestResult result = new TestResult(
+            label,
+            totalCount,
+            successCount.get(),
+            failCount.get(),
+            endTime - startTime,
+            peakMemory.get() - startMemory
+        );
+        result.resourceUsage = probe.stop();
+        result.wireBytes = wire.finish();
+        result.latencyHistogram = latency.finish();
+
+        log.info("{} Test Result (concurrency {}): {}", label, concurrency, result);
+        return result;
+    }
+
+    /**
+     * gRPC 동시 요청 테스트 - FutureStub 호출을 Semaphore로 최대 concurrency개까지 in-flight 유지
+     */
+    private TestResult testGrpcBatchConcurrent(String label, boolean zeroCopy, int totalCount, int batchSize, int concurrency) {
+        log.info("Starting concurrent {} batch test: {} items, batch size: {}, concurrency: {}",
+            label, totalCount, batchSize, concurrency);
+
+        TestResult result = runConcurrentBatches(label, totalCount, batchSize, concurrency,
+            size -> toCompletableFuture(grpcDataClient.getBatchDataAsync(size, zeroCopy)),
+            (size, response) -> {
+                if (response == null || !response.getSuccess()) {
+                    return 0;
+                }
+                // 실제 운영 환경처럼 데이터를 처리 (역직렬화 강제 + 메모리 사용 측정)
+                processProtoDataItems(response.getItemsList());
+                return size;
+            });
+
+        log.info("{} Test Result (concurrency {}): {}", label, concurrency, result);
+        return result;
+    }
+
+    /**
+     * 블로킹 클라이언트 호출을 배치마다 별도 스레드에서 실행하는 테스트
+     * - PLATFORM: concurrency 크기의 고정 스레드 풀
+     * - VIRTUAL: 배치(in-flight 요청)마다 가상 스레드 하나, Semaphore로 동시 실행 수 제한
+     */
+    public TestResult testBatchOnThreads(String protocol, int totalCount, int batchSize, int concurrency, ThreadMode threadMode) {
+        log.info("Starting {} batch test on {} threads: {} items, batch size: {}, concurrency: {}",
+            protocol, threadMode, totalCount, batchSize, concurrency);
+
+        boolean grpc = "gRPC".equals(protocol);
+        long startTime = System.currentTimeMillis();
+        ResourceProbe probe = startClientProbe(false);
+        WireByteStats.Session wire = wireByteStats.start();
+        LatencyRecorder.Session latency = latencyRecorder.start(protocol + " (" + threadMode + ")");
+
+        MemoryMXBean memoryBean = ManagementFactory.getMemoryMXBean();
+        long startMemory = memoryBean.getHeapMemoryUsage().getUsed();
+        AtomicLong peakMemory = new AtomicLong(startMemory);
+
+        AtomicInteger successCount = new AtomicInteger();
+        AtomicInteger failCount = new AtomicInteger();
+        AtomicInteger completedCount = new AtomicInteger();
+
+        Semaphore inFlight = new Semaphore(concurrency);
+
+        // close()가 제출된 모든 작업이 끝날 때까지 대기
+        try (ExecutorService executor = threadMode == ThreadMode.VIRTUAL
+                ? Executors.newVirtualThreadPerTaskExecutor()
+                : Executors.newFixedThreadPool(concurrency)) {
+
+            for (int i = 0; i < totalCount && !isCancelled(); i += batchSize) {
+                int currentBatchSize = Math.min(batchSize, totalCount - i);
+
+                inFlight.acquire();
+                executor.execute(() -> {
+                    try {
+                        long callStart = System.nanoTime();
+                        if (grpc) {
+                            com.example.proto.BatchDataResponse response = grpcDataClient.getBatchData(currentBatchSize);
+                            latency.record(callStart, currentBatchSize);
+                            if (response != null && response.getSuccess()) {
+                                processProtoDataItems(response.getItemsList());
+                                successCount.addAndGet(currentBatchSize);
+                            }
+                        } else {
+                            BatchDataResponse response = httpDataClient.getBatchData(currentBatchSize).block();
+                            latency.record(callStart, currentBatchSize);
+                            if (response != null && response.isSuccess()) {
+                                processDataItems(response.getItems());
+                                successCount.addAndGet(currentBatchSize);
+                            }
+                        }
+                    } catch (Exception e) {
+                        log.error("{} batch failed on {} thread", protocol, threadMode, e);
+                        failCount.addAndGet(currentBatchSize);
+                    } finally {
+                        // 각 배치 처리 후 peak memory 추적
+                        peakMemory.accumulateAndGet(memoryBean.getHeapMemoryUsage().getUsed(), Math::max);
+                        logProgress(protocol, completedCount.addAndGet(currentBatchSize), currentBatchSize, totalCount);
+                        inFlight.release();
+                    }
+                });
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("{} batch test on {} threads interrupted", protocol, threadMode);
+        }
+
+        long endTime = System.currentTimeMillis();
+
+        TestResult result = new TestResult(
+            protocol,
+            totalCount,
+            successCount.get(),
+            failCount.get(),
+            endTime - startTime,
+            peakMemory.get() - startMemory
+        );
+        result.resourceUsage = probe.stop();
+        result.wireBytes = wire.finish();
+        result.latencyHistogram = latency.finish();
+
+        log.info("{} Test Result ({} threads, concurrency {}): {}", protocol, threadMode, concurrency, result);
+        return result;
+    }
+
+    /**
+     * 작업 취소(실행 스레드 인터럽트) 여부 - 배치 루프는 다음 배치를 보내기 전에 확인하고 멈춤
+     * (비교 메서드의 남은 테스트도 바로 빠져나오고, 테스트 사이 대기(sleep)도 즉시 끝남)
+     */
+    private boolean isCancelled() {
+        return Thread.currentThread().isInterrupted();
+    }
+
+    /**
+     * 테스트 사이 대기 - 앞 테스트에서 남은 가비지가 다음 측정에 섞이지 않도록 GC 후 2초 대기
+     * (작업이 취소되어 인터럽트된 상태면 바로 돌아옴)
+     */
+    private void pauseBetweenTests() {
+        System.gc();
+        try {
+            Thread.sleep(2000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 클라이언트 리소스 측정 시작 - 응답 수신부터 처리까지 호출 스레드에서 끝나면(gRPC 블로킹 스텁) THREAD,
+     * Netty 이벤트 루프/gRPC 콜백 스레드/작업 스레드에서 일어나면(WebClient, 비동기 스텁, 스레드 풀) JVM 전체(PROCESS)
+     */
+    private static ResourceProbe startClientProbe(boolean callerThreadOnly) {
+        return ResourceProbe.start(callerThreadOnly ? ResourceProbe.Scope.THREAD : ResourceProbe.Scope.PROCESS);
+    }
+
+    /**
+     * 배치 하나 요청 - 응답을 받자마자 received.run()을 호출해야 왕복 시간이 기록되고(받은 데이터 처리 시간은 제외),
+     * 성공한 건수를 반환 (나머지는 실패로 집계하고, 예외를 던지면 배치 전체를 실패로 집계)
+     */
+    @FunctionalInterface
+    private interface BatchCall {
+        int call(int offset, int batchSize, Runnable received) throws Exception;
+    }
+
+    /**
+     * 배치를 하나씩 순차 요청하는 테스트의 공통 골격 - 할당량/CPU/GC, 전송 바이트, 배치 왕복 시간, 힙 사용량을 측정
+     * (작업이 취소되면 다음 배치를 보내기 전에 멈춤, callerThreadOnly는 startClientProbe 참고)
+     */
+    private TestResult runSequentialBatches(String label, int totalCount, int batchSize, boolean callerThreadOnly,
+                                            BatchCall call) {
         long startTime = System.currentTimeMillis();
+        ResourceProbe probe = startClientProbe(callerThreadOnly);
+        WireByteStats.Session wire = wireByteStats.start();
+        LatencyRecorder.Session latency = latencyRecorder.start(label);
 
-        // MemoryMXBean을 사용한 정확한 힙 메모리 측정
         MemoryMXBean memoryBean = ManagementFactory.getMemoryMXBean();
         long startMemory = memoryBean.getHeapMemoryUsage().getUsed();
         long peakMemory = startMemory;
@@ -40,54 +387,194 @@ public class PerformanceTestService {
         int successCount = 0;
         int failCount = 0;
 
-        for (int i = 0; i < totalCount; i += batchSize) {
+        for (int i = 0; i < totalCount && !isCancelled(); i += batchSize) {
             int currentBatchSize = Math.min(batchSize, totalCount - i);
 
-            BatchDataResponse response = null;
             try {
-                response = httpDataClient.getBatchData(currentBatchSize).block();
-
-                if (response != null && response.isSuccess()) {
-                    // 실제 운영 환경처럼 데이터를 처리 (역직렬화 강제 + 메모리 사용 측정)
-                    processDataItems(response.getItems());
-                    successCount += currentBatchSize;
-                    log.debug("Processed {} items from Service B via HTTP", response.getProcessedCount());
-                }
+                long callStart = System.nanoTime();
+                int succeeded = call.call(i, currentBatchSize, () -> latency.record(callStart, currentBatchSize));
+                successCount += succeeded;
+                failCount += Math.max(0, currentBatchSize - succeeded);
             } catch (Exception e) {
-                log.error("HTTP batch receive failed", e);
+                log.error("{} batch failed", label, e);
                 failCount += currentBatchSize;
-            } finally {
-                // 처리 완료 후 참조 제거 (실제 운영처럼 메모리 해제 유도)
-                response = null;
             }
 
             // 각 배치 처리 후 peak memory 추적
-            long currentMemory = memoryBean.getHeapMemoryUsage().getUsed();
-            peakMemory = Math.max(peakMemory, currentMemory);
+            peakMemory = Math.max(peakMemory, memoryBean.getHeapMemoryUsage().getUsed());
 
-            if ((i + currentBatchSize) % 10000 == 0) {
-                log.info("HTTP Progress: {}/{}", i + currentBatchSize, totalCount);
-            }
+            logProgress(label, i + currentBatchSize, currentBatchSize, totalCount);
         }
 
         long endTime = System.currentTimeMillis();
 
-        // Peak 메모리 증가량 계산
-        long memoryIncrease = peakMemory - startMemory;
-
         TestResult result = new TestResult(
-            "HTTP",
+            label,
             totalCount,
             successCount,
             failCount,
             endTime - startTime,
-            memoryIncrease
+            peakMemory - startMemory
         );
+        result.resourceUsage = probe.stop();
+        result.wireBytes = wire.finish();
+        result.latencyHistogram = latency.finish();
+        return result;
+    }
 
-        log.info("HTTP Test Result: {}", result);
+    /**
+     * 응답을 받은 배치 처리 - 성공한 건수 반환 (응답 콜백 스레드에서 호출되고, 예외를 던지면 배치 전체를 실패로 집계)
+     */
+    @FunctionalInterface
+    private interface BatchHandler<T> {
+        int handle(int batchSize, T response);
+    }
+
+    /**
+     * 비동기 호출을 Semaphore로 최대 concurrency개까지 in-flight 유지하는 테스트의 공통 골격
+     * - 호출을 보내다 예외가 나면 자리를 바로 반환하고 그 배치를 실패로 집계
+     * - 작업이 취소되면 보낸 호출을 모두 취소하고 콜백이 끝날 때까지(최대 30초) 기다린 뒤 반환하며,
+     *   그 뒤에 끝난 콜백은 결과에 반영하지 않음 (다음 작업의 측정에 섞이지 않도록)
+     * send가 돌려준 future를 취소하면 실제 호출도 취소되어야 함
+     */
+    private <T> TestResult runConcurrentBatches(String label, int totalCount, int batchSize, int concurrency,
+                                                IntFunction<CompletableFuture<T>> send, BatchHandler<T> handler) {
+        long startTime = System.currentTimeMillis();
+        ResourceProbe probe = startClientProbe(false);
+        WireByteStats.Session wire = wireByteStats.start();
+        LatencyRecorder.Session latency = latencyRecorder.start(label);
+
+        MemoryMXBean memoryBean = ManagementFactory.getMemoryMXBean();
+        long startMemory = memoryBean.getHeapMemoryUsage().getUsed();
+        AtomicLong peakMemory = new AtomicLong(startMemory);
+
+        AtomicInteger successCount = new AtomicInteger();
+        AtomicInteger failCount = new AtomicInteger();
+        AtomicInteger completedCount = new AtomicInteger();
+
+        Semaphore inFlight = new Semaphore(concurrency);
+        Set<CompletableFuture<T>> pending = ConcurrentHashMap.newKeySet();
+        AtomicBoolean closed = new AtomicBoolean();
+
+        try {
+            for (int i = 0; i < totalCount && !isCancelled(); i += batchSize) {
+                int currentBatchSize = Math.min(batchSize, totalCount - i);
+
+                inFlight.acquire();
+                long callStart = System.nanoTime();
+                CompletableFuture<T> call;
+                try {
+                    call = send.apply(currentBatchSize);
+                } catch (RuntimeException e) {
+                    log.error("{} batch dispatch failed", label, e);
+                    failCount.addAndGet(currentBatchSize);
+                    inFlight.release();
+                    continue;
+                }
+
+                pending.add(call);
+                call.whenComplete((response, error) -> {
+                    try {
+                        if (closed.get()) {
+                            return;
+                        }
+                        if (error != null) {
+                            if (!(error instanceof CancellationException)) {
+                                log.error("{} batch failed", label, error);
+                            }
+                            failCount.addAndGet(currentBatchSize);
+                        } else {
+                            latency.record(callStart, currentBatchSize);
+                            successCount.addAndGet(handler.handle(currentBatchSize, response));
+                        }
+                        // 각 배치 처리 후 peak memory 추적
+                        peakMemory.accumulateAndGet(memoryBean.getHeapMemoryUsage().getUsed(), Math::max);
+                        logProgress(label, completedCount.addAndGet(currentBatchSize), currentBatchSize, totalCount);
+                    } catch (RuntimeException e) {
+                        log.error("{} batch processing failed", label, e);
+                        failCount.addAndGet(currentBatchSize);
+                    } finally {
+                        pending.remove(call);
+                        inFlight.release();
+                    }
+                });
+            }
+
+            // 남아있는 in-flight 요청이 모두 끝날 때까지 대기
+            inFlight.acquire(concurrency);
+        } catch (InterruptedException e) {
+            log.warn("Concurrent {} batch test interrupted, cancelling {} in-flight calls", label, pending.size());
+            pending.forEach(call -> call.cancel(true));
+            awaitCancelledCalls(label, inFlight, concurrency);
+            Thread.currentThread().interrupt();
+        } finally {
+            closed.set(true);
+        }
+
+        long endTime = System.currentTimeMillis();
+
+        TestResult result = new TestResult(
+            label,
+            totalCount,
+            successCount.get(),
+            failCount.get(),
+            endTime - startTime,
+            peakMemory.get() - startMemory
+        );
+        result.resourceUsage = probe.stop();
+        result.wireBytes = wire.finish();
+        result.latencyHistogram = latency.finish();
+        return result;
+    }
+
+    /**
+     * 취소한 호출의 콜백이 끝날 때까지 대기 - 다시 인터럽트되거나 시간이 지나면 그냥 돌아감
+     * (늦게 끝난 콜백은 closed 플래그로 무시됨)
+     */
+    private void awaitCancelledCalls(String label, Semaphore inFlight, int concurrency) {
+        try {
+            if (!inFlight.tryAcquire(concurrency, CANCEL_DRAIN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                log.warn("{}: {} cancelled calls still running after timeout",
+                    label, concurrency - inFlight.availablePermits());
+            }
+        } catch (InterruptedException e) {
+            log.warn("{}: stopped waiting for cancelled calls", label);
+        }
+    }
+
+    /**
+     * ListenableFuture를 CompletableFuture로 변환 - 변환된 future를 취소하면 원래 호출도 취소
+     */
+    private static <T> CompletableFuture<T> toCompletableFuture(ListenableFuture<T> future) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Futures.addCallback(future, new FutureCallback<>() {
+            @Override
+            public void onSuccess(T value) {
+                result.complete(value);
+            }
+
+            @Override
+            public void onFailure(Throwable t) {
+                result.completeExceptionally(t);
+            }
+        }, MoreExecutors.directExecutor());
+        result.whenComplete((value, error) -> {
+            if (result.isCancelled()) {
+                future.cancel(true);
+            }
+        });
         return result;
     }
 
+    /**
+     * 동시 처리 중 10,000건 단위를 넘어설 때마다 진행 상황 로그
+     */
+    private void logProgress(String protocol, int completed, int batchSize, int totalCount) {
+        if (completed / 10000 != (completed - batchSize) / 10000) {
+            log.info("{} Progress: {}/{}", protocol, completed, totalCount);
+        }
+    }
+
     /**
      * 데이터를 실제로 처리하여 역직렬화를 강제하고 메모리 사용량을 정확히 측정
      * (실제 운영에서는 DB insert, 비즈니스 로직 등이 여기 해당)
@@ -106,206 +593,1655 @@ public class PerformanceTestService {
                            item.getMetadata2() + item.getMetadata3() + item.getMetadata4() +
                            item.getMetadata5() + item.getAdditionalInfo() + item.getTags();
         }
-        // 메서드 종료 시 items와 dummy는 GC 대상이 됨 (실제 DB insert 후 메모리 해제 시뮬레이션)
+        // 메서드 종료 시 items와 dummy는 GC 대상이 됨 (실제 DB insert 후 메모리 해제 시뮬레이션)
+    }
+
+    /**
+     * gRPC 방식으로 배치 데이터 수신 테스트 (Service B가 데이터 생성)
+     */
+    public TestResult testGrpcBatch(int totalCount, int batchSize) {
+        return testGrpcBatch(totalCount, batchSize, 1);
+    }
+
+    /**
+     * gRPC 방식으로 배치 데이터 수신 테스트 - concurrency개의 배치를 동시에 요청
+     */
+    public TestResult testGrpcBatch(int totalCount, int batchSize, int concurrency) {
+        return testGrpcBatch("gRPC", grpcDataClient.isZeroCopy(), totalCount, batchSize, concurrency);
+    }
+
+    /**
+     * 기본 protobuf 마샬러 vs ZeroCopyProtoMarshaller 비교용 - 설정과 관계없이 지정한 마샬러로 응답 파싱
+     */
+    public TestResult testGrpcMarshallerBatch(boolean zeroCopy, int totalCount, int batchSize, int concurrency) {
+        return testGrpcBatch(zeroCopy ? "gRPC (zero-copy)" : "gRPC (기본 마샬러)", zeroCopy, totalCount, batchSize, concurrency);
+    }
+
+    private TestResult testGrpcBatch(String label, boolean zeroCopy, int totalCount, int batchSize, int concurrency) {
+        if (concurrency > 1) {
+            return testGrpcBatchConcurrent(label, zeroCopy, totalCount, batchSize, concurrency);
+        }
+
+        log.info("Starting {} batch test: {} items, batch size: {}", label, totalCount, batchSize);
+
+        TestResult result = runSequentialBatches(label, totalCount, batchSize, true, (offset, size, received) -> {
+            com.example.proto.BatchDataResponse response = grpcDataClient.getBatchData(size, zeroCopy);
+            received.run();
+            if (response == null || !response.getSuccess()) {
+                return 0;
+            }
+            // 실제 운영 환경처럼 데이터를 처리 (역직렬화 강제 + 메모리 사용 측정)
+            processProtoDataItems(response.getItemsList());
+            return size;
+        });
+
+        log.info("{} Test Result: {}", label, result);
+        return result;
+    }
+
+    /**
+     * HTTP NDJSON 스트리밍 방식으로 배치 데이터 수신 테스트
+     * (항목 단위로 디코딩하고 chunkSize개씩 모아 처리 - 코덱 버퍼 제한 없이 큰 배치도 수신 가능)
+     */
+    public TestResult testHttpStreamBatch(int totalCount, int batchSize, int chunkSize) {
+        log.info("Starting HTTP NDJSON streaming test: {} items, batch size: {}, chunk size: {}", totalCount, batchSize, chunkSize);
+
+        FirstItemLatency firstItem = new FirstItemLatency();
+        TestResult result = runSequentialBatches("HTTP-Stream", totalCount, batchSize, false, (offset, size, received) -> {
+            AtomicInteger receivedCount = new AtomicInteger();
+            AtomicBoolean firstItemSeen = new AtomicBoolean();
+            long callStart = System.nanoTime();
+            try {
+                httpDataClient.streamBatchData(size, chunkSize)
+                    .doOnNext(item -> {
+                        if (firstItemSeen.compareAndSet(false, true)) {
+                            firstItem.record(callStart);
+                        }
+                    })
+                    .buffer(chunkSize)
+                    .doOnNext(items -> {
+                        // 청크 단위로 처리하고 바로 버림 (배치 전체를 메모리에 들고 있지 않음)
+                        processDataItems(items);
+                        receivedCount.addAndGet(items.size());
+                    })
+                    .blockLast();
+                received.run();
+            } catch (Exception e) {
+                // 중간에 끊겨도 그때까지 받은 항목은 성공으로 집계
+                log.error("HTTP stream failed", e);
+            }
+            return receivedCount.get();
+        });
+        result.avgFirstItemLatencyMs = firstItem.averageMs();
+
+        log.info("HTTP Stream Test Result: {}, Avg time-to-first-item: {}ms", result,
+            String.format("%.2f", result.avgFirstItemLatencyMs));
+        return result;
+    }
+
+    /**
+     * gRPC 서버 스트리밍 방식으로 배치 데이터 수신 테스트
+     * (배치 하나를 스트림 호출 하나로 받고, 서버는 chunkSize 단위로 나누어 전송)
+     */
+    public TestResult testGrpcStreamBatch(int totalCount, int batchSize, int chunkSize) {
+        log.info("Starting gRPC streaming test: {} items, batch size: {}, chunk size: {}", totalCount, batchSize, chunkSize);
+
+        FirstItemLatency firstItem = new FirstItemLatency();
+        TestResult result = runSequentialBatches("gRPC-Stream", totalCount, batchSize, true, (offset, size, received) -> {
+            int receivedCount = 0;
+            long callStart = System.nanoTime();
+            try {
+                Iterator<com.example.proto.DataItemChunk> chunks = grpcDataClient.streamBatchData(size, chunkSize);
+                while (chunks.hasNext()) {
+                    com.example.proto.DataItemChunk chunk = chunks.next();
+                    if (receivedCount == 0) {
+                        firstItem.record(callStart);
+                    }
+                    // 청크 단위로 처리하고 바로 버림 (배치 전체를 메모리에 들고 있지 않음)
+                    processProtoDataItems(chunk.getItemsList());
+                    receivedCount += chunk.getItemsCount();
+                }
+                received.run();
+            } catch (Exception e) {
+                // 중간에 끊겨도 그때까지 받은 항목은 성공으로 집계
+                log.error("gRPC stream failed", e);
+            }
+            return receivedCount;
+        });
+        result.avgFirstItemLatencyMs = firstItem.averageMs();
+
+        log.info("gRPC Stream Test Result: {}, Avg time-to-first-item: {}ms", result,
+            String.format("%.2f", result.avgFirstItemLatencyMs));
+        return result;
+    }
+
+    /**
+     * 스트림 호출별 첫 항목 도착까지의 시간 (time-to-first-item) 평균 - 한 번에 한 스트림씩 순차로 기록
+     */
+    private static final class FirstItemLatency {
+        private long totalNanos;
+        private int streams;
+
+        void record(long callStartNanos) {
+            totalNanos += System.nanoTime() - callStartNanos;
+            streams++;
+        }
+
+        double averageMs() {
+            return streams > 0 ? totalNanos / (streams * 1_000_000.0) : -1;
+        }
+    }
+
+    /**
+     * 직렬화 포맷 x 전송 방식 조합 테스트 (순차 실행)
+     * - HTTP: Accept 헤더로 포맷 협상 (REST, HTTP/1.1)
+     * - gRPC: PROTOBUF는 기존 GetBatchData, 나머지는 GetEncodedBatchData의 bytes 페이로드를 디코딩 (HTTP/2)
+     */
+    public TestResult testFormatBatch(String transport, WireFormat format, int totalCount, int batchSize) {
+        String label = transport + "/" + format.name();
+        boolean grpc = "gRPC".equals(transport);
+        log.info("Starting {} batch test: {} items, batch size: {}", label, totalCount, batchSize);
+
+        TestResult result = runSequentialBatches(label, totalCount, batchSize, grpc, (offset, size, received) -> {
+            if (format == WireFormat.PROTOBUF) {
+                com.example.proto.BatchDataResponse response = grpc
+                    ? grpcDataClient.getBatchData(size)
+                    : httpDataClient.getProtobufBatchData(size).block();
+                received.run();
+                if (response == null || !response.getSuccess()) {
+                    return 0;
+                }
+                processProtoDataItems(response.getItemsList());
+            } else {
+                BatchDataResponse response = grpc
+                    ? payloadDecoder.decode(grpcDataClient.getEncodedBatchData(size, format).getPayload(), format)
+                    : httpDataClient.getBatchData(size, format).block();
+                received.run();
+                if (response == null || !response.isSuccess()) {
+                    return 0;
+                }
+                processDataItems(response.getItems());
+            }
+            return size;
+        });
+
+        log.info("{} Test Result: {}", label, result);
+        return result;
+    }
+
+    /**
+     * 페이로드 프로필 x 전송 방식 조합 테스트 (순차 실행, 포맷은 HTTP JSON / gRPC Protobuf 그대로)
+     * 항목 모양(작은 이벤트, 큰 문서, 수치, 중첩, 맵)에 따라 두 방식의 크기/비용 차이가 어떻게 달라지는지 측정
+     */
+    public TestResult testProfileBatch(String transport, PayloadProfile profile, int itemSizeBytes, int totalCount, int batchSize) {
+        String label = transport + "/" + profile.name();
+        boolean grpc = "gRPC".equals(transport);
+        log.info("Starting {} batch test: {} items ({} bytes each), batch size: {}", label, totalCount,
+            profile.resolveItemSize(itemSizeBytes), batchSize);
+
+        AtomicLong checksum = new AtomicLong();
+        TestResult result = runSequentialBatches(label, totalCount, batchSize, grpc, (offset, size, received) -> {
+            if (grpc) {
+                com.example.proto.ProfiledBatchResponse response =
+                    grpcDataClient.getProfiledBatchData(profile, size, itemSizeBytes);
+                received.run();
+                if (response == null || !response.getSuccess()) {
+                    return 0;
+                }
+                checksum.addAndGet(processProfiledProtoItems(response.getItemsList()));
+            } else {
+                ProfiledBatchResponse response = httpDataClient.getProfiledBatchData(profile, size, itemSizeBytes).block();
+                received.run();
+                if (response == null || !response.isSuccess()) {
+                    return 0;
+                }
+                checksum.addAndGet(processProfiledItems(response.getItems()));
+            }
+            return size;
+        });
+
+        log.info("{} Test Result: {} (checksum: {})", label, result, checksum.get());
+        return result;
+    }
+
+    /**
+     * 압축 방식 x 전송 방식 조합 테스트 (순차 실행, 포맷은 HTTP JSON / gRPC Protobuf 그대로)
+     * - HTTP: Accept-Encoding으로 응답 압축 요청, 압축 해제는 HttpDataClient 필터에서 수행
+     * - gRPC: withCompression으로 요청을 압축하면 서버가 같은 방식으로 응답을 압축
+     * 테스트 전후 클라이언트/서버 압축 통계의 차이를 결과에 함께 기록
+     */
+    public TestResult testCompressionBatch(String transport, PayloadCompression compression, int totalCount, int batchSize) {
+        String label = transport + "/" + compression.getEncoding();
+        boolean grpc = "gRPC".equals(transport);
+        log.info("Starting {} batch test: {} items, batch size: {}", label, totalCount, batchSize);
+
+        CompressionMetrics clientBefore = compressionStats.getMetrics(compression);
+        CompressionMetrics serverBefore = fetchServerCompressionMetrics(compression);
+
+        TestResult result = runSequentialBatches(label, totalCount, batchSize, grpc, (offset, size, received) -> {
+            if (grpc) {
+                com.example.proto.BatchDataResponse response = grpcDataClient.getBatchData(size, compression);
+                received.run();
+                if (compression == PayloadCompression.NONE) {
+                    // 코덱을 거치지 않으므로 메시지 크기를 직접 기록 (압축 없음 기준값)
+                    int messageSize = response.getSerializedSize();
+                    compressionStats.record(PayloadCompression.NONE, messageSize, messageSize, 0);
+                }
+                if (!response.getSuccess()) {
+                    return 0;
+                }
+                processProtoDataItems(response.getItemsList());
+            } else {
+                BatchDataResponse response = httpDataClient.getBatchData(size, compression).block();
+                received.run();
+                if (response == null || !response.isSuccess()) {
+                    return 0;
+                }
+                processDataItems(response.getItems());
+            }
+            return size;
+        });
+        result.clientCompression = compressionStats.getMetrics(compression).minus(clientBefore);
+        CompressionMetrics serverAfter = fetchServerCompressionMetrics(compression);
+        result.serverCompression = serverAfter != null ? serverAfter.minus(serverBefore) : null;
+
+        log.info("{} Test Result: {}, wire: {} bytes, ratio: {}", label, result,
+            result.clientCompression.getEncodedBytes(), String.format("%.2f", result.clientCompression.getRatio()));
+        return result;
+    }
+
+    private CompressionMetrics fetchServerCompressionMetrics(PayloadCompression compression) {
+        try {
+            Map<String, CompressionMetrics> metrics = httpDataClient.getServerCompressionMetrics().block();
+            return metrics != null ? metrics.get(compression.getEncoding()) : null;
+        } catch (Exception e) {
+            log.warn("Failed to fetch server compression metrics: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 소비자가 id, category, value만 쓰는 상황에서 전체 디코딩과 프로젝션 디코딩 비교 (배치 순차 요청)
+     * - full: 기존 경로 그대로 메시지 전체를 객체로 디코딩 (HTTP는 JSON 데이터 바인딩, gRPC는 생성된 protobuf 파서)
+     * - projected: ProjectedDecoder로 세 필드만 디코딩하고 나머지는 건너뜀
+     * 두 모드 모두 같은 세 필드만 읽으므로 결과 차이는 디코딩 비용에서 나옴
+     */
+    public TestResult testProjectionBatch(String transport, boolean projected, int totalCount, int batchSize) {
+        String label = transport + "/" + (projected ? "projected" : "full");
+        boolean grpc = "gRPC".equals(transport);
+        log.info("Starting {} batch test: {} items, batch size: {}", label, totalCount, batchSize);
+
+        TestResult result = runSequentialBatches(label, totalCount, batchSize, grpc, (offset, size, received) -> {
+            if (projected) {
+                ProjectedBatch response = grpc
+                    ? grpcDataClient.getProjectedBatchData(size)
+                    : httpDataClient.getProjectedBatchData(size).block();
+                received.run();
+                if (response == null || !response.isSuccess()) {
+                    return 0;
+                }
+                processProjectedFields(response.getItems(),
+                    ProjectedDataItem::getId, ProjectedDataItem::getCategory, ProjectedDataItem::getValue);
+            } else if (grpc) {
+                com.example.proto.BatchDataResponse response = grpcDataClient.getBatchData(size, false);
+                received.run();
+                if (!response.getSuccess()) {
+                    return 0;
+                }
+                processProjectedFields(response.getItemsList(), com.example.proto.DataItem::getId,
+                    com.example.proto.DataItem::getCategory, com.example.proto.DataItem::getValue);
+            } else {
+                BatchDataResponse response = httpDataClient.getBatchData(size, WireFormat.JSON).block();
+                received.run();
+                if (response == null || !response.isSuccess()) {
+                    return 0;
+                }
+                processProjectedFields(response.getItems(), com.example.servicea.model.DataItem::getId,
+                    com.example.servicea.model.DataItem::getCategory, com.example.servicea.model.DataItem::getValue);
+            }
+            return size;
+        });
+
+        log.info("{} Test Result: {}", label, result);
+        return result;
+    }
+
+    /**
+     * 업로드 방향(Service A -> Service B) 테스트 - 미리 만든 데이터 풀에서 배치를 꺼내 전송
+     * - HTTP: 배치마다 JSON POST 1건, 확인 응답을 받은 뒤 다음 배치 전송 (배치 왕복 시간 기록)
+     * - gRPC: 클라이언트 스트리밍 호출 1건에 모든 배치를 DataItemChunk로 전송하고 마지막에 확인 응답 1건 수신
+     *   (배치별 응답이 없으므로 왕복 시간 히스토그램은 기록하지 않음)
+     */
+    public TestResult testIngestBatch(String transport, int totalCount, int batchSize) {
+        String label = transport + "-Ingest";
+        log.info("Starting {} test: {} items, batch size: {}", label, totalCount, batchSize);
+
+        // 풀 생성 비용이 측정 구간에 섞이지 않도록 먼저 준비
+        ingestDataPool.prepare();
+
+        TestResult result = "gRPC".equals(transport)
+            ? testIngestStream(label, totalCount, batchSize)
+            : runSequentialBatches(label, totalCount, batchSize, false, (offset, size, received) -> {
+                IngestResponse response = httpDataClient.ingest(ingestDataPool.slice(offset, size)).block();
+                received.run();
+                return response != null && response.isSuccess() ? response.getAcknowledgedCount() : 0;
+            });
+
+        log.info("{} Test Result: {}", label, result);
+        return result;
+    }
+
+    /**
+     * gRPC 업로드 - 클라이언트 스트리밍 호출 1건으로 전체 배치를 보내므로 배치 왕복 시간은 없음
+     */
+    private TestResult testIngestStream(String label, int totalCount, int batchSize) {
+        long startTime = System.currentTimeMillis();
+        ResourceProbe probe = startClientProbe(false);
+        WireByteStats.Session wire = wireByteStats.start();
+
+        MemoryMXBean memoryBean = ManagementFactory.getMemoryMXBean();
+        long startMemory = memoryBean.getHeapMemoryUsage().getUsed();
+        AtomicLong peakMemory = new AtomicLong(startMemory);
+
+        int successCount = 0;
+        int batchCount = (totalCount + batchSize - 1) / batchSize;
+        CompletableFuture<com.example.proto.IngestResponse> call = grpcDataClient.ingestData(batchCount, batch -> {
+            // 배치를 보낼 때마다 peak memory 추적 (onReady 콜백 스레드)
+            peakMemory.accumulateAndGet(memoryBean.getHeapMemoryUsage().getUsed(), Math::max);
+            int offset = batch * batchSize;
+            return ingestDataPool.sliceProto(offset, Math.min(batchSize, totalCount - offset));
+        }, INGEST_STREAM_TIMEOUT);
+        try {
+            // deadline이 먼저 끝내지만 응답이 오지 않는 경우를 대비해 조금 더 기다린 뒤 취소
+            com.example.proto.IngestResponse response =
+                call.get(INGEST_STREAM_TIMEOUT.toSeconds() + 10, TimeUnit.SECONDS);
+            if (response != null && response.getSuccess()) {
+                successCount = response.getAcknowledgedCount();
+            }
+        } catch (InterruptedException e) {
+            call.cancel(true);
+            Thread.currentThread().interrupt();
+            log.warn("{} stream interrupted, call cancelled", label);
+        } catch (TimeoutException e) {
+            call.cancel(true);
+            log.error("{} stream timed out, call cancelled", label);
+        } catch (ExecutionException e) {
+            log.error("{} stream failed", label, e.getCause());
+        }
+        peakMemory.accumulateAndGet(memoryBean.getHeapMemoryUsage().getUsed(), Math::max);
+
+        long endTime = System.currentTimeMillis();
+
+        TestResult result = new TestResult(
+            label,
+            totalCount,
+            successCount,
+            totalCount - successCount,
+            endTime - startTime,
+            peakMemory.get() - startMemory
+        );
+        result.resourceUsage = probe.stop();
+        result.wireBytes = wire.finish();
+        return result;
+    }
+
+    /**
+     * 여러 Service B 레플리카에 배치를 나눠 보내는 테스트 - Semaphore로 최대 concurrency개까지 in-flight 유지
+     * 응답 헤더(x-served-by)로 배치마다 응답한 레플리카를 세어 batchesByReplica에 기록
+     */
+    public TestResult testReplicaBatch(String transport, LoadBalancingPolicy policy, int totalCount, int batchSize,
+                                       int concurrency) {
+        String label = transport + "/" + policy.getPolicyName();
+        log.info("Starting {} replica test: {} items, batch size: {}, concurrency: {}",
+            label, totalCount, batchSize, concurrency);
+
+        Map<String, LongAdder> batchesByReplica = new ConcurrentHashMap<>();
+        TestResult result = "gRPC".equals(transport)
+            ? runConcurrentBatches(label, totalCount, batchSize, concurrency,
+                size -> replicaPoolClient.getGrpcBatchData(policy, size),
+                (size, served) -> {
+                    batchesByReplica.computeIfAbsent(served.servedBy(), replica -> new LongAdder()).increment();
+                    if (served.response() == null || !served.response().getSuccess()) {
+                        return 0;
+                    }
+                    processProtoDataItems(served.response().getItemsList());
+                    return size;
+                })
+            : runConcurrentBatches(label, totalCount, batchSize, concurrency,
+                size -> replicaPoolClient.getHttpBatchData(policy, size),
+                (size, served) -> {
+                    batchesByReplica.computeIfAbsent(served.servedBy(), replica -> new LongAdder()).increment();
+                    if (served.response() == null || !served.response().isSuccess()) {
+                        return 0;
+                    }
+                    processDataItems(served.response().getItems());
+                    return size;
+                });
+
+        result.batchesByReplica = new TreeMap<>();
+        batchesByReplica.forEach((replica, count) -> result.batchesByReplica.put(replica, count.sum()));
+
+        log.info("{} Test Result (concurrency {}): {}, Replicas: {}", label, concurrency, result, result.batchesByReplica);
+        return result;
+    }
+
+    /**
+     * Protobuf 데이터를 실제로 처리하여 역직렬화를 강제하고 메모리 사용량을 정확히 측정
+     * (실제 운영에서는 DB insert, 비즈니스 로직 등이 여기 해당)
+     */
+    private void processProtoDataItems(java.util.List<com.example.proto.DataItem> items) {
+        if (items == null || items.isEmpty()) {
+            return;
+        }
+
+        // 모든 필드에 접근하여 실제 역직렬화 강제
+        for (com.example.proto.DataItem item : items) {
+            // 각 필드 접근 (JIT 최적화 방지를 위해 실제 사용)
+            @SuppressWarnings("unused")
+            String dummy = item.getId() + item.getName() + item.getDescription() +
+                           item.getCategory() + item.getContent() + item.getMetadata1() +
+                           item.getMetadata2() + item.getMetadata3() + item.getMetadata4() +
+                           item.getMetadata5() + item.getAdditionalInfo() + item.getTags();
+        }
+        // 메서드 종료 시 items와 dummy는 GC 대상이 됨 (실제 DB insert 후 메모리 해제 시뮬레이션)
+    }
+
+    /**
+     * 프로필 항목의 모든 필드에 접근 (중첩 섹션, 맵까지 순회해서 역직렬화 결과를 실제로 사용)
+     */
+    private long processProfiledItems(List<ProfiledItem> items) {
+        long checksum = 0;
+        if (items == null) {
+            return checksum;
+        }
+        for (ProfiledItem item : items) {
+            checksum += item.getId().length() + item.getTimestamp();
+            checksum += item.getBody() != null ? item.getBody().length() : 0;
+            if (item.getMeasurements() != null) {
+                for (double measurement : item.getMeasurements()) {
+                    checksum += (long) measurement;
+                }
+            }
+            if (item.getCounters() != null) {
+                for (long counter : item.getCounters()) {
+                    checksum += counter;
+                }
+            }
+            checksum += sectionChecksum(item.getSections());
+            if (item.getAttributes() != null) {
+                for (Map.Entry<String, String> attribute : item.getAttributes().entrySet()) {
+                    checksum += attribute.getKey().length() + attribute.getValue().length();
+                }
+            }
+        }
+        return checksum;
+    }
+
+    private long sectionChecksum(List<ProfiledSection> sections) {
+        long checksum = 0;
+        if (sections == null) {
+            return checksum;
+        }
+        // 빈 문자열/배열은 JSON에서 생략되어 null로 들어옴
+        for (ProfiledSection section : sections) {
+            checksum += section.getLevel();
+            checksum += section.getTitle() != null ? section.getTitle().length() : 0;
+            checksum += section.getText() != null ? section.getText().length() : 0;
+            if (section.getScores() != null) {
+                for (double score : section.getScores()) {
+                    checksum += (long) score;
+                }
+            }
+            checksum += sectionChecksum(section.getChildren());
+        }
+        return checksum;
+    }
+
+    private long processProfiledProtoItems(List<com.example.proto.ProfiledItem> items) {
+        long checksum = 0;
+        for (com.example.proto.ProfiledItem item : items) {
+            checksum += item.getId().length() + item.getTimestamp() + item.getBody().length();
+            for (int i = 0; i < item.getMeasurementsCount(); i++) {
+                checksum += (long) item.getMeasurements(i);
+            }
+            for (int i = 0; i < item.getCountersCount(); i++) {
+                checksum += item.getCounters(i);
+            }
+            checksum += protoSectionChecksum(item.getSectionsList());
+            for (Map.Entry<String, String> attribute : item.getAttributesMap().entrySet()) {
+                checksum += attribute.getKey().length() + attribute.getValue().length();
+            }
+        }
+        return checksum;
+    }
+
+    private long protoSectionChecksum(List<com.example.proto.ProfiledSection> sections) {
+        long checksum = 0;
+        for (com.example.proto.ProfiledSection section : sections) {
+            checksum += section.getTitle().length() + section.getLevel() + section.getText().length();
+            for (int i = 0; i < section.getScoresCount(); i++) {
+                checksum += (long) section.getScores(i);
+            }
+            checksum += protoSectionChecksum(section.getChildrenList());
+        }
+        return checksum;
+    }
+
+    /**
+     * 프로젝션 비교용 소비자 - id, category, value 세 필드만 읽음
+     */
+    private <T> void processProjectedFields(List<T> items, Function<T, String> id, Function<T, String> category,
+                                            ToDoubleFunction<T> value) {
+        if (items == null || items.isEmpty()) {
+            return;
+        }
+
+        for (T item : items) {
+            @SuppressWarnings("unused")
+            String dummy = id.apply(item) + category.apply(item) + value.applyAsDouble(item);
+        }
+    }
+
+    /**
+     * 두 프로토콜을 비교하고 결과를 response-basic-multiple.md 파일에 저장
+     */
+    public void compareAndSaveResults(int totalCount, int batchSize, int chunkSize, int concurrency) {
+        log.info("Starting performance comparison test");
+
+        // GC 실행
+        System.gc();
+        try {
+            Thread.sleep(1000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        TestResult httpResult = testHttpBatch(totalCount, batchSize, concurrency);
+
+        // 테스트 간 대기
+        log.info("Waiting between tests...");
+        pauseBetweenTests();
+
+        TestResult grpcResult = testGrpcBatch(totalCount, batchSize, concurrency);
+
+        log.info("Waiting between tests...");
+        pauseBetweenTests();
+
+        TestResult grpcStreamResult = testGrpcStreamBatch(totalCount, batchSize, chunkSize);
+
+        log.info("Waiting between tests...");
+        pauseBetweenTests();
+
+        TestResult httpStreamResult = testHttpStreamBatch(totalCount, batchSize, chunkSize);
+
+        // 결과를 파일로 저장
+        saveResultsToFile(httpResult, grpcResult, httpStreamResult, grpcStreamResult, totalCount, batchSize, concurrency);
+    }
+
+    /**
+     * 10회 반복 테스트를 수행하고 평균 결과를 저장
+     */
+    public void compareAndSaveResultsWithMultipleRuns(int totalCount, int batchSize, int chunkSize, int concurrency,
+                                                      int runs, int intervalSeconds, boolean withLatency) {
+        log.info("Starting {} runs of performance comparison test with {} seconds interval (latency: {})",
+            runs, intervalSeconds, withLatency ? "enabled" : "disabled");
+
+        // 서버 측 메트릭 초기화
+        try {
+            httpDataClient.clearServerMetrics().block();
+            log.info("Cleared server-side metrics before test");
+        } catch (Exception e) {
+            log.warn("Failed to clear server metrics", e);
+        }
+
+        List<TestResult> httpResults = new ArrayList<>();
+        List<TestResult> grpcResults = new ArrayList<>();
+        List<TestResult> grpcStreamResults = new ArrayList<>();
+        List<TestResult> httpStreamResults = new ArrayList<>();
+
+        for (int run = 1; run <= runs && !isCancelled(); run++) {
+            log.info("===== Run {}/{} =====", run, runs);
+
+            // GC 실행
+            System.gc();
+            try {
+                Thread.sleep(1000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            TestResult httpResult = testHttpBatch(totalCount, batchSize, concurrency);
+            httpResults.add(httpResult);
+
+            // 테스트 간 대기
+            log.info("Waiting between HTTP and gRPC tests...");
+            pauseBetweenTests();
+
+            TestResult grpcResult = testGrpcBatch(totalCount, batchSize, concurrency);
+            grpcResults.add(grpcResult);
+
+            log.info("Waiting between gRPC unary and streaming tests...");
+            pauseBetweenTests();
+
+            TestResult grpcStreamResult = testGrpcStreamBatch(totalCount, batchSize, chunkSize);
+            grpcStreamResults.add(grpcStreamResult);
+
+            log.info("Waiting between gRPC and HTTP streaming tests...");
+            pauseBetweenTests();
+
+            TestResult httpStreamResult = testHttpStreamBatch(totalCount, batchSize, chunkSize);
+            httpStreamResults.add(httpStreamResult);
+
+            // 다음 회차 전 대기 (마지막 회차가 아닐 경우)
+            if (run < runs) {
+                log.info("Waiting {} seconds before next run...", intervalSeconds);
+                try {
+                    Thread.sleep(intervalSeconds * 1000L);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+
+        // Service B로부터 서버 측 메트릭 수집
+        Map<String, List<ServerPerformanceMetrics>> serverMetrics = null;
+        try {
+            serverMetrics = httpDataClient.getServerMetrics().block();
+            log.info("Collected server-side metrics from Service B");
+        } catch (Exception e) {
+            log.error("Failed to collect server metrics from Service B", e);
+        }
+
+        Map<String, PayloadCacheStats> cacheStats = null;
+        try {
+            cacheStats = httpDataClient.getServerCacheStats().block();
+        } catch (Exception e) {
+            log.warn("Failed to collect payload cache stats from Service B", e);
+        }
+
+        // 결과를 파일로 저장
+        saveMultipleRunsResultsToFile(httpResults, grpcResults, httpStreamResults, grpcStreamResults, serverMetrics, cacheStats,
+            totalCount, batchSize, concurrency, withLatency);
+
+        // 보고서는 매번 덮어쓰므로 회차별 결과는 이력 파일에 누적 (회귀 비교용)
+        Map<String, List<TestResult>> resultsByProtocol = new LinkedHashMap<>();
+        for (List<TestResult> results : List.of(httpResults, grpcResults, grpcStreamResults, httpStreamResults)) {
+            if (!results.isEmpty()) {
+                resultsByProtocol.put(results.get(0).protocol, results);
+            }
+        }
+        Map<String, Object> config = new LinkedHashMap<>();
+        config.put("totalCount", totalCount);
+        config.put("batchSize", batchSize);
+        config.put("chunkSize", chunkSize);
+        config.put("concurrency", concurrency);
+        historyStore.append(withLatency ? "latency-multiple" : "basic-multiple", config, resultsByProtocol);
+    }
+
+    /**
+     * 플랫폼 스레드 vs 가상 스레드 비교 테스트를 수행하고 response-threads.md 파일에 저장
+     */
+    public void compareThreadModesAndSave(int totalCount, int batchSize, int concurrency) {
+        log.info("Starting thread mode comparison test: concurrency={}", concurrency);
+
+        Map<String, String> serverRuntime = null;
+        try {
+            serverRuntime = httpDataClient.getServerRuntime().block();
+        } catch (Exception e) {
+            log.warn("Failed to fetch server runtime from Service B", e);
+        }
+
+        Map<String, TestResult> results = new LinkedHashMap<>();
+        for (String protocol : List.of("HTTP", "gRPC")) {
+            for (ThreadMode threadMode : ThreadMode.values()) {
+                pauseBetweenTests();
+                results.put(protocol + "|" + threadMode,
+                    testBatchOnThreads(protocol, totalCount, batchSize, concurrency, threadMode));
+            }
+        }
+
+        String filePath = resolveDocsPath("response-threads.md");
+        try (FileWriter writer = new FileWriter(filePath)) {
+            writer.write("# 플랫폼 스레드 vs 가상 스레드 성능 비교 결과\n\n");
+            writer.write("## 테스트 설정\n\n");
+            writer.write(String.format("- 총 데이터 건수: %,d건\n", totalCount));
+            writer.write(String.format("- 배치 크기: %,d건\n", batchSize));
+            writer.write(String.format("- 동시 요청 수 (in-flight 배치): %d\n", concurrency));
+            writer.write(String.format("- Service A JVM: %s\n", Runtime.version()));
+            writer.write(String.format("- Service B 요청 처리 스레드: %s\n\n",
+                serverRuntime != null ? serverRuntime.getOrDefault("threading", "알 수 없음") : "알 수 없음"));
+
+            writer.write("## 테스트 결과\n\n");
+            writer.write("| 프로토콜 | 스레드 모드 | 소요 시간 (ms) | 처리량 (건/초) | 메모리 사용량 (MB) | 실패 |\n");
+            writer.write("|---------|------------|---------------|---------------|-------------------|------|\n");
+            for (Map.Entry<String, TestResult> entry : results.entrySet()) {
+                TestResult result = entry.getValue();
+                writer.write(String.format("| %s | %s | %,d | %.2f | %.2f | %,d |\n",
+                    result.protocol,
+                    entry.getKey().substring(entry.getKey().indexOf('|') + 1),
+                    result.durationMs,
+                    result.getThroughput(),
+                    result.memoryUsedBytes / (1024.0 * 1024.0),
+                    result.failCount));
+            }
+            writer.write("\n");
+
+            Map<String, List<TestResult>> resultsByMode = new LinkedHashMap<>();
+            results.forEach((key, result) -> resultsByMode.put(key.replace("|", " / "), List.of(result)));
+            writeResourceUsageTable(writer, resultsByMode);
+            writeWireBytesTable(writer, resultsByMode);
+            writeLatencySection(writer, resultsByMode);
+
+            writer.write("## 비교 분석\n\n");
+            for (String protocol : List.of("HTTP", "gRPC")) {
+                double platformThroughput = results.get(protocol + "|" + ThreadMode.PLATFORM).getThroughput();
+                double virtualThroughput = results.get(protocol + "|" + ThreadMode.VIRTUAL).getThroughput();
+                // 성공 건수가 0이거나 소요 시간이 0ms면 비율을 낼 수 없음
+                if (!(platformThroughput > 0) || Double.isInfinite(platformThroughput) || Double.isNaN(virtualThroughput)) {
+                    writer.write(String.format("- **%s**: 처리량을 측정하지 못해 비교할 수 없음\n", protocol));
+                    continue;
+                }
+                double throughputImprovement = (virtualThroughput / platformThroughput - 1) * 100;
+                writer.write(String.format("- **%s**: 가상 스레드 처리량이 플랫폼 스레드 대비 %.2f%% %s\n",
+                    protocol, Math.abs(throughputImprovement), throughputImprovement > 0 ? "높음" : "낮음"));
+            }
+            writer.write("\n");
+
+            writer.write("**참고사항**:\n");
+            writer.write("- 두 모드 모두 배치마다 블로킹 호출(`block()`, BlockingStub)을 사용하며 동시 실행 수는 같습니다.\n");
+            writer.write("- Service B의 스레드 모드는 `VIRTUAL_THREADS_ENABLED` 환경 변수로 전환하고 다시 실행해 비교합니다.\n");
+
+            log.info("Thread mode comparison results saved to " + filePath);
+        } catch (IOException e) {
+            log.error("Failed to save results to file", e);
+        }
+    }
+
+    /**
+     * 포맷(JSON/Smile/CBOR/Protobuf) x 전송(HTTP REST/gRPC) 전체 조합을 실행하고 response-formats.md에 저장
+     * 포맷 차이와 전송 계층 차이를 분리해서 볼 수 있도록 각 칸을 같은 조건(순차 실행)으로 측정
+     */
+    public Map<String, TestResult> compareFormatsAndSave(int totalCount, int batchSize) {
+        List<String> transports = List.of("HTTP", "gRPC");
+        Map<String, TestResult> results = new LinkedHashMap<>();
+
+        for (WireFormat format : WireFormat.values()) {
+            for (String transport : transports) {
+                pauseBetweenTests();
+                TestResult result = testFormatBatch(transport, format, totalCount, batchSize);
+                results.put(result.protocol, result);
+            }
+        }
+
+        String filePath = resolveDocsPath("response-formats.md");
+        try (FileWriter writer = new FileWriter(filePath)) {
+            writer.write("# 직렬화 포맷 x 전송 방식 비교 결과\n\n");
+            writer.write("## 테스트 설정\n\n");
+            writer.write(String.format("- 총 데이터 건수: %,d건\n", totalCount));
+            writer.write(String.format("- 배치 크기: %,d건\n", batchSize));
+            writer.write("- HTTP: REST + Accept 헤더 포맷 협상 (HTTP/1.1)\n");
+            writer.write("- gRPC: PROTOBUF는 GetBatchData, 나머지 포맷은 GetEncodedBatchData의 bytes 페이로드 (HTTP/2)\n\n");
+
+            writeFormatMatrix(writer, "처리량 (건/초)", results, transports, TestResult::getThroughput);
+            writeFormatMatrix(writer, "소요 시간 (ms)", results, transports, r -> r.durationMs);
+            writeFormatMatrix(writer, "클라이언트 할당 (MB)", results, transports, r -> r.resourceUsage.getAllocatedMB());
+            writeFormatMatrix(writer, "클라이언트 CPU 시간 (ms)", results, transports, r -> r.resourceUsage.getCpuTimeMs());
+            writeFormatMatrix(writer, "배치 왕복 p99 (ms)", results, transports, r -> r.getLatencyPercentileMs(99));
+            writeFormatMatrix(writer, "건당 응답 크기 (bytes)", results, transports, TestResult::getResponseBytesPerItem);
+            writeFormatMatrix(writer, "응답 처리량 (MB/s)", results, transports, TestResult::getResponseMBPerSecond);
+
+            Map<String, List<TestResult>> resultsByLabel = new LinkedHashMap<>();
+            results.forEach((label, result) -> resultsByLabel.put(label, List.of(result)));
+            writeLatencySection(writer, resultsByLabel);
+
+            writer.write("**참고사항**:\n");
+            writer.write("- 같은 행(포맷)에서 열을 비교하면 전송 계층의 영향, 같은 열(전송)에서 행을 비교하면 포맷의 영향을 볼 수 있습니다.\n");
+            writer.write("- gRPC bytes 경로는 페이로드를 한 번 더 감싸므로 Protobuf 외 포맷에는 bytes 필드 복사 비용이 포함됩니다.\n");
+
+            log.info("Wire format comparison results saved to " + filePath);
+        } catch (IOException e) {
+            log.error("Failed to save results to file", e);
+        }
+        return results;
+    }
+
+    /**
+     * 페이로드 프로필 x 전송 방식(HTTP JSON / gRPC Protobuf)을 runs회 반복 실행하고 response-profiles.md에 저장
+     * 프로필마다 원본 데이터량(payloadMegabytes)이 같도록 건수를 정하고, 배치는 응답 크기 상한을 넘지 않게 줄여서 사용
+     * (itemSizeBytes가 0이면 프로필별 기본 크기)
+     */
+    public Map<String, List<TestResult>> compareProfilesAndSave(List<PayloadProfile> profiles, int itemSizeBytes,
+                                                                int payloadMegabytes, int batchSize, int runs) {
+        List<String> transports = List.of("HTTP", "gRPC");
+        Map<PayloadProfile, ProfilePlan> plans = new LinkedHashMap<>();
+        for (PayloadProfile profile : profiles) {
+            int itemSize = profile.resolveItemSize(itemSizeBytes);
+            int totalCount = (int) Math.max(1, (long) payloadMegabytes * 1024 * 1024 / itemSize);
+            plans.put(profile, new ProfilePlan(itemSize, totalCount, profileBatchSize(batchSize, itemSize)));
+        }
+
+        Map<String, List<TestResult>> resultsByLabel = new LinkedHashMap<>();
+        for (int run = 0; run < runs && !isCancelled(); run++) {
+            for (Map.Entry<PayloadProfile, ProfilePlan> entry : plans.entrySet()) {
+                ProfilePlan plan = entry.getValue();
+                for (String transport : transports) {
+                    pauseBetweenTests();
+                    TestResult result = testProfileBatch(transport, entry.getKey(), plan.itemSizeBytes(),
+                        plan.totalCount(), plan.batchSize());
+                    resultsByLabel.computeIfAbsent(result.protocol, label -> new ArrayList<>()).add(result);
+                }
+            }
+        }
+
+        String filePath = resolveDocsPath("response-profiles.md");
+        try (FileWriter writer = new FileWriter(filePath)) {
+            writer.write("# 페이로드 프로필 x 전송 방식 비교 결과\n\n");
+            writer.write("## 테스트 설정\n\n");
+            writer.write(String.format("- 프로필별 원본 데이터량: %,dMB (항목 크기에 따라 건수 결정)\n", payloadMegabytes));
+            writer.write(String.format("- 반복 횟수: %d회 (프로필, 전송 방식을 번갈아 실행)\n", runs));
+            writer.write("- HTTP: REST GET /api/data/generate/profiled (JSON, HTTP/1.1)\n");
+            writer.write("- gRPC: GetProfiledBatchData (Protobuf, HTTP/2)\n\n");
+            writer.write("| 프로필 | 항목 크기 (bytes) | 건수 | 배치 크기 |\n");
+            writer.write("|--------|-------------------|------|-----------|\n");
+            for (Map.Entry<PayloadProfile, ProfilePlan> entry : plans.entrySet()) {
+                ProfilePlan plan = entry.getValue();
+                writer.write(String.format("| %s | %,d | %,d | %,d |\n",
+                    entry.getKey().name(), plan.itemSizeBytes(), plan.totalCount(), plan.batchSize()));
+            }
+            writer.write("\n");
+
+            writer.write("## 처리량 (평균)\n\n");
+            writer.write("| 프로필 | HTTP (건/초) | gRPC (건/초) | gRPC/HTTP 배율 | HTTP 원본 MB/s | gRPC 원본 MB/s |\n");
+            writer.write("|--------|--------------|--------------|----------------|----------------|----------------|\n");
+            for (Map.Entry<PayloadProfile, ProfilePlan> entry : plans.entrySet()) {
+                List<TestResult> http = resultsByLabel.getOrDefault("HTTP/" + entry.getKey().name(), List.of());
+                List<TestResult> grpc = resultsByLabel.getOrDefault("gRPC/" + entry.getKey().name(), List.of());
+                double httpThroughput = http.stream().mapToDouble(TestResult::getThroughput).average().orElse(0);
+                double grpcThroughput = grpc.stream().mapToDouble(TestResult::getThroughput).average().orElse(0);
+                double itemMB = entry.getValue().itemSizeBytes() / (1024.0 * 1024.0);
+                writer.write(String.format("| %s | %,.2f | %,.2f | %.2fx | %,.2f | %,.2f |\n",
+                    entry.getKey().name(),
+                    httpThroughput,
+                    grpcThroughput,
+                    httpThroughput > 0 ? grpcThroughput / httpThroughput : 0,
+                    httpThroughput * itemMB,
+                    grpcThroughput * itemMB));
+            }
+            writer.write("\n");
+
+            writer.write("## 인코딩 크기와 클라이언트 비용 (평균)\n\n");
+            writer.write("| 프로필 | HTTP 건당 응답 (bytes) | gRPC 건당 응답 (bytes) | JSON/Protobuf 크기 배율 | HTTP 할당량 (MB) | gRPC 할당량 (MB) | HTTP CPU 시간 (ms) | gRPC CPU 시간 (ms) |\n");
+            writer.write("|--------|------------------------|------------------------|-------------------------|------------------|------------------|--------------------|--------------------|\n");
+            for (PayloadProfile profile : plans.keySet()) {
+                List<TestResult> http = resultsByLabel.getOrDefault("HTTP/" + profile.name(), List.of());
+                List<TestResult> grpc = resultsByLabel.getOrDefault("gRPC/" + profile.name(), List.of());
+                double httpBytesPerItem = averageResponseBytesPerItem(http);
+                double grpcBytesPerItem = averageResponseBytesPerItem(grpc);
+                writer.write(String.format("| %s | %,.1f | %,.1f | %.2fx | %,.2f | %,.2f | %,.2f | %,.2f |\n",
+                    profile.name(),
+                    httpBytesPerItem,
+                    grpcBytesPerItem,
+                    grpcBytesPerItem > 0 ? httpBytesPerItem / grpcBytesPerItem : 0,
+                    averageAllocatedMB(http),
+                    averageAllocatedMB(grpc),
+                    http.stream().mapToDouble(r -> r.resourceUsage.getCpuTimeMs()).average().orElse(0),
+                    grpc.stream().mapToDouble(r -> r.resourceUsage.getCpuTimeMs()).average().orElse(0)));
+            }
+            writer.write("\n");
+
+            writeLatencySection(writer, resultsByLabel);
+
+            writer.write("**참고사항**:\n");
+            writer.write("- 항목 크기는 문자열 길이와 숫자(8바이트)를 합친 대략적인 원본 크기이며, 원본 MB/s는 이 크기 기준입니다.\n");
+            writer.write("- 프로필마다 배치 크기(건수)가 다를 수 있으므로 왕복 시간은 같은 프로필 안에서만 비교하세요.\n");
+            writer.write("- JSON은 빈 필드를 생략하도록 설정되어 있어 두 포맷 모두 프로필에 해당하는 필드만 전송합니다.\n");
+            writer.write("- 할당량/CPU 시간은 Service A 프로세스 전체 기준이며 Service B의 생성/직렬화 비용은 포함되지 않습니다.\n");
+
+            log.info("Payload profile comparison results saved to " + filePath);
+        } catch (IOException e) {
+            log.error("Failed to save results to file", e);
+        }
+
+        Map<String, Object> config = new LinkedHashMap<>();
+        config.put("profiles", profiles.stream().map(PayloadProfile::name).toList());
+        config.put("itemSizeBytes", itemSizeBytes);
+        config.put("payloadMegabytes", payloadMegabytes);
+        config.put("batchSize", batchSize);
+        historyStore.append("profiles", config, resultsByLabel);
+        return resultsByLabel;
+    }
+
+    /**
+     * 응답 크기 상한(gRPC max-inbound-message-size, HTTP 코덱 maxInMemorySize)을 넘지 않도록 줄인 배치 크기
+     * (두 전송 방식이 같은 배치를 쓰도록 더 작은 쪽에 맞춤)
+     */
+    private int profileBatchSize(int batchSize, int itemSizeBytes) {
+        long grpcMaxBatch = (long) (grpcMaxInboundMessageSize.toBytes() * MESSAGE_LIMIT_HEADROOM
+            / (itemSizeBytes * PROFILE_PROTO_SIZE_FACTOR));
+        long httpMaxBatch = (long) (HttpDataClient.MAX_IN_MEMORY_SIZE * MESSAGE_LIMIT_HEADROOM
+            / (itemSizeBytes * PROFILE_JSON_SIZE_FACTOR));
+        return (int) Math.max(1, Math.min(batchSize, Math.min(grpcMaxBatch, httpMaxBatch)));
+    }
+
+    /**
+     * 프로필 하나의 측정 계획 (항목 크기, 총 건수, 배치 크기)
+     */
+    private record ProfilePlan(int itemSizeBytes, int totalCount, int batchSize) {
+    }
+
+    /**
+     * 같은 동시 요청 수로 HTTP/1.1 REST, h2c REST, gRPC를 실행하고 response-transports.md에 저장
+     * REST와 gRPC를 같은 HTTP/2 전송 위에서 비교해 차이가 전송 계층에서 오는지 직렬화에서 오는지 분리
+     */
+    public Map<String, TestResult> compareTransportsAndSave(int totalCount, int batchSize, int concurrency) {
+        Map<String, TestResult> results = new LinkedHashMap<>();
+
+        for (HttpProtocol httpProtocol : List.of(HttpProtocol.HTTP11, HttpProtocol.H2C)) {
+            TestResult result = testHttpTransportBatch(httpProtocol, totalCount, batchSize, concurrency);
+            results.put(result.protocol, result);
+
+            pauseBetweenTests();
+        }
+        results.put("gRPC", testGrpcBatch(totalCount, batchSize, concurrency));
+
+        String filePath = resolveDocsPath("response-transports.md");
+        try (FileWriter writer = new FileWriter(filePath)) {
+            writer.write("# 전송 방식 비교 결과 (HTTP/1.1 vs HTTP/2 h2c vs gRPC)\n\n");
+            writer.write("## 테스트 설정\n\n");
+            writer.write(String.format("- 총 데이터 건수: %,d건\n", totalCount));
+            writer.write(String.format("- 배치 크기: %,d건\n", batchSize));
+            writer.write(String.format("- 동시 요청 수: %d\n", concurrency));
+            writer.write("- REST 두 경로는 같은 JSON 응답을 받으며 전송 방식만 다릅니다 (연결 풀은 각각 분리).\n\n");
+
+            writer.write("## 결과\n\n");
+            writer.write("| 전송 방식 | 처리량 (건/초) | 소요 시간 (ms) | p50 (ms) | p99 (ms) | 할당 (MB) | CPU 시간 (ms) | 실패 |\n");
+            writer.write("|-----------|----------------|----------------|----------|----------|-----------|---------------|------|\n");
+            for (TestResult result : results.values()) {
+                writer.write(String.format("| %s | %,.2f | %,d | %.2f | %.2f | %,.2f | %,.2f | %,d |\n",
+                    result.protocol, result.getThroughput(), result.durationMs,
+                    result.getLatencyPercentileMs(50), result.getLatencyPercentileMs(99),
+                    result.resourceUsage.getAllocatedMB(), result.resourceUsage.getCpuTimeMs(), result.failCount));
+            }
+            writer.write("\n");
+
+            Map<String, List<TestResult>> resultsByLabel = new LinkedHashMap<>();
+            results.forEach((label, result) -> resultsByLabel.put(label, List.of(result)));
+            writeWireBytesTable(writer, resultsByLabel);
+            writeLatencySection(writer, resultsByLabel);
+
+            writer.write("**참고사항**:\n");
+            writer.write("- h2c 경로는 Service B를 `HTTP2_ENABLED=true`로 실행해야 합니다. 꺼져 있으면 h2c 요청이 모두 실패로 집계됩니다.\n");
+            writer.write("- HTTP/2 (h2c)와 gRPC의 차이는 주로 직렬화(JSON vs Protobuf)와 프레이밍 비용, HTTP/1.1과 h2c의 차이는 연결 재사용/멀티플렉싱 효과입니다.\n");
+
+            log.info("Transport comparison results saved to " + filePath);
+        } catch (IOException e) {
+            log.error("Failed to save results to file", e);
+        }
+        return results;
+    }
+
+    /**
+     * 압축 방식(NONE/gzip/zstd/snappy) x 전송 방식(HTTP/gRPC) 전체 조합을 실행하고 response-compression.md에 저장
+     * 지연 주입 환경에서는 대역폭이 병목이므로 전송 바이트와 압축에 쓴 CPU 시간을 함께 비교
+     */
+    public Map<String, TestResult> compareCompressionAndSave(int totalCount, int batchSize) {
+        List<String> transports = List.of("HTTP", "gRPC");
+        Map<String, TestResult> results = new LinkedHashMap<>();
+        List<String> unavailable = new ArrayList<>();
+
+        for (PayloadCompression compression : PayloadCompression.values()) {
+            if (!CompressionCodecs.isAvailable(compression)) {
+                unavailable.add(compression.getEncoding());
+                continue;
+            }
+            for (String transport : transports) {
+                pauseBetweenTests();
+                TestResult result = testCompressionBatch(transport, compression, totalCount, batchSize);
+                results.put(result.protocol, result);
+            }
+        }
+
+        String filePath = resolveDocsPath("response-compression.md");
+        try (FileWriter writer = new FileWriter(filePath)) {
+            writer.write("# 페이로드 압축 방식 비교 결과\n\n");
+            writer.write("## 테스트 설정\n\n");
+            writer.write(String.format("- 총 데이터 건수: %,d건\n", totalCount));
+            writer.write(String.format("- 배치 크기: %,d건\n", batchSize));
+            writer.write("- HTTP: JSON + Accept-Encoding / Content-Encoding\n");
+            writer.write("- gRPC: Protobuf + grpc-encoding (요청과 같은 방식으로 응답 압축)\n\n");
+
+            writer.write("## 결과\n\n");
+            writer.write("| 조합 | 처리량 (건/초) | 소요 시간 (ms) | p99 (ms) | 압축 전 (MB) | 전송 (MB) | 압축률 | 서버 압축 (ms) | 클라이언트 해제 (ms) | 클라이언트 CPU (ms) |\n");
+            writer.write("|------|----------------|----------------|----------|--------------|-----------|--------|----------------|----------------------|---------------------|\n");
+            for (TestResult result : results.values()) {
+                CompressionMetrics client = result.clientCompression;
+                CompressionMetrics server = result.serverCompression;
+                writer.write(String.format("| %s | %,.2f | %,d | %.2f | %,.2f | %,.2f | %.2f | %s | %,.2f | %,.2f |\n",
+                    result.protocol, result.getThroughput(), result.durationMs, result.getLatencyPercentileMs(99),
+                    client.getRawBytes() / (1024.0 * 1024.0), client.getEncodedBytes() / (1024.0 * 1024.0), client.getRatio(),
+                    server != null ? String.format("%,.2f", server.getCodecTimeMs()) : "-",
+                    client.getCodecTimeMs(), result.resourceUsage.getCpuTimeMs()));
+            }
+            writer.write("\n");
+
+            Map<String, List<TestResult>> resultsByLabel = new LinkedHashMap<>();
+            results.forEach((label, result) -> resultsByLabel.put(label, List.of(result)));
+            writeLatencySection(writer, resultsByLabel);
+
+            writer.write("**참고사항**:\n");
+            writer.write("- 전송 바이트는 압축된 페이로드 본문 크기이며 HTTP 헤더, HTTP/2·gRPC 프레이밍은 포함하지 않습니다.\n");
+            writer.write("- 압축/해제 시간은 코덱 스트림 안에서 쓴 시간(소켓·버퍼 I/O 제외)이라 해당 스레드의 CPU 시간에 가깝습니다.\n");
+            writer.write("- 압축 없음(identity)은 서버에서 압축하지 않으므로 서버 압축 시간이 0입니다. gRPC 통계에는 압축된 요청 메시지(수 바이트)도 포함됩니다.\n");
+            if (!unavailable.isEmpty()) {
+                writer.write(String.format("- 네이티브 라이브러리를 불러오지 못해 제외된 방식: %s\n", String.join(", ", unavailable)));
+            }
+
+            log.info("Compression comparison results saved to " + filePath);
+        } catch (IOException e) {
+            log.error("Failed to save results to file", e);
+        }
+        return results;
+    }
+
+    /**
+     * 기본 protobuf 마샬러와 ZeroCopyProtoMarshaller를 같은 조건으로 번갈아 runs회 실행하고 response-marshaller.md에 저장
+     * 마샬러는 클라이언트 응답 파싱에만 적용되므로 차이는 주로 할당량/GC에서 나타남
+     */
+    public Map<String, List<TestResult>> compareMarshallersAndSave(int totalCount, int batchSize, int concurrency, int runs) {
+        Map<String, List<TestResult>> resultsByLabel = new LinkedHashMap<>();
+
+        for (int run = 0; run < runs && !isCancelled(); run++) {
+            for (boolean zeroCopy : new boolean[] {false, true}) {
+                pauseBetweenTests();
+                TestResult result = testGrpcMarshallerBatch(zeroCopy, totalCount, batchSize, concurrency);
+                resultsByLabel.computeIfAbsent(result.protocol, label -> new ArrayList<>()).add(result);
+            }
+        }
+
+        String filePath = resolveDocsPath("response-marshaller.md");
+        try (FileWriter writer = new FileWriter(filePath)) {
+            writer.write("# gRPC 마샬러 비교 결과 (기본 protobuf vs zero-copy)\n\n");
+            writer.write("## 테스트 설정\n\n");
+            writer.write(String.format("- 총 데이터 건수: %,d건\n", totalCount));
+            writer.write(String.format("- 배치 크기: %,d건\n", batchSize));
+            writer.write(String.format("- 동시 요청 수: %d\n", concurrency));
+            writer.write(String.format("- 반복 횟수: %d회 (두 마샬러를 번갈아 실행)\n\n", runs));
+
+            writer.write("## 결과 (평균)\n\n");
+            writer.write("| 마샬러 | 처리량 (건/초) | 소요 시간 (ms) | 실패 |\n");
+            writer.write("|--------|----------------|----------------|------|\n");
+            for (Map.Entry<String, List<TestResult>> entry : resultsByLabel.entrySet()) {
+                List<TestResult> results = entry.getValue();
+                writer.write(String.format("| %s | %,.2f | %,.0f | %,.0f |\n",
+                    entry.getKey(),
+                    results.stream().mapToDouble(TestResult::getThroughput).average().orElse(0),
+                    results.stream().mapToLong(r -> r.durationMs).average().orElse(0),
+                    results.stream().mapToInt(r -> r.failCount).average().orElse(0)));
+            }
+            writer.write("\n");
+
+            writeResourceUsageTable(writer, resultsByLabel);
+            writeLatencySection(writer, resultsByLabel);
+
+            writer.write("**참고사항**:\n");
+            writer.write("- zero-copy 마샬러는 gRPC가 받은 Netty 버퍼를 힙 byte[]로 복사하지 않고 바로 파싱합니다. 문자열 필드는 어느 쪽이든 String으로 디코딩됩니다.\n");
+            writer.write("- 응답이 압축된 경우에는 버퍼 뷰가 없어 두 마샬러가 같은 경로로 파싱합니다.\n");
+            writer.write("- 서버 측 마샬러는 Service B의 `GRPC_ZERO_COPY_ENABLED`로 따로 전환합니다 (요청 파싱, 응답 직렬화).\n");
+
+            log.info("Marshaller comparison results saved to " + filePath);
+        } catch (IOException e) {
+            log.error("Failed to save results to file", e);
+        }
+
+        Map<String, Object> config = new LinkedHashMap<>();
+        config.put("totalCount", totalCount);
+        config.put("batchSize", batchSize);
+        config.put("concurrency", concurrency);
+        historyStore.append("marshaller", config, resultsByLabel);
+        return resultsByLabel;
+    }
+
+    /**
+     * 전송 방식(HTTP/gRPC)별로 전체 디코딩과 프로젝션 디코딩을 번갈아 runs회 실행하고 response-projection.md에 저장
+     */
+    public Map<String, List<TestResult>> compareProjectionAndSave(int totalCount, int batchSize, int runs) {
+        List<String> transports = List.of("HTTP", "gRPC");
+        Map<String, List<TestResult>> resultsByLabel = new LinkedHashMap<>();
+
+        for (int run = 0; run < runs && !isCancelled(); run++) {
+            for (String transport : transports) {
+                for (boolean projected : new boolean[] {false, true}) {
+                    pauseBetweenTests();
+                    TestResult result = testProjectionBatch(transport, projected, totalCount, batchSize);
+                    resultsByLabel.computeIfAbsent(result.protocol, label -> new ArrayList<>()).add(result);
+                }
+            }
+        }
+
+        String filePath = resolveDocsPath("response-projection.md");
+        try (FileWriter writer = new FileWriter(filePath)) {
+            writer.write("# 소비자 측 프로젝션 디코딩 비교 결과 (전체 vs id/category/value)\n\n");
+            writer.write("## 테스트 설정\n\n");
+            writer.write(String.format("- 총 데이터 건수: %,d건\n", totalCount));
+            writer.write(String.format("- 배치 크기: %,d건\n", batchSize));
+            writer.write(String.format("- 반복 횟수: %d회 (두 모드를 번갈아 실행)\n", runs));
+            writer.write("- HTTP: JSON 데이터 바인딩 vs Jackson 스트리밍 JsonParser\n");
+            writer.write("- gRPC: 생성된 protobuf 파서 vs CodedInputStream 태그 스캔 + skipField\n\n");
+
+            writer.write("## 결과 (평균)\n\n");
+            writer.write("| 조합 | 처리량 (건/초) | 소요 시간 (ms) | 할당량 (MB) | CPU 시간 (ms) | p99 (ms) | 실패 |\n");
+            writer.write("|------|----------------|----------------|-------------|---------------|----------|------|\n");
+            for (Map.Entry<String, List<TestResult>> entry : resultsByLabel.entrySet()) {
+                List<TestResult> results = entry.getValue();
+                writer.write(String.format("| %s | %,.2f | %,.0f | %,.2f | %,.2f | %.2f | %,.0f |\n",
+                    entry.getKey(),
+                    results.stream().mapToDouble(TestResult::getThroughput).average().orElse(0),
+                    results.stream().mapToLong(r -> r.durationMs).average().orElse(0),
+                    averageAllocatedMB(results),
+                    results.stream().mapToDouble(r -> r.resourceUsage.getCpuTimeMs()).average().orElse(0),
+                    results.stream().mapToDouble(r -> r.getLatencyPercentileMs(99)).average().orElse(0),
+                    results.stream().mapToInt(r -> r.failCount).average().orElse(0)));
+            }
+            writer.write("\n");
+
+            writer.write("## 프로젝션 효과\n\n");
+            writer.write("| 전송 | 처리량 변화 | 할당량 변화 |\n");
+            writer.write("|------|-------------|-------------|\n");
+            for (String transport : transports) {
+                List<TestResult> full = resultsByLabel.get(transport + "/full");
+                List<TestResult> projected = resultsByLabel.get(transport + "/projected");
+                if (full == null || projected == null) {
+                    continue;
+                }
+                double fullThroughput = full.stream().mapToDouble(TestResult::getThroughput).average().orElse(0);
+                double projectedThroughput = projected.stream().mapToDouble(TestResult::getThroughput).average().orElse(0);
+                double fullAllocated = averageAllocatedMB(full);
+                double projectedAllocated = averageAllocatedMB(projected);
+                writer.write(String.format("| %s | %s | %s |\n", transport,
+                    fullThroughput > 0 ? String.format("%+.1f%%", (projectedThroughput / fullThroughput - 1) * 100) : "-",
+                    fullAllocated > 0 ? String.format("%+.1f%%", (projectedAllocated / fullAllocated - 1) * 100) : "-"));
+            }
+            writer.write("\n");
+
+            writeWireBytesTable(writer, resultsByLabel);
+            writeLatencySection(writer, resultsByLabel);
+
+            writer.write("**참고사항**:\n");
+            writer.write("- 서버 응답은 두 모드가 같으므로(전송 바이트 동일) 차이는 클라이언트 디코딩에서만 생깁니다.\n");
+            writer.write("- 프로젝션 모드에서도 건너뛰는 필드의 바이트는 모두 읽습니다. 줄어드는 것은 String/객체 생성과 UTF-8 디코딩입니다.\n");
+            writer.write("- gRPC 전체 디코딩은 기본 마샬러로 고정합니다 (zero-copy 설정과 무관).\n");
+
+            log.info("Projection comparison results saved to " + filePath);
+        } catch (IOException e) {
+            log.error("Failed to save results to file", e);
+        }
+
+        Map<String, Object> config = new LinkedHashMap<>();
+        config.put("totalCount", totalCount);
+        config.put("batchSize", batchSize);
+        historyStore.append("projection", config, resultsByLabel);
+        return resultsByLabel;
     }
 
     /**
-     * gRPC 방식으로 배치 데이터 수신 테스트 (Service B가 데이터 생성)
+     * 업로드 방향 HTTP POST vs gRPC 클라이언트 스트리밍을 번갈아 runs회 실행하고 response-ingest.md에 저장
+     * (회차마다 서버 메트릭을 비우고 "…-INGEST" 항목으로 서버 측 처리 비용을 함께 집계)
      */
-    public TestResult testGrpcBatch(int totalCount, int batchSize) {
-        log.info("Starting gRPC batch test: {} items, batch size: {}", totalCount, batchSize);
+    public Map<String, List<TestResult>> compareIngestAndSave(int totalCount, int batchSize, int runs) {
+        List<String> transports = List.of("HTTP", "gRPC");
+        Map<String, List<TestResult>> resultsByLabel = new LinkedHashMap<>();
+        Map<String, List<ServerPerformanceMetrics>> serverMetricsByLabel = new LinkedHashMap<>();
+
+        for (int run = 0; run < runs && !isCancelled(); run++) {
+            for (String transport : transports) {
+                pauseBetweenTests();
+                clearServerMetricsQuietly();
+                TestResult result = testIngestBatch(transport, totalCount, batchSize);
+                resultsByLabel.computeIfAbsent(result.protocol, label -> new ArrayList<>()).add(result);
+                serverMetricsByLabel.computeIfAbsent(result.protocol, label -> new ArrayList<>())
+                    .addAll(fetchServerMetrics(transport + "-INGEST"));
+            }
+        }
 
-        long startTime = System.currentTimeMillis();
+        String filePath = resolveDocsPath("response-ingest.md");
+        try (FileWriter writer = new FileWriter(filePath)) {
+            writer.write("# 업로드 방향 비교 결과 (Service A -> Service B)\n\n");
+            writer.write("## 테스트 설정\n\n");
+            writer.write(String.format("- 총 데이터 건수: %,d건\n", totalCount));
+            writer.write(String.format("- 배치 크기: %,d건\n", batchSize));
+            writer.write(String.format("- 반복 횟수: %d회 (두 방식을 번갈아 실행)\n", runs));
+            writer.write("- HTTP: 배치마다 POST /api/data/ingest (JSON), 확인 응답 후 다음 배치 전송\n");
+            writer.write("- gRPC: IngestData 클라이언트 스트리밍 1건에 모든 배치 전송 (flow control), 마지막에 확인 응답 1건\n\n");
+
+            writer.write("## 클라이언트 측 결과 (평균)\n\n");
+            writer.write("| 방식 | 처리량 (건/초) | 소요 시간 (ms) | 업로드 (MB) | 건당 업로드 (bytes) | 업로드 MB/s | 할당량 (MB) | CPU 시간 (ms) | 실패 |\n");
+            writer.write("|------|----------------|----------------|-------------|---------------------|-------------|-------------|---------------|------|\n");
+            for (Map.Entry<String, List<TestResult>> entry : resultsByLabel.entrySet()) {
+                List<TestResult> results = entry.getValue();
+                writer.write(String.format("| %s | %,.2f | %,.0f | %,.2f | %,.1f | %,.2f | %,.2f | %,.2f | %,.0f |\n",
+                    entry.getKey(),
+                    results.stream().mapToDouble(TestResult::getThroughput).average().orElse(0),
+                    results.stream().mapToLong(r -> r.durationMs).average().orElse(0),
+                    results.stream().mapToDouble(r -> r.wireBytes.getRequestBytes() / (1024.0 * 1024.0)).average().orElse(0),
+                    results.stream().mapToDouble(r -> r.totalCount > 0 ? (double) r.wireBytes.getRequestBytes() / r.totalCount : 0)
+                        .average().orElse(0),
+                    results.stream().mapToDouble(r -> r.durationMs > 0
+                        ? r.wireBytes.getRequestBytes() / (1024.0 * 1024.0) / (r.durationMs / 1000.0) : 0).average().orElse(0),
+                    averageAllocatedMB(results),
+                    results.stream().mapToDouble(r -> r.resourceUsage.getCpuTimeMs()).average().orElse(0),
+                    results.stream().mapToInt(r -> r.failCount).average().orElse(0)));
+            }
+            writer.write("\n");
 
-        // MemoryMXBean을 사용한 정확한 힙 메모리 측정
-        MemoryMXBean memoryBean = ManagementFactory.getMemoryMXBean();
-        long startMemory = memoryBean.getHeapMemoryUsage().getUsed();
-        long peakMemory = startMemory;
+            writer.write("## 서버 측 처리 비용 (배치 처리 구간, 1,000건당)\n\n");
+            writer.write("| 방식 | 기록된 배치 수 | 처리 시간 (ms) | 할당량 (MB) | CPU 시간 (ms) |\n");
+            writer.write("|------|----------------|----------------|-------------|---------------|\n");
+            for (Map.Entry<String, List<ServerPerformanceMetrics>> entry : serverMetricsByLabel.entrySet()) {
+                List<ServerPerformanceMetrics> metrics = entry.getValue();
+                long items = metrics.stream().mapToLong(ServerPerformanceMetrics::getCount).sum();
+                double perThousand = items > 0 ? 1000.0 / items : 0;
+                writer.write(String.format("| %s | %,d | %,.2f | %,.2f | %,.2f |\n",
+                    entry.getKey(),
+                    metrics.size(),
+                    metrics.stream().mapToLong(ServerPerformanceMetrics::getDurationMs).sum() * perThousand,
+                    metrics.stream().mapToDouble(ServerPerformanceMetrics::getAllocatedMB).sum() * perThousand,
+                    metrics.stream().mapToDouble(ServerPerformanceMetrics::getCpuTimeMs).sum() * perThousand));
+            }
+            writer.write("\n");
 
-        int successCount = 0;
-        int failCount = 0;
+            writeLatencySection(writer, resultsByLabel);
 
-        for (int i = 0; i < totalCount; i += batchSize) {
-            int currentBatchSize = Math.min(batchSize, totalCount - i);
+            writer.write("**참고사항**:\n");
+            writer.write("- 업로드 바이트는 직렬화된 요청 본문/메시지 기준입니다 (HTTP 헤더, gRPC 프레임 헤더 제외).\n");
+            writer.write("- 서버 측 처리 시간에는 요청 본문 역직렬화가 포함되지 않습니다 (HTTP는 메시지 컨버터, gRPC는 마샬러에서 수행).\n");
+            writer.write("- 서버 메트릭은 프로토콜별 최근 data.metrics.capacity건만 남으므로 배치가 그보다 많으면 최근 배치 기준입니다.\n");
+            writer.write("- gRPC는 배치별 응답이 없어 왕복 시간 표에는 HTTP만 나옵니다.\n");
 
-            com.example.proto.BatchDataResponse response = null;
-            try {
-                response = grpcDataClient.getBatchData(currentBatchSize);
+            log.info("Ingest comparison results saved to " + filePath);
+        } catch (IOException e) {
+            log.error("Failed to save results to file", e);
+        }
 
-                if (response != null && response.getSuccess()) {
-                    // 실제 운영 환경처럼 데이터를 처리 (역직렬화 강제 + 메모리 사용 측정)
-                    processProtoDataItems(response.getItemsList());
-                    successCount += currentBatchSize;
-                    log.debug("Processed {} items from Service B via gRPC", response.getProcessedCount());
-                }
-            } catch (Exception e) {
-                log.error("gRPC batch failed", e);
-                failCount += currentBatchSize;
-            } finally {
-                // 처리 완료 후 참조 제거 (실제 운영처럼 메모리 해제 유도)
-                response = null;
+        Map<String, Object> config = new LinkedHashMap<>();
+        config.put("totalCount", totalCount);
+        config.put("batchSize", batchSize);
+        historyStore.append("ingest", config, resultsByLabel);
+        return resultsByLabel;
+    }
+
+    /**
+     * 프로토콜별 처리량 최적 배치 크기 탐색 후 response-batch-tuning.md에 저장
+     * 1) 작은 배치로 건당 응답 바이트를 재고 응답 크기 상한(gRPC max-inbound-message-size, HTTP 코덱 maxInMemorySize)에서 최대 배치 계산
+     * 2) coarse: minBatchSize부터 약 3.16배(10^0.5)씩 최대 배치까지 측정
+     * 3) refine: 현재 최고점과 양옆 측정점 사이의 로그 중간점을 측정하며 refineRounds회 좁힘
+     * 각 측정점은 itemsPerPoint건(배치 TUNING_MIN_BATCHES_PER_POINT회 이상)을 요청
+     */
+    public Map<String, BatchTuningResult> tuneBatchSizeAndSave(int itemsPerPoint, int concurrency, int minBatchSize,
+                                                               int maxBatchSize, int refineRounds) {
+        Map<String, BatchTuningResult> results = new LinkedHashMap<>();
+        Map<String, List<TestResult>> resultsByLabel = new LinkedHashMap<>();
+
+        for (String protocol : List.of("HTTP", "gRPC")) {
+            boolean grpc = "gRPC".equals(protocol);
+            BiFunction<Integer, Integer, TestResult> runner = (total, batch) -> grpc
+                ? testGrpcBatch(total, batch, concurrency)
+                : testHttpBatch(total, batch, concurrency);
+
+            // 워밍업 겸 건당 응답 바이트 측정
+            TestResult probe = runner.apply(TUNING_PROBE_BATCH_SIZE * TUNING_MIN_BATCHES_PER_POINT, TUNING_PROBE_BATCH_SIZE);
+            double bytesPerItem = probe.getResponseBytesPerItem();
+            if (bytesPerItem <= 0) {
+                log.warn("{} probe batch failed, skipping batch size tuning", protocol);
+                continue;
             }
 
-            // 각 배치 처리 후 peak memory 추적
-            long currentMemory = memoryBean.getHeapMemoryUsage().getUsed();
-            peakMemory = Math.max(peakMemory, currentMemory);
+            long limitBytes = grpc ? grpcMaxInboundMessageSize.toBytes() : HttpDataClient.MAX_IN_MEMORY_SIZE;
+            int limitBatchSize = (int) Math.max(1, limitBytes * MESSAGE_LIMIT_HEADROOM / bytesPerItem);
+            int upper = maxBatchSize > 0 ? Math.min(maxBatchSize, limitBatchSize) : limitBatchSize;
+            int lower = Math.max(1, Math.min(minBatchSize, upper));
+            log.info("{} batch size tuning: {} bytes/item, limit {} bytes -> batch size {} ~ {}",
+                protocol, String.format("%.1f", bytesPerItem), limitBytes, lower, upper);
 
-            if ((i + currentBatchSize) % 10000 == 0) {
-                log.info("gRPC Progress: {}/{}", i + currentBatchSize, totalCount);
+            Map<Integer, BatchTuningPoint> points = new TreeMap<>();
+            for (int batchSize : coarseBatchSizes(lower, upper)) {
+                measureTuningPoint(protocol, runner, batchSize, "coarse", itemsPerPoint, points, resultsByLabel);
             }
-        }
-
-        long endTime = System.currentTimeMillis();
 
-        // Peak 메모리 증가량 계산
-        long memoryIncrease = peakMemory - startMemory;
+            for (int round = 1; round <= refineRounds; round++) {
+                List<Integer> candidates = refineBatchSizes(points);
+                if (candidates.isEmpty()) {
+                    break;
+                }
+                for (int batchSize : candidates) {
+                    measureTuningPoint(protocol, runner, batchSize, "refine-" + round, itemsPerPoint, points, resultsByLabel);
+                }
+            }
 
-        TestResult result = new TestResult(
-            "gRPC",
-            totalCount,
-            successCount,
-            failCount,
-            endTime - startTime,
-            memoryIncrease
-        );
+            BatchTuningPoint optimal = points.values().stream()
+                .max(Comparator.comparingDouble(BatchTuningPoint::getThroughput))
+                .orElseThrow();
+            List<Integer> plateau = points.values().stream()
+                .filter(point -> point.getThroughput() >= optimal.getThroughput() * TUNING_PLATEAU_RATIO)
+                .map(BatchTuningPoint::getBatchSize)
+                .toList();
+
+            results.put(protocol, new BatchTuningResult(
+                protocol,
+                bytesPerItem,
+                limitBytes,
+                upper,
+                optimal.getBatchSize(),
+                optimal.getThroughput(),
+                plateau.get(0),
+                plateau.get(plateau.size() - 1),
+                new ArrayList<>(points.values())
+            ));
+            log.info("{} optimal batch size: {} ({} items/sec)", protocol, optimal.getBatchSize(),
+                String.format("%.2f", optimal.getThroughput()));
+        }
 
-        log.info("gRPC Test Result: {}", result);
-        return result;
+        saveBatchTuningResults(results, resultsByLabel, itemsPerPoint, concurrency, refineRounds);
+        return results;
     }
 
-    /**
-     * Protobuf 데이터를 실제로 처리하여 역직렬화를 강제하고 메모리 사용량을 정확히 측정
-     * (실제 운영에서는 DB insert, 비즈니스 로직 등이 여기 해당)
-     */
-    private void processProtoDataItems(java.util.List<com.example.proto.DataItem> items) {
-        if (items == null || items.isEmpty()) {
+    private void measureTuningPoint(String protocol, BiFunction<Integer, Integer, TestResult> runner, int batchSize,
+                                    String phase, int itemsPerPoint, Map<Integer, BatchTuningPoint> points,
+                                    Map<String, List<TestResult>> resultsByLabel) {
+        if (points.containsKey(batchSize)) {
             return;
         }
+        pauseBetweenTests();
+
+        int totalCount = (int) Math.min(Integer.MAX_VALUE,
+            Math.max(itemsPerPoint, (long) batchSize * TUNING_MIN_BATCHES_PER_POINT));
+        TestResult result = runner.apply(totalCount, batchSize);
+        points.put(batchSize, new BatchTuningPoint(
+            batchSize,
+            phase,
+            totalCount,
+            result.getThroughput(),
+            result.getLatencyPercentileMs(50),
+            result.getLatencyPercentileMs(99),
+            result.resourceUsage.getAllocatedMB(),
+            result.failCount
+        ));
+        resultsByLabel.computeIfAbsent(protocol + "/batch=" + batchSize, label -> new ArrayList<>()).add(result);
+    }
 
-        // 모든 필드에 접근하여 실제 역직렬화 강제
-        for (com.example.proto.DataItem item : items) {
-            // 각 필드 접근 (JIT 최적화 방지를 위해 실제 사용)
-            @SuppressWarnings("unused")
-            String dummy = item.getId() + item.getName() + item.getDescription() +
-                           item.getCategory() + item.getContent() + item.getMetadata1() +
-                           item.getMetadata2() + item.getMetadata3() + item.getMetadata4() +
-                           item.getMetadata5() + item.getAdditionalInfo() + item.getTags();
+    /**
+     * lower부터 10^0.5배씩 늘린 배치 크기 (upper는 항상 포함)
+     */
+    private List<Integer> coarseBatchSizes(int lower, int upper) {
+        List<Integer> sizes = new ArrayList<>();
+        for (double size = lower; size < upper; size *= Math.sqrt(10)) {
+            int rounded = (int) Math.round(size);
+            if (sizes.isEmpty() || sizes.get(sizes.size() - 1) != rounded) {
+                sizes.add(rounded);
+            }
         }
-        // 메서드 종료 시 items와 dummy는 GC 대상이 됨 (실제 DB insert 후 메모리 해제 시뮬레이션)
+        sizes.add(upper);
+        return sizes;
     }
 
     /**
-     * 두 프로토콜을 비교하고 결과를 response-basic-multiple.md 파일에 저장
+     * 현재 최고점과 양옆 측정점 사이의 로그 중간점 (이미 측정했거나 간격이 10% 미만이면 제외)
      */
-    public void compareAndSaveResults(int totalCount, int batchSize) {
-        log.info("Starting performance comparison test");
+    private List<Integer> refineBatchSizes(Map<Integer, BatchTuningPoint> points) {
+        List<Integer> measured = new ArrayList<>(points.keySet());
+        int bestIndex = 0;
+        for (int i = 1; i < measured.size(); i++) {
+            if (points.get(measured.get(i)).getThroughput() > points.get(measured.get(bestIndex)).getThroughput()) {
+                bestIndex = i;
+            }
+        }
 
-        // GC 실행
-        System.gc();
-        try {
-            Thread.sleep(1000);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
+        int best = measured.get(bestIndex);
+        List<Integer> candidates = new ArrayList<>();
+        for (int neighborIndex : new int[] {bestIndex - 1, bestIndex + 1}) {
+            if (neighborIndex < 0 || neighborIndex >= measured.size()) {
+                continue;
+            }
+            int neighbor = measured.get(neighborIndex);
+            if ((double) Math.max(best, neighbor) / Math.min(best, neighbor) < 1.1) {
+                continue;
+            }
+            int midpoint = (int) Math.round(Math.sqrt((double) best * neighbor));
+            if (!points.containsKey(midpoint)) {
+                candidates.add(midpoint);
+            }
         }
+        return candidates;
+    }
 
-        TestResult httpResult = testHttpBatch(totalCount, batchSize);
+    private void saveBatchTuningResults(Map<String, BatchTuningResult> results, Map<String, List<TestResult>> resultsByLabel,
+                                        int itemsPerPoint, int concurrency, int refineRounds) {
+        String filePath = resolveDocsPath("response-batch-tuning.md");
+        try (FileWriter writer = new FileWriter(filePath)) {
+            writer.write("# 프로토콜별 배치 크기 탐색 결과\n\n");
+            writer.write("## 테스트 설정\n\n");
+            writer.write(String.format("- 측정점당 요청 건수: %,d건 (배치 %d회 이상)\n", itemsPerPoint, TUNING_MIN_BATCHES_PER_POINT));
+            writer.write(String.format("- 동시 요청 수: %d\n", concurrency));
+            writer.write(String.format("- 탐색: 약 3.16배 간격 coarse 측정 후 최고점 주변 로그 중간점으로 %d회 좁힘\n", refineRounds));
+            writer.write(String.format("- 응답 크기 상한: gRPC %,d bytes (max-inbound-message-size), HTTP %,d bytes (코덱 maxInMemorySize), 각각 %.0f%%까지 사용\n\n",
+                grpcMaxInboundMessageSize.toBytes(), HttpDataClient.MAX_IN_MEMORY_SIZE, MESSAGE_LIMIT_HEADROOM * 100));
+
+            writer.write("## 최적 배치 크기\n\n");
+            writer.write("| 프로토콜 | 건당 응답 (bytes) | 최대 배치 | 최적 배치 | 최적 처리량 (건/초) | 95% 구간 | 측정점 수 |\n");
+            writer.write("|----------|-------------------|-----------|-----------|---------------------|----------|-----------|\n");
+            for (BatchTuningResult result : results.values()) {
+                writer.write(String.format("| %s | %,.1f | %,d | %,d | %,.2f | %,d ~ %,d | %d |\n",
+                    result.getProtocol(),
+                    result.getBytesPerItem(),
+                    result.getMaxBatchSize(),
+                    result.getOptimalBatchSize(),
+                    result.getOptimalThroughput(),
+                    result.getPlateauMinBatchSize(),
+                    result.getPlateauMaxBatchSize(),
+                    result.getPoints().size()));
+            }
+            writer.write("\n");
 
-        // 테스트 간 대기
-        log.info("Waiting between tests...");
-        System.gc();
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
+            for (BatchTuningResult result : results.values()) {
+                writer.write(String.format("## %s 처리량/지연 곡선\n\n", result.getProtocol()));
+                writer.write("| 배치 크기 | 단계 | 처리량 (건/초) | 최적 대비 | p50 (ms) | p99 (ms) | 할당량 (MB) | 실패 |\n");
+                writer.write("|-----------|------|----------------|-----------|----------|----------|-------------|------|\n");
+                for (BatchTuningPoint point : result.getPoints()) {
+                    writer.write(String.format("| %,d%s | %s | %,.2f | %.1f%% | %.2f | %.2f | %,.2f | %,d |\n",
+                        point.getBatchSize(),
+                        point.getBatchSize() == result.getOptimalBatchSize() ? " *" : "",
+                        point.getPhase(),
+                        point.getThroughput(),
+                        result.getOptimalThroughput() > 0 ? point.getThroughput() / result.getOptimalThroughput() * 100 : 0,
+                        point.getP50Ms(),
+                        point.getP99Ms(),
+                        point.getAllocatedMB(),
+                        point.getFailCount()));
+                }
+                writer.write("\n");
+            }
 
-        TestResult grpcResult = testGrpcBatch(totalCount, batchSize);
+            writeLatencySection(writer, resultsByLabel);
 
-        // 결과를 파일로 저장
-        saveResultsToFile(httpResult, grpcResult, totalCount, batchSize);
+            writer.write("**참고사항**:\n");
+            writer.write("- 측정점마다 한 번씩만 실행하므로 95% 구간 안의 차이는 측정 노이즈일 수 있습니다. 구간 안에서는 지연(p99)이 낮은 쪽을 고르는 것을 권장합니다.\n");
+            writer.write("- 네트워크 지연(Toxiproxy)이 있으면 왕복 비용이 커져 최적 배치가 커지는 경향이 있으므로 환경별로 다시 탐색하세요.\n");
+            writer.write("- 최대 배치는 응답 크기 상한에서 계산하므로 상한을 바꾸려면 `GRPC_MAX_INBOUND_MESSAGE_SIZE` 또는 `HttpDataClient.MAX_IN_MEMORY_SIZE`를 조정하세요.\n");
+
+            log.info("Batch size tuning results saved to " + filePath);
+        } catch (IOException e) {
+            log.error("Failed to save results to file", e);
+        }
     }
 
     /**
-     * 10회 반복 테스트를 수행하고 평균 결과를 저장
+     * 레플리카 확장 비교 - (HTTP, gRPC) x (pick_first, round_robin)을 번갈아 runs회 실행하고 response-replicas.md에 저장
+     * pick_first는 레플리카 하나에 고정되므로 단일 레플리카 기준선 역할을 함
      */
-    public void compareAndSaveResultsWithMultipleRuns(int totalCount, int batchSize, int runs, int intervalSeconds, boolean withLatency) {
-        log.info("Starting {} runs of performance comparison test with {} seconds interval (latency: {})",
-            runs, intervalSeconds, withLatency ? "enabled" : "disabled");
-
-        // 서버 측 메트릭 초기화
-        try {
-            httpDataClient.clearServerMetrics().block();
-            log.info("Cleared server-side metrics before test");
-        } catch (Exception e) {
-            log.warn("Failed to clear server metrics", e);
+    public Map<String, List<TestResult>> compareReplicasAndSave(int totalCount, int batchSize, int concurrency, int runs) {
+        List<String> transports = List.of("HTTP", "gRPC");
+        List<URI> httpReplicas = replicaPoolClient.refreshHttpReplicas();
+        Map<String, List<TestResult>> resultsByLabel = new LinkedHashMap<>();
+
+        for (int run = 0; run < runs && !isCancelled(); run++) {
+            for (String transport : transports) {
+                for (LoadBalancingPolicy policy : LoadBalancingPolicy.values()) {
+                    pauseBetweenTests();
+                    TestResult result = testReplicaBatch(transport, policy, totalCount, batchSize, concurrency);
+                    resultsByLabel.computeIfAbsent(result.protocol, label -> new ArrayList<>()).add(result);
+                }
+            }
         }
 
-        List<TestResult> httpResults = new ArrayList<>();
-        List<TestResult> grpcResults = new ArrayList<>();
-
-        for (int run = 1; run <= runs; run++) {
-            log.info("===== Run {}/{} =====", run, runs);
+        String filePath = resolveDocsPath("response-replicas.md");
+        try (FileWriter writer = new FileWriter(filePath)) {
+            writer.write("# Service B 레플리카 확장 비교 결과 (클라이언트 측 로드밸런싱)\n\n");
+            writer.write("## 테스트 설정\n\n");
+            writer.write(String.format("- 총 데이터 건수: %,d건\n", totalCount));
+            writer.write(String.format("- 배치 크기: %,d건\n", batchSize));
+            writer.write(String.format("- 동시 요청 수: %d\n", concurrency));
+            writer.write(String.format("- 반복 횟수: %d회 (네 조합을 번갈아 실행)\n", runs));
+            writer.write(String.format("- gRPC 대상: `%s`\n", replicaPoolClient.getGrpcTarget()));
+            writer.write(String.format("- HTTP 레플리카 (%d개): %s\n\n", httpReplicas.size(), httpReplicas));
+
+            writer.write("## 결과 (평균)\n\n");
+            writer.write("| 조합 | 처리량 (건/초) | pick_first 대비 | 응답한 레플리카 수 | 최대 점유율 | p50 (ms) | p99 (ms) | CPU 시간 (ms) | 실패 |\n");
+            writer.write("|------|----------------|-----------------|--------------------|-------------|----------|----------|---------------|------|\n");
+            for (Map.Entry<String, List<TestResult>> entry : resultsByLabel.entrySet()) {
+                List<TestResult> results = entry.getValue();
+                String transport = entry.getKey().substring(0, entry.getKey().indexOf('/'));
+                List<TestResult> baseline = resultsByLabel.get(transport + "/" + LoadBalancingPolicy.PICK_FIRST.getPolicyName());
+                double throughput = results.stream().mapToDouble(TestResult::getThroughput).average().orElse(0);
+                double baselineThroughput = baseline != null
+                    ? baseline.stream().mapToDouble(TestResult::getThroughput).average().orElse(0) : 0;
+                Map<String, Long> distribution = mergeReplicaDistribution(results);
+                long totalBatches = distribution.values().stream().mapToLong(Long::longValue).sum();
+                long maxBatches = distribution.values().stream().mapToLong(Long::longValue).max().orElse(0);
+
+                writer.write(String.format("| %s | %,.2f | %s | %d | %s | %.2f | %.2f | %,.2f | %,.0f |\n",
+                    entry.getKey(),
+                    throughput,
+                    baselineThroughput > 0 ? String.format("%.2fx", throughput / baselineThroughput) : "-",
+                    distribution.size(),
+                    totalBatches > 0 ? String.format("%.1f%%", maxBatches * 100.0 / totalBatches) : "-",
+                    results.stream().mapToDouble(r -> r.getLatencyPercentileMs(50)).average().orElse(0),
+                    results.stream().mapToDouble(r -> r.getLatencyPercentileMs(99)).average().orElse(0),
+                    results.stream().mapToDouble(r -> r.resourceUsage.getCpuTimeMs()).average().orElse(0),
+                    results.stream().mapToInt(r -> r.failCount).average().orElse(0)));
+            }
+            writer.write("\n");
 
-            // GC 실행
-            System.gc();
-            try {
-                Thread.sleep(1000);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
+            writer.write("## 레플리카별 요청 분포 (전체 회차 합계, 배치 수)\n\n");
+            for (Map.Entry<String, List<TestResult>> entry : resultsByLabel.entrySet()) {
+                Map<String, Long> distribution = mergeReplicaDistribution(entry.getValue());
+                long totalBatches = distribution.values().stream().mapToLong(Long::longValue).sum();
+
+                writer.write(String.format("### %s\n\n", entry.getKey()));
+                writer.write("| 레플리카 | 배치 수 | 비율 |\n");
+                writer.write("|----------|--------|------|\n");
+                for (Map.Entry<String, Long> replica : distribution.entrySet()) {
+                    writer.write(String.format("| %s | %,d | %.1f%% |\n", replica.getKey(), replica.getValue(),
+                        totalBatches > 0 ? replica.getValue() * 100.0 / totalBatches : 0));
+                }
+                writer.write("\n");
             }
 
-            TestResult httpResult = testHttpBatch(totalCount, batchSize);
-            httpResults.add(httpResult);
+            writeLatencySection(writer, resultsByLabel);
 
-            // 테스트 간 대기
-            log.info("Waiting between HTTP and gRPC tests...");
-            System.gc();
-            try {
-                Thread.sleep(2000);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-            }
+            writer.write("**참고사항**:\n");
+            writer.write("- gRPC pick_first는 HTTP/2 연결 하나를 계속 재사용하므로 레플리카를 늘려도 한 레플리카만 요청을 받습니다.\n");
+            writer.write("- gRPC round_robin은 레플리카마다 연결을 하나씩 만들고 호출마다 돌아가며 보냅니다.\n");
+            writer.write("- HTTP는 요청마다 대상 URL을 고르므로 연결 풀도 레플리카별로 생깁니다.\n");
+            writer.write("- `dns:///` 대상은 연결 실패나 재해석 주기에만 주소를 다시 읽으므로 테스트 중 늘린 레플리카는 바로 반영되지 않을 수 있습니다.\n");
+            writer.write("- 응답한 레플리카가 1개뿐이면 레플리카 설정(`SERVICE_B_GRPC_REPLICAS`, `SERVICE_B_HTTP_REPLICAS`)을 확인하세요.\n");
 
-            TestResult grpcResult = testGrpcBatch(totalCount, batchSize);
-            grpcResults.add(grpcResult);
+            log.info("Replica comparison results saved to " + filePath);
+        } catch (IOException e) {
+            log.error("Failed to save results to file", e);
+        }
 
-            // 다음 회차 전 대기 (마지막 회차가 아닐 경우)
-            if (run < runs) {
-                log.info("Waiting {} seconds before next run...", intervalSeconds);
-                try {
-                    Thread.sleep(intervalSeconds * 1000L);
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                }
+        Map<String, Object> config = new LinkedHashMap<>();
+        config.put("totalCount", totalCount);
+        config.put("batchSize", batchSize);
+        config.put("concurrency", concurrency);
+        config.put("httpReplicas", httpReplicas.size());
+        historyStore.append("replicas", config, resultsByLabel);
+        return resultsByLabel;
+    }
+
+    /**
+     * 회차별 레플리카 분포를 합침 (레플리카 ID 순)
+     */
+    private Map<String, Long> mergeReplicaDistribution(List<TestResult> results) {
+        Map<String, Long> merged = new TreeMap<>();
+        for (TestResult result : results) {
+            if (result.batchesByReplica != null) {
+                result.batchesByReplica.forEach((replica, count) -> merged.merge(replica, count, Long::sum));
             }
         }
+        return merged;
+    }
 
-        // Service B로부터 서버 측 메트릭 수집
-        Map<String, List<ServerPerformanceMetrics>> serverMetrics = null;
+    private void clearServerMetricsQuietly() {
         try {
-            serverMetrics = httpDataClient.getServerMetrics().block();
-            log.info("Collected server-side metrics from Service B");
+            httpDataClient.clearServerMetrics().block();
         } catch (Exception e) {
-            log.error("Failed to collect server metrics from Service B", e);
+            log.warn("Failed to clear server metrics: {}", e.getMessage());
+        }
+    }
+
+    private List<ServerPerformanceMetrics> fetchServerMetrics(String protocol) {
+        try {
+            Map<String, List<ServerPerformanceMetrics>> metrics = httpDataClient.getServerMetrics().block();
+            return metrics != null ? metrics.getOrDefault(protocol, List.of()) : List.of();
+        } catch (Exception e) {
+            log.warn("Failed to fetch server metrics: {}", e.getMessage());
+            return List.of();
         }
+    }
 
-        // 결과를 파일로 저장
-        saveMultipleRunsResultsToFile(httpResults, grpcResults, serverMetrics, totalCount, batchSize, withLatency);
+    /**
+     * 포맷(행) x 전송(열) 표 하나를 기록
+     */
+    private void writeFormatMatrix(FileWriter writer, String title, Map<String, TestResult> results,
+                                   List<String> transports, ToDoubleFunction<TestResult> metric) throws IOException {
+        writer.write(String.format("### %s\n\n", title));
+        writer.write("| 포맷 | " + String.join(" | ", transports) + " |\n");
+        writer.write("|------|" + "------|".repeat(transports.size()) + "\n");
+        for (WireFormat format : WireFormat.values()) {
+            StringBuilder row = new StringBuilder("| " + format.name() + " |");
+            for (String transport : transports) {
+                TestResult result = results.get(transport + "/" + format.name());
+                row.append(result != null ? String.format(" %,.2f |", metric.applyAsDouble(result)) : " - |");
+            }
+            writer.write(row + "\n");
+        }
+        writer.write("\n");
+    }
+
+    /**
+     * Docker 환경에서는 /docs, 로컬에서는 ../docs 사용 (다른 보고서/이력 파일도 같은 위치에 저장)
+     */
+    static String resolveDocsPath(String fileName) {
+        return new java.io.File("/docs").exists() ? "/docs/" + fileName : "../docs/" + fileName;
     }
 
     /**
      * 결과를 response-basic.md 파일에 저장
      */
-    private void saveResultsToFile(TestResult httpResult, TestResult grpcResult, int totalCount, int batchSize) {
-        // Docker 환경에서는 /docs, 로컬에서는 ../docs 사용
-        String filePath = new java.io.File("/docs").exists() ? "/docs/response-basic.md" : "../docs/response-basic.md";
+    private void saveResultsToFile(TestResult httpResult, TestResult grpcResult,
+                                   TestResult httpStreamResult, TestResult grpcStreamResult,
+                                   int totalCount, int batchSize, int concurrency) {
+        String filePath = resolveDocsPath("response-basic.md");
         try (FileWriter writer = new FileWriter(filePath)) {
             writer.write("# HTTP vs gRPC 성능 비교 결과\n\n");
             writer.write("## 테스트 설정\n\n");
             writer.write(String.format("- 총 데이터 건수: %,d건\n", totalCount));
             writer.write(String.format("- 배치 크기: %,d건\n", batchSize));
-            writer.write(String.format("- 데이터 크기: 약 2KB/건\n"));
-            writer.write(String.format("- 총 데이터 크기: 약 %.2f MB\n\n", (totalCount * 2.0) / 1024));
+            writer.write(String.format("- 동시 요청 수 (in-flight 배치): %d (스트리밍은 순차 실행)\n", concurrency));
+            writer.write(String.format("- 건당 직렬화 크기 (측정): HTTP JSON %,.1f bytes, gRPC Protobuf %,.1f bytes\n",
+                httpResult.getResponseBytesPerItem(), grpcResult.getResponseBytesPerItem()));
+            writer.write(String.format("- 총 응답 크기 (측정): HTTP %.2f MB, gRPC %.2f MB\n\n",
+                httpResult.wireBytes.getResponseMB(), grpcResult.wireBytes.getResponseMB()));
 
             writer.write("## 테스트 결과\n\n");
             writer.write("### HTTP 결과\n\n");
@@ -322,6 +2258,31 @@ public class PerformanceTestService {
             writer.write(String.format("- 실패: %,d건\n", grpcResult.failCount));
             writer.write(String.format("- 메모리 사용량: %.2f MB\n\n", grpcResult.memoryUsedBytes / (1024.0 * 1024.0)));
 
+            writer.write("### gRPC Streaming 결과\n\n");
+            writer.write(String.format("- 소요 시간: %,d ms (%.2f초)\n", grpcStreamResult.durationMs, grpcStreamResult.durationMs / 1000.0));
+            writer.write(String.format("- 처리량: %.2f 건/초\n", grpcStreamResult.getThroughput()));
+            writer.write(String.format("- 성공: %,d건\n", grpcStreamResult.successCount));
+            writer.write(String.format("- 실패: %,d건\n", grpcStreamResult.failCount));
+            writer.write(String.format("- 메모리 사용량: %.2f MB\n", grpcStreamResult.memoryUsedBytes / (1024.0 * 1024.0)));
+            writer.write(String.format("- 첫 데이터 수신까지 평균: %.2f ms\n\n", grpcStreamResult.avgFirstItemLatencyMs));
+
+            writer.write("### HTTP Streaming (NDJSON) 결과\n\n");
+            writer.write(String.format("- 소요 시간: %,d ms (%.2f초)\n", httpStreamResult.durationMs, httpStreamResult.durationMs / 1000.0));
+            writer.write(String.format("- 처리량: %.2f 건/초\n", httpStreamResult.getThroughput()));
+            writer.write(String.format("- 성공: %,d건\n", httpStreamResult.successCount));
+            writer.write(String.format("- 실패: %,d건\n", httpStreamResult.failCount));
+            writer.write(String.format("- 메모리 사용량: %.2f MB\n", httpStreamResult.memoryUsedBytes / (1024.0 * 1024.0)));
+            writer.write(String.format("- 첫 데이터 수신까지 평균: %.2f ms\n\n", httpStreamResult.avgFirstItemLatencyMs));
+
+            Map<String, List<TestResult>> resultsByProtocol = new LinkedHashMap<>();
+            resultsByProtocol.put("HTTP", List.of(httpResult));
+            resultsByProtocol.put("gRPC", List.of(grpcResult));
+            resultsByProtocol.put("gRPC Streaming", List.of(grpcStreamResult));
+            resultsByProtocol.put("HTTP Streaming (NDJSON)", List.of(httpStreamResult));
+            writeResourceUsageTable(writer, resultsByProtocol);
+            writeWireBytesTable(writer, resultsByProtocol);
+            writeLatencySection(writer, resultsByProtocol);
+
             writer.write("## 비교 분석\n\n");
 
             double speedRatio = (double) httpResult.durationMs / grpcResult.durationMs;
@@ -333,27 +2294,59 @@ public class PerformanceTestService {
             writer.write(String.format("- HTTP 소요 시간: %.2f초\n", httpResult.durationMs / 1000.0));
             writer.write(String.format("- gRPC 소요 시간: %.2f초\n\n", grpcResult.durationMs / 1000.0));
 
-            double memoryRatio = (double) httpResult.memoryUsedBytes / grpcResult.memoryUsedBytes;
+            // 힙 사용량 차이는 GC 타이밍에 따라 흔들리므로 메모리 비교는 할당량 기준
+            double memoryRatio = httpResult.resourceUsage.getAllocatedMB() / grpcResult.resourceUsage.getAllocatedMB();
             String lessMemoryProtocol = memoryRatio > 1 ? "gRPC" : "HTTP";
             double memoryImprovement = Math.abs(memoryRatio - 1) * 100;
 
-            writer.write(String.format("### 메모리 사용량 비교\n\n"));
-            writer.write(String.format("- %s가 약 %.2f%% 더 적은 메모리 사용\n", lessMemoryProtocol, memoryImprovement));
-            writer.write(String.format("- HTTP 메모리: %.2f MB\n", httpResult.memoryUsedBytes / (1024.0 * 1024.0)));
-            writer.write(String.format("- gRPC 메모리: %.2f MB\n\n", grpcResult.memoryUsedBytes / (1024.0 * 1024.0)));
+            writer.write(String.format("### 메모리 할당량 비교\n\n"));
+            writer.write(String.format("- %s가 약 %.2f%% 더 적게 할당\n", lessMemoryProtocol, memoryImprovement));
+            writer.write(String.format("- HTTP 할당량: %.2f MB (CPU %.2f ms, GC %d회)\n", httpResult.resourceUsage.getAllocatedMB(),
+                httpResult.resourceUsage.getCpuTimeMs(), httpResult.resourceUsage.getGcCount()));
+            writer.write(String.format("- gRPC 할당량: %.2f MB (CPU %.2f ms, GC %d회)\n", grpcResult.resourceUsage.getAllocatedMB(),
+                grpcResult.resourceUsage.getCpuTimeMs(), grpcResult.resourceUsage.getGcCount()));
+            writer.write(String.format("- 참고 - 힙 사용량 차이: HTTP %.2f MB, gRPC %.2f MB\n\n",
+                httpResult.memoryUsedBytes / (1024.0 * 1024.0), grpcResult.memoryUsedBytes / (1024.0 * 1024.0)));
+
+            double httpResponseMB = httpResult.wireBytes.getResponseMB();
+            double grpcResponseMB = grpcResult.wireBytes.getResponseMB();
+            writer.write("### 전송 크기 비교 (측정값)\n\n");
+            writer.write(String.format("- gRPC(Protobuf) 응답 크기는 HTTP(JSON)의 %.2f%%\n",
+                httpResponseMB > 0 ? grpcResponseMB / httpResponseMB * 100 : 0));
+            writer.write(String.format("- HTTP: %.2f MB, %.2f MB/s\n", httpResponseMB, httpResult.getResponseMBPerSecond()));
+            writer.write(String.format("- gRPC: %.2f MB, %.2f MB/s\n\n", grpcResponseMB, grpcResult.getResponseMBPerSecond()));
+
+            writer.write("### gRPC 단건(Unary) vs 스트리밍 비교\n\n");
+            writer.write("| 방식 | 소요 시간 (ms) | 처리량 (건/초) | 메모리 사용량 (MB) |\n");
+            writer.write("|------|---------------|---------------|-------------------|\n");
+            writer.write(String.format("| Unary | %,d | %.2f | %.2f |\n", grpcResult.durationMs,
+                grpcResult.getThroughput(), grpcResult.memoryUsedBytes / (1024.0 * 1024.0)));
+            writer.write(String.format("| Streaming | %,d | %.2f | %.2f |\n\n", grpcStreamResult.durationMs,
+                grpcStreamResult.getThroughput(), grpcStreamResult.memoryUsedBytes / (1024.0 * 1024.0)));
+
+            writer.write("### HTTP 단건 JSON vs NDJSON 스트리밍 비교\n\n");
+            writer.write("| 방식 | 소요 시간 (ms) | 처리량 (건/초) | 메모리 사용량 (MB) |\n");
+            writer.write("|------|---------------|---------------|-------------------|\n");
+            writer.write(String.format("| JSON (BatchDataResponse) | %,d | %.2f | %.2f |\n", httpResult.durationMs,
+                httpResult.getThroughput(), httpResult.memoryUsedBytes / (1024.0 * 1024.0)));
+            writer.write(String.format("| NDJSON Streaming | %,d | %.2f | %.2f |\n\n", httpStreamResult.durationMs,
+                httpStreamResult.getThroughput(), httpStreamResult.memoryUsedBytes / (1024.0 * 1024.0)));
 
             writer.write("## 결론\n\n");
-            writer.write(String.format("40만 건의 데이터(약 %.2f MB) 전송 시:\n\n", (totalCount * 2.0) / 1024));
+            writer.write(String.format("%,d건의 데이터(JSON %.2f MB / Protobuf %.2f MB) 전송 시:\n\n",
+                totalCount, httpResponseMB, grpcResponseMB));
             writer.write(String.format("1. **속도**: %s가 %s보다 %.2f%% 빠름\n", fasterProtocol,
                 fasterProtocol.equals("gRPC") ? "HTTP" : "gRPC", speedImprovement));
-            writer.write(String.format("2. **메모리**: %s가 %s보다 %.2f%% 적은 메모리 사용\n", lessMemoryProtocol,
+            writer.write(String.format("2. **메모리**: %s가 %s보다 %.2f%% 적게 할당\n", lessMemoryProtocol,
                 lessMemoryProtocol.equals("gRPC") ? "HTTP" : "gRPC", memoryImprovement));
-            writer.write(String.format("3. **처리량**: HTTP %.2f 건/초 vs gRPC %.2f 건/초\n\n",
+            writer.write(String.format("3. **처리량**: HTTP %.2f 건/초 vs gRPC %.2f 건/초\n",
                 httpResult.getThroughput(), grpcResult.getThroughput()));
+            writer.write(String.format("4. **전송 크기**: 건당 HTTP %,.1f bytes vs gRPC %,.1f bytes\n\n",
+                httpResult.getResponseBytesPerItem(), grpcResult.getResponseBytesPerItem()));
 
             writer.write("**참고사항**:\n");
             writer.write("- gRPC는 HTTP/2 기반으로 멀티플렉싱, 헤더 압축 등의 이점이 있습니다.\n");
-            writer.write("- Protocol Buffers는 JSON보다 직렬화/역직렬화가 빠르고 크기가 작습니다.\n");
+            writer.write("- Protocol Buffers와 JSON의 크기 차이는 위 전송 바이트 표의 측정값(HTTP 본문, gRPC 메시지 기준 - 헤더 제외)입니다.\n");
             writer.write("- 네트워크 환경, 데이터 크기, 배치 크기 등에 따라 결과가 달라질 수 있습니다.\n");
 
             log.info("Results saved to docs/response-basic-multiple.md");
@@ -366,19 +2359,24 @@ public class PerformanceTestService {
      * 10회 반복 테스트 결과를 파일에 저장
      */
     private void saveMultipleRunsResultsToFile(List<TestResult> httpResults, List<TestResult> grpcResults,
+                                                List<TestResult> httpStreamResults, List<TestResult> grpcStreamResults,
                                                 Map<String, List<ServerPerformanceMetrics>> serverMetrics,
-                                                int totalCount, int batchSize, boolean withLatency) {
+                                                Map<String, PayloadCacheStats> cacheStats,
+                                                int totalCount, int batchSize, int concurrency, boolean withLatency) {
         // 파일명 결정: latency 여부에 따라 분기
         String fileName = withLatency ? "response-latency-multiple.md" : "response-basic-multiple.md";
-        String filePath = new java.io.File("/docs").exists() ? "/docs/" + fileName : "../docs/" + fileName;
+        String filePath = resolveDocsPath(fileName);
 
         try (FileWriter writer = new FileWriter(filePath)) {
             writer.write("# HTTP vs gRPC 성능 비교 결과 (10회 평균)\n\n");
             writer.write("## 테스트 설정\n\n");
             writer.write(String.format("- 총 데이터 건수: %,d건\n", totalCount));
             writer.write(String.format("- 배치 크기: %,d건\n", batchSize));
-            writer.write(String.format("- 데이터 크기: 약 2KB/건\n"));
-            writer.write(String.format("- 총 데이터 크기: 약 %.2f MB\n", (totalCount * 2.0) / 1024));
+            writer.write(String.format("- 동시 요청 수 (in-flight 배치): %d (스트리밍은 순차 실행)\n", concurrency));
+            writer.write(String.format("- 건당 직렬화 크기 (측정, 평균): HTTP JSON %,.1f bytes, gRPC Protobuf %,.1f bytes\n",
+                averageResponseBytesPerItem(httpResults), averageResponseBytesPerItem(grpcResults)));
+            writer.write(String.format("- 총 응답 크기 (측정, 평균): HTTP %.2f MB, gRPC %.2f MB\n",
+                averageResponseMB(httpResults), averageResponseMB(grpcResults)));
             writer.write(String.format("- 테스트 반복 횟수: %d회\n", httpResults.size()));
             writer.write(String.format("- 네트워크 지연: %s\n\n", withLatency ? "활성화 (Toxiproxy 2ms ± 5ms)" : "비활성화"));
 
@@ -412,6 +2410,9 @@ public class PerformanceTestService {
             }
             writer.write("\n");
 
+            writeStreamingRunsTable(writer, "gRPC Streaming (Server Streaming)", grpcStreamResults);
+            writeStreamingRunsTable(writer, "HTTP Streaming (NDJSON)", httpStreamResults);
+
             // 평균 계산
             double avgHttpDuration = httpResults.stream().mapToLong(r -> r.durationMs).average().orElse(0);
             double avgHttpThroughput = httpResults.stream().mapToDouble(r -> r.getThroughput()).average().orElse(0);
@@ -421,12 +2422,31 @@ public class PerformanceTestService {
             double avgGrpcThroughput = grpcResults.stream().mapToDouble(r -> r.getThroughput()).average().orElse(0);
             double avgGrpcMemory = grpcResults.stream().mapToLong(r -> r.memoryUsedBytes).average().orElse(0) / (1024.0 * 1024.0);
 
+            double avgGrpcStreamDuration = grpcStreamResults.stream().mapToLong(r -> r.durationMs).average().orElse(0);
+            double avgGrpcStreamThroughput = grpcStreamResults.stream().mapToDouble(r -> r.getThroughput()).average().orElse(0);
+            double avgGrpcStreamMemory = grpcStreamResults.stream().mapToLong(r -> r.memoryUsedBytes).average().orElse(0) / (1024.0 * 1024.0);
+
+            double avgHttpStreamDuration = httpStreamResults.stream().mapToLong(r -> r.durationMs).average().orElse(0);
+            double avgHttpStreamThroughput = httpStreamResults.stream().mapToDouble(r -> r.getThroughput()).average().orElse(0);
+            double avgHttpStreamMemory = httpStreamResults.stream().mapToLong(r -> r.memoryUsedBytes).average().orElse(0) / (1024.0 * 1024.0);
+
             // 평균 결과
             writer.write("## 평균 테스트 결과\n\n");
             writer.write("| 프로토콜 | 평균 소요 시간 (ms) | 평균 처리량 (건/초) | 평균 메모리 사용량 (MB) |\n");
             writer.write("|---------|-------------------|-------------------|----------------------|\n");
             writer.write(String.format("| HTTP | %.2f | %.2f | %.2f |\n", avgHttpDuration, avgHttpThroughput, avgHttpMemory));
-            writer.write(String.format("| gRPC | %.2f | %.2f | %.2f |\n\n", avgGrpcDuration, avgGrpcThroughput, avgGrpcMemory));
+            writer.write(String.format("| gRPC | %.2f | %.2f | %.2f |\n", avgGrpcDuration, avgGrpcThroughput, avgGrpcMemory));
+            writer.write(String.format("| gRPC Streaming | %.2f | %.2f | %.2f |\n", avgGrpcStreamDuration, avgGrpcStreamThroughput, avgGrpcStreamMemory));
+            writer.write(String.format("| HTTP Streaming (NDJSON) | %.2f | %.2f | %.2f |\n\n", avgHttpStreamDuration, avgHttpStreamThroughput, avgHttpStreamMemory));
+
+            Map<String, List<TestResult>> resultsByProtocol = new LinkedHashMap<>();
+            resultsByProtocol.put("HTTP", httpResults);
+            resultsByProtocol.put("gRPC", grpcResults);
+            resultsByProtocol.put("gRPC Streaming", grpcStreamResults);
+            resultsByProtocol.put("HTTP Streaming (NDJSON)", httpStreamResults);
+            writeResourceUsageTable(writer, resultsByProtocol);
+            writeWireBytesTable(writer, resultsByProtocol);
+            writeLatencySection(writer, resultsByProtocol);
 
             // 비교 분석
             writer.write("## 비교 분석\n\n");
@@ -452,14 +2472,30 @@ public class PerformanceTestService {
             writer.write(String.format("- HTTP 평균 처리량: %.2f 건/초\n", avgHttpThroughput));
             writer.write(String.format("- gRPC 평균 처리량: %.2f 건/초\n\n", avgGrpcThroughput));
 
-            double memoryRatio = avgHttpMemory / avgGrpcMemory;
+            // 힙 사용량 차이는 GC 타이밍에 따라 흔들리므로 메모리 비교는 할당량 기준
+            double avgHttpAllocated = averageAllocatedMB(httpResults);
+            double avgGrpcAllocated = averageAllocatedMB(grpcResults);
+            double memoryRatio = avgHttpAllocated / avgGrpcAllocated;
             String lessMemoryProtocol = memoryRatio > 1 ? "gRPC" : "HTTP";
             double memoryImprovement = Math.abs(memoryRatio - 1) * 100;
 
-            writer.write("### 메모리 사용량 비교\n\n");
-            writer.write(String.format("- **%s가 평균 %.2f%% 더 적은 메모리 사용**\n", lessMemoryProtocol, memoryImprovement));
-            writer.write(String.format("- HTTP 평균 메모리: %.2f MB\n", avgHttpMemory));
-            writer.write(String.format("- gRPC 평균 메모리: %.2f MB\n\n", avgGrpcMemory));
+            writer.write("### 메모리 할당량 비교\n\n");
+            writer.write(String.format("- **%s가 평균 %.2f%% 더 적게 할당**\n", lessMemoryProtocol, memoryImprovement));
+            writer.write(String.format("- HTTP 평균 할당량: %.2f MB\n", avgHttpAllocated));
+            writer.write(String.format("- gRPC 평균 할당량: %.2f MB\n", avgGrpcAllocated));
+            writer.write(String.format("- 참고 - 평균 힙 사용량 차이: HTTP %.2f MB, gRPC %.2f MB\n\n", avgHttpMemory, avgGrpcMemory));
+
+            writer.write("### gRPC 단건(Unary) vs 스트리밍 비교\n\n");
+            writer.write(String.format("- Unary 평균 처리량: %.2f 건/초, 평균 메모리: %.2f MB\n", avgGrpcThroughput, avgGrpcMemory));
+            writer.write(String.format("- Streaming 평균 처리량: %.2f 건/초, 평균 메모리: %.2f MB\n", avgGrpcStreamThroughput, avgGrpcStreamMemory));
+            writer.write(String.format("- Streaming 첫 데이터 수신까지 평균: %.2f ms\n\n",
+                grpcStreamResults.stream().mapToDouble(r -> r.avgFirstItemLatencyMs).average().orElse(0)));
+
+            writer.write("### HTTP 단건 JSON vs NDJSON 스트리밍 비교\n\n");
+            writer.write(String.format("- JSON 평균 처리량: %.2f 건/초, 평균 메모리: %.2f MB\n", avgHttpThroughput, avgHttpMemory));
+            writer.write(String.format("- NDJSON 평균 처리량: %.2f 건/초, 평균 메모리: %.2f MB\n", avgHttpStreamThroughput, avgHttpStreamMemory));
+            writer.write(String.format("- NDJSON 첫 데이터 수신까지 평균: %.2f ms\n\n",
+                httpStreamResults.stream().mapToDouble(r -> r.avgFirstItemLatencyMs).average().orElse(0)));
 
             // 서버 측 성능 측정 결과 추가
             if (serverMetrics != null && !serverMetrics.isEmpty()) {
@@ -471,50 +2507,94 @@ public class PerformanceTestService {
 
                 if (httpServerMetrics != null && !httpServerMetrics.isEmpty()) {
                     writer.write("### HTTP Server 측정 결과\n\n");
-                    writer.write("| 회차 | 소요 시간 (ms) | 데이터 생성 (ms) | 직렬화 (ms) | 메모리 (MB) |\n");
-                    writer.write("|------|---------------|----------------|------------|------------|\n");
+                    writer.write("| 회차 | 소요 시간 (ms) | 데이터 생성 (ms) | 직렬화 (ms) | 메모리 (MB) | 할당 (MB) | CPU (ms) | GC 횟수 | GC 시간 (ms) |\n");
+                    writer.write("|------|---------------|----------------|------------|------------|----------|----------|---------|-------------|\n");
 
                     for (int i = 0; i < httpServerMetrics.size(); i++) {
                         ServerPerformanceMetrics m = httpServerMetrics.get(i);
-                        writer.write(String.format("| %d회 | %,d | %,d | %,d | %.2f |\n",
+                        writer.write(String.format("| %d회 | %,d | %,d | %,d | %.2f | %.2f | %.2f | %d | %,d |\n",
                             i + 1,
                             m.getDurationMs(),
                             m.getDataGenerationMs(),
                             m.getSerializationMs(),
-                            m.getMemoryUsedMB()));
+                            m.getMemoryUsedMB(),
+                            m.getAllocatedMB(),
+                            m.getCpuTimeMs(),
+                            m.getGcCount(),
+                            m.getGcTimeMs()));
                     }
 
                     double avgServerHttpDuration = httpServerMetrics.stream().mapToLong(ServerPerformanceMetrics::getDurationMs).average().orElse(0);
                     double avgServerHttpDataGen = httpServerMetrics.stream().mapToLong(ServerPerformanceMetrics::getDataGenerationMs).average().orElse(0);
                     double avgServerHttpSerialization = httpServerMetrics.stream().mapToLong(ServerPerformanceMetrics::getSerializationMs).average().orElse(0);
                     double avgServerHttpMemory = httpServerMetrics.stream().mapToDouble(ServerPerformanceMetrics::getMemoryUsedMB).average().orElse(0);
-
-                    writer.write(String.format("| **평균** | **%.2f** | **%.2f** | **%.2f** | **%.2f** |\n\n",
-                        avgServerHttpDuration, avgServerHttpDataGen, avgServerHttpSerialization, avgServerHttpMemory));
+                    double avgServerHttpAllocated = httpServerMetrics.stream().mapToDouble(ServerPerformanceMetrics::getAllocatedMB).average().orElse(0);
+                    double avgServerHttpCpu = httpServerMetrics.stream().mapToDouble(ServerPerformanceMetrics::getCpuTimeMs).average().orElse(0);
+                    double avgServerHttpGcCount = httpServerMetrics.stream().mapToLong(ServerPerformanceMetrics::getGcCount).average().orElse(0);
+                    double avgServerHttpGcTime = httpServerMetrics.stream().mapToLong(ServerPerformanceMetrics::getGcTimeMs).average().orElse(0);
+
+                    writer.write(String.format("| **평균** | **%.2f** | **%.2f** | **%.2f** | **%.2f** | **%.2f** | **%.2f** | **%.2f** | **%.2f** |\n\n",
+                        avgServerHttpDuration, avgServerHttpDataGen, avgServerHttpSerialization, avgServerHttpMemory, avgServerHttpAllocated,
+                        avgServerHttpCpu, avgServerHttpGcCount, avgServerHttpGcTime));
                 }
 
                 if (grpcServerMetrics != null && !grpcServerMetrics.isEmpty()) {
                     writer.write("### gRPC Server 측정 결과\n\n");
-                    writer.write("| 회차 | 소요 시간 (ms) | 데이터 생성 (ms) | 직렬화 (ms) | 메모리 (MB) |\n");
-                    writer.write("|------|---------------|----------------|------------|------------|\n");
+                    writer.write("| 회차 | 소요 시간 (ms) | 데이터 생성 (ms) | 직렬화 (ms) | 메모리 (MB) | 할당 (MB) | CPU (ms) | GC 횟수 | GC 시간 (ms) |\n");
+                    writer.write("|------|---------------|----------------|------------|------------|----------|----------|---------|-------------|\n");
 
                     for (int i = 0; i < grpcServerMetrics.size(); i++) {
                         ServerPerformanceMetrics m = grpcServerMetrics.get(i);
-                        writer.write(String.format("| %d회 | %,d | %,d | %,d | %.2f |\n",
+                        writer.write(String.format("| %d회 | %,d | %,d | %,d | %.2f | %.2f | %.2f | %d | %,d |\n",
                             i + 1,
                             m.getDurationMs(),
                             m.getDataGenerationMs(),
                             m.getSerializationMs(),
-                            m.getMemoryUsedMB()));
+                            m.getMemoryUsedMB(),
+                            m.getAllocatedMB(),
+                            m.getCpuTimeMs(),
+                            m.getGcCount(),
+                            m.getGcTimeMs()));
                     }
 
                     double avgServerGrpcDuration = grpcServerMetrics.stream().mapToLong(ServerPerformanceMetrics::getDurationMs).average().orElse(0);
                     double avgServerGrpcDataGen = grpcServerMetrics.stream().mapToLong(ServerPerformanceMetrics::getDataGenerationMs).average().orElse(0);
                     double avgServerGrpcSerialization = grpcServerMetrics.stream().mapToLong(ServerPerformanceMetrics::getSerializationMs).average().orElse(0);
                     double avgServerGrpcMemory = grpcServerMetrics.stream().mapToDouble(ServerPerformanceMetrics::getMemoryUsedMB).average().orElse(0);
+                    double avgServerGrpcAllocated = grpcServerMetrics.stream().mapToDouble(ServerPerformanceMetrics::getAllocatedMB).average().orElse(0);
+                    double avgServerGrpcCpu = grpcServerMetrics.stream().mapToDouble(ServerPerformanceMetrics::getCpuTimeMs).average().orElse(0);
+                    double avgServerGrpcGcCount = grpcServerMetrics.stream().mapToLong(ServerPerformanceMetrics::getGcCount).average().orElse(0);
+                    double avgServerGrpcGcTime = grpcServerMetrics.stream().mapToLong(ServerPerformanceMetrics::getGcTimeMs).average().orElse(0);
+
+                    writer.write(String.format("| **평균** | **%.2f** | **%.2f** | **%.2f** | **%.2f** | **%.2f** | **%.2f** | **%.2f** | **%.2f** |\n\n",
+                        avgServerGrpcDuration, avgServerGrpcDataGen, avgServerGrpcSerialization, avgServerGrpcMemory, avgServerGrpcAllocated,
+                        avgServerGrpcCpu, avgServerGrpcGcCount, avgServerGrpcGcTime));
+                }
+
+                for (String streamProtocol : List.of("gRPC-Stream", "HTTP-Stream")) {
+                    List<ServerPerformanceMetrics> streamServerMetrics = serverMetrics.get(streamProtocol);
+                    if (streamServerMetrics == null || streamServerMetrics.isEmpty()) {
+                        continue;
+                    }
+
+                    writer.write(String.format("### %s Server 측정 결과\n\n", streamProtocol));
+                    writer.write("| 회차 | 소요 시간 (ms) | 데이터 생성 (ms) | 직렬화 (ms) | 메모리 (MB) | 할당 (MB) | CPU (ms) | GC 횟수 | GC 시간 (ms) |\n");
+                    writer.write("|------|---------------|----------------|------------|------------|----------|----------|---------|-------------|\n");
 
-                    writer.write(String.format("| **평균** | **%.2f** | **%.2f** | **%.2f** | **%.2f** |\n\n",
-                        avgServerGrpcDuration, avgServerGrpcDataGen, avgServerGrpcSerialization, avgServerGrpcMemory));
+                    for (int i = 0; i < streamServerMetrics.size(); i++) {
+                        ServerPerformanceMetrics m = streamServerMetrics.get(i);
+                        writer.write(String.format("| %d회 | %,d | %,d | %,d | %.2f | %.2f | %.2f | %d | %,d |\n",
+                            i + 1,
+                            m.getDurationMs(),
+                            m.getDataGenerationMs(),
+                            m.getSerializationMs(),
+                            m.getMemoryUsedMB(),
+                            m.getAllocatedMB(),
+                            m.getCpuTimeMs(),
+                            m.getGcCount(),
+                            m.getGcTimeMs()));
+                    }
+                    writer.write("\n");
                 }
 
                 // 서버 측 비교 분석
@@ -550,29 +2630,52 @@ public class PerformanceTestService {
                     String serverLessMemory = serverMemoryRatio > 1 ? "gRPC" : "HTTP";
                     double serverMemoryImprovement = Math.abs(serverMemoryRatio - 1) * 100;
 
-                    writer.write("#### 서버 메모리 사용량\n\n");
+                    writer.write("#### 서버 힙 사용량 차이 (참고 - GC 타이밍에 따라 변동)\n\n");
                     writer.write(String.format("- **%s가 평균 %.2f%% 더 적음**\n", serverLessMemory, serverMemoryImprovement));
                     writer.write(String.format("- HTTP 평균: %.2f MB\n", avgServerHttpMemory));
                     writer.write(String.format("- gRPC 평균: %.2f MB\n\n", avgServerGrpcMemory));
+
+                    double avgServerHttpAllocated = httpServerMetrics.stream().mapToDouble(ServerPerformanceMetrics::getAllocatedMB).average().orElse(0);
+                    double avgServerGrpcAllocated = grpcServerMetrics.stream().mapToDouble(ServerPerformanceMetrics::getAllocatedMB).average().orElse(0);
+
+                    double avgServerHttpCpu = httpServerMetrics.stream().mapToDouble(ServerPerformanceMetrics::getCpuTimeMs).average().orElse(0);
+                    double avgServerGrpcCpu = grpcServerMetrics.stream().mapToDouble(ServerPerformanceMetrics::getCpuTimeMs).average().orElse(0);
+
+                    writer.write("#### 요청당 할당량 / CPU 시간 (ThreadMXBean)\n\n");
+                    writer.write(String.format("- HTTP 평균: %.2f MB, CPU %.2f ms\n", avgServerHttpAllocated, avgServerHttpCpu));
+                    writer.write(String.format("- gRPC 평균: %.2f MB, CPU %.2f ms\n\n", avgServerGrpcAllocated, avgServerGrpcCpu));
                 }
 
                 writer.write("---\n\n");
             }
 
+            // 페이로드 캐시를 켠 경우에만 통계가 존재
+            if (cacheStats != null && !cacheStats.isEmpty()) {
+                writer.write("## 서버 페이로드 캐시 통계 (Service B)\n\n");
+                writer.write("| 프로토콜 | 히트 | 미스 | 히트율 |\n");
+                writer.write("|---------|------|------|--------|\n");
+                for (PayloadCacheStats stats : cacheStats.values()) {
+                    writer.write(String.format("| %s | %,d | %,d | %.2f%% |\n",
+                        stats.getProtocol(), stats.getHits(), stats.getMisses(), stats.getHitRatio() * 100));
+                }
+                writer.write("\n");
+            }
+
             // 결론
             writer.write("## 결론\n\n");
-            writer.write(String.format("40만 건의 데이터(약 %.2f MB) 전송 시 **10회 평균 결과**:\n\n", (totalCount * 2.0) / 1024));
+            writer.write(String.format("%,d건의 데이터(JSON %.2f MB / Protobuf %.2f MB) 전송 시 **%d회 평균 결과**:\n\n",
+                totalCount, averageResponseMB(httpResults), averageResponseMB(grpcResults), httpResults.size()));
             writer.write(String.format("1. **속도**: %s가 %s보다 평균 **%.2f%%** 빠름\n", fasterProtocol,
                 fasterProtocol.equals("gRPC") ? "HTTP" : "gRPC", speedImprovement));
             writer.write(String.format("2. **처리량**: gRPC가 HTTP보다 평균 **%.2f%%** %s\n",
                 Math.abs(throughputImprovement),
                 throughputImprovement > 0 ? "높음" : "낮음"));
-            writer.write(String.format("3. **메모리**: %s가 %s보다 평균 **%.2f%%** 적은 메모리 사용\n\n", lessMemoryProtocol,
+            writer.write(String.format("3. **메모리**: %s가 %s보다 평균 **%.2f%%** 적게 할당\n\n", lessMemoryProtocol,
                 lessMemoryProtocol.equals("gRPC") ? "HTTP" : "gRPC", memoryImprovement));
 
             writer.write("**참고사항**:\n");
             writer.write("- gRPC는 HTTP/2 기반으로 멀티플렉싱, 헤더 압축 등의 이점이 있습니다.\n");
-            writer.write("- Protocol Buffers는 JSON보다 직렬화/역직렬화가 빠르고 크기가 작습니다.\n");
+            writer.write("- Protocol Buffers와 JSON의 크기 차이는 위 전송 바이트 표의 측정값(HTTP 본문, gRPC 메시지 기준 - 헤더 제외)입니다.\n");
             writer.write("- 네트워크 환경, 데이터 크기, 배치 크기 등에 따라 결과가 달라질 수 있습니다.\n");
             writer.write("- 10회 반복 테스트를 통해 환경 변수를 최소화하고 평균적인 성능을 측정했습니다.\n");
 
@@ -582,6 +2685,140 @@ public class PerformanceTestService {
         }
     }
 
+    /**
+     * 스트리밍 방식의 회차별 결과 표 (첫 데이터 수신 시간 포함)
+     */
+    private void writeStreamingRunsTable(FileWriter writer, String title, List<TestResult> results) throws IOException {
+        writer.write(String.format("### %s\n\n", title));
+        writer.write("| 회차 | 소요 시간 (ms) | 처리량 (건/초) | 메모리 사용량 (MB) | 첫 데이터 수신 (ms) |\n");
+        writer.write("|------|---------------|---------------|-------------------|-------------------|\n");
+
+        for (int i = 0; i < results.size(); i++) {
+            TestResult result = results.get(i);
+            writer.write(String.format("| %d회 | %,d | %.2f | %.2f | %.2f |\n",
+                i + 1,
+                result.durationMs,
+                result.getThroughput(),
+                result.memoryUsedBytes / (1024.0 * 1024.0),
+                result.avgFirstItemLatencyMs));
+        }
+        writer.write("\n");
+    }
+
+    /**
+     * 클라이언트 측 리소스 사용량 표 (방식별 평균)
+     */
+    private void writeResourceUsageTable(FileWriter writer, Map<String, List<TestResult>> resultsByProtocol) throws IOException {
+        writer.write("### 클라이언트 리소스 사용량 (Service A)\n\n");
+        writer.write("| 방식 | 범위 | 할당 (MB) | 건당 할당 (KB) | CPU 시간 (ms) | GC 횟수 | GC 시간 (ms) |\n");
+        writer.write("|------|------|----------|---------------|--------------|---------|-------------|\n");
+
+        for (Map.Entry<String, List<TestResult>> entry : resultsByProtocol.entrySet()) {
+            List<TestResult> results = entry.getValue();
+            double allocatedMB = averageAllocatedMB(results);
+            double successCount = results.stream().mapToInt(r -> r.successCount).average().orElse(0);
+            writer.write(String.format("| %s | %s | %.2f | %.2f | %.2f | %.2f | %.2f |\n",
+                entry.getKey(),
+                results.get(0).resourceUsage.getScope(),
+                allocatedMB,
+                successCount > 0 ? allocatedMB * 1024 / successCount : 0,
+                results.stream().mapToDouble(r -> r.resourceUsage.getCpuTimeMs()).average().orElse(0),
+                results.stream().mapToLong(r -> r.resourceUsage.getGcCount()).average().orElse(0),
+                results.stream().mapToLong(r -> r.resourceUsage.getGcTimeMs()).average().orElse(0)));
+        }
+        writer.write("\n- 범위 THREAD는 호출 스레드, PROCESS는 JVM 전체 기준 (GC는 항상 JVM 전체 기준)\n\n");
+    }
+
+    /**
+     * 직렬화된 응답 바이트 표 (방식별 평균) - 처리량을 MB/s로도 비교
+     */
+    private void writeWireBytesTable(FileWriter writer, Map<String, List<TestResult>> resultsByProtocol) throws IOException {
+        writer.write("### 전송 바이트 (직렬화된 메시지 기준, Service A 측정)\n\n");
+        writer.write("| 방식 | 호출 수 | 응답 합계 (MB) | 호출당 응답 (KB) | 건당 응답 (bytes) | 요청 합계 (KB) | 응답 MB/s |\n");
+        writer.write("|------|---------|----------------|------------------|-------------------|----------------|-----------|\n");
+
+        for (Map.Entry<String, List<TestResult>> entry : resultsByProtocol.entrySet()) {
+            List<TestResult> results = entry.getValue();
+            writer.write(String.format("| %s | %,.0f | %,.2f | %,.2f | %,.1f | %,.2f | %,.2f |\n",
+                entry.getKey(),
+                results.stream().mapToLong(r -> r.wireBytes.getCalls()).average().orElse(0),
+                averageResponseMB(results),
+                results.stream().mapToDouble(r -> r.wireBytes.getAvgResponseBytesPerCall()).average().orElse(0) / 1024,
+                averageResponseBytesPerItem(results),
+                results.stream().mapToLong(r -> r.wireBytes.getRequestBytes()).average().orElse(0) / 1024,
+                results.stream().mapToDouble(TestResult::getResponseMBPerSecond).average().orElse(0)));
+        }
+        writer.write("\n");
+    }
+
+    private double averageResponseMB(List<TestResult> results) {
+        return results.stream().mapToDouble(r -> r.wireBytes.getResponseMB()).average().orElse(0);
+    }
+
+    private double averageResponseBytesPerItem(List<TestResult> results) {
+        return results.stream().mapToDouble(TestResult::getResponseBytesPerItem).average().orElse(0);
+    }
+
+    /**
+     * 배치 왕복 시간 백분위수 표와 분포 표 (여러 회차면 히스토그램을 합쳐서 계산)
+     */
+    private void writeLatencySection(FileWriter writer, Map<String, List<TestResult>> resultsByProtocol) throws IOException {
+        Map<String, Histogram> histograms = new LinkedHashMap<>();
+        for (Map.Entry<String, List<TestResult>> entry : resultsByProtocol.entrySet()) {
+            Histogram merged = new Histogram(3);
+            for (TestResult result : entry.getValue()) {
+                if (result.latencyHistogram != null) {
+                    merged.add(result.latencyHistogram);
+                }
+            }
+            if (merged.getTotalCount() > 0) {
+                histograms.put(entry.getKey(), merged);
+            }
+        }
+        if (histograms.isEmpty()) {
+            return;
+        }
+
+        writer.write("### 배치 왕복 시간 백분위수 (ms)\n\n");
+        writer.write("| 방식 | 배치 수 | 평균 | p50 | p95 | p99 | p99.9 | 최대 |\n");
+        writer.write("|------|--------|------|-----|-----|-----|-------|------|\n");
+        for (Map.Entry<String, Histogram> entry : histograms.entrySet()) {
+            Histogram histogram = entry.getValue();
+            writer.write(String.format("| %s | %,d | %.2f | %.2f | %.2f | %.2f | %.2f | %.2f |\n",
+                entry.getKey(),
+                histogram.getTotalCount(),
+                histogram.getMean() / 1000.0,
+                histogram.getValueAtPercentile(50) / 1000.0,
+                histogram.getValueAtPercentile(95) / 1000.0,
+                histogram.getValueAtPercentile(99) / 1000.0,
+                histogram.getValueAtPercentile(99.9) / 1000.0,
+                histogram.getMaxValue() / 1000.0));
+        }
+        writer.write("\n");
+
+        // 1ms부터 2배씩 늘어나는 구간별 건수 (평균에 가려지는 꼬리 지연 확인용)
+        for (Map.Entry<String, Histogram> entry : histograms.entrySet()) {
+            writer.write(String.format("#### %s 왕복 시간 분포\n\n", entry.getKey()));
+            writer.write("| 구간 (ms) | 배치 수 | 누적 비율 |\n");
+            writer.write("|----------|--------|----------|\n");
+
+            double lowerMs = 0;
+            for (HistogramIterationValue value : entry.getValue().logarithmicBucketValues(1000, 2)) {
+                double upperMs = value.getValueIteratedTo() / 1000.0;
+                if (value.getCountAddedInThisIterationStep() > 0) {
+                    writer.write(String.format("| %.0f ~ %.0f | %,d | %.2f%% |\n",
+                        lowerMs, upperMs, value.getCountAddedInThisIterationStep(), value.getPercentile()));
+                }
+                lowerMs = upperMs;
+            }
+            writer.write("\n");
+        }
+    }
+
+    private double averageAllocatedMB(List<TestResult> results) {
+        return results.stream().mapToDouble(r -> r.resourceUsage.getAllocatedMB()).average().orElse(0);
+    }
+
     /**
      * 테스트 결과를 담는 클래스
      */
@@ -593,6 +2830,37 @@ public class PerformanceTestService {
         public final long durationMs;
         public final long memoryUsedBytes;
 
+        // 스트리밍 테스트에서만 측정 (호출 시작 ~ 첫 청크 수신까지의 평균 시간)
+        public double avgFirstItemLatencyMs = -1;
+
+        // 테스트 구간 동안의 할당량/CPU 시간/GC (memoryUsedBytes는 힙 사용량 차이라 참고용)
+        public ResourceUsage resourceUsage = new ResourceUsage();
+
+        // 배치 왕복 시간 분포 (마이크로초 단위, HTTP/gRPC 배치 테스트에서만 측정)
+        public Histogram latencyHistogram;
+
+        // 압축 비교 테스트에서만 측정 (클라이언트: 수신 바이트/압축 해제 시간, 서버: 압축 시간)
+        public CompressionMetrics clientCompression;
+        public CompressionMetrics serverCompression;
+
+        // 직렬화된 요청/응답 바이트 (HTTP 본문, gRPC 메시지 기준 - 헤더 제외)
+        public WireBytes wireBytes = new WireBytes();
+
+        // 레플리카 비교 테스트에서만 측정 (응답한 레플리카 ID별 배치 수)
+        public Map<String, Long> batchesByReplica;
+
+        public double getResponseMBPerSecond() {
+            return durationMs > 0 ? wireBytes.getResponseMB() / (durationMs / 1000.0) : 0;
+        }
+
+        public double getResponseBytesPerItem() {
+            return successCount > 0 ? (double) wireBytes.getResponseBytes() / successCount : 0;
+        }
+
+        public double getLatencyPercentileMs(double percentile) {
+            return latencyHistogram != null ? latencyHistogram.getValueAtPercentile(percentile) / 1000.0 : -1;
+        }
+
         public TestResult(String protocol, int totalCount, int successCount, int failCount,
                           long durationMs, long memoryUsedBytes) {
             this.protocol = protocol;
@@ -609,9 +2877,10 @@ public class PerformanceTestService {
 
         @Override
         public String toString() {
-            return String.format("%s - Total: %d, Success: %d, Fail: %d, Duration: %dms, Memory: %.2fMB, Throughput: %.2f items/sec",
+            return String.format("%s - Total: %d, Success: %d, Fail: %d, Duration: %dms, Memory: %.2fMB, Allocated: %.2fMB, CPU: %.2fms, GC: %d (%dms), Throughput: %.2f items/sec",
                 protocol, totalCount, successCount, failCount, durationMs,
-                memoryUsedBytes / (1024.0 * 1024.0), getThroughput());
+                memoryUsedBytes / (1024.0 * 1024.0), resourceUsage.getAllocatedMB(), resourceUsage.getCpuTimeMs(),
+                resourceUsage.getGcCount(), resourceUsage.getGcTimeMs(), getThroughput());
         }
     }
 }
\ No newline at end of file
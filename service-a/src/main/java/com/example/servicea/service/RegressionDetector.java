@@ -0,0 +1,176 @@
+package com.example.servicea.service;
+
+import com.example.servicea.model.BenchmarkRecord;
+import com.example.servicea.model.MetricComparison;
+import com.example.servicea.model.RegressionReport;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 결과 이력의 두 실행(baseline, candidate)을 프로토콜 x 지표별로 Mann-Whitney U 검정으로 비교하여 회귀 판정
+ * - 각 실행의 회차별 값을 표본으로 사용 (회차가 많을수록 작은 차이도 검출 가능)
+ * - p-value < alpha이고 나빠진 방향이면 REGRESSION, 좋아진 방향이면 IMPROVEMENT
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RegressionDetector {
+
+    private final ResultHistoryStore historyStore;
+
+    /**
+     * 비교 대상 지표 (higherIsBetter = 처리량처럼 클수록 좋은 지표)
+     */
+    private record Metric(String name, boolean higherIsBetter, ToDoubleFunction<BenchmarkRecord> extractor) {
+    }
+
+    private static final List<Metric> METRICS = List.of(
+        new Metric("throughput", true, BenchmarkRecord::getThroughput),
+        new Metric("p50Ms", false, BenchmarkRecord::getP50Ms),
+        new Metric("p95Ms", false, BenchmarkRecord::getP95Ms),
+        new Metric("p99Ms", false, BenchmarkRecord::getP99Ms)
+    );
+
+    /**
+     * @param candidateSuiteId null이면 시나리오의 가장 최근 실행
+     * @param baselineSuiteId  null이면 candidate 바로 이전 실행
+     */
+    public RegressionReport compare(String scenario, String baselineSuiteId, String candidateSuiteId, double alpha) {
+        Map<String, List<BenchmarkRecord>> suites = historyStore.findSuites(scenario);
+        List<String> suiteIds = new ArrayList<>(suites.keySet());
+
+        String candidateId = candidateSuiteId != null ? candidateSuiteId
+            : suiteIds.isEmpty() ? null : suiteIds.get(suiteIds.size() - 1);
+        if (candidateId == null || !suites.containsKey(candidateId)) {
+            throw new IllegalArgumentException("Candidate run not found for scenario " + scenario + ": " + candidateId);
+        }
+
+        String baselineId = baselineSuiteId;
+        if (baselineId == null) {
+            int candidateIndex = suiteIds.indexOf(candidateId);
+            baselineId = candidateIndex > 0 ? suiteIds.get(candidateIndex - 1) : null;
+        }
+        if (baselineId == null || !suites.containsKey(baselineId)) {
+            throw new IllegalArgumentException("Baseline run not found for scenario " + scenario + ": " + baselineId);
+        }
+
+        List<BenchmarkRecord> baseline = suites.get(baselineId);
+        List<BenchmarkRecord> candidate = suites.get(candidateId);
+
+        List<String> warnings = new ArrayList<>();
+        if (!Objects.equals(baseline.get(0).getConfig(), candidate.get(0).getConfig())) {
+            warnings.add("두 실행의 테스트 설정이 다릅니다: " + baseline.get(0).getConfig() + " vs " + candidate.get(0).getConfig());
+        }
+
+        Set<String> protocols = new LinkedHashSet<>();
+        candidate.forEach(record -> protocols.add(record.getProtocol()));
+
+        List<MetricComparison> comparisons = new ArrayList<>();
+        for (String protocol : protocols) {
+            List<BenchmarkRecord> before = filterProtocol(baseline, protocol);
+            List<BenchmarkRecord> after = filterProtocol(candidate, protocol);
+            if (before.isEmpty()) {
+                warnings.add(protocol + ": 기준 실행에 결과가 없어 비교하지 않았습니다.");
+                continue;
+            }
+
+            double minimumPValue = MannWhitneyU.minimumPValue(before.size(), after.size());
+            if (minimumPValue > alpha) {
+                warnings.add(String.format("%s: 회차 수(%d vs %d)로 얻을 수 있는 최소 p-value가 %.3f라 alpha %.3f에서 유의한 차이를 낼 수 없습니다.",
+                    protocol, before.size(), after.size(), minimumPValue, alpha));
+            }
+
+            for (Metric metric : METRICS) {
+                double[] beforeValues = values(before, metric);
+                double[] afterValues = values(after, metric);
+                if (beforeValues.length == 0 || afterValues.length == 0) {
+                    // 백분위를 측정하지 않는 테스트 (-1)
+                    continue;
+                }
+                comparisons.add(compareMetric(protocol, metric, beforeValues, afterValues, alpha));
+            }
+        }
+
+        boolean regressionDetected = comparisons.stream().anyMatch(c -> "REGRESSION".equals(c.getVerdict()));
+        if (regressionDetected) {
+            log.warn("Regression detected: scenario={}, baseline={}, candidate={}", scenario, baselineId, candidateId);
+        }
+
+        return new RegressionReport(
+            scenario,
+            baselineId,
+            baseline.get(0).getGitSha(),
+            candidateId,
+            candidate.get(0).getGitSha(),
+            alpha,
+            regressionDetected,
+            comparisons,
+            warnings
+        );
+    }
+
+    private MetricComparison compareMetric(String protocol, Metric metric, double[] before, double[] after, double alpha) {
+        double baselineMedian = median(before);
+        double candidateMedian = median(after);
+        double changePercent = baselineMedian != 0 ? (candidateMedian / baselineMedian - 1) * 100 : 0;
+        double pValue = MannWhitneyU.pValue(before, after);
+
+        String verdict = "NO_CHANGE";
+        if (pValue < alpha && candidateMedian != baselineMedian) {
+            boolean better = metric.higherIsBetter() == (candidateMedian > baselineMedian);
+            verdict = better ? "IMPROVEMENT" : "REGRESSION";
+        }
+
+        return new MetricComparison(protocol, metric.name(), before.length, after.length,
+            baselineMedian, candidateMedian, changePercent, pValue, verdict);
+    }
+
+    private List<BenchmarkRecord> filterProtocol(List<BenchmarkRecord> records, String protocol) {
+        return records.stream().filter(record -> protocol.equals(record.getProtocol())).toList();
+    }
+
+    private double[] values(List<BenchmarkRecord> records, Metric metric) {
+        return records.stream().mapToDouble(metric.extractor()).filter(value -> value >= 0).toArray();
+    }
+
+    private double median(double[] values) {
+        double[] sorted = values.clone();
+        Arrays.sort(sorted);
+        int middle = sorted.length / 2;
+        return sorted.length % 2 == 1 ? sorted[middle] : (sorted[middle - 1] + sorted[middle]) / 2;
+    }
+
+    /**
+     * 시나리오별 실행 목록 요약 (기록 순서)
+     */
+    public List<Map<String, Object>> listSuites(String scenario) {
+        List<Map<String, Object>> summaries = new ArrayList<>();
+        historyStore.findSuites(scenario).forEach((suiteId, records) -> {
+            BenchmarkRecord first = records.get(0);
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("suiteId", suiteId);
+            summary.put("scenario", first.getScenario());
+            summary.put("recordedAt", first.getRecordedAt());
+            summary.put("gitSha", first.getGitSha());
+            summary.put("config", first.getConfig());
+            Map<String, Double> throughput = new LinkedHashMap<>();
+            records.stream().map(BenchmarkRecord::getProtocol).distinct().forEach(protocol ->
+                throughput.put(protocol, median(filterProtocol(records, protocol).stream()
+                    .mapToDouble(BenchmarkRecord::getThroughput).toArray())));
+            summary.put("medianThroughput", throughput);
+            summaries.add(summary);
+        });
+        return summaries;
+    }
+}
@@ -0,0 +1,175 @@
+package com.example.servicea.service;
+
+import com.example.servicea.model.BenchmarkRecord;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 벤치마크 결과를 JSONL 파일에 누적 저장하는 이력 저장소 (append-only, 재시작해도 유지)
+ * - 한 줄 = BenchmarkRecord 하나, 비교 실행 1회분은 같은 suiteId로 묶여 한 번에 기록됨
+ * - 기본 위치는 docs/history/benchmark-results.jsonl (Docker에서는 /docs 볼륨)
+ */
+@Slf4j
+@Component
+public class ResultHistoryStore {
+
+    private final ObjectMapper objectMapper;
+    private final Path file;
+    private final String gitSha;
+
+    public ResultHistoryStore(ObjectMapper objectMapper,
+                              @Value("${benchmark.history.file:}") String file,
+                              @Value("${benchmark.git-sha:}") String gitSha) {
+        this.objectMapper = objectMapper;
+        this.file = Path.of(file.isBlank() ? defaultFile() : file);
+        this.gitSha = gitSha.isBlank() ? readGitSha() : gitSha;
+        log.info("Benchmark history: file={}, gitSha={}", this.file, this.gitSha);
+    }
+
+    /**
+     * PerformanceTestService 보고서와 같은 위치 (Docker 환경에서는 /docs, 로컬에서는 ../docs)
+     */
+    private static String defaultFile() {
+        return PerformanceTestService.resolveDocsPath("history/benchmark-results.jsonl");
+    }
+
+    /**
+     * GIT_SHA가 주어지지 않은 로컬 실행이면 작업 디렉터리의 git에서 읽음 (실패하면 unknown)
+     */
+    private static String readGitSha() {
+        try {
+            Process process = new ProcessBuilder("git", "rev-parse", "--short", "HEAD")
+                .redirectErrorStream(true)
+                .start();
+            String output = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8).trim();
+            if (process.waitFor(5, TimeUnit.SECONDS) && process.exitValue() == 0 && !output.isEmpty()) {
+                return output;
+            }
+        } catch (IOException e) {
+            // git이 없는 환경 (컨테이너 등)
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return "unknown";
+    }
+
+    public String getGitSha() {
+        return gitSha;
+    }
+
+    /**
+     * 비교 실행 1회분의 결과를 추가 (프로토콜별 결과 목록의 순서가 회차 순서)
+     *
+     * 작업 취소로 중단된 실행(현재 스레드가 인터럽트된 상태)은 일부 결과만 있으므로 이력에 남기지 않음
+     *
+     * @return 새로 발급한 suiteId (기록에 실패하거나 건너뛰면 null)
+     */
+    public synchronized String append(String scenario, Map<String, Object> config,
+                                      Map<String, List<PerformanceTestService.TestResult>> resultsByProtocol) {
+        if (Thread.currentThread().isInterrupted()) {
+            log.info("Skipped benchmark history for cancelled run: scenario={}", scenario);
+            return null;
+        }
+
+        String suiteId = UUID.randomUUID().toString();
+        String recordedAt = Instant.now().toString();
+
+        StringBuilder lines = new StringBuilder();
+        try {
+            for (Map.Entry<String, List<PerformanceTestService.TestResult>> entry : resultsByProtocol.entrySet()) {
+                List<PerformanceTestService.TestResult> results = entry.getValue();
+                for (int run = 0; run < results.size(); run++) {
+                    BenchmarkRecord record = toRecord(suiteId, scenario, recordedAt, config, entry.getKey(), run + 1, results.get(run));
+                    lines.append(objectMapper.writeValueAsString(record)).append('\n');
+                }
+            }
+
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            Files.writeString(file, lines, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            log.info("Appended {} results to benchmark history: scenario={}, suiteId={}",
+                resultsByProtocol.values().stream().mapToInt(List::size).sum(), scenario, suiteId);
+            return suiteId;
+        } catch (IOException e) {
+            log.error("Failed to append benchmark history", e);
+            return null;
+        }
+    }
+
+    private BenchmarkRecord toRecord(String suiteId, String scenario, String recordedAt, Map<String, Object> config,
+                                     String protocol, int run, PerformanceTestService.TestResult result) {
+        return new BenchmarkRecord(
+            suiteId,
+            scenario,
+            recordedAt,
+            gitSha,
+            config,
+            protocol,
+            run,
+            result.totalCount,
+            result.successCount,
+            result.failCount,
+            result.durationMs,
+            result.getThroughput(),
+            result.getLatencyPercentileMs(50),
+            result.getLatencyPercentileMs(95),
+            result.getLatencyPercentileMs(99),
+            result.resourceUsage.getAllocatedMB(),
+            result.resourceUsage.getCpuTimeMs(),
+            result.getResponseBytesPerItem()
+        );
+    }
+
+    /**
+     * 저장된 전체 레코드 (기록 순서) - 중간에 잘린 줄 등 읽을 수 없는 줄은 건너뜀
+     */
+    public synchronized List<BenchmarkRecord> readAll() {
+        List<BenchmarkRecord> records = new ArrayList<>();
+        if (!Files.exists(file)) {
+            return records;
+        }
+
+        try {
+            for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    records.add(objectMapper.readValue(line, BenchmarkRecord.class));
+                } catch (IOException e) {
+                    log.warn("Skipping unreadable benchmark history line: {}", e.getMessage());
+                }
+            }
+        } catch (IOException e) {
+            log.error("Failed to read benchmark history", e);
+        }
+        return records;
+    }
+
+    /**
+     * 시나리오의 실행 목록 (suiteId -> 레코드, 기록 순서 유지) - scenario가 null이면 전체
+     */
+    public Map<String, List<BenchmarkRecord>> findSuites(String scenario) {
+        Map<String, List<BenchmarkRecord>> suites = new LinkedHashMap<>();
+        for (BenchmarkRecord record : readAll()) {
+            if (scenario == null || scenario.equals(record.getScenario())) {
+                suites.computeIfAbsent(record.getSuiteId(), id -> new ArrayList<>()).add(record);
+            }
+        }
+        return suites;
+    }
+}
@@ -0,0 +1,523 @@
+package com.example.servicea.service;
+
+import com.example.servicea.model.SoakProtocolSample;
+import com.example.servicea.model.SoakReport;
+import com.example.servicea.model.SoakSample;
+import com.example.servicea.model.TrendAnalysis;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.stereotype.Service;
+
+import java.io.FileWriter;
+import java.io.IOException;
+import java.lang.management.BufferPoolMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 소크(장시간) 테스트 - HTTP/gRPC 트래픽을 고정 속도로 몇 시간씩 보내면서 N초마다 처리량, 지연 백분위,
+ * GC 후 힙, direct 메모리, 스레드 수를 샘플링하고 추세로 메모리 누수를 판정
+ *
+ * 작업은 백그라운드에서 실행되고 시작 요청은 바로 jobId를 반환함 (진행 상황은 jobId로 조회)
+ * 트래픽은 OpenLoopLoadService와 같은 open-loop 방식(FixedRateDriver)이라 지연 시간은 예정 전송 시각 기준 (coordinated omission 보정)
+ * 소크 테스트는 벤치마크 작업 큐를 거치지 않지만 MeasurementGate로 서로 확인하므로, 작업이 대기 중이거나 실행 중이면 시작을 거부하고
+ * 소크 테스트가 실행 중인 동안에는 벤치마크 작업 제출과 동기 측정이 거부됨
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SoakTestService {
+
+    // 추세 분석에서 제외할 초기 샘플 비율 (JIT, 연결 풀, 버퍼 풀이 채워지는 워밍업 구간)
+    private static final double WARMUP_FRACTION = 0.1;
+    // 누수 판정에 필요한 최소 샘플 수와 추세 결정계수
+    private static final int MIN_TREND_SAMPLES = 5;
+    private static final double MIN_R_SQUARED = 0.6;
+    // 스레드 수 누수 판정 기준 (시간당 증가 개수)
+    private static final double THREAD_LEAK_THRESHOLD_PER_HOUR = 10;
+
+    private static final double MB = 1024.0 * 1024.0;
+    // MeasurementGate에 등록하는 측정 종류 이름
+    private static final String GATE_NAME = "soak test";
+
+    private final FixedRateDriver fixedRateDriver;
+    private final MeasurementGate measurementGate;
+
+    private final Map<String, SoakJob> jobs = new ConcurrentHashMap<>();
+    // 작업마다 샘플러 스레드 1개 + 프로토콜별 트래픽 스레드 1개
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    /**
+     * 소크 테스트 설정 (requestsPerSecond는 프로토콜별 목표 속도)
+     */
+    public record SoakSpec(List<String> protocols, long durationSeconds, double requestsPerSecond, int batchSize,
+                           int sampleIntervalSeconds, boolean forceGc, double leakThresholdMBPerHour) {
+    }
+
+    /**
+     * 백그라운드로 소크 테스트 시작 - 측정이 서로 섞이지 않도록 한 번에 하나만 실행하고,
+     * 벤치마크 작업 큐(BenchmarkJobService)에 대기 중이거나 실행 중인 작업이 있으면 MeasurementGate.BusyException
+     */
+    public synchronized SoakReport start(SoakSpec spec) {
+        spec.protocols().forEach(FixedRateDriver::requireSupportedProtocol);
+        if (spec.protocols().isEmpty() || spec.durationSeconds() <= 0 || spec.requestsPerSecond() <= 0
+            || spec.batchSize() <= 0 || spec.sampleIntervalSeconds() <= 0) {
+            throw new IllegalArgumentException("protocols, duration, rate, batch size and sample interval must be positive");
+        }
+        if (jobs.values().stream().anyMatch(SoakJob::isRunning)) {
+            throw new IllegalStateException("Another soak test is already running");
+        }
+
+        return measurementGate.startIfIdle(GATE_NAME, () -> {
+            SoakJob job = new SoakJob(UUID.randomUUID().toString(), spec);
+            jobs.put(job.id, job);
+            executor.submit(() -> run(job));
+
+            log.info("Soak test {} started: protocols={}, duration={}s, rate={} req/s, batch size={}, sample interval={}s",
+                job.id, spec.protocols(), spec.durationSeconds(), spec.requestsPerSecond(), spec.batchSize(),
+                spec.sampleIntervalSeconds());
+            return toReport(job, false);
+        });
+    }
+
+    public SoakReport getReport(String jobId, boolean includeSamples) {
+        return toReport(findJob(jobId), includeSamples);
+    }
+
+    public List<SoakReport> listReports() {
+        List<SoakReport> reports = new ArrayList<>();
+        jobs.values().forEach(job -> reports.add(toReport(job, false)));
+        return reports;
+    }
+
+    /**
+     * 트래픽 전송을 멈추고 그때까지의 샘플로 결과를 저장
+     */
+    public SoakReport cancel(String jobId) {
+        SoakJob job = findJob(jobId);
+        job.cancelled = true;
+        log.info("Soak test {} cancellation requested", jobId);
+        return toReport(job, false);
+    }
+
+    @PostConstruct
+    void registerGate() {
+        measurementGate.register(GATE_NAME, () -> jobs.values().stream().anyMatch(SoakJob::isRunning));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        jobs.values().forEach(job -> job.cancelled = true);
+        executor.shutdownNow();
+    }
+
+    private SoakJob findJob(String jobId) {
+        SoakJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new IllegalArgumentException("Soak test not found: " + jobId);
+        }
+        return job;
+    }
+
+    private void run(SoakJob job) {
+        SoakSpec spec = job.spec;
+        try {
+            for (Map.Entry<String, ProtocolCounters> entry : job.counters.entrySet()) {
+                executor.submit(() -> drive(job, entry.getKey(), entry.getValue()));
+            }
+
+            long intervalNanos = TimeUnit.SECONDS.toNanos(spec.sampleIntervalSeconds());
+            long endNanos = job.startNanos + TimeUnit.SECONDS.toNanos(spec.durationSeconds());
+            long lastSampleNanos = job.startNanos;
+
+            while (!job.cancelled && System.nanoTime() < endNanos) {
+                long nextSampleNanos = Math.min(lastSampleNanos + intervalNanos, endNanos);
+                // 취소에 빨리 반응하도록 최대 1초씩 나눠서 대기
+                long remainingNanos;
+                while (!job.cancelled && (remainingNanos = nextSampleNanos - System.nanoTime()) > 0) {
+                    Thread.sleep(Math.max(1, Math.min(1000, TimeUnit.NANOSECONDS.toMillis(remainingNanos))));
+                }
+                if (job.cancelled) {
+                    break;
+                }
+
+                long now = System.nanoTime();
+                job.samples.add(sample(job, (now - lastSampleNanos) / 1e9));
+                lastSampleNanos = now;
+                job.trends = analyzeTrends(job.samples, spec.leakThresholdMBPerHour());
+            }
+
+            job.sending = false;
+            if (!job.driversDone.await(90, TimeUnit.SECONDS)) {
+                log.warn("Soak test {}: traffic drivers did not finish in time", job.id);
+            }
+            // 마지막 샘플 이후에 완료된 요청까지 전체 지연 분포에 포함
+            job.counters.values().forEach(counters -> counters.total.add(counters.latency.getIntervalHistogram()));
+            job.endNanos = System.nanoTime();
+            job.status = job.cancelled ? "CANCELLED" : "COMPLETED";
+            saveResultsToFile(job);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            job.sending = false;
+            job.endNanos = System.nanoTime();
+            job.status = "CANCELLED";
+        } catch (Exception e) {
+            log.error("Soak test {} failed", job.id, e);
+            job.sending = false;
+            job.endNanos = System.nanoTime();
+            job.error = e.getMessage();
+            job.status = "FAILED";
+        }
+        log.info("Soak test {} {}: {} samples, leak suspected: {}", job.id, job.status, job.samples.size(),
+            job.trends.stream().anyMatch(TrendAnalysis::isLeakSuspected));
+    }
+
+    /**
+     * 프로토콜 하나의 고정 속도 트래픽 - 작업이 끝날 때까지 계속 보내고, 끝나면 남은 in-flight 요청을 기다림
+     */
+    private void drive(SoakJob job, String protocol, ProtocolCounters counters) {
+        int batchSize = job.spec.batchSize();
+        try {
+            fixedRateDriver.drive("Soak test " + job.id, protocol, job.spec.requestsPerSecond(), batchSize, Long.MAX_VALUE,
+                () -> job.sending && !job.cancelled, new FixedRateDriver.Listener() {
+                    @Override
+                    public void onSuccess(long intendedStartNanos, long actualStartNanos) {
+                        counters.recordSuccess(intendedStartNanos, batchSize);
+                    }
+
+                    @Override
+                    public void onFailure(Throwable t) {
+                        counters.errors.increment();
+                    }
+
+                    @Override
+                    public void onDropped() {
+                        counters.dropped.increment();
+                    }
+                });
+        } catch (Exception e) {
+            log.error("Soak test {}: {} traffic driver failed", job.id, protocol, e);
+        } finally {
+            job.driversDone.countDown();
+        }
+    }
+
+    private SoakSample sample(SoakJob job, double intervalSeconds) {
+        Map<String, SoakProtocolSample> protocols = new LinkedHashMap<>();
+        job.counters.forEach((protocol, counters) -> protocols.put(protocol, counters.sample(intervalSeconds)));
+
+        MemoryMXBean memoryBean = ManagementFactory.getMemoryMXBean();
+        double heapUsedMB = memoryBean.getHeapMemoryUsage().getUsed() / MB;
+        double heapAfterGcMB;
+        if (job.spec.forceGc()) {
+            System.gc();
+            heapAfterGcMB = memoryBean.getHeapMemoryUsage().getUsed() / MB;
+        } else {
+            heapAfterGcMB = lastCollectionHeapMB();
+        }
+
+        return new SoakSample(
+            TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - job.startNanos),
+            protocols,
+            heapAfterGcMB,
+            heapUsedMB,
+            jvmDirectMB(),
+            toMB(io.netty.util.internal.PlatformDependent.usedDirectMemory()),
+            toMB(io.grpc.netty.shaded.io.netty.util.internal.PlatformDependent.usedDirectMemory()),
+            ManagementFactory.getThreadMXBean().getThreadCount()
+        );
+    }
+
+    /**
+     * 힙 메모리 풀별 마지막 GC 직후 사용량의 합 (GC를 직접 일으키지 않는 경우)
+     */
+    private static double lastCollectionHeapMB() {
+        long used = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            MemoryUsage usage = pool.getCollectionUsage();
+            if (pool.getType() == MemoryType.HEAP && usage != null) {
+                used += usage.getUsed();
+            }
+        }
+        return used / MB;
+    }
+
+    private static double jvmDirectMB() {
+        for (BufferPoolMXBean pool : ManagementFactory.getPlatformMXBeans(BufferPoolMXBean.class)) {
+            if ("direct".equals(pool.getName())) {
+                return pool.getMemoryUsed() / MB;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Netty가 direct 메모리 사용량을 추적하지 않는 설정이면 -1
+     */
+    private static double toMB(long bytes) {
+        return bytes < 0 ? -1 : bytes / MB;
+    }
+
+    /**
+     * 워밍업 샘플을 제외한 구간에서 메모리/스레드 추세 분석
+     * 두 클라이언트 스택이 같은 JVM에 있으므로 힙은 합산 값이고, direct 메모리는 스택별(Netty 인스턴스별)로 나뉨
+     */
+    private List<TrendAnalysis> analyzeTrends(List<SoakSample> samples, double leakThresholdMBPerHour) {
+        int warmup = (int) Math.ceil(samples.size() * WARMUP_FRACTION);
+        List<SoakSample> steady = samples.subList(Math.min(warmup, samples.size()), samples.size());
+
+        List<TrendAnalysis> trends = new ArrayList<>();
+        addTrend(trends, "heapAfterGc", "MB", steady, SoakSample::getHeapAfterGcMB, leakThresholdMBPerHour);
+        addTrend(trends, "jvmDirect", "MB", steady, SoakSample::getJvmDirectMB, leakThresholdMBPerHour);
+        addTrend(trends, "reactorNettyDirect", "MB", steady, SoakSample::getReactorNettyDirectMB, leakThresholdMBPerHour);
+        addTrend(trends, "grpcNettyDirect", "MB", steady, SoakSample::getGrpcNettyDirectMB, leakThresholdMBPerHour);
+        addTrend(trends, "threads", "threads", steady, SoakSample::getThreadCount, THREAD_LEAK_THRESHOLD_PER_HOUR);
+        return trends;
+    }
+
+    /**
+     * 경과 시간(시간 단위)에 대한 최소제곱 직선 - 기울기가 임계값을 넘고 R²가 충분히 크면 누수 의심
+     */
+    private void addTrend(List<TrendAnalysis> trends, String metric, String unit, List<SoakSample> samples,
+                          ToDoubleFunction<SoakSample> extractor, double thresholdPerHour) {
+        List<double[]> points = new ArrayList<>();
+        for (SoakSample sample : samples) {
+            double value = extractor.applyAsDouble(sample);
+            // 읽을 수 없는 값(-1)은 제외
+            if (value >= 0) {
+                points.add(new double[] {sample.getElapsedSeconds() / 3600.0, value});
+            }
+        }
+        if (points.isEmpty()) {
+            return;
+        }
+
+        int n = points.size();
+        double meanX = points.stream().mapToDouble(p -> p[0]).average().orElse(0);
+        double meanY = points.stream().mapToDouble(p -> p[1]).average().orElse(0);
+        double sxx = 0;
+        double sxy = 0;
+        double syy = 0;
+        for (double[] point : points) {
+            double dx = point[0] - meanX;
+            double dy = point[1] - meanY;
+            sxx += dx * dx;
+            sxy += dx * dy;
+            syy += dy * dy;
+        }
+        double slope = sxx > 0 ? sxy / sxx : 0;
+        double rSquared = sxx > 0 && syy > 0 ? (sxy * sxy) / (sxx * syy) : 0;
+        boolean leakSuspected = n >= MIN_TREND_SAMPLES && slope > thresholdPerHour && rSquared >= MIN_R_SQUARED;
+
+        trends.add(new TrendAnalysis(metric, unit, n, points.get(0)[1], points.get(n - 1)[1],
+            slope, rSquared, thresholdPerHour, leakSuspected));
+    }
+
+    private SoakReport toReport(SoakJob job, boolean includeSamples) {
+        long endNanos = job.endNanos > 0 ? job.endNanos : System.nanoTime();
+        long elapsedSeconds = TimeUnit.NANOSECONDS.toSeconds(endNanos - job.startNanos);
+        List<SoakSample> samples = List.copyOf(job.samples);
+        List<TrendAnalysis> trends = job.trends;
+
+        Map<String, Object> config = new LinkedHashMap<>();
+        config.put("protocols", job.spec.protocols());
+        config.put("requestsPerSecond", job.spec.requestsPerSecond());
+        config.put("batchSize", job.spec.batchSize());
+        config.put("sampleIntervalSeconds", job.spec.sampleIntervalSeconds());
+        config.put("forceGc", job.spec.forceGc());
+        config.put("leakThresholdMBPerHour", job.spec.leakThresholdMBPerHour());
+
+        return new SoakReport(
+            job.id,
+            job.status,
+            config,
+            job.startedAt.toString(),
+            elapsedSeconds,
+            job.spec.durationSeconds(),
+            Math.min(100.0, elapsedSeconds * 100.0 / job.spec.durationSeconds()),
+            samples.size(),
+            samples.isEmpty() ? null : samples.get(samples.size() - 1),
+            includeSamples ? samples : null,
+            trends,
+            trends.stream().anyMatch(TrendAnalysis::isLeakSuspected),
+            job.error
+        );
+    }
+
+    private void saveResultsToFile(SoakJob job) {
+        String filePath = PerformanceTestService.resolveDocsPath("response-soak.md");
+        SoakSpec spec = job.spec;
+        List<SoakSample> samples = List.copyOf(job.samples);
+        try (FileWriter writer = new FileWriter(filePath)) {
+            writer.write("# HTTP vs gRPC 소크 테스트 결과\n\n");
+            writer.write("## 테스트 설정\n\n");
+            writer.write(String.format("- 작업 ID: %s (%s)\n", job.id, job.status));
+            writer.write(String.format("- 프로토콜: %s\n", String.join(", ", spec.protocols())));
+            writer.write(String.format("- 실행 시간: %,d초 (설정 %,d초)\n",
+                TimeUnit.NANOSECONDS.toSeconds(job.endNanos - job.startNanos), spec.durationSeconds()));
+            writer.write(String.format("- 목표 속도: 프로토콜별 %.2f 요청/초, 배치 크기 %,d건\n", spec.requestsPerSecond(), spec.batchSize()));
+            writer.write(String.format("- 샘플 간격: %d초 (GC 후 힙: %s)\n\n", spec.sampleIntervalSeconds(),
+                spec.forceGc() ? "샘플마다 System.gc() 후 측정" : "마지막 GC 직후 사용량"));
+
+            writer.write("## 프로토콜별 요약\n\n");
+            writer.write("| 프로토콜 | 성공 요청 | 실패 | 누락 | 평균 처리량 (건/초) | p50 (ms) | p99 (ms) | p99.9 (ms) | 최대 (ms) |\n");
+            writer.write("|---------|----------|------|------|--------------------|----------|----------|------------|----------|\n");
+            double elapsedSeconds = Math.max(1, (job.endNanos - job.startNanos) / 1e9);
+            for (Map.Entry<String, ProtocolCounters> entry : job.counters.entrySet()) {
+                ProtocolCounters counters = entry.getValue();
+                Histogram total = counters.total;
+                writer.write(String.format("| %s | %,d | %,d | %,d | %,.2f | %.2f | %.2f | %.2f | %.2f |\n",
+                    entry.getKey(), counters.requests.sum(), counters.errors.sum(), counters.dropped.sum(),
+                    counters.items.sum() / elapsedSeconds,
+                    percentileMs(total, 50), percentileMs(total, 99), percentileMs(total, 99.9),
+                    total.getTotalCount() > 0 ? total.getMaxValue() / 1000.0 : -1));
+            }
+            writer.write("\n");
+
+            writer.write("## 누수 판정\n\n");
+            writer.write("| 지표 | 샘플 수 | 처음 | 마지막 | 시간당 증가 | R² | 기준 (시간당) | 판정 |\n");
+            writer.write("|------|--------|------|--------|------------|----|--------------|------|\n");
+            for (TrendAnalysis trend : job.trends) {
+                writer.write(String.format("| %s (%s) | %d | %,.2f | %,.2f | %+,.2f | %.2f | %,.2f | %s |\n",
+                    trend.getMetric(), trend.getUnit(), trend.getSamples(), trend.getFirst(), trend.getLast(),
+                    trend.getSlopePerHour(), trend.getRSquared(), trend.getThresholdPerHour(),
+                    trend.isLeakSuspected() ? "누수 의심" : "정상"));
+            }
+            writer.write("\n");
+
+            writer.write("## 샘플\n\n");
+            StringBuilder header = new StringBuilder("| 경과 (초) |");
+            StringBuilder divider = new StringBuilder("|-----------|");
+            for (String protocol : spec.protocols()) {
+                header.append(String.format(" %s 건/초 | %s p99 (ms) |", protocol, protocol));
+                divider.append("------|------|");
+            }
+            writer.write(header + " GC 후 힙 (MB) | JVM direct (MB) | reactor-netty direct (MB) | gRPC Netty direct (MB) | 스레드 |\n");
+            writer.write(divider + "------|------|------|------|------|\n");
+            for (SoakSample sample : samples) {
+                StringBuilder row = new StringBuilder(String.format("| %,d |", sample.getElapsedSeconds()));
+                for (String protocol : spec.protocols()) {
+                    SoakProtocolSample protocolSample = sample.getProtocols().get(protocol);
+                    row.append(String.format(" %,.2f | %.2f |", protocolSample.getThroughput(), protocolSample.getP99Ms()));
+                }
+                writer.write(row + String.format(" %,.2f | %,.2f | %,.2f | %,.2f | %d |\n",
+                    sample.getHeapAfterGcMB(), sample.getJvmDirectMB(), sample.getReactorNettyDirectMB(),
+                    sample.getGrpcNettyDirectMB(), sample.getThreadCount()));
+            }
+            writer.write("\n");
+
+            writer.write("**참고사항**:\n");
+            writer.write(String.format("- 처음 %.0f%% 샘플은 워밍업으로 보고 추세 분석에서 제외합니다. 샘플이 %d개 이상이고 R² >= %.1f이며 기울기가 기준을 넘으면 누수 의심으로 판정합니다.\n",
+                WARMUP_FRACTION * 100, MIN_TREND_SAMPLES, MIN_R_SQUARED));
+            writer.write("- 두 클라이언트 스택이 같은 JVM에서 실행되므로 힙은 합산 값입니다. 스택별로 나눠 보려면 protocols=HTTP 또는 protocols=gRPC로 따로 실행하세요. direct 메모리는 WebClient(reactor-netty)와 gRPC(grpc-netty-shaded)의 Netty 인스턴스별로 측정됩니다.\n");
+            writer.write("- 지연 시간은 예정 전송 시각부터 응답 수신까지입니다 (coordinated omission 보정). -1은 측정 값이 없는 항목입니다.\n");
+
+            log.info("Soak test results saved to " + filePath);
+        } catch (IOException e) {
+            log.error("Failed to save results to file", e);
+        }
+    }
+
+    private static double percentileMs(Histogram histogram, double percentile) {
+        return histogram.getTotalCount() > 0 ? histogram.getValueAtPercentile(percentile) / 1000.0 : -1;
+    }
+
+    /**
+     * 소크 테스트 작업 1건의 상태 (샘플러 스레드가 갱신하고 조회 요청 스레드가 읽음)
+     */
+    private static final class SoakJob {
+        final String id;
+        final SoakSpec spec;
+        final Instant startedAt = Instant.now();
+        final long startNanos = System.nanoTime();
+        final Map<String, ProtocolCounters> counters = new LinkedHashMap<>();
+        final List<SoakSample> samples = new CopyOnWriteArrayList<>();
+        final CountDownLatch driversDone;
+
+        volatile String status = "RUNNING";
+        volatile boolean sending = true;
+        volatile boolean cancelled;
+        volatile long endNanos;
+        volatile List<TrendAnalysis> trends = List.of();
+        volatile String error;
+
+        SoakJob(String id, SoakSpec spec) {
+            this.id = id;
+            this.spec = spec;
+            spec.protocols().forEach(protocol -> counters.put(protocol, new ProtocolCounters()));
+            this.driversDone = new CountDownLatch(counters.size());
+        }
+
+        boolean isRunning() {
+            return "RUNNING".equals(status);
+        }
+    }
+
+    /**
+     * 프로토콜 하나의 누적 카운터 - 기록은 응답 콜백 스레드, sample/total은 샘플러 스레드에서만 접근
+     */
+    private static final class ProtocolCounters {
+        final LongAdder requests = new LongAdder();
+        final LongAdder items = new LongAdder();
+        final LongAdder errors = new LongAdder();
+        final LongAdder dropped = new LongAdder();
+        final Recorder latency = new Recorder(3);
+        final Histogram total = new Histogram(3);
+
+        private long lastRequests;
+        private long lastItems;
+        private long lastErrors;
+        private long lastDropped;
+
+        void recordSuccess(long intendedStartNanos, int batchSize) {
+            latency.recordValue(Math.max(1, TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - intendedStartNanos)));
+            requests.increment();
+            items.add(batchSize);
+        }
+
+        SoakProtocolSample sample(double intervalSeconds) {
+            Histogram interval = latency.getIntervalHistogram();
+            total.add(interval);
+
+            long currentRequests = requests.sum();
+            long currentItems = items.sum();
+            long currentErrors = errors.sum();
+            long currentDropped = dropped.sum();
+            SoakProtocolSample sample = new SoakProtocolSample(
+                currentRequests - lastRequests,
+                currentErrors - lastErrors,
+                currentDropped - lastDropped,
+                intervalSeconds > 0 ? (currentItems - lastItems) / intervalSeconds : 0,
+                percentileMs(interval, 50),
+                percentileMs(interval, 99),
+                interval.getTotalCount() > 0 ? interval.getMaxValue() / 1000.0 : -1
+            );
+            lastRequests = currentRequests;
+            lastItems = currentItems;
+            lastErrors = currentErrors;
+            lastDropped = currentDropped;
+            return sample;
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.servicea.service;
+
+/**
+ * 블로킹 배치 호출을 실행할 스레드 종류
+ */
+public enum ThreadMode {
+    PLATFORM,
+    VIRTUAL
+}
@@ -0,0 +1,76 @@
+package com.example.servicea.service;
+
+import com.example.servicea.model.WireBytes;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 배치 데이터 호출마다 직렬화된 요청/응답 바이트를 기록
+ * - gRPC: 클라이언트 인터셉터가 붙이는 ClientStreamTracer (압축 후 메시지 크기)
+ * - HTTP: HttpDataClient 필터가 받은 응답 본문 크기 (압축 해제 전)
+ * 호출별 크기는 Micrometer DistributionSummary(wire.message.size)로 노출하고, 합계는 테스트 구간 계산용으로 누적
+ */
+@Component
+@RequiredArgsConstructor
+public class WireByteStats {
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, DistributionSummary> summaries = new ConcurrentHashMap<>();
+
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder requestBytes = new LongAdder();
+    private final LongAdder responseBytes = new LongAdder();
+
+    /**
+     * 호출 1건 기록 (스트리밍 호출은 스트림 전체가 1건)
+     */
+    public void record(String transport, String method, long requestSize, long responseSize) {
+        calls.increment();
+        requestBytes.add(requestSize);
+        responseBytes.add(responseSize);
+        summary(transport, method, "request").record(requestSize);
+        summary(transport, method, "response").record(responseSize);
+    }
+
+    public WireBytes snapshot() {
+        return new WireBytes(calls.sum(), requestBytes.sum(), responseBytes.sum());
+    }
+
+    /**
+     * 테스트 1회분 측정 시작 (테스트는 순차 실행되므로 구간 차이가 곧 해당 테스트의 바이트)
+     */
+    public Session start() {
+        return new Session(snapshot());
+    }
+
+    private DistributionSummary summary(String transport, String method, String direction) {
+        return summaries.computeIfAbsent(transport + "|" + method + "|" + direction,
+            key -> DistributionSummary.builder("wire.message.size")
+                .description("Serialized batch request/response size per call measured by Service A")
+                .baseUnit("bytes")
+                .tag("transport", transport)
+                .tag("method", method)
+                .tag("direction", direction)
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry));
+    }
+
+    public class Session {
+
+        private final WireBytes before;
+
+        private Session(WireBytes before) {
+            this.before = before;
+        }
+
+        public WireBytes finish() {
+            return snapshot().minus(before);
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package com.example.servicea.client;
+
+import com.example.proto.BatchDataResponse;
+import com.example.proto.DataItem;
+import com.example.servicea.model.ProjectedBatch;
+import com.example.servicea.model.ProjectedDataItem;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProjectedDecoderTest {
+
+    private static final int BATCH_SIZE = 200;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ProjectedDecoder decoder = new ProjectedDecoder(objectMapper);
+
+    @Test
+    void decodeProtoMatchesFullParse() throws IOException {
+        BatchDataResponse response = protoBatch(BATCH_SIZE, 42);
+
+        BatchDataResponse full = BatchDataResponse.parseFrom(response.toByteArray());
+        ProjectedBatch projected = decoder.decodeProto(CodedInputStream.newInstance(response.toByteArray()));
+
+        assertThat(projected.isSuccess()).isEqualTo(full.getSuccess());
+        assertThat(projected.getItems()).containsExactlyElementsOf(project(full.getItemsList()));
+    }
+
+    @Test
+    void decodeJsonMatchesFullParse() throws IOException {
+        BatchDataResponse proto = protoBatch(BATCH_SIZE, 7);
+        byte[] json = objectMapper.writeValueAsBytes(toPojo(proto));
+
+        com.example.servicea.model.BatchDataResponse full =
+            objectMapper.readValue(json, com.example.servicea.model.BatchDataResponse.class);
+        ProjectedBatch projected = decoder.decodeJson(new ByteArrayInputStream(json));
+
+        assertThat(projected.isSuccess()).isEqualTo(full.isSuccess());
+        assertThat(projected.getItems()).containsExactlyElementsOf(full.getItems().stream()
+            .map(item -> new ProjectedDataItem(item.getId(), item.getCategory(), item.getValue()))
+            .toList());
+    }
+
+    @Test
+    void protoAndJsonProjectionsAgree() throws IOException {
+        BatchDataResponse proto = protoBatch(BATCH_SIZE, 11);
+        byte[] json = objectMapper.writeValueAsBytes(toPojo(proto));
+
+        ProjectedBatch fromProto = decoder.decodeProto(CodedInputStream.newInstance(proto.toByteArray()));
+        ProjectedBatch fromJson = decoder.decodeJson(new ByteArrayInputStream(json));
+
+        assertThat(fromJson).isEqualTo(fromProto);
+    }
+
+    @Test
+    void decodeProtoSkipsUnknownAndNestedFields() throws IOException {
+        // 스키마에 없는 필드 번호로 varint, fixed64, 중첩 메시지(길이 구분)를 섞어서 기록
+        ByteArrayOutputStream nested = new ByteArrayOutputStream();
+        CodedOutputStream nestedOut = CodedOutputStream.newInstance(nested);
+        nestedOut.writeString(DataItem.ID_FIELD_NUMBER, "nested-id");
+        nestedOut.writeDouble(DataItem.VALUE_FIELD_NUMBER, -1);
+        nestedOut.flush();
+
+        ByteArrayOutputStream item = new ByteArrayOutputStream();
+        CodedOutputStream itemOut = CodedOutputStream.newInstance(item);
+        itemOut.writeString(DataItem.ID_FIELD_NUMBER, "item-1");
+        itemOut.writeByteArray(1000, nested.toByteArray());
+        itemOut.writeString(DataItem.NAME_FIELD_NUMBER, "ignored");
+        itemOut.writeFixed64(1001, 123L);
+        itemOut.writeString(DataItem.CATEGORY_FIELD_NUMBER, "카테고리");
+        itemOut.writeInt64(1002, -5L);
+        itemOut.writeDouble(DataItem.VALUE_FIELD_NUMBER, 12.5);
+        itemOut.writeFixed32(1003, 7);
+        itemOut.flush();
+
+        ByteArrayOutputStream batch = new ByteArrayOutputStream();
+        CodedOutputStream batchOut = CodedOutputStream.newInstance(batch);
+        batchOut.writeByteArray(2000, item.toByteArray());
+        batchOut.writeBool(BatchDataResponse.SUCCESS_FIELD_NUMBER, true);
+        batchOut.writeString(BatchDataResponse.MESSAGE_FIELD_NUMBER, "ok");
+        batchOut.writeByteArray(BatchDataResponse.ITEMS_FIELD_NUMBER, item.toByteArray());
+        batchOut.writeInt64(2001, 99L);
+        batchOut.flush();
+
+        ProjectedBatch projected = decoder.decodeProto(CodedInputStream.newInstance(batch.toByteArray()));
+
+        assertThat(projected.isSuccess()).isTrue();
+        assertThat(projected.getItems()).containsExactly(new ProjectedDataItem("item-1", "카테고리", 12.5));
+    }
+
+    @Test
+    void decodeJsonSkipsUnknownAndNestedFields() throws IOException {
+        String json = """
+            {
+              "extra": {"items": [{"id": "wrong"}], "success": false},
+              "success": true,
+              "items": [
+                {
+                  "name": "ignored",
+                  "id": "item-1",
+                  "nested": {"category": "wrong", "value": -1, "deeper": [[1, 2], {"id": "wrong"}]},
+                  "category": "카테고리",
+                  "tags": ["a", "b"],
+                  "value": 12.5,
+                  "status": null
+                }
+              ],
+              "trailer": [{"items": []}]
+            }
+            """;
+
+        ProjectedBatch projected = decoder.decodeJson(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(projected.isSuccess()).isTrue();
+        assertThat(projected.getItems()).containsExactly(new ProjectedDataItem("item-1", "카테고리", 12.5));
+    }
+
+    @Test
+    void missingFieldsKeepDefaults() throws IOException {
+        BatchDataResponse response = BatchDataResponse.newBuilder()
+            .setSuccess(true)
+            .addItems(DataItem.newBuilder().setName("only-name"))
+            .build();
+
+        ProjectedBatch projected = decoder.decodeProto(CodedInputStream.newInstance(response.toByteArray()));
+
+        assertThat(projected.getItems()).containsExactly(new ProjectedDataItem("", "", 0));
+    }
+
+    private static List<ProjectedDataItem> project(List<DataItem> items) {
+        return items.stream()
+            .map(item -> new ProjectedDataItem(item.getId(), item.getCategory(), item.getValue()))
+            .toList();
+    }
+
+    /**
+     * service-b DataGenerator와 비슷한 모양의 배치 (비 ASCII 문자열과 큰 필드를 섞어서 생성)
+     */
+    private static BatchDataResponse protoBatch(int size, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        BatchDataResponse.Builder builder = BatchDataResponse.newBuilder()
+            .setSuccess(true)
+            .setProcessedCount(size)
+            .setMessage("Batch data generated successfully")
+            .setStartTime(1_700_000_000_000L)
+            .setEndTime(1_700_000_000_100L);
+        for (int i = 0; i < size; i++) {
+            builder.addItems(DataItem.newBuilder()
+                .setId(new UUID(random.nextLong(), random.nextLong()).toString())
+                .setName("Item-" + i)
+                .setDescription(text(random, 200))
+                .setCategory(i % 3 == 0 ? "카테고리-" + (i % 10) : "Category-" + (i % 10))
+                .setContent(text(random, 1500))
+                .setTimestamp(1_700_000_000_000L + i)
+                .setMetadata1(text(random, 50))
+                .setMetadata2(text(random, 50))
+                .setMetadata3(text(random, 50))
+                .setMetadata4(text(random, 50))
+                .setMetadata5(text(random, 50))
+                .setAdditionalInfo(text(random, 100))
+                .setValue(random.nextDouble() * 1000)
+                .setStatus(random.nextInt(5))
+                .setTags("tag1,tag2,tag3"));
+        }
+        return builder.build();
+    }
+
+    private static com.example.servicea.model.BatchDataResponse toPojo(BatchDataResponse proto) {
+        List<com.example.servicea.model.DataItem> items = new ArrayList<>(proto.getItemsCount());
+        for (DataItem item : proto.getItemsList()) {
+            items.add(new com.example.servicea.model.DataItem(
+                item.getId(), item.getName(), item.getDescription(), item.getCategory(), item.getContent(),
+                item.getTimestamp(),
+                item.getMetadata1(), item.getMetadata2(), item.getMetadata3(), item.getMetadata4(), item.getMetadata5(),
+                item.getAdditionalInfo(),
+                item.getValue(),
+                item.getStatus(),
+                item.getTags()
+            ));
+        }
+        return new com.example.servicea.model.BatchDataResponse(
+            proto.getSuccess(), proto.getProcessedCount(), proto.getMessage(),
+            proto.getStartTime(), proto.getEndTime(), items);
+    }
+
+    private static String text(SplittableRandom random, int length) {
+        String chars = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789 \"\\가나다";
+        StringBuilder sb = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            sb.append(chars.charAt(random.nextInt(chars.length())));
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.servicea.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LatencyRecorderTest {
+
+    private final LatencyRecorder recorder = new LatencyRecorder(new SimpleMeterRegistry());
+
+    @Test
+    void listenerOnlySeesSessionsStartedOnItsThread() throws Exception {
+        List<String> events = new CopyOnWriteArrayList<>();
+        recorder.bindBatchListener((label, items, latencyMicros) -> events.add(label + ":" + items));
+
+        LatencyRecorder.Session job = recorder.start("job");
+        LatencyRecorder.Session other = runOnOtherThread(() -> recorder.start("other"));
+        other.record(System.nanoTime(), 7);
+        job.record(System.nanoTime(), 3);
+
+        assertThat(events).containsExactly("job:3");
+        assertThat(other.finish().getTotalCount()).isEqualTo(1);
+    }
+
+    @Test
+    void sessionKeepsListenerForRecordsFromCallbackThreads() throws Exception {
+        List<String> events = new CopyOnWriteArrayList<>();
+        recorder.bindBatchListener((label, items, latencyMicros) -> events.add(label + ":" + items));
+        LatencyRecorder.Session session = recorder.start("job");
+
+        // 응답 콜백 스레드에서 기록해도 세션을 시작한 스레드의 리스너로 알림
+        runOnOtherThread(() -> {
+            session.record(System.nanoTime(), 5);
+            return null;
+        });
+
+        assertThat(events).containsExactly("job:5");
+    }
+
+    @Test
+    void unboundListenerIsNotUsedByLaterSessions() {
+        List<String> events = new CopyOnWriteArrayList<>();
+        recorder.bindBatchListener((label, items, latencyMicros) -> events.add(label));
+        LatencyRecorder.Session bound = recorder.start("bound");
+        recorder.bindBatchListener(null);
+        LatencyRecorder.Session unbound = recorder.start("unbound");
+
+        unbound.record(System.nanoTime(), 1);
+        bound.record(System.nanoTime(), 1);
+
+        assertThat(events).containsExactly("bound");
+        assertThat(unbound.finish().getTotalCount()).isEqualTo(1);
+    }
+
+    private static <T> T runOnOtherThread(Callable<T> task) throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            return executor.submit(task).get(10, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
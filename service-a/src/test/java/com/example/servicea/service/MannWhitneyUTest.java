@@ -0,0 +1,101 @@
+package com.example.servicea.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * 기대값은 R wilcox.test(exact = TRUE / exact = FALSE, correct = TRUE)와 전수 열거로 구한 값
+ */
+class MannWhitneyUTest {
+
+    private static final double EXACT_TOLERANCE = 1e-12;
+    // 정규 근사는 erfc 근사식의 오차(1.2e-7) 범위에서 비교
+    private static final double NORMAL_TOLERANCE = 1e-6;
+
+    @Test
+    void exactDistributionForFiveVersusFive() {
+        // U = 2 -> P(U <= 2) = 4 / 252, 양측 p = 0.0317
+        double p = MannWhitneyU.pValue(new double[] {1, 2, 3, 4, 7}, new double[] {5, 6, 8, 9, 10});
+
+        assertThat(p).isCloseTo(8.0 / 252, within(EXACT_TOLERANCE));
+        assertThat(p).isCloseTo(0.0317, within(1e-4));
+    }
+
+    @Test
+    void exactDistributionIsSymmetric() {
+        double[] x = {3.1, 2.8, 3.6, 2.9, 3.3, 3.0, 3.4};
+        double[] y = {3.5, 3.9, 3.2, 4.1, 3.8, 3.7, 4.0, 4.4};
+
+        // n1 = 7, n2 = 8, U = 4 -> 양측 p = 24 / 6435
+        assertThat(MannWhitneyU.pValue(x, y)).isCloseTo(24.0 / 6435, within(EXACT_TOLERANCE));
+        assertThat(MannWhitneyU.pValue(y, x)).isEqualTo(MannWhitneyU.pValue(x, y));
+    }
+
+    @Test
+    void exactDistributionForUnequalSizes() {
+        // n1 = 4, n2 = 6, U = 1 -> P(U <= 1) = 2 / 210
+        double p = MannWhitneyU.pValue(new double[] {10.5, 11.2, 9.8, 12.0},
+            new double[] {13.1, 12.5, 14.0, 11.9, 13.7, 15.2});
+
+        assertThat(p).isCloseTo(4.0 / 210, within(EXACT_TOLERANCE));
+    }
+
+    @Test
+    void completeSeparationEqualsMinimumPValue() {
+        double p = MannWhitneyU.pValue(new double[] {1, 2, 3}, new double[] {4, 5, 6});
+
+        assertThat(p).isCloseTo(0.1, within(EXACT_TOLERANCE));
+        assertThat(p).isCloseTo(MannWhitneyU.minimumPValue(3, 3), within(EXACT_TOLERANCE));
+    }
+
+    @Test
+    void interleavedSamplesAreNotSignificant() {
+        double p = MannWhitneyU.pValue(new double[] {1, 3, 5, 7, 9}, new double[] {2, 4, 6, 8, 10});
+
+        assertThat(p).isGreaterThan(0.5).isLessThanOrEqualTo(1.0);
+    }
+
+    @Test
+    void tiesUseCorrectedNormalApproximation() {
+        // wilcox.test(c(1,2,2,3,4), c(2,3,5,6,6,7), exact = FALSE, correct = TRUE): W = 4.5, p = 0.06415
+        double p = MannWhitneyU.pValue(new double[] {1, 2, 2, 3, 4}, new double[] {2, 3, 5, 6, 6, 7});
+
+        assertThat(p).isCloseTo(0.0641466, within(NORMAL_TOLERANCE));
+    }
+
+    @Test
+    void largeSamplesUseNormalApproximation() {
+        // 동순위 없음, n1 = n2 = 25 (정확한 분포 상한 초과), U = 276
+        double[] x = new double[25];
+        double[] y = new double[25];
+        for (int i = 0; i < 25; i++) {
+            x[i] = 100 + i * 0.7;
+            y[i] = 101 + i * 0.7;
+        }
+
+        assertThat(MannWhitneyU.pValue(x, y)).isCloseTo(0.4848629, within(NORMAL_TOLERANCE));
+    }
+
+    @Test
+    void allValuesTiedReturnsOne() {
+        assertThat(MannWhitneyU.pValue(new double[] {5, 5, 5}, new double[] {5, 5, 5})).isEqualTo(1.0);
+    }
+
+    @Test
+    void emptySampleReturnsOne() {
+        assertThat(MannWhitneyU.pValue(new double[0], new double[] {1, 2})).isEqualTo(1.0);
+        assertThat(MannWhitneyU.minimumPValue(0, 5)).isEqualTo(1.0);
+    }
+
+    @Test
+    void minimumPValueIsTwoOverBinomial() {
+        assertThat(MannWhitneyU.minimumPValue(5, 5)).isCloseTo(2.0 / 252, within(EXACT_TOLERANCE));
+        assertThat(MannWhitneyU.minimumPValue(10, 4)).isCloseTo(2.0 / 1001, within(EXACT_TOLERANCE));
+        assertThat(MannWhitneyU.minimumPValue(4, 10)).isEqualTo(MannWhitneyU.minimumPValue(10, 4));
+        // C(5, 2) = 10 -> 0.2, 한쪽이 1회면 어떤 결과도 유의할 수 없음
+        assertThat(MannWhitneyU.minimumPValue(2, 3)).isCloseTo(0.2, within(EXACT_TOLERANCE));
+        assertThat(MannWhitneyU.minimumPValue(1, 1)).isEqualTo(1.0);
+    }
+}
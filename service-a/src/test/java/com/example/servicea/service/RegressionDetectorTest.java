@@ -0,0 +1,169 @@
+package com.example.servicea.service;
+
+import com.example.servicea.model.BenchmarkRecord;
+import com.example.servicea.model.MetricComparison;
+import com.example.servicea.model.RegressionReport;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class RegressionDetectorTest {
+
+    private static final String SCENARIO = "multiple";
+    private static final double ALPHA = 0.05;
+    private static final Map<String, Object> CONFIG = Map.of("totalCount", 10000, "batchSize", 1000);
+
+    @TempDir
+    Path tempDir;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private Path historyFile;
+    private RegressionDetector detector;
+
+    @BeforeEach
+    void setUp() {
+        historyFile = tempDir.resolve("benchmark-results.jsonl");
+        detector = new RegressionDetector(new ResultHistoryStore(objectMapper, historyFile.toString(), "test"));
+    }
+
+    @Test
+    void slowerCandidateIsRegression() throws IOException {
+        writeSuite("base", CONFIG, "gRPC", new double[] {1000, 1010, 990, 1005, 995}, 10);
+        writeSuite("cand", CONFIG, "gRPC", new double[] {900, 905, 895, 910, 890}, 12);
+
+        RegressionReport report = detector.compare(SCENARIO, null, null, ALPHA);
+
+        assertThat(report.getBaselineSuiteId()).isEqualTo("base");
+        assertThat(report.getCandidateSuiteId()).isEqualTo("cand");
+        assertThat(report.isRegressionDetected()).isTrue();
+        assertThat(verdict(report, "throughput")).isEqualTo("REGRESSION");
+        // 지연 시간은 작을수록 좋은 지표
+        assertThat(verdict(report, "p50Ms")).isEqualTo("REGRESSION");
+        assertThat(comparison(report, "throughput").getPValue()).isCloseTo(2.0 / 252, within(1e-12));
+        assertThat(comparison(report, "throughput").getChangePercent()).isCloseTo(-10.0, within(1e-9));
+        assertThat(report.getWarnings()).isEmpty();
+    }
+
+    @Test
+    void fasterCandidateIsImprovement() throws IOException {
+        writeSuite("base", CONFIG, "HTTP", new double[] {500, 505, 495, 510, 490}, 20);
+        writeSuite("cand", CONFIG, "HTTP", new double[] {600, 605, 595, 610, 590}, 15);
+
+        RegressionReport report = detector.compare(SCENARIO, "base", "cand", ALPHA);
+
+        assertThat(report.isRegressionDetected()).isFalse();
+        assertThat(verdict(report, "throughput")).isEqualTo("IMPROVEMENT");
+        assertThat(verdict(report, "p99Ms")).isEqualTo("IMPROVEMENT");
+    }
+
+    @Test
+    void overlappingRunsAreNoChange() throws IOException {
+        writeSuite("base", CONFIG, "gRPC", new double[] {1000, 1020, 980, 1010, 990}, 10);
+        writeSuite("cand", CONFIG, "gRPC", new double[] {1005, 985, 1015, 995, 1000}, 10);
+
+        RegressionReport report = detector.compare(SCENARIO, null, null, ALPHA);
+
+        assertThat(report.isRegressionDetected()).isFalse();
+        assertThat(report.getComparisons()).extracting(MetricComparison::getVerdict).containsOnly("NO_CHANGE");
+    }
+
+    @Test
+    void tooFewRunsWarnsAndNeverFlags() throws IOException {
+        // 2회 vs 2회: 완전히 갈라져도 최소 p-value가 2 / C(4, 2) = 0.333
+        writeSuite("base", CONFIG, "gRPC", new double[] {1000, 1001}, 10);
+        writeSuite("cand", CONFIG, "gRPC", new double[] {500, 501}, 20);
+
+        RegressionReport report = detector.compare(SCENARIO, null, null, ALPHA);
+
+        assertThat(report.isRegressionDetected()).isFalse();
+        assertThat(verdict(report, "throughput")).isEqualTo("NO_CHANGE");
+        assertThat(report.getWarnings()).singleElement().asString().contains("gRPC", "0.333");
+    }
+
+    @Test
+    void unmeasuredPercentilesAreSkipped() throws IOException {
+        writeSuite("base", CONFIG, "gRPC", new double[] {1000, 1010, 990, 1005, 995}, -1);
+        writeSuite("cand", CONFIG, "gRPC", new double[] {900, 905, 895, 910, 890}, -1);
+
+        RegressionReport report = detector.compare(SCENARIO, null, null, ALPHA);
+
+        assertThat(report.getComparisons()).extracting(MetricComparison::getMetric).containsExactly("throughput");
+    }
+
+    @Test
+    void differentConfigAndMissingProtocolAreWarned() throws IOException {
+        writeSuite("base", CONFIG, "HTTP", new double[] {500, 505, 495, 510, 490}, 20);
+        Map<String, Object> otherConfig = Map.of("totalCount", 20000, "batchSize", 1000);
+        writeSuite("cand", otherConfig, "HTTP", new double[] {500, 505, 495, 510, 490}, 20);
+        writeSuite("cand", otherConfig, "gRPC", new double[] {900, 905, 895, 910, 890}, 10);
+
+        RegressionReport report = detector.compare(SCENARIO, null, null, ALPHA);
+
+        assertThat(report.getWarnings()).hasSize(2);
+        assertThat(report.getWarnings().get(0)).contains("설정이 다릅니다");
+        assertThat(report.getWarnings().get(1)).startsWith("gRPC:");
+        assertThat(report.getComparisons()).extracting(MetricComparison::getProtocol).containsOnly("HTTP");
+    }
+
+    @Test
+    void baselineDefaultsToPreviousRun() throws IOException {
+        writeSuite("first", CONFIG, "gRPC", new double[] {100, 101, 99, 102, 98}, 10);
+        writeSuite("second", CONFIG, "gRPC", new double[] {1000, 1010, 990, 1005, 995}, 10);
+        writeSuite("third", CONFIG, "gRPC", new double[] {1000, 1010, 990, 1005, 995}, 10);
+
+        assertThat(detector.compare(SCENARIO, null, null, ALPHA).getBaselineSuiteId()).isEqualTo("second");
+        assertThat(detector.compare(SCENARIO, null, "second", ALPHA).getBaselineSuiteId()).isEqualTo("first");
+    }
+
+    @Test
+    void missingRunsAreRejected() throws IOException {
+        writeSuite("only", CONFIG, "gRPC", new double[] {1000, 1010, 990}, 10);
+
+        assertThatThrownBy(() -> detector.compare(SCENARIO, null, null, ALPHA))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Baseline");
+        assertThatThrownBy(() -> detector.compare(SCENARIO, "only", "unknown", ALPHA))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Candidate");
+    }
+
+    private String verdict(RegressionReport report, String metric) {
+        return comparison(report, metric).getVerdict();
+    }
+
+    private MetricComparison comparison(RegressionReport report, String metric) {
+        return report.getComparisons().stream()
+            .filter(comparison -> metric.equals(comparison.getMetric()))
+            .findFirst()
+            .orElseThrow();
+    }
+
+    /**
+     * 회차마다 처리량은 주어진 값, 지연 시간은 latencyMs 근처 값으로 실행 하나를 기록 (latencyMs가 -1이면 미측정)
+     */
+    private void writeSuite(String suiteId, Map<String, Object> config, String protocol,
+                            double[] throughputs, double latencyMs) throws IOException {
+        StringBuilder lines = new StringBuilder();
+        for (int run = 0; run < throughputs.length; run++) {
+            double jitter = latencyMs < 0 ? 0 : run * 0.01;
+            BenchmarkRecord record = new BenchmarkRecord(
+                suiteId, SCENARIO, "2026-01-01T00:00:00Z", "sha-" + suiteId, config, protocol, run + 1,
+                10000, 10000, 0, 1000, throughputs[run],
+                latencyMs + jitter, latencyMs < 0 ? -1 : latencyMs * 1.5 + jitter, latencyMs < 0 ? -1 : latencyMs * 2 + jitter,
+                100, 200, 2000);
+            lines.append(objectMapper.writeValueAsString(record)).append('\n');
+        }
+        Files.writeString(historyFile, lines, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+}
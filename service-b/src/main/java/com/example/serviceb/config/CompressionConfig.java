@@ -0,0 +1,82 @@
+package com.example.serviceb.config;
+
+import com.example.shared.compression.CompressionCodecs;
+import com.example.shared.compression.CompressionStats;
+import com.example.shared.compression.MeteredGrpcCodec;
+import com.example.shared.model.PayloadCompression;
+import io.grpc.Codec;
+import io.grpc.CompressorRegistry;
+import io.grpc.DecompressorRegistry;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import lombok.extern.slf4j.Slf4j;
+import net.devh.boot.grpc.server.interceptor.GrpcGlobalServerInterceptor;
+import net.devh.boot.grpc.server.serverfactory.GrpcServerConfigurer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * gRPC 응답 압축 설정
+ * - gzip/zstd/snappy 코덱을 서버 레지스트리에 등록 (사용 가능한 것만)
+ * - 클라이언트가 요청을 압축해서 보낸 방식(grpc-encoding)과 같은 방식으로 응답도 압축
+ *   (클라이언트는 호출마다 withCompression으로 방식을 고름)
+ */
+@Slf4j
+@Configuration
+public class CompressionConfig {
+
+    private static final Metadata.Key<String> GRPC_ENCODING =
+        Metadata.Key.of("grpc-encoding", Metadata.ASCII_STRING_MARSHALLER);
+
+    /**
+     * 압축 방식별 바이트/코덱 시간 통계 (공용 클래스라 컴포넌트 스캔 대상이 아니므로 여기서 등록)
+     */
+    @Bean
+    public CompressionStats compressionStats() {
+        return new CompressionStats();
+    }
+
+    @Bean
+    public GrpcServerConfigurer compressionGrpcServerConfigurer(CompressionStats compressionStats) {
+        CompressorRegistry compressorRegistry = CompressorRegistry.newEmptyInstance();
+        compressorRegistry.register(Codec.Identity.NONE);
+        DecompressorRegistry decompressorRegistry = DecompressorRegistry.emptyInstance()
+            .with(Codec.Identity.NONE, false);
+
+        for (PayloadCompression compression : PayloadCompression.values()) {
+            if (compression == PayloadCompression.NONE) {
+                continue;
+            }
+            if (!CompressionCodecs.isAvailable(compression)) {
+                log.warn("{} compression is not available in this JVM (native library load failed)", compression.getEncoding());
+                continue;
+            }
+            MeteredGrpcCodec codec = new MeteredGrpcCodec(compression, compressionStats);
+            compressorRegistry.register(codec);
+            decompressorRegistry = decompressorRegistry.with(codec, true);
+        }
+
+        DecompressorRegistry decompressors = decompressorRegistry;
+        return serverBuilder -> serverBuilder
+            .compressorRegistry(compressorRegistry)
+            .decompressorRegistry(decompressors);
+    }
+
+    @GrpcGlobalServerInterceptor
+    public ServerInterceptor responseCompressionInterceptor() {
+        return new ServerInterceptor() {
+            @Override
+            public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(ServerCall<ReqT, RespT> call, Metadata headers,
+                                                                         ServerCallHandler<ReqT, RespT> next) {
+                PayloadCompression compression = PayloadCompression.fromEncoding(headers.get(GRPC_ENCODING));
+                if (compression != PayloadCompression.NONE && CompressionCodecs.isAvailable(compression)) {
+                    // 클라이언트가 grpc-accept-encoding으로 알리지 않은 방식이면 gRPC가 압축 없이 보냄
+                    call.setCompression(compression.getEncoding());
+                }
+                return next.startCall(call, headers);
+            }
+        };
+    }
+}
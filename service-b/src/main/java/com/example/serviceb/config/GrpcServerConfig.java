@@ -0,0 +1,29 @@
+package com.example.serviceb.config;
+
+import lombok.extern.slf4j.Slf4j;
+import net.devh.boot.grpc.server.serverfactory.GrpcServerConfigurer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.Executors;
+
+@Slf4j
+@Configuration
+public class GrpcServerConfig {
+
+    /**
+     * spring.threads.virtual.enabled=true 일 때 gRPC 서비스 호출도 가상 스레드에서 실행
+     * (Tomcat은 Spring Boot가 같은 프로퍼티로 가상 스레드 실행기를 설정함)
+     */
+    @Bean
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public GrpcServerConfigurer virtualThreadGrpcServerConfigurer() {
+        return serverBuilder -> {
+            log.info("gRPC server uses virtual-thread-per-task executor");
+            // 태스크마다 새 가상 스레드를 만들므로 풀링된 스레드가 남지 않음 (별도 종료 처리 불필요)
+            serverBuilder.executor(Executors.newVirtualThreadPerTaskExecutor());
+        };
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.serviceb.config;
+
+import io.grpc.ForwardingServerCall;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import net.devh.boot.grpc.server.interceptor.GrpcGlobalServerInterceptor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+
+/**
+ * 여러 Service B 레플리카로 부하를 나눌 때 어느 레플리카가 응답했는지 알 수 있도록
+ * 모든 HTTP 응답과 gRPC 응답 헤더에 x-served-by(레플리카 ID)를 붙임 (본문은 바꾸지 않으므로 전송 바이트 비교에 영향 없음)
+ */
+@Slf4j
+@Configuration
+public class ReplicaIdentityConfig {
+
+    public static final String SERVED_BY_HEADER = "x-served-by";
+
+    private static final Metadata.Key<String> SERVED_BY_KEY =
+        Metadata.Key.of(SERVED_BY_HEADER, Metadata.ASCII_STRING_MARSHALLER);
+
+    private final String replicaId;
+
+    /**
+     * data.replica-id가 비어 있으면 "호스트명:HTTP 포트" (Docker는 컨테이너 ID, 로컬은 포트로 구분)
+     */
+    public ReplicaIdentityConfig(@Value("${data.replica-id:}") String configuredId,
+                                 @Value("${server.port:8081}") int serverPort) {
+        this.replicaId = configuredId.isBlank() ? hostName() + ":" + serverPort : configuredId;
+        log.info("Service B replica id: {}", replicaId);
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "localhost";
+        }
+    }
+
+    public String getReplicaId() {
+        return replicaId;
+    }
+
+    @Bean
+    public OncePerRequestFilter servedByHeaderFilter() {
+        return new OncePerRequestFilter() {
+            @Override
+            protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+                    throws ServletException, IOException {
+                // 본문을 쓰기 시작하면 헤더를 바꿀 수 없으므로 체인 실행 전에 설정
+                response.setHeader(SERVED_BY_HEADER, replicaId);
+                filterChain.doFilter(request, response);
+            }
+        };
+    }
+
+    @GrpcGlobalServerInterceptor
+    public ServerInterceptor servedByServerInterceptor() {
+        return new ServerInterceptor() {
+            @Override
+            public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(ServerCall<ReqT, RespT> call, Metadata headers,
+                                                                         ServerCallHandler<ReqT, RespT> next) {
+                return next.startCall(new ForwardingServerCall.SimpleForwardingServerCall<>(call) {
+                    @Override
+                    public void sendHeaders(Metadata responseHeaders) {
+                        responseHeaders.put(SERVED_BY_KEY, replicaId);
+                        super.sendHeaders(responseHeaders);
+                    }
+                }, headers);
+            }
+        };
+    }
+}
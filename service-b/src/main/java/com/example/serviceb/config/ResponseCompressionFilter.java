@@ -0,0 +1,190 @@
+package com.example.serviceb.config;
+
+import com.example.shared.compression.CompressionCodecs;
+import com.example.shared.compression.CompressionStats;
+import com.example.shared.model.PayloadCompression;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+
+/**
+ * /api/data/generate 응답을 Accept-Encoding에 따라 gzip/zstd/snappy로 압축
+ * (Tomcat 기본 압축은 gzip만 지원하고 바이트/시간을 따로 볼 수 없어 직접 처리)
+ * 스트리밍 응답(/generate/stream)은 비동기로 쓰여 필터가 끝난 뒤에도 기록되므로 대상에서 제외
+ */
+@Component
+@RequiredArgsConstructor
+public class ResponseCompressionFilter extends OncePerRequestFilter {
+
+    private static final String TARGET_PATH = "/api/data/generate";
+
+    private final CompressionStats compressionStats;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !TARGET_PATH.equals(request.getRequestURI());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        PayloadCompression compression = CompressionCodecs.fromAcceptEncoding(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        if (compression == PayloadCompression.NONE) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        CompressingResponse compressingResponse = new CompressingResponse(response, compression);
+        try {
+            filterChain.doFilter(request, compressingResponse);
+        } finally {
+            compressingResponse.finish();
+        }
+    }
+
+    /**
+     * 본문을 처음 쓸 때 Content-Encoding을 붙이고 압축 스트림을 연결 (본문 없는 오류 응답은 그대로 나감)
+     * 압축 후 길이를 미리 알 수 없으므로 Content-Length는 무시하고 chunked로 전송
+     */
+    private final class CompressingResponse extends HttpServletResponseWrapper {
+
+        private final PayloadCompression compression;
+        private ServletOutputStream outputStream;
+        private PrintWriter writer;
+
+        CompressingResponse(HttpServletResponse response, PayloadCompression compression) {
+            super(response);
+            this.compression = compression;
+            response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (outputStream == null) {
+                ServletOutputStream original = super.getOutputStream();
+                super.setHeader(HttpHeaders.CONTENT_ENCODING, compression.getEncoding());
+                outputStream = new CompressingOutputStream(original, compressionStats.meterCompress(compression, original));
+            }
+            return outputStream;
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            if (writer == null) {
+                writer = new PrintWriter(new OutputStreamWriter(getOutputStream(), getCharacterEncoding()));
+            }
+            return writer;
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            if (writer != null) {
+                writer.flush();
+            } else if (outputStream != null) {
+                outputStream.flush();
+            }
+            super.flushBuffer();
+        }
+
+        @Override
+        public void setContentLength(int len) {
+        }
+
+        @Override
+        public void setContentLengthLong(long len) {
+        }
+
+        @Override
+        public void setHeader(String name, String value) {
+            if (!HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+                super.setHeader(name, value);
+            }
+        }
+
+        @Override
+        public void addHeader(String name, String value) {
+            if (!HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+                super.addHeader(name, value);
+            }
+        }
+
+        @Override
+        public void setIntHeader(String name, int value) {
+            if (!HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+                super.setIntHeader(name, value);
+            }
+        }
+
+        @Override
+        public void addIntHeader(String name, int value) {
+            if (!HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+                super.addIntHeader(name, value);
+            }
+        }
+
+        /**
+         * 압축 스트림을 닫아 마지막 블록까지 기록
+         */
+        void finish() throws IOException {
+            if (writer != null) {
+                writer.close();
+            } else if (outputStream != null) {
+                outputStream.close();
+            }
+        }
+    }
+
+    private static final class CompressingOutputStream extends ServletOutputStream {
+
+        private final ServletOutputStream original;
+        private final OutputStream compressed;
+
+        CompressingOutputStream(ServletOutputStream original, OutputStream compressed) {
+            this.original = original;
+            this.compressed = compressed;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            compressed.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            compressed.write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            compressed.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            compressed.close();
+        }
+
+        @Override
+        public boolean isReady() {
+            return original.isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            original.setWriteListener(writeListener);
+        }
+    }
+}
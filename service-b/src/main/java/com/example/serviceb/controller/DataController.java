@@ -1,18 +1,43 @@
 package com.example.serviceb.controller;
 
-import com.example.serviceb.model.BatchDataResponse;
+import com.example.serviceb.config.ReplicaIdentityConfig;
 import com.example.serviceb.model.DataItem;
+import com.example.serviceb.model.IngestRequest;
+import com.example.serviceb.model.IngestResponse;
+import com.example.serviceb.model.PayloadCacheStats;
+import com.example.serviceb.model.PayloadProfile;
+import com.example.serviceb.model.ProfiledBatchResponse;
+import com.example.serviceb.model.ProfiledItem;
+import com.example.serviceb.model.ServerMetricsSummary;
 import com.example.serviceb.model.ServerPerformanceMetrics;
+import com.example.serviceb.model.WireFormat;
 import com.example.serviceb.service.DataGenerator;
+import com.example.serviceb.service.DataIngestService;
+import com.example.serviceb.service.PayloadCache;
+import com.example.serviceb.service.PayloadEncoder;
 import com.example.serviceb.service.PerformanceMetricsService;
+import com.example.shared.compression.CompressionStats;
+import com.example.shared.model.CompressionMetrics;
+import com.example.shared.resource.ResourceProbe;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.lang.management.ManagementFactory;
 import java.lang.management.MemoryMXBean;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 @Slf4j
 @RestController
@@ -22,35 +47,47 @@ public class DataController {
 
     private final DataGenerator dataGenerator;
     private final PerformanceMetricsService metricsService;
+    private final Environment environment;
+    private final PayloadCache payloadCache;
+    private final ObjectMapper objectMapper;
+    private final PayloadEncoder payloadEncoder;
+    private final CompressionStats compressionStats;
+    private final DataIngestService ingestService;
+    private final ReplicaIdentityConfig replicaIdentity;
 
     /**
      * Service B가 데이터를 생성해서 반환
+     * (Accept 헤더에 따라 JSON / Smile / CBOR로 응답 - 직렬화 비용까지 측정하도록 핸들러 안에서 바이트로 인코딩)
      */
     @GetMapping("/generate")
-    public BatchDataResponse generateBatchData(@RequestParam int count) {
+    public ResponseEntity<byte[]> generateBatchData(
+            @RequestParam int count,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        WireFormat format = WireFormat.fromAccept(accept);
+        // JSON은 기존 메트릭 키("HTTP")를 유지하고 나머지 포맷만 구분
+        String protocol = format == WireFormat.JSON ? "HTTP" : "HTTP-" + format.name();
+
+        if (payloadCache.isEnabled()) {
+            return generateCachedBatchData(count, protocol, format);
+        }
+
         long startTime = System.currentTimeMillis();
+        ResourceProbe probe = ResourceProbe.start(ResourceProbe.Scope.THREAD);
 
         // MemoryMXBean을 사용한 정확한 힙 메모리 측정
         MemoryMXBean memoryBean = ManagementFactory.getMemoryMXBean();
         long startMemory = memoryBean.getHeapMemoryUsage().getUsed();
 
-        log.info("Generating {} items via HTTP", count);
+        log.info("Generating {} items via HTTP ({})", count, format);
 
         // 데이터 생성 시작
         long dataGenStart = System.currentTimeMillis();
         List<DataItem> items = dataGenerator.generateDataItems(count);
         long dataGenEnd = System.currentTimeMillis();
 
-        // 직렬화 시작 (Spring이 자동으로 JSON 변환)
+        // 직렬화 시작 (메시지 컨버터에 맡기면 핸들러 반환 뒤에 실행되어 측정 구간에서 빠지므로 직접 인코딩)
         long serializationStart = System.currentTimeMillis();
-        BatchDataResponse response = new BatchDataResponse(
-            true,
-            items.size(),
-            "Batch data generated successfully",
-            startTime,
-            System.currentTimeMillis(),
-            items
-        );
+        byte[] body = payloadEncoder.encodeBatch(items, startTime, format);
         long serializationEnd = System.currentTimeMillis();
 
         long endTime = System.currentTimeMillis();
@@ -61,38 +98,311 @@ public class DataController {
 
         // 서버 측 성능 측정 결과 저장
         ServerPerformanceMetrics metrics = new ServerPerformanceMetrics(
-            "HTTP",
+            protocol,
             count,
             startTime,
             endTime,
             endTime - startTime,
             memoryIncrease,
             dataGenEnd - dataGenStart,
-            serializationEnd - serializationStart
+            serializationEnd - serializationStart,
+            probe.stop()
         );
         metricsService.recordMetrics(metrics);
 
-        log.info("HTTP Server metrics - Duration: {}ms, Memory: {:.2f}MB, DataGen: {}ms, Serialization: {}ms",
-            metrics.getDurationMs(), metrics.getMemoryUsedMB(),
+        log.info("HTTP Server metrics - Duration: {}ms, Allocated: {}MB, CPU: {}ms, GC: {}, DataGen: {}ms, Serialization: {}ms",
+            metrics.getDurationMs(), String.format("%.2f", metrics.getAllocatedMB()),
+            String.format("%.2f", metrics.getCpuTimeMs()), metrics.getGcCount(),
             metrics.getDataGenerationMs(), metrics.getSerializationMs());
 
-        return response;
+        return ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType(format.getMediaType()))
+            .body(body);
+    }
+
+    /**
+     * Accept: application/x-protobuf 요청 - gRPC와 같은 Protobuf 메시지를 일반 REST(HTTP/1.1)로 반환
+     * (포맷과 전송 계층의 영향을 분리해서 비교하기 위한 경로)
+     */
+    @GetMapping(value = "/generate", produces = "application/x-protobuf")
+    public ResponseEntity<byte[]> generateProtobufBatchData(@RequestParam int count) {
+        long startTime = System.currentTimeMillis();
+        ResourceProbe probe = ResourceProbe.start(ResourceProbe.Scope.THREAD);
+        long startMemory = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+
+        log.info("Generating {} items via HTTP (PROTOBUF)", count);
+
+        // 데이터 생성/Proto 빌드+인코딩 시간 (페이로드 캐시 히트면 0)
+        long[] phaseMs = new long[2];
+        Supplier<byte[]> encoder = () -> {
+            long dataGenStart = System.currentTimeMillis();
+            List<com.example.proto.DataItem> items = dataGenerator.generateProtoDataItems(count);
+            long dataGenEnd = System.currentTimeMillis();
+
+            com.example.proto.BatchDataResponse response = com.example.proto.BatchDataResponse.newBuilder()
+                .setSuccess(true)
+                .setProcessedCount(count)
+                .setMessage("Batch data generated successfully")
+                .setStartTime(startTime)
+                .setEndTime(System.currentTimeMillis())
+                .addAllItems(items)
+                .build();
+            byte[] encoded = response.toByteArray();
+            phaseMs[0] = dataGenEnd - dataGenStart;
+            phaseMs[1] = System.currentTimeMillis() - dataGenEnd;
+            return encoded;
+        };
+
+        // 캐시 모드면 인코딩된 바이트를 재사용 (직렬화를 측정 구간에 넣으려고 컨버터 대신 직접 인코딩)
+        byte[] body = payloadCache.isEnabled()
+            ? payloadCache.getOrLoad("HTTP-PROTOBUF", count, dataGenerator.getCorpusVersion(), encoder)
+            : encoder.get();
+
+        long endTime = System.currentTimeMillis();
+        ServerPerformanceMetrics metrics = new ServerPerformanceMetrics(
+            "HTTP-PROTOBUF",
+            count,
+            startTime,
+            endTime,
+            endTime - startTime,
+            ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed() - startMemory,
+            phaseMs[0],
+            phaseMs[1],
+            probe.stop()
+        );
+        metricsService.recordMetrics(metrics);
+
+        return ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType(WireFormat.PROTOBUF.getMediaType()))
+            .body(body);
+    }
+
+    /**
+     * 요청한 페이로드 프로필 모양의 항목을 생성해서 JSON으로 반환 (itemSizeBytes가 0이면 프로필 기본 크기)
+     * 서버 메트릭은 "HTTP-PROFILE-<프로필>" 키로 기록
+     */
+    @GetMapping("/generate/profiled")
+    public ResponseEntity<byte[]> generateProfiledBatchData(
+            @RequestParam int count,
+            @RequestParam PayloadProfile profile,
+            @RequestParam(defaultValue = "0") int itemSizeBytes) {
+        long startTime = System.currentTimeMillis();
+        ResourceProbe probe = ResourceProbe.start(ResourceProbe.Scope.THREAD);
+        long startMemory = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+
+        log.info("Generating {} {} items via HTTP (item size: {} bytes)", count, profile, profile.resolveItemSize(itemSizeBytes));
+
+        long dataGenStart = System.currentTimeMillis();
+        List<ProfiledItem> items = dataGenerator.generateProfiledItems(profile, count, itemSizeBytes);
+        long dataGenEnd = System.currentTimeMillis();
+
+        ProfiledBatchResponse response = new ProfiledBatchResponse(
+            true,
+            items.size(),
+            profile.name(),
+            startTime,
+            System.currentTimeMillis(),
+            items
+        );
+        byte[] body = payloadEncoder.encode(response, WireFormat.JSON);
+
+        long endTime = System.currentTimeMillis();
+        ServerPerformanceMetrics metrics = new ServerPerformanceMetrics(
+            "HTTP-PROFILE-" + profile.name(),
+            count,
+            startTime,
+            endTime,
+            endTime - startTime,
+            ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed() - startMemory,
+            dataGenEnd - dataGenStart,
+            endTime - dataGenEnd,
+            probe.stop()
+        );
+        metricsService.recordMetrics(metrics);
+
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(body);
     }
 
     /**
-     * 서버 측 성능 측정 결과 조회
+     * Service B가 데이터를 생성하면서 NDJSON(한 줄에 DataItem 하나)으로 스트리밍 반환
+     * 전체 목록이나 전체 JSON 문서를 메모리에 만들지 않고 chunkSize 단위로 생성/기록/flush
+     */
+    @GetMapping(value = "/generate/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamBatchData(
+            @RequestParam int count,
+            @RequestParam(defaultValue = "100") int chunkSize) {
+
+        log.info("Streaming {} items via HTTP NDJSON (chunk size: {})", count, chunkSize);
+
+        // 항목마다 flush하지 않고 청크 단위로만 flush
+        ObjectWriter itemWriter = objectMapper.writerFor(DataItem.class)
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+        StreamingResponseBody body = outputStream -> {
+            long startTime = System.currentTimeMillis();
+            ResourceProbe probe = ResourceProbe.start(ResourceProbe.Scope.THREAD);
+            long startMemory = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+            long dataGenNanos = 0;
+            long serializationNanos = 0;
+
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                // 루트 값 사이 기본 구분자(공백) 대신 줄바꿈만 사용
+                generator.setRootValueSeparator(null);
+
+                for (int sent = 0; sent < count; ) {
+                    int currentChunkSize = Math.min(chunkSize, count - sent);
+
+                    long dataGenStart = System.nanoTime();
+                    List<DataItem> items = dataGenerator.generateDataItems(currentChunkSize);
+                    long dataGenEnd = System.nanoTime();
+
+                    for (DataItem item : items) {
+                        itemWriter.writeValue(generator, item);
+                        generator.writeRaw('\n');
+                    }
+                    generator.flush();
+
+                    dataGenNanos += dataGenEnd - dataGenStart;
+                    serializationNanos += System.nanoTime() - dataGenEnd;
+                    sent += currentChunkSize;
+                }
+            }
+
+            long endTime = System.currentTimeMillis();
+            ServerPerformanceMetrics metrics = new ServerPerformanceMetrics(
+                "HTTP-Stream",
+                count,
+                startTime,
+                endTime,
+                endTime - startTime,
+                ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed() - startMemory,
+                dataGenNanos / 1_000_000,
+                serializationNanos / 1_000_000,
+                probe.stop()
+            );
+            metricsService.recordMetrics(metrics);
+
+            log.info("HTTP Stream Server metrics - Duration: {}ms, DataGen: {}ms, Serialization+Write: {}ms",
+                metrics.getDurationMs(), metrics.getDataGenerationMs(), metrics.getSerializationMs());
+        };
+
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .body(body);
+    }
+
+    /**
+     * Service A가 올려 보낸 배치 하나를 처리하고 확인 응답 반환 (요청 1건 = 배치 1개)
+     * 배치별 처리 결과는 "HTTP-INGEST" 메트릭으로 기록
+     */
+    @PostMapping("/ingest")
+    public IngestResponse ingestBatchData(@RequestBody IngestRequest request) {
+        long startTime = System.currentTimeMillis();
+        List<DataItem> items = request.getItems() != null ? request.getItems() : List.of();
+
+        long processingMicros = ingestService.ingest("HTTP-INGEST", items);
+
+        return new IngestResponse(true, 1, items.size(), startTime, System.currentTimeMillis(), processingMicros);
+    }
+
+    /**
+     * 페이로드 캐시 모드 - 이미 JSON으로 인코딩된 바이트를 그대로 응답
+     * (미스일 때만 데이터 생성 + JSON 직렬화 수행)
+     */
+    private ResponseEntity<byte[]> generateCachedBatchData(int count, String protocol, WireFormat format) {
+        long startTime = System.currentTimeMillis();
+        ResourceProbe probe = ResourceProbe.start(ResourceProbe.Scope.THREAD);
+
+        MemoryMXBean memoryBean = ManagementFactory.getMemoryMXBean();
+        long startMemory = memoryBean.getHeapMemoryUsage().getUsed();
+
+        // 캐시 미스일 때 loader 안에서 측정한 데이터 생성/직렬화 시간 (히트면 0)
+        long[] phaseMs = new long[2];
+        byte[] body = payloadCache.getOrLoad(protocol, count, dataGenerator.getCorpusVersion(), () -> {
+            long dataGenStart = System.currentTimeMillis();
+            List<DataItem> items = dataGenerator.generateDataItems(count);
+            long dataGenEnd = System.currentTimeMillis();
+
+            byte[] encoded = payloadEncoder.encodeBatch(items, startTime, format);
+            phaseMs[0] = dataGenEnd - dataGenStart;
+            phaseMs[1] = System.currentTimeMillis() - dataGenEnd;
+            return encoded;
+        });
+
+        long endTime = System.currentTimeMillis();
+        long endMemory = memoryBean.getHeapMemoryUsage().getUsed();
+
+        ServerPerformanceMetrics metrics = new ServerPerformanceMetrics(
+            protocol,
+            count,
+            startTime,
+            endTime,
+            endTime - startTime,
+            endMemory - startMemory,
+            phaseMs[0],
+            phaseMs[1],
+            probe.stop()
+        );
+        metricsService.recordMetrics(metrics);
+
+        return ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType(format.getMediaType()))
+            .body(body);
+    }
+
+    /**
+     * 서버 실행 환경 조회 (요청 처리 스레드 모드, 레플리카 ID 등 - 리포트에 함께 기록)
+     */
+    @GetMapping("/runtime")
+    public Map<String, String> getRuntime() {
+        return Map.of(
+            "threading", Threading.VIRTUAL.isActive(environment) ? "VIRTUAL" : "PLATFORM",
+            "javaVersion", Runtime.version().toString(),
+            "replicaId", replicaIdentity.getReplicaId()
+        );
+    }
+
+    /**
+     * 서버 측 성능 측정 결과 조회 (프로토콜별 최근 data.metrics.capacity건)
      */
     @GetMapping("/metrics")
     public Map<String, List<ServerPerformanceMetrics>> getMetrics() {
         return metricsService.getAllMetrics();
     }
 
+    /**
+     * 프로토콜별 누적 요약 (요청 수, 처리 시간 평균/최소/최대/백분위, 할당량, CPU 시간)
+     */
+    @GetMapping("/metrics/summary")
+    public Map<String, ServerMetricsSummary> getMetricsSummary() {
+        return metricsService.getSummaries();
+    }
+
+    /**
+     * 페이로드 캐시 히트/미스 통계 조회
+     */
+    @GetMapping("/metrics/cache")
+    public Map<String, PayloadCacheStats> getCacheStats() {
+        return metricsService.getCacheStats();
+    }
+
+    /**
+     * 응답 압축 통계 조회 (압축 방식별 압축 전/후 바이트, 압축 시간)
+     */
+    @GetMapping("/metrics/compression")
+    public Map<String, CompressionMetrics> getCompressionMetrics() {
+        return compressionStats.getAllMetrics();
+    }
+
     /**
      * 서버 측 성능 측정 결과 초기화
      */
     @DeleteMapping("/metrics")
     public Map<String, String> clearMetrics() {
         metricsService.clearMetrics();
+        compressionStats.clear();
         return Map.of("status", "success", "message", "All server metrics cleared");
     }
 }
\ No newline at end of file
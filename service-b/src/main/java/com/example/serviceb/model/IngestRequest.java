@@ -0,0 +1,17 @@
+package com.example.serviceb.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 업로드 배치 하나 (POST /api/data/ingest 요청 본문)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class IngestRequest {
+    private List<DataItem> items;
+}
@@ -0,0 +1,19 @@
+package com.example.serviceb.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProfiledBatchResponse {
+    private boolean success;
+    private int processedCount;
+    private String profile;
+    private Long startTime;
+    private Long endTime;
+    private List<ProfiledItem> items;
+}
@@ -0,0 +1,37 @@
+package com.example.serviceb.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 프로토콜별 서버 측 측정 누적 요약 (링 버퍼에서 밀려난 요청까지 포함한 전체 기준)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ServerMetricsSummary {
+    private String protocol;
+    private long requests;
+    private long items;
+    // 링 버퍼에 남아 있는 최근 요청 수 / 버퍼 크기
+    private int retained;
+    private int capacity;
+    private double avgDurationMs;
+    private long minDurationMs;
+    private long maxDurationMs;
+    private long p50DurationMs;
+    private long p95DurationMs;
+    private long p99DurationMs;
+    private double avgDataGenerationMs;
+    private double avgSerializationMs;
+    private double totalAllocatedMB;
+    private double totalCpuTimeMs;
+
+    /**
+     * 요청 처리 시간 합 기준 처리량 (건/초)
+     */
+    public double getThroughput() {
+        return avgDurationMs > 0 ? items / (avgDurationMs * requests / 1000.0) : 0;
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.serviceb.model;
+
+/**
+ * BatchDataResponse 직렬화 포맷 (HTTP는 Accept 헤더로, gRPC는 EncodedBatchRequest.format으로 선택)
+ */
+public enum WireFormat {
+    JSON("application/json"),
+    SMILE("application/x-jackson-smile"),
+    CBOR("application/cbor"),
+    PROTOBUF("application/x-protobuf");
+
+    private final String mediaType;
+
+    WireFormat(String mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public String getMediaType() {
+        return mediaType;
+    }
+
+    /**
+     * Accept 헤더에 포함된 포맷 (일치하는 것이 없으면 JSON)
+     */
+    public static WireFormat fromAccept(String accept) {
+        if (accept != null) {
+            for (WireFormat format : values()) {
+                if (accept.contains(format.mediaType)) {
+                    return format;
+                }
+            }
+        }
+        return JSON;
+    }
+}
@@ -1,62 +1,325 @@
 package com.example.serviceb.service;
 
 import com.example.serviceb.model.DataItem;
+import com.example.serviceb.model.PayloadProfile;
+import com.example.serviceb.model.ProfiledItem;
+import com.example.serviceb.model.ProfiledSection;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
 import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.DoubleSupplier;
 
+@Slf4j
 @Service
 public class DataGenerator {
 
+    private static final String CHARS = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789 ";
+
+    // 코퍼스 항목의 timestamp 기준값 (시드가 같으면 항상 같은 데이터가 나오도록 고정)
+    private static final long CORPUS_BASE_TIMESTAMP = 1_700_000_000_000L;
+
+    // 프로필 항목 공통 부분 크기 (id 36자 + timestamp 8바이트) - 나머지를 프로필별 필드에 배분
+    private static final int PROFILED_HEADER_BYTES = 44;
+    private static final int SMALL_COUNTERS = 4;
+    // NESTED: 깊이 4, 섹션마다 자식 2개 (2 + 4 + 8 + 16 = 30개), 섹션마다 제목 16자 + level + 점수 4개
+    private static final int NESTED_DEPTH = 4;
+    private static final int NESTED_FANOUT = 2;
+    private static final int NESTED_SCORES = 4;
+    private static final int NESTED_TITLE_LENGTH = 16;
+    // MAP_HEAVY: 키 12자("key-00000001") + 값 20자
+    private static final int MAP_KEY_LENGTH = 12;
+    private static final int MAP_VALUE_LENGTH = 20;
+
+    private final boolean corpusEnabled;
+    private final int corpusSize;
+    private final long corpusSeed;
+
+    private DataItemCorpus corpus;
+
+    public DataGenerator(@Value("${data.corpus.enabled:false}") boolean corpusEnabled,
+                         @Value("${data.corpus.size:10000}") int corpusSize,
+                         @Value("${data.corpus.seed:42}") long corpusSeed) {
+        if (corpusEnabled && corpusSize <= 0) {
+            throw new IllegalArgumentException("data.corpus.size must be positive: " + corpusSize);
+        }
+        this.corpusEnabled = corpusEnabled;
+        this.corpusSize = corpusSize;
+        this.corpusSeed = corpusSeed;
+    }
+
+    /**
+     * 코퍼스 모드일 때 시작 시점에 고정된 시드로 데이터 풀을 한 번만 생성
+     */
+    @PostConstruct
+    void initCorpus() {
+        if (!corpusEnabled) {
+            return;
+        }
+
+        long start = System.currentTimeMillis();
+        SplittableRandom random = new SplittableRandom(corpusSeed);
+        List<DataItem> items = new ArrayList<>(corpusSize);
+        for (int i = 0; i < corpusSize; i++) {
+            items.add(createDataItem(seededUuid(random), CORPUS_BASE_TIMESTAMP + i, random::nextDouble));
+        }
+        corpus = DataItemCorpus.of(items, "seed-" + corpusSeed + "-size-" + corpusSize);
+
+        log.info("DataItem corpus ready: {} items, {} MB off-heap, {}ms",
+            corpus.size(), String.format("%.2f", corpus.sizeInBytes() / (1024.0 * 1024.0)),
+            System.currentTimeMillis() - start);
+    }
+
     /**
      * 약 2KB 크기의 DataItem을 생성합니다.
      */
     public DataItem generateDataItem() {
-        String id = UUID.randomUUID().toString();
-        long timestamp = System.currentTimeMillis();
+        return createDataItem(UUID.randomUUID().toString(), System.currentTimeMillis(), Math::random);
+    }
+
+    /**
+     * 지정된 개수만큼 DataItem을 생성합니다.
+     * 코퍼스 모드에서는 새로 생성하지 않고 미리 만든 풀의 구간을 꺼내 반환합니다.
+     */
+    public List<DataItem> generateDataItems(int count) {
+        if (corpus != null) {
+            return corpus.slice(count);
+        }
+
+        List<DataItem> items = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            items.add(generateDataItem());
+        }
+        return items;
+    }
+
+    /**
+     * gRPC 경로용 - POJO를 거치지 않고 Proto DataItem을 바로 생성합니다.
+     */
+    public List<com.example.proto.DataItem> generateProtoDataItems(int count) {
+        if (corpus != null) {
+            return corpus.sliceProto(count);
+        }
+
+        List<com.example.proto.DataItem> items = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            items.add(generateProtoDataItem());
+        }
+        return items;
+    }
+
+    /**
+     * 지정한 페이로드 프로필 모양의 항목을 생성합니다. (itemSizeBytes가 0 이하면 프로필 기본 크기)
+     */
+    public List<ProfiledItem> generateProfiledItems(PayloadProfile profile, int count, int itemSizeBytes) {
+        int budget = Math.max(0, profile.resolveItemSize(itemSizeBytes) - PROFILED_HEADER_BYTES);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        List<ProfiledItem> items = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ProfiledItem item = new ProfiledItem();
+            item.setId(UUID.randomUUID().toString());
+            item.setTimestamp(System.currentTimeMillis());
+            switch (profile) {
+                case SMALL -> {
+                    item.setCounters(randomCounters(SMALL_COUNTERS, random));
+                    item.setBody(generateString(Math.max(0, budget - SMALL_COUNTERS * 8), random::nextDouble));
+                }
+                case LARGE -> item.setBody(generateString(budget, random::nextDouble));
+                case NUMERIC -> {
+                    item.setMeasurements(randomMeasurements(budget / 16, random));
+                    item.setCounters(randomCounters(budget / 16, random));
+                }
+                case NESTED -> item.setSections(createSections(1, nestedTextLength(budget), random));
+                case MAP_HEAVY -> item.setAttributes(createAttributes(budget / (MAP_KEY_LENGTH + MAP_VALUE_LENGTH), random));
+            }
+            items.add(item);
+        }
+        return items;
+    }
+
+    /**
+     * gRPC 경로용 - generateProfiledItems와 같은 모양의 Proto ProfiledItem을 바로 생성합니다.
+     */
+    public List<com.example.proto.ProfiledItem> generateProfiledProtoItems(PayloadProfile profile, int count, int itemSizeBytes) {
+        int budget = Math.max(0, profile.resolveItemSize(itemSizeBytes) - PROFILED_HEADER_BYTES);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        List<com.example.proto.ProfiledItem> items = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            com.example.proto.ProfiledItem.Builder item = com.example.proto.ProfiledItem.newBuilder()
+                .setId(UUID.randomUUID().toString())
+                .setTimestamp(System.currentTimeMillis());
+            switch (profile) {
+                case SMALL -> {
+                    for (long counter : randomCounters(SMALL_COUNTERS, random)) {
+                        item.addCounters(counter);
+                    }
+                    item.setBody(generateString(Math.max(0, budget - SMALL_COUNTERS * 8), random::nextDouble));
+                }
+                case LARGE -> item.setBody(generateString(budget, random::nextDouble));
+                case NUMERIC -> {
+                    for (double measurement : randomMeasurements(budget / 16, random)) {
+                        item.addMeasurements(measurement);
+                    }
+                    for (long counter : randomCounters(budget / 16, random)) {
+                        item.addCounters(counter);
+                    }
+                }
+                case NESTED -> item.addAllSections(createProtoSections(1, nestedTextLength(budget), random));
+                case MAP_HEAVY -> item.putAllAttributes(createAttributes(budget / (MAP_KEY_LENGTH + MAP_VALUE_LENGTH), random));
+            }
+            items.add(item.build());
+        }
+        return items;
+    }
+
+    /**
+     * 현재 반환하는 데이터의 버전 (코퍼스 모드가 아니면 매번 달라지므로 "random")
+     */
+    public String getCorpusVersion() {
+        return corpus != null ? corpus.getVersion() : "random";
+    }
 
+    private DataItem createDataItem(String id, long timestamp, DoubleSupplier random) {
         // 각 필드를 충분히 채워서 약 2KB 정도의 크기를 만듭니다
         return new DataItem(
             id,
             "Product-" + id.substring(0, 8),
-            generateString(200), // description
+            generateString(200, random), // description
             "Category-" + (timestamp % 10),
-            generateString(500), // content
+            generateString(500, random), // content
             timestamp,
-            generateString(150), // metadata1
-            generateString(150), // metadata2
-            generateString(150), // metadata3
-            generateString(150), // metadata4
-            generateString(150), // metadata5
-            generateString(200), // additionalInfo
-            Math.random() * 1000,
+            generateString(150, random), // metadata1
+            generateString(150, random), // metadata2
+            generateString(150, random), // metadata3
+            generateString(150, random), // metadata4
+            generateString(150, random), // metadata5
+            generateString(200, random), // additionalInfo
+            random.getAsDouble() * 1000,
             (int) (timestamp % 5),
             "tag1,tag2,tag3,tag4,tag5"
         );
     }
 
     /**
-     * 지정된 개수만큼 DataItem을 생성합니다.
+     * generateDataItem과 같은 구성의 데이터를 Proto 빌더에 직접 채웁니다.
      */
-    public List<DataItem> generateDataItems(int count) {
-        List<DataItem> items = new ArrayList<>(count);
+    private com.example.proto.DataItem generateProtoDataItem() {
+        String id = UUID.randomUUID().toString();
+        long timestamp = System.currentTimeMillis();
+
+        return com.example.proto.DataItem.newBuilder()
+            .setId(id)
+            .setName("Product-" + id.substring(0, 8))
+            .setDescription(generateString(200, Math::random))
+            .setCategory("Category-" + (timestamp % 10))
+            .setContent(generateString(500, Math::random))
+            .setTimestamp(timestamp)
+            .setMetadata1(generateString(150, Math::random))
+            .setMetadata2(generateString(150, Math::random))
+            .setMetadata3(generateString(150, Math::random))
+            .setMetadata4(generateString(150, Math::random))
+            .setMetadata5(generateString(150, Math::random))
+            .setAdditionalInfo(generateString(200, Math::random))
+            .setValue(Math.random() * 1000)
+            .setStatus((int) (timestamp % 5))
+            .setTags("tag1,tag2,tag3,tag4,tag5")
+            .build();
+    }
+
+    private double[] randomMeasurements(int count, ThreadLocalRandom random) {
+        double[] measurements = new double[count];
         for (int i = 0; i < count; i++) {
-            items.add(generateDataItem());
+            measurements[i] = random.nextDouble() * 1000;
         }
-        return items;
+        return measurements;
+    }
+
+    /**
+     * 카운터 값은 0 ~ 1,000,000 범위 (Protobuf varint 약 3바이트, JSON 약 6자)
+     */
+    private long[] randomCounters(int count, ThreadLocalRandom random) {
+        long[] counters = new long[count];
+        for (int i = 0; i < count; i++) {
+            counters[i] = random.nextLong(1_000_000);
+        }
+        return counters;
+    }
+
+    /**
+     * 섹션 트리 전체(NESTED_DEPTH 단계, 단계마다 NESTED_FANOUT배)에 예산을 고르게 나눈 섹션 하나의 본문 길이
+     */
+    private int nestedTextLength(int budget) {
+        int sections = 0;
+        for (int level = 1, width = NESTED_FANOUT; level <= NESTED_DEPTH; level++, width *= NESTED_FANOUT) {
+            sections += width;
+        }
+        return Math.max(0, budget / sections - NESTED_TITLE_LENGTH - 4 - NESTED_SCORES * 8);
+    }
+
+    private List<ProfiledSection> createSections(int level, int textLength, ThreadLocalRandom random) {
+        List<ProfiledSection> sections = new ArrayList<>(NESTED_FANOUT);
+        for (int i = 0; i < NESTED_FANOUT; i++) {
+            sections.add(new ProfiledSection(
+                generateString(NESTED_TITLE_LENGTH, random::nextDouble),
+                level,
+                generateString(textLength, random::nextDouble),
+                randomMeasurements(NESTED_SCORES, random),
+                level < NESTED_DEPTH ? createSections(level + 1, textLength, random) : null
+            ));
+        }
+        return sections;
+    }
+
+    private List<com.example.proto.ProfiledSection> createProtoSections(int level, int textLength, ThreadLocalRandom random) {
+        List<com.example.proto.ProfiledSection> sections = new ArrayList<>(NESTED_FANOUT);
+        for (int i = 0; i < NESTED_FANOUT; i++) {
+            com.example.proto.ProfiledSection.Builder section = com.example.proto.ProfiledSection.newBuilder()
+                .setTitle(generateString(NESTED_TITLE_LENGTH, random::nextDouble))
+                .setLevel(level)
+                .setText(generateString(textLength, random::nextDouble));
+            for (double score : randomMeasurements(NESTED_SCORES, random)) {
+                section.addScores(score);
+            }
+            if (level < NESTED_DEPTH) {
+                section.addAllChildren(createProtoSections(level + 1, textLength, random));
+            }
+            sections.add(section.build());
+        }
+        return sections;
+    }
+
+    private Map<String, String> createAttributes(int count, ThreadLocalRandom random) {
+        Map<String, String> attributes = new LinkedHashMap<>();
+        for (int i = 0; i < count; i++) {
+            attributes.put(String.format("key-%08d", i), generateString(MAP_VALUE_LENGTH, random::nextDouble));
+        }
+        return attributes;
     }
 
     /**
      * 지정된 길이의 더미 문자열을 생성합니다.
      */
-    private String generateString(int length) {
+    private String generateString(int length, DoubleSupplier random) {
         StringBuilder sb = new StringBuilder(length);
-        String chars = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789 ";
         for (int i = 0; i < length; i++) {
-            sb.append(chars.charAt((int) (Math.random() * chars.length())));
+            sb.append(CHARS.charAt((int) (random.getAsDouble() * CHARS.length())));
         }
         return sb.toString();
     }
-}
\ No newline at end of file
+
+    private String seededUuid(SplittableRandom random) {
+        long mostSigBits = (random.nextLong() & ~0xF000L) | 0x4000L;
+        long leastSigBits = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(mostSigBits, leastSigBits).toString();
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.serviceb.service;
+
+import com.example.serviceb.model.DataItem;
+import com.example.serviceb.model.ServerPerformanceMetrics;
+import com.example.shared.resource.ResourceProbe;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToLongFunction;
+
+/**
+ * 업로드(Service A -> Service B)된 배치를 처리하고 배치마다 서버 측 측정 결과를 기록
+ * 메트릭 키는 "HTTP-INGEST" / "gRPC-INGEST" (durationMs = 배치 처리 시간, 생성/직렬화 시간은 0)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DataIngestService {
+
+    private final PerformanceMetricsService metricsService;
+
+    /**
+     * HTTP 경로 - 역직렬화된 POJO 배치 처리
+     *
+     * @return 처리 시간 (마이크로초)
+     */
+    public long ingest(String protocol, List<DataItem> items) {
+        return measure(protocol, items, this::process);
+    }
+
+    /**
+     * gRPC 경로 - Proto 메시지 배치 처리
+     *
+     * @return 처리 시간 (마이크로초)
+     */
+    public long ingestProto(String protocol, List<com.example.proto.DataItem> items) {
+        return measure(protocol, items, this::processProto);
+    }
+
+    private <T> long measure(String protocol, List<T> items, ToLongFunction<List<T>> processor) {
+        long startTime = System.currentTimeMillis();
+        long startNanos = System.nanoTime();
+        ResourceProbe probe = ResourceProbe.start(ResourceProbe.Scope.THREAD);
+
+        MemoryMXBean memoryBean = ManagementFactory.getMemoryMXBean();
+        long startMemory = memoryBean.getHeapMemoryUsage().getUsed();
+
+        long checksum = processor.applyAsLong(items);
+
+        long processingNanos = System.nanoTime() - startNanos;
+        long endTime = System.currentTimeMillis();
+        long endMemory = memoryBean.getHeapMemoryUsage().getUsed();
+
+        ServerPerformanceMetrics metrics = new ServerPerformanceMetrics(
+            protocol,
+            items.size(),
+            startTime,
+            endTime,
+            endTime - startTime,
+            endMemory - startMemory,
+            0,
+            0,
+            probe.stop()
+        );
+        metricsService.recordMetrics(metrics);
+
+        log.debug("{} ingested {} items in {}us (checksum {})", protocol, items.size(),
+            TimeUnit.NANOSECONDS.toMicros(processingNanos), checksum);
+        return TimeUnit.NANOSECONDS.toMicros(processingNanos);
+    }
+
+    /**
+     * 모든 필드를 읽어 체크섬 계산 (실제 운영에서는 검증, DB insert 등이 여기 해당)
+     */
+    private long process(List<DataItem> items) {
+        long checksum = 0;
+        for (DataItem item : items) {
+            checksum = 31 * checksum + (item.getId() + item.getName() + item.getDescription() +
+                item.getCategory() + item.getContent() + item.getMetadata1() + item.getMetadata2() +
+                item.getMetadata3() + item.getMetadata4() + item.getMetadata5() + item.getAdditionalInfo() +
+                item.getTags()).hashCode();
+            checksum += item.getTimestamp() != null ? item.getTimestamp() : 0;
+            checksum += item.getValue() != null ? Double.doubleToLongBits(item.getValue()) : 0;
+            checksum += item.getStatus() != null ? item.getStatus() : 0;
+        }
+        return checksum;
+    }
+
+    private long processProto(List<com.example.proto.DataItem> items) {
+        long checksum = 0;
+        for (com.example.proto.DataItem item : items) {
+            checksum = 31 * checksum + (item.getId() + item.getName() + item.getDescription() +
+                item.getCategory() + item.getContent() + item.getMetadata1() + item.getMetadata2() +
+                item.getMetadata3() + item.getMetadata4() + item.getMetadata5() + item.getAdditionalInfo() +
+                item.getTags()).hashCode();
+            checksum += item.getTimestamp();
+            checksum += Double.doubleToLongBits(item.getValue());
+            checksum += item.getStatus();
+        }
+        return checksum;
+    }
+}
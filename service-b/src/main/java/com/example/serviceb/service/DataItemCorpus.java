@@ -0,0 +1,183 @@
+package com.example.serviceb.service;
+
+import com.example.serviceb.model.DataItem;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.UnsafeByteOperations;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 미리 생성한 DataItem 풀을 off-heap(direct ByteBuffer)에 압축 저장하고
+ * 요청 시 풀의 일부 구간(slice)을 순환하며 꺼내 주는 저장소
+ *
+ * 레코드 레이아웃: timestamp(8) | value(8) | status(4) | [길이(2) + ASCII 바이트] x 문자열 필드 수
+ */
+public final class DataItemCorpus {
+
+    private static final int STRING_FIELD_COUNT = 11;
+    // 문자열 길이는 부호 없는 2바이트로 저장하므로 필드 하나의 최대 크기
+    private static final int MAX_FIELD_BYTES = 0xFFFF;
+
+    private final ByteBuffer store;
+    private final int[] offsets;
+    private final String tags;
+    private final ByteString tagsBytes;
+    private final String version;
+    private final AtomicInteger cursor = new AtomicInteger();
+
+    private DataItemCorpus(ByteBuffer store, int[] offsets, String tags, String version) {
+        this.store = store;
+        this.offsets = offsets;
+        this.tags = tags;
+        this.tagsBytes = ByteString.copyFromUtf8(tags);
+        this.version = version;
+    }
+
+    /**
+     * DataItem 목록을 인코딩하여 코퍼스를 만듦 (tags는 모든 항목에서 같은 상수 값)
+     */
+    public static DataItemCorpus of(List<DataItem> items, String version) {
+        if (items.isEmpty()) {
+            throw new IllegalArgumentException("Corpus must contain at least one item");
+        }
+        int[] offsets = new int[items.size()];
+        int totalBytes = 0;
+        for (DataItem item : items) {
+            totalBytes += recordSize(item);
+        }
+
+        ByteBuffer store = ByteBuffer.allocateDirect(totalBytes);
+        for (int i = 0; i < items.size(); i++) {
+            offsets[i] = store.position();
+            DataItem item = items.get(i);
+            store.putLong(item.getTimestamp());
+            store.putDouble(item.getValue());
+            store.putInt(item.getStatus());
+            for (String field : stringFields(item)) {
+                byte[] bytes = field.getBytes(StandardCharsets.ISO_8859_1);
+                if (bytes.length > MAX_FIELD_BYTES) {
+                    throw new IllegalArgumentException(
+                        "Corpus string field too long: " + bytes.length + " bytes (max " + MAX_FIELD_BYTES + ")");
+                }
+                store.putShort((short) bytes.length);
+                store.put(bytes);
+            }
+        }
+
+        return new DataItemCorpus(store, offsets, items.get(0).getTags(), version);
+    }
+
+    /**
+     * 커서 위치부터 count개를 꺼냄 (풀 끝에 닿으면 처음으로 순환)
+     */
+    public List<DataItem> slice(int count) {
+        int start = Math.floorMod(cursor.getAndAdd(count), offsets.length);
+        List<DataItem> items = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            items.add(decode((start + i) % offsets.length));
+        }
+        return items;
+    }
+
+    /**
+     * slice와 같지만 Proto 메시지로 바로 꺼냄 - 문자열 필드는 off-heap 저장소를 가리키는 ByteString 뷰로 설정하므로
+     * 중간 POJO나 String/byte[] 복사본이 생기지 않음
+     */
+    public List<com.example.proto.DataItem> sliceProto(int count) {
+        int start = Math.floorMod(cursor.getAndAdd(count), offsets.length);
+        List<com.example.proto.DataItem> items = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            items.add(decodeProto((start + i) % offsets.length));
+        }
+        return items;
+    }
+
+    public int size() {
+        return offsets.length;
+    }
+
+    public long sizeInBytes() {
+        return store.capacity();
+    }
+
+    public String getVersion() {
+        return version;
+    }
+
+    private DataItem decode(int index) {
+        int position = offsets[index];
+        long timestamp = store.getLong(position);
+        double value = store.getDouble(position + 8);
+        int status = store.getInt(position + 16);
+        position += 20;
+
+        String[] fields = new String[STRING_FIELD_COUNT];
+        for (int i = 0; i < STRING_FIELD_COUNT; i++) {
+            int length = Short.toUnsignedInt(store.getShort(position));
+            byte[] bytes = new byte[length];
+            store.get(position + 2, bytes);
+            fields[i] = new String(bytes, StandardCharsets.ISO_8859_1);
+            position += 2 + length;
+        }
+
+        return new DataItem(
+            fields[0], fields[1], fields[2], fields[3], fields[4],
+            timestamp,
+            fields[5], fields[6], fields[7], fields[8], fields[9], fields[10],
+            value,
+            status,
+            tags
+        );
+    }
+
+    private com.example.proto.DataItem decodeProto(int index) {
+        int position = offsets[index];
+        com.example.proto.DataItem.Builder builder = com.example.proto.DataItem.newBuilder()
+            .setTimestamp(store.getLong(position))
+            .setValue(store.getDouble(position + 8))
+            .setStatus(store.getInt(position + 16))
+            .setTagsBytes(tagsBytes);
+        position += 20;
+
+        ByteString[] fields = new ByteString[STRING_FIELD_COUNT];
+        for (int i = 0; i < STRING_FIELD_COUNT; i++) {
+            int length = Short.toUnsignedInt(store.getShort(position));
+            fields[i] = UnsafeByteOperations.unsafeWrap(store.slice(position + 2, length));
+            position += 2 + length;
+        }
+
+        return builder
+            .setIdBytes(fields[0])
+            .setNameBytes(fields[1])
+            .setDescriptionBytes(fields[2])
+            .setCategoryBytes(fields[3])
+            .setContentBytes(fields[4])
+            .setMetadata1Bytes(fields[5])
+            .setMetadata2Bytes(fields[6])
+            .setMetadata3Bytes(fields[7])
+            .setMetadata4Bytes(fields[8])
+            .setMetadata5Bytes(fields[9])
+            .setAdditionalInfoBytes(fields[10])
+            .build();
+    }
+
+    private static int recordSize(DataItem item) {
+        int size = 8 + 8 + 4;
+        for (String field : stringFields(item)) {
+            size += 2 + field.length();
+        }
+        return size;
+    }
+
+    private static String[] stringFields(DataItem item) {
+        return new String[] {
+            item.getId(), item.getName(), item.getDescription(), item.getCategory(), item.getContent(),
+            item.getMetadata1(), item.getMetadata2(), item.getMetadata3(), item.getMetadata4(), item.getMetadata5(),
+            item.getAdditionalInfo()
+        };
+    }
+}
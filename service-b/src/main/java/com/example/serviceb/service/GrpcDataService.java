@@ -2,23 +2,108 @@ package com.example.serviceb.service;
 
 import com.example.proto.*;
 import com.example.serviceb.model.DataItem;
+import com.example.serviceb.model.PayloadProfile;
 import com.example.serviceb.model.ServerPerformanceMetrics;
+import com.example.serviceb.model.WireFormat;
+import com.example.shared.grpc.PreEncodedMarshaller;
+import com.example.shared.grpc.ZeroCopyProtoMarshaller;
+import com.example.shared.model.ResourceUsage;
+import com.example.shared.resource.ResourceProbe;
+import com.google.protobuf.UnsafeByteOperations;
+import io.grpc.MethodDescriptor;
+import io.grpc.ServerMethodDefinition;
+import io.grpc.ServerServiceDefinition;
+import io.grpc.ServiceDescriptor;
+import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.ServerCalls;
 import io.grpc.stub.StreamObserver;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.devh.boot.grpc.server.service.GrpcService;
+import org.springframework.beans.factory.annotation.Value;
 
 import java.lang.management.ManagementFactory;
 import java.lang.management.MemoryMXBean;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Supplier;
 
 @Slf4j
 @GrpcService
 @RequiredArgsConstructor
 public class GrpcDataService extends DataServiceGrpc.DataServiceImplBase {
 
+    private static final int DEFAULT_STREAM_CHUNK_SIZE = 100;
+
     private final DataGenerator dataGenerator;
     private final PerformanceMetricsService metricsService;
+    private final PayloadCache payloadCache;
+    private final PayloadEncoder payloadEncoder;
+    private final DataIngestService ingestService;
+
+    // true면 Proto 메시지를 바로 생성, false면 기존처럼 POJO 생성 후 Proto로 필드 복사 (할당량 비교용)
+    @Value("${data.grpc.direct-proto:true}")
+    private boolean directProto;
+
+    @Value("${data.grpc.zero-copy:false}")
+    private boolean zeroCopyMarshalling;
+
+    /**
+     * 기본 등록 내용을 설정에 맞게 바꿔서 등록
+     * - 페이로드 캐시 모드면 GetBatchData 응답을 미리 직렬화한 바이트로 보내는 핸들러로 교체
+     * - zero-copy 설정이면 모든 메서드의 마샬러를 ZeroCopyProtoMarshaller로 바꿈
+     *   (요청 메시지에 bytes 필드가 없어 파싱 후 버퍼를 바로 반납해도 안전)
+     */
+    @Override
+    public ServerServiceDefinition bindService() {
+        ServerServiceDefinition definition = super.bindService();
+        if (!zeroCopyMarshalling && !payloadCache.isEnabled()) {
+            return definition;
+        }
+
+        ServiceDescriptor descriptor = definition.getServiceDescriptor();
+        ServiceDescriptor.Builder descriptorBuilder = ServiceDescriptor.newBuilder(descriptor.getName())
+            .setSchemaDescriptor(descriptor.getSchemaDescriptor());
+        List<ServerMethodDefinition<?, ?>> methods = new ArrayList<>();
+        for (ServerMethodDefinition<?, ?> method : definition.getMethods()) {
+            ServerMethodDefinition<?, ?> rebound = method;
+            if (payloadCache.isEnabled() && method.getMethodDescriptor().getFullMethodName()
+                    .equals(DataServiceGrpc.getGetBatchDataMethod().getFullMethodName())) {
+                rebound = cachedBatchDataMethod();
+            }
+            if (zeroCopyMarshalling) {
+                rebound = withZeroCopyMarshaller(rebound);
+            }
+            descriptorBuilder.addMethod(rebound.getMethodDescriptor());
+            methods.add(rebound);
+        }
+
+        ServerServiceDefinition.Builder builder = ServerServiceDefinition.builder(descriptorBuilder.build());
+        for (ServerMethodDefinition<?, ?> method : methods) {
+            builder.addMethod(method);
+        }
+        if (zeroCopyMarshalling) {
+            log.info("gRPC DataService uses zero-copy protobuf marshaller");
+        }
+        return builder.build();
+    }
+
+    private static <ReqT, RespT> ServerMethodDefinition<ReqT, RespT> withZeroCopyMarshaller(
+            ServerMethodDefinition<ReqT, RespT> method) {
+        return ServerMethodDefinition.create(
+            ZeroCopyProtoMarshaller.rebind(method.getMethodDescriptor()), method.getServerCallHandler());
+    }
+
+    /**
+     * 응답 마샬러만 PreEncodedMarshaller로 바꾼 GetBatchData (클라이언트는 그대로 BatchDataResponse로 파싱)
+     */
+    private ServerMethodDefinition<BatchDataGenerateRequest, byte[]> cachedBatchDataMethod() {
+        MethodDescriptor<BatchDataGenerateRequest, BatchDataResponse> method = DataServiceGrpc.getGetBatchDataMethod();
+        return ServerMethodDefinition.create(
+            method.toBuilder(method.getRequestMarshaller(), new PreEncodedMarshaller()).build(),
+            ServerCalls.asyncUnaryCall(this::getCachedBatchData));
+    }
 
     /**
      * Service B가 데이터를 생성해서 반환
@@ -26,6 +111,7 @@ public class GrpcDataService extends DataServiceGrpc.DataServiceImplBase {
     @Override
     public void getBatchData(BatchDataGenerateRequest request, StreamObserver<BatchDataResponse> responseObserver) {
         long startTime = System.currentTimeMillis();
+        ResourceProbe probe = ResourceProbe.start(ResourceProbe.Scope.THREAD);
 
         // MemoryMXBean을 사용한 정확한 힙 메모리 측정
         MemoryMXBean memoryBean = ManagementFactory.getMemoryMXBean();
@@ -34,52 +120,386 @@ public class GrpcDataService extends DataServiceGrpc.DataServiceImplBase {
         int count = request.getCount();
         log.info("Generating {} items via gRPC", count);
 
-        // 데이터 생성 시작
+        // 데이터 생성/Proto 변환 시간
+        long[] phaseMs = new long[2];
+        BatchDataResponse response = buildBatchResponse(count, startTime, phaseMs);
+
+        // Protobuf 인코딩은 onNext 안에서 호출 스레드가 수행하므로 전송까지 측정 구간에 포함
+        long encodeMs = sendAndComplete(responseObserver, response);
+
+        long endTime = System.currentTimeMillis();
+        long endMemory = memoryBean.getHeapMemoryUsage().getUsed();
+
+        // 메모리 증가량 계산
+        long memoryIncrease = endMemory - startMemory;
+
+        // 서버 측 성능 측정 결과 저장
+        ServerPerformanceMetrics metrics = new ServerPerformanceMetrics(
+            "gRPC",
+            count,
+            startTime,
+            endTime,
+            endTime - startTime,
+            memoryIncrease,
+            phaseMs[0],
+            phaseMs[1] + encodeMs,
+            probe.stop()
+        );
+        metricsService.recordMetrics(metrics);
+
+        log.info("gRPC Server metrics - Duration: {}ms, Allocated: {}MB, CPU: {}ms, GC: {}, DataGen: {}ms, Serialization: {}ms, DirectProto: {}",
+            metrics.getDurationMs(), String.format("%.2f", metrics.getAllocatedMB()),
+            String.format("%.2f", metrics.getCpuTimeMs()), metrics.getGcCount(),
+            metrics.getDataGenerationMs(), metrics.getSerializationMs(), directProto);
+    }
+
+    /**
+     * 페이로드 캐시 모드의 GetBatchData - 이미 직렬화된 응답 바이트를 그대로 전송
+     * (HTTP 캐시 모드처럼 인코딩된 바이트를 보관하므로 히트면 데이터 생성/Proto 변환/직렬화 모두 생략)
+     */
+    private void getCachedBatchData(BatchDataGenerateRequest request, StreamObserver<byte[]> responseObserver) {
+        long startTime = System.currentTimeMillis();
+        ResourceProbe probe = ResourceProbe.start(ResourceProbe.Scope.THREAD);
+
+        MemoryMXBean memoryBean = ManagementFactory.getMemoryMXBean();
+        long startMemory = memoryBean.getHeapMemoryUsage().getUsed();
+
+        int count = request.getCount();
+        log.info("Sending {} cached items via gRPC", count);
+
+        // 캐시 미스일 때 loader 안에서 측정한 데이터 생성/직렬화 시간 (히트면 0)
+        long[] phaseMs = new long[2];
+        byte[] payload = payloadCache.getOrLoad("gRPC", count, dataGenerator.getCorpusVersion(), () -> {
+            BatchDataResponse built = buildBatchResponse(count, startTime, phaseMs);
+            long encodeStart = System.currentTimeMillis();
+            byte[] encoded = built.toByteArray();
+            phaseMs[1] += System.currentTimeMillis() - encodeStart;
+            return encoded;
+        });
+
+        long sendMs = sendAndComplete(responseObserver, payload);
+
+        long endTime = System.currentTimeMillis();
+        ServerPerformanceMetrics metrics = new ServerPerformanceMetrics(
+            "gRPC",
+            count,
+            startTime,
+            endTime,
+            endTime - startTime,
+            memoryBean.getHeapMemoryUsage().getUsed() - startMemory,
+            phaseMs[0],
+            phaseMs[1] + sendMs,
+            probe.stop()
+        );
+        metricsService.recordMetrics(metrics);
+    }
+
+    /**
+     * 응답 하나를 보내고 호출을 끝냄 - 메시지 인코딩(프레이밍)에 걸린 시간(ms) 반환
+     * (unary 핸들러는 이 호출 뒤에 probe를 멈춰서 스트리밍 핸들러처럼 인코딩 비용을 측정에 포함)
+     */
+    private static <T> long sendAndComplete(StreamObserver<T> responseObserver, T response) {
+        long sendStart = System.nanoTime();
+        responseObserver.onNext(response);
+        responseObserver.onCompleted();
+        return (System.nanoTime() - sendStart) / 1_000_000;
+    }
+
+    /**
+     * 데이터 생성 + Proto 변환으로 응답 메시지를 만들고 단계별 소요 시간을 phaseMs에 기록
+     */
+    private BatchDataResponse buildBatchResponse(int count, long startTime, long[] phaseMs) {
+        // 데이터 생성 시작 (direct-proto 모드면 중간 POJO 없이 Proto 메시지를 바로 생성)
         long dataGenStart = System.currentTimeMillis();
-        List<DataItem> items = dataGenerator.generateDataItems(count);
+        List<com.example.proto.DataItem> protoItems = directProto ? dataGenerator.generateProtoDataItems(count) : null;
+        List<DataItem> items = directProto ? null : dataGenerator.generateDataItems(count);
         long dataGenEnd = System.currentTimeMillis();
 
         // 직렬화 시작 (Proto 변환)
         long serializationStart = System.currentTimeMillis();
         BatchDataResponse.Builder responseBuilder = BatchDataResponse.newBuilder()
             .setSuccess(true)
-            .setProcessedCount(items.size())
+            .setProcessedCount(count)
             .setMessage("Batch data generated successfully")
             .setStartTime(startTime)
             .setEndTime(System.currentTimeMillis());
 
-        // Java DataItem을 Proto DataItem으로 변환
-        for (DataItem item : items) {
-            com.example.proto.DataItem protoItem = convertToProto(item);
-            responseBuilder.addItems(protoItem);
+        if (directProto) {
+            responseBuilder.addAllItems(protoItems);
+        } else {
+            // Java DataItem을 Proto DataItem으로 변환
+            for (DataItem item : items) {
+                com.example.proto.DataItem protoItem = convertToProto(item);
+                responseBuilder.addItems(protoItem);
+            }
         }
+        BatchDataResponse response = responseBuilder.build();
         long serializationEnd = System.currentTimeMillis();
 
+        phaseMs[0] = dataGenEnd - dataGenStart;
+        phaseMs[1] = serializationEnd - serializationStart;
+        return response;
+    }
+
+    /**
+     * 요청한 포맷(JSON/Smile/CBOR/Protobuf)으로 인코딩한 BatchDataResponse를 bytes 필드에 담아 반환
+     * (같은 HTTP/2 전송 위에서 포맷만 바꿔 비교하기 위한 경로)
+     */
+    @Override
+    public void getEncodedBatchData(EncodedBatchRequest request, StreamObserver<EncodedBatchResponse> responseObserver) {
+        WireFormat format;
+        try {
+            format = WireFormat.valueOf(request.getFormat());
+        } catch (IllegalArgumentException e) {
+            responseObserver.onError(Status.INVALID_ARGUMENT
+                .withDescription("Unknown wire format: " + request.getFormat())
+                .asRuntimeException());
+            return;
+        }
+
+        long startTime = System.currentTimeMillis();
+        ResourceProbe probe = ResourceProbe.start(ResourceProbe.Scope.THREAD);
+        long startMemory = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+
+        int count = request.getCount();
+        String protocol = "gRPC-" + format.name();
+        log.info("Generating {} items via gRPC ({})", count, format);
+
+        // 데이터 생성/인코딩 시간 (페이로드 캐시 히트면 0)
+        long[] phaseMs = new long[2];
+        Supplier<byte[]> encoder = () -> {
+            if (format == WireFormat.PROTOBUF) {
+                return buildBatchResponse(count, startTime, phaseMs).toByteArray();
+            }
+            long dataGenStart = System.currentTimeMillis();
+            List<DataItem> items = dataGenerator.generateDataItems(count);
+            long dataGenEnd = System.currentTimeMillis();
+
+            byte[] encoded = payloadEncoder.encodeBatch(items, startTime, format);
+            phaseMs[0] = dataGenEnd - dataGenStart;
+            phaseMs[1] = System.currentTimeMillis() - dataGenEnd;
+            return encoded;
+        };
+        byte[] payload = payloadCache.isEnabled()
+            ? payloadCache.getOrLoad(protocol, count, dataGenerator.getCorpusVersion(), encoder)
+            : encoder.get();
+
+        // 인코딩된 배열은 이후 수정되지 않으므로 복사 없이 감쌈
+        long encodeMs = sendAndComplete(responseObserver, EncodedBatchResponse.newBuilder()
+            .setFormat(format.name())
+            .setPayload(UnsafeByteOperations.unsafeWrap(payload))
+            .build());
+
         long endTime = System.currentTimeMillis();
-        long endMemory = memoryBean.getHeapMemoryUsage().getUsed();
+        ServerPerformanceMetrics metrics = new ServerPerformanceMetrics(
+            protocol,
+            count,
+            startTime,
+            endTime,
+            endTime - startTime,
+            ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed() - startMemory,
+            phaseMs[0],
+            phaseMs[1] + encodeMs,
+            probe.stop()
+        );
+        metricsService.recordMetrics(metrics);
+    }
 
-        // 메모리 증가량 계산
-        long memoryIncrease = endMemory - startMemory;
+    /**
+     * 요청한 페이로드 프로필 모양의 항목을 Proto 메시지로 바로 생성해서 반환 (itemSizeBytes가 0이면 프로필 기본 크기)
+     * 서버 메트릭은 "gRPC-PROFILE-<프로필>" 키로 기록
+     */
+    @Override
+    public void getProfiledBatchData(ProfiledBatchRequest request, StreamObserver<ProfiledBatchResponse> responseObserver) {
+        PayloadProfile profile;
+        try {
+            profile = PayloadProfile.valueOf(request.getProfile());
+        } catch (IllegalArgumentException e) {
+            responseObserver.onError(Status.INVALID_ARGUMENT
+                .withDescription("Unknown payload profile: " + request.getProfile())
+                .asRuntimeException());
+            return;
+        }
 
-        // 서버 측 성능 측정 결과 저장
+        long startTime = System.currentTimeMillis();
+        ResourceProbe probe = ResourceProbe.start(ResourceProbe.Scope.THREAD);
+        long startMemory = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+
+        int count = request.getCount();
+        log.info("Generating {} {} items via gRPC (item size: {} bytes)", count, profile,
+            profile.resolveItemSize(request.getItemSizeBytes()));
+
+        long dataGenStart = System.currentTimeMillis();
+        List<ProfiledItem> items = dataGenerator.generateProfiledProtoItems(profile, count, request.getItemSizeBytes());
+        long dataGenEnd = System.currentTimeMillis();
+
+        ProfiledBatchResponse response = ProfiledBatchResponse.newBuilder()
+            .setSuccess(true)
+            .setProcessedCount(items.size())
+            .setProfile(profile.name())
+            .setStartTime(startTime)
+            .setEndTime(System.currentTimeMillis())
+            .addAllItems(items)
+            .build();
+        sendAndComplete(responseObserver, response);
+
+        // 직렬화 = 응답 빌드 + onNext 안의 인코딩
+        long endTime = System.currentTimeMillis();
         ServerPerformanceMetrics metrics = new ServerPerformanceMetrics(
-            "gRPC",
+            "gRPC-PROFILE-" + profile.name(),
             count,
             startTime,
             endTime,
             endTime - startTime,
-            memoryIncrease,
+            ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed() - startMemory,
             dataGenEnd - dataGenStart,
-            serializationEnd - serializationStart
+            endTime - dataGenEnd,
+            probe.stop()
+        );
+        metricsService.recordMetrics(metrics);
+    }
+
+    /**
+     * Service B가 데이터를 생성하면서 청크 단위로 스트리밍 반환
+     * (클라이언트가 수신 가능한 상태(isReady)일 때만 전송하여 서버 힙을 일정하게 유지)
+     */
+    @Override
+    public void streamBatchData(BatchDataGenerateRequest request, StreamObserver<DataItemChunk> responseObserver) {
+        ServerCallStreamObserver<DataItemChunk> serverObserver = (ServerCallStreamObserver<DataItemChunk>) responseObserver;
+
+        int count = request.getCount();
+        int chunkSize = request.getChunkSize() > 0 ? request.getChunkSize() : DEFAULT_STREAM_CHUNK_SIZE;
+        log.info("Streaming {} items via gRPC (chunk size: {})", count, chunkSize);
+
+        StreamState state = new StreamState();
+
+        serverObserver.setOnCancelHandler(() -> {
+            state.completed = true;
+            log.warn("gRPC stream cancelled by client after {}/{} items", state.sentCount, count);
+        });
+
+        // onReady 핸들러는 호출 단위로 직렬화되어 실행되므로 state에 별도 동기화가 필요 없음
+        serverObserver.setOnReadyHandler(() -> {
+            // 핸들러는 매번 다른 스레드에서 실행될 수 있으므로 실행 단위로 측정해 누적
+            // (GC는 할당 중에 일어나므로 실행 구간 합산으로 이 스트림이 유발한 GC를 대부분 포함)
+            ResourceProbe probe = ResourceProbe.start(ResourceProbe.Scope.THREAD);
+
+            while (!state.completed && serverObserver.isReady() && state.sentCount < count) {
+                int currentChunkSize = Math.min(chunkSize, count - state.sentCount);
+
+                long dataGenStart = System.nanoTime();
+                List<com.example.proto.DataItem> protoItems = directProto ? dataGenerator.generateProtoDataItems(currentChunkSize) : null;
+                List<DataItem> items = directProto ? null : dataGenerator.generateDataItems(currentChunkSize);
+                long dataGenEnd = System.nanoTime();
+
+                DataItemChunk.Builder chunkBuilder = DataItemChunk.newBuilder()
+                    .setSequence(state.sequence++);
+                if (directProto) {
+                    chunkBuilder.addAllItems(protoItems);
+                } else {
+                    for (DataItem item : items) {
+                        chunkBuilder.addItems(convertToProto(item));
+                    }
+                }
+                DataItemChunk chunk = chunkBuilder.build();
+                long serializationEnd = System.nanoTime();
+
+                state.dataGenNanos += dataGenEnd - dataGenStart;
+                state.serializationNanos += serializationEnd - dataGenEnd;
+                state.sentCount += currentChunkSize;
+
+                serverObserver.onNext(chunk);
+            }
+
+            state.resources = state.resources.plus(probe.stop());
+
+            if (!state.completed && state.sentCount >= count) {
+                state.completed = true;
+                recordStreamMetrics(state, count);
+                serverObserver.onCompleted();
+            }
+        });
+    }
+
+    /**
+     * 클라이언트 스트리밍 업로드 - 청크(배치)가 도착할 때마다 처리하고 스트림이 끝나면 확인 응답 1건 반환
+     * (배치별 처리 결과는 "gRPC-INGEST" 메트릭으로 기록)
+     */
+    @Override
+    public StreamObserver<DataItemChunk> ingestData(StreamObserver<IngestResponse> responseObserver) {
+        long startTime = System.currentTimeMillis();
+
+        // 요청 메시지 콜백은 호출 단위로 직렬화되어 실행되므로 카운터에 별도 동기화가 필요 없음
+        return new StreamObserver<>() {
+            private int acknowledgedBatches;
+            private int acknowledgedCount;
+            private long processingMicros;
+
+            @Override
+            public void onNext(DataItemChunk chunk) {
+                processingMicros += ingestService.ingestProto("gRPC-INGEST", chunk.getItemsList());
+                acknowledgedBatches++;
+                acknowledgedCount += chunk.getItemsCount();
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                log.warn("gRPC ingest stream failed after {} batches ({} items): {}",
+                    acknowledgedBatches, acknowledgedCount, t.getMessage());
+            }
+
+            @Override
+            public void onCompleted() {
+                log.info("gRPC ingest completed - Batches: {}, Items: {}, Processing: {}us",
+                    acknowledgedBatches, acknowledgedCount, processingMicros);
+
+                responseObserver.onNext(IngestResponse.newBuilder()
+                    .setSuccess(true)
+                    .setAcknowledgedBatches(acknowledgedBatches)
+                    .setAcknowledgedCount(acknowledgedCount)
+                    .setStartTime(startTime)
+                    .setEndTime(System.currentTimeMillis())
+                    .setProcessingMicros(processingMicros)
+                    .build());
+                responseObserver.onCompleted();
+            }
+        };
+    }
+
+    private void recordStreamMetrics(StreamState state, int count) {
+        long endTime = System.currentTimeMillis();
+        long endMemory = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+
+        ServerPerformanceMetrics metrics = new ServerPerformanceMetrics(
+            "gRPC-Stream",
+            count,
+            state.startTime,
+            endTime,
+            endTime - state.startTime,
+            endMemory - state.startMemory,
+            state.dataGenNanos / 1_000_000,
+            state.serializationNanos / 1_000_000,
+            state.resources
         );
         metricsService.recordMetrics(metrics);
 
-        log.info("gRPC Server metrics - Duration: {}ms, Memory: {:.2f}MB, DataGen: {}ms, Serialization: {}ms",
-            metrics.getDurationMs(), metrics.getMemoryUsedMB(),
+        log.info("gRPC Stream Server metrics - Duration: {}ms, Chunks: {}, DataGen: {}ms, Serialization: {}ms",
+            metrics.getDurationMs(), state.sequence,
             metrics.getDataGenerationMs(), metrics.getSerializationMs());
+    }
 
-        responseObserver.onNext(responseBuilder.build());
-        responseObserver.onCompleted();
+    /**
+     * 스트리밍 호출 하나의 진행 상태
+     */
+    private static class StreamState {
+        private final long startTime = System.currentTimeMillis();
+        private final long startMemory = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+        private int sentCount;
+        private int sequence;
+        private long dataGenNanos;
+        private long serializationNanos;
+        private ResourceUsage resources = new ResourceUsage();
+        private volatile boolean completed;
     }
 
     private com.example.proto.DataItem convertToProto(DataItem item) {
@@ -0,0 +1,70 @@
+package com.example.serviceb.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 고정 크기 lock-free 링 버퍼 - 가득 차면 가장 오래된 항목을 덮어씀
+ * - add: 시퀀스를 getAndIncrement로 예약한 뒤 해당 슬롯에 기록 (락/재시도 없음)
+ * - snapshot: 최근 capacity개를 오래된 순으로 복사 (기록 중인 슬롯은 이전 값이나 새 값 중 하나로 보일 수 있음)
+ */
+public final class MetricsRingBuffer<T> {
+
+    private final AtomicReferenceArray<T> slots;
+    private final int mask;
+    private final AtomicLong sequence = new AtomicLong();
+
+    // 2의 거듭제곱으로 올려도 int 범위를 넘지 않는 최대 크기
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    /**
+     * capacity는 2의 거듭제곱으로 올림 (슬롯 인덱스를 나머지 연산 대신 비트 마스크로 계산)
+     */
+    public MetricsRingBuffer(int capacity) {
+        if (capacity < 1 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Ring buffer capacity must be between 1 and " + MAX_CAPACITY + ": " + capacity);
+        }
+        int size = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    public void add(T value) {
+        long seq = sequence.getAndIncrement();
+        slots.set((int) (seq & mask), value);
+    }
+
+    public int capacity() {
+        return slots.length();
+    }
+
+    /**
+     * 지금까지 추가된 전체 개수 (덮어쓴 항목 포함)
+     */
+    public long totalAdded() {
+        return sequence.get();
+    }
+
+    /**
+     * 현재 보관 중인 항목 수 (최대 capacity)
+     */
+    public int size() {
+        return (int) Math.min(sequence.get(), slots.length());
+    }
+
+    public List<T> snapshot() {
+        long end = sequence.get();
+        long start = Math.max(0, end - slots.length());
+        List<T> values = new ArrayList<>((int) (end - start));
+        for (long seq = start; seq < end; seq++) {
+            T value = slots.get((int) (seq & mask));
+            // 시퀀스만 예약되고 아직 기록되지 않은 슬롯
+            if (value != null) {
+                values.add(value);
+            }
+        }
+        return values;
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.serviceb.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 이미 인코딩된 응답 바이트(HTTP는 JSON 등, gRPC는 직렬화된 Proto)를 (protocol, count, corpus version) 단위로 보관하는 LRU 캐시
+ * 캐시 히트 시 데이터 생성/직렬화 없이 바로 응답하므로 순수 전송 비용만 측정할 수 있음
+ *
+ * 응답에 담긴 startTime/endTime은 처음 인코딩할 때의 값이 그대로 재전송됨
+ * (Service A는 이 값을 쓰지 않고, 요청별 서버 시간은 메트릭으로 따로 기록)
+ */
+@Slf4j
+@Service
+public class PayloadCache {
+
+    private final boolean enabled;
+    private final int maxEntries;
+    private final PerformanceMetricsService metricsService;
+    private final Map<Key, Object> entries;
+
+    public PayloadCache(@Value("${payload-cache.enabled:false}") boolean enabled,
+                        @Value("${payload-cache.max-entries:16}") int maxEntries,
+                        PerformanceMetricsService metricsService) {
+        this.enabled = enabled;
+        this.maxEntries = maxEntries;
+        this.metricsService = metricsService;
+        // accessOrder=true: 조회할 때마다 가장 최근 위치로 이동 -> 가장 오래 안 쓴 항목부터 제거
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Object> eldest) {
+                boolean evict = size() > PayloadCache.this.maxEntries;
+                if (evict) {
+                    log.debug("Evicting cached payload: {}", eldest.getKey());
+                }
+                return evict;
+            }
+        };
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 캐시된 값을 반환하고, 없으면 loader로 만들어 저장
+     * (loader는 락 밖에서 실행되므로 동시에 같은 키를 요청하면 중복 생성될 수 있음)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T getOrLoad(String protocol, int count, String corpusVersion, Supplier<T> loader) {
+        Key key = new Key(protocol, count, corpusVersion);
+
+        Object cached;
+        synchronized (entries) {
+            cached = entries.get(key);
+        }
+        if (cached != null) {
+            metricsService.recordCacheHit(protocol);
+            return (T) cached;
+        }
+
+        metricsService.recordCacheMiss(protocol);
+        T loaded = loader.get();
+        synchronized (entries) {
+            entries.put(key, loaded);
+        }
+        return loaded;
+    }
+
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    private record Key(String protocol, int count, String corpusVersion) {
+    }
+}
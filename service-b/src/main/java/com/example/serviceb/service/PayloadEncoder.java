@@ -0,0 +1,59 @@
+package com.example.serviceb.service;
+
+import com.example.serviceb.model.BatchDataResponse;
+import com.example.serviceb.model.DataItem;
+import com.example.serviceb.model.WireFormat;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * BatchDataResponse를 Jackson 계열 포맷(JSON/Smile/CBOR)의 바이트로 직접 인코딩
+ * (페이로드 캐시와 gRPC bytes 응답처럼 메시지 컨버터를 거치지 않는 경로에서 사용, MVC 컨버터와 같은 ObjectMapper 사용)
+ */
+@Component
+public class PayloadEncoder {
+
+    private final Map<WireFormat, ObjectMapper> mappers = new EnumMap<>(WireFormat.class);
+
+    public PayloadEncoder(ObjectMapper objectMapper,
+                          MappingJackson2SmileHttpMessageConverter smileConverter,
+                          MappingJackson2CborHttpMessageConverter cborConverter) {
+        mappers.put(WireFormat.JSON, objectMapper);
+        mappers.put(WireFormat.SMILE, smileConverter.getObjectMapper());
+        mappers.put(WireFormat.CBOR, cborConverter.getObjectMapper());
+    }
+
+    public byte[] encodeBatch(List<DataItem> items, long startTime, WireFormat format) {
+        BatchDataResponse response = new BatchDataResponse(
+            true,
+            items.size(),
+            "Batch data generated successfully",
+            startTime,
+            System.currentTimeMillis(),
+            items
+        );
+        return encode(response, format);
+    }
+
+    /**
+     * 응답 객체를 그대로 인코딩 (핸들러 안에서 직렬화 비용까지 측정하려는 경로에서 사용)
+     */
+    public byte[] encode(Object response, WireFormat format) {
+        ObjectMapper mapper = mappers.get(format);
+        if (mapper == null) {
+            throw new IllegalArgumentException("Not a Jackson wire format: " + format);
+        }
+        try {
+            return mapper.writeValueAsBytes(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize response as " + format, e);
+        }
+    }
+}
@@ -1,43 +1,167 @@
 package com.example.serviceb.service;
 
+import com.example.serviceb.model.PayloadCacheStats;
+import com.example.serviceb.model.ServerMetricsSummary;
 import com.example.serviceb.model.ServerPerformanceMetrics;
 import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
 @Slf4j
 @Service
 public class PerformanceMetricsService {
 
-    // 프로토콜별로 측정 결과를 저장
-    private final Map<String, List<ServerPerformanceMetrics>> metricsStore = new ConcurrentHashMap<>();
+    // 프로토콜별 최근 측정 결과(고정 크기 링 버퍼) + 전체 누적 집계
+    private final Map<String, ProtocolMetrics> metricsStore = new ConcurrentHashMap<>();
+    private final int capacity;
+
+    // 프로토콜별 페이로드 캐시 히트/미스 횟수
+    private final Map<String, LongAdder> cacheHits = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> cacheMisses = new ConcurrentHashMap<>();
+
+    public PerformanceMetricsService(@Value("${data.metrics.capacity:1024}") int capacity) {
+        this.capacity = capacity;
+    }
 
     public void recordMetrics(ServerPerformanceMetrics metrics) {
         log.info("Recording server metrics: protocol={}, duration={}ms, memory={}MB",
             metrics.getProtocol(), metrics.getDurationMs(), metrics.getMemoryUsedMB());
 
-        metricsStore.computeIfAbsent(metrics.getProtocol(), k -> new ArrayList<>()).add(metrics);
+        metricsStore.computeIfAbsent(metrics.getProtocol(), k -> new ProtocolMetrics(capacity)).record(metrics);
     }
 
+    /**
+     * 최근 측정 결과 (프로토콜별 최대 capacity개, 오래된 순)
+     */
     public List<ServerPerformanceMetrics> getMetrics(String protocol) {
-        return new ArrayList<>(metricsStore.getOrDefault(protocol, new ArrayList<>()));
+        ProtocolMetrics protocolMetrics = metricsStore.get(protocol);
+        return protocolMetrics != null ? protocolMetrics.recent.snapshot() : List.of();
     }
 
     public Map<String, List<ServerPerformanceMetrics>> getAllMetrics() {
-        return new ConcurrentHashMap<>(metricsStore);
+        Map<String, List<ServerPerformanceMetrics>> result = new LinkedHashMap<>();
+        metricsStore.forEach((protocol, protocolMetrics) -> result.put(protocol, protocolMetrics.recent.snapshot()));
+        return result;
+    }
+
+    /**
+     * 프로토콜별 누적 요약 - 보관 개수와 관계없이 집계 값만 읽으므로 요청 수에 비례하지 않음
+     */
+    public Map<String, ServerMetricsSummary> getSummaries() {
+        Map<String, ServerMetricsSummary> result = new LinkedHashMap<>();
+        metricsStore.forEach((protocol, protocolMetrics) -> result.put(protocol, protocolMetrics.summarize(protocol)));
+        return result;
+    }
+
+    public void recordCacheHit(String protocol) {
+        cacheHits.computeIfAbsent(protocol, k -> new LongAdder()).increment();
+    }
+
+    public void recordCacheMiss(String protocol) {
+        cacheMisses.computeIfAbsent(protocol, k -> new LongAdder()).increment();
+    }
+
+    public Map<String, PayloadCacheStats> getCacheStats() {
+        Map<String, PayloadCacheStats> stats = new ConcurrentHashMap<>();
+        for (String protocol : cacheHits.keySet()) {
+            stats.put(protocol, new PayloadCacheStats(protocol, 0, 0));
+        }
+        for (String protocol : cacheMisses.keySet()) {
+            stats.putIfAbsent(protocol, new PayloadCacheStats(protocol, 0, 0));
+        }
+        stats.forEach((protocol, stat) -> {
+            LongAdder hits = cacheHits.get(protocol);
+            LongAdder misses = cacheMisses.get(protocol);
+            stat.setHits(hits != null ? hits.sum() : 0);
+            stat.setMisses(misses != null ? misses.sum() : 0);
+        });
+        return stats;
     }
 
     public void clearMetrics() {
         log.info("Clearing all server metrics");
         metricsStore.clear();
+        cacheHits.clear();
+        cacheMisses.clear();
     }
 
     public void clearMetrics(String protocol) {
         log.info("Clearing server metrics for protocol: {}", protocol);
         metricsStore.remove(protocol);
     }
-}
\ No newline at end of file
+
+    /**
+     * 프로토콜 하나의 저장소 - 기록은 모두 lock-free (링 버퍼 슬롯 예약, LongAdder, CAS 기반 min/max, HdrHistogram Recorder)
+     */
+    private static final class ProtocolMetrics {
+        private final MetricsRingBuffer<ServerPerformanceMetrics> recent;
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder items = new LongAdder();
+        private final LongAdder durationMs = new LongAdder();
+        private final LongAdder dataGenerationMs = new LongAdder();
+        private final LongAdder serializationMs = new LongAdder();
+        private final LongAdder allocatedBytes = new LongAdder();
+        private final LongAdder cpuTimeNanos = new LongAdder();
+        private final AtomicLong minDurationMs = new AtomicLong(Long.MAX_VALUE);
+        private final AtomicLong maxDurationMs = new AtomicLong(Long.MIN_VALUE);
+        // 요청 처리 시간 분포 (ms, 유효 자릿수 3) - 기록은 Recorder에, 요약할 때 누적 히스토그램으로 옮김
+        private final Recorder durationRecorder = new Recorder(3);
+        private final Histogram durations = new Histogram(3);
+
+        ProtocolMetrics(int capacity) {
+            this.recent = new MetricsRingBuffer<>(capacity);
+        }
+
+        void record(ServerPerformanceMetrics metrics) {
+            recent.add(metrics);
+
+            long duration = Math.max(0, metrics.getDurationMs());
+            requests.increment();
+            items.add(metrics.getCount());
+            durationMs.add(duration);
+            dataGenerationMs.add(metrics.getDataGenerationMs());
+            serializationMs.add(metrics.getSerializationMs());
+            if (metrics.getResources() != null) {
+                allocatedBytes.add(Math.max(0, metrics.getResources().getAllocatedBytes()));
+                cpuTimeNanos.add(Math.max(0, metrics.getResources().getCpuTimeNanos()));
+            }
+            minDurationMs.accumulateAndGet(duration, Math::min);
+            maxDurationMs.accumulateAndGet(duration, Math::max);
+            durationRecorder.recordValue(duration);
+        }
+
+        /**
+         * 히스토그램 크기는 값 범위로만 정해지므로 요청 수와 관계없이 일정한 비용
+         */
+        synchronized ServerMetricsSummary summarize(String protocol) {
+            durations.add(durationRecorder.getIntervalHistogram());
+            long count = requests.sum();
+            return new ServerMetricsSummary(
+                protocol,
+                count,
+                items.sum(),
+                recent.size(),
+                recent.capacity(),
+                count > 0 ? (double) durationMs.sum() / count : 0,
+                count > 0 ? minDurationMs.get() : 0,
+                count > 0 ? maxDurationMs.get() : 0,
+                durations.getValueAtPercentile(50),
+                durations.getValueAtPercentile(95),
+                durations.getValueAtPercentile(99),
+                count > 0 ? (double) dataGenerationMs.sum() / count : 0,
+                count > 0 ? (double) serializationMs.sum() / count : 0,
+                allocatedBytes.sum() / (1024.0 * 1024.0),
+                cpuTimeNanos.sum() / 1_000_000.0
+            );
+        }
+    }
+}
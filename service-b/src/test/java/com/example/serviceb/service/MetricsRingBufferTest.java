@@ -0,0 +1,223 @@
+package com.example.serviceb.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MetricsRingBufferTest {
+
+    @Test
+    void capacityRoundsUpToPowerOfTwo() {
+        assertThat(new MetricsRingBuffer<Integer>(1).capacity()).isEqualTo(1);
+        assertThat(new MetricsRingBuffer<Integer>(2).capacity()).isEqualTo(2);
+        assertThat(new MetricsRingBuffer<Integer>(3).capacity()).isEqualTo(4);
+        assertThat(new MetricsRingBuffer<Integer>(4).capacity()).isEqualTo(4);
+        assertThat(new MetricsRingBuffer<Integer>(5).capacity()).isEqualTo(8);
+        assertThat(new MetricsRingBuffer<Integer>(1000).capacity()).isEqualTo(1024);
+        assertThat(new MetricsRingBuffer<Integer>(1024).capacity()).isEqualTo(1024);
+        assertThat(new MetricsRingBuffer<Integer>(1025).capacity()).isEqualTo(2048);
+    }
+
+    @Test
+    void invalidCapacityIsRejected() {
+        assertThatThrownBy(() -> new MetricsRingBuffer<Integer>(0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new MetricsRingBuffer<Integer>(-1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new MetricsRingBuffer<Integer>((1 << 30) + 1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void emptyBuffer() {
+        MetricsRingBuffer<Integer> buffer = new MetricsRingBuffer<>(4);
+
+        assertThat(buffer.size()).isZero();
+        assertThat(buffer.totalAdded()).isZero();
+        assertThat(buffer.snapshot()).isEmpty();
+    }
+
+    @Test
+    void keepsInsertionOrderBeforeWrap() {
+        MetricsRingBuffer<Integer> buffer = new MetricsRingBuffer<>(4);
+        buffer.add(1);
+        buffer.add(2);
+        buffer.add(3);
+
+        assertThat(buffer.size()).isEqualTo(3);
+        assertThat(buffer.snapshot()).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    void overwritesOldestAfterWrap() {
+        MetricsRingBuffer<Integer> buffer = new MetricsRingBuffer<>(4);
+        for (int i = 1; i <= 10; i++) {
+            buffer.add(i);
+        }
+
+        assertThat(buffer.size()).isEqualTo(4);
+        assertThat(buffer.totalAdded()).isEqualTo(10);
+        // 오래된 순 - 슬롯 위치와 관계없이 시퀀스 순서로 반환
+        assertThat(buffer.snapshot()).containsExactly(7, 8, 9, 10);
+    }
+
+    @Test
+    void exactlyFullBufferKeepsEverything() {
+        MetricsRingBuffer<Integer> buffer = new MetricsRingBuffer<>(8);
+        IntStream.range(0, 8).forEach(buffer::add);
+
+        assertThat(buffer.size()).isEqualTo(8);
+        assertThat(buffer.snapshot()).containsExactly(0, 1, 2, 3, 4, 5, 6, 7);
+
+        buffer.add(8);
+        assertThat(buffer.snapshot()).containsExactly(1, 2, 3, 4, 5, 6, 7, 8);
+    }
+
+    @Test
+    void singleSlotKeepsLatest() {
+        MetricsRingBuffer<Integer> buffer = new MetricsRingBuffer<>(1);
+        buffer.add(1);
+        buffer.add(2);
+
+        assertThat(buffer.size()).isEqualTo(1);
+        assertThat(buffer.snapshot()).containsExactly(2);
+    }
+
+    @Test
+    void concurrentAddsWithinCapacityAreNotLost() throws Exception {
+        int threads = 8;
+        int perThread = 1000;
+        MetricsRingBuffer<Integer> buffer = new MetricsRingBuffer<>(threads * perThread);
+
+        runConcurrently(threads, thread -> {
+            for (int i = 0; i < perThread; i++) {
+                buffer.add(thread * perThread + i);
+            }
+        });
+
+        List<Integer> snapshot = buffer.snapshot();
+        assertThat(buffer.totalAdded()).isEqualTo(threads * perThread);
+        assertThat(snapshot).hasSize(threads * perThread);
+        assertThat(new HashSet<>(snapshot)).hasSize(threads * perThread);
+        assertPerThreadOrder(snapshot, perThread);
+    }
+
+    @Test
+    void concurrentAddsBeyondCapacityKeepLatest() throws Exception {
+        int threads = 8;
+        int perThread = 10_000;
+        int capacity = 1024;
+        MetricsRingBuffer<Integer> buffer = new MetricsRingBuffer<>(capacity);
+
+        runConcurrently(threads, thread -> {
+            for (int i = 0; i < perThread; i++) {
+                buffer.add(thread * perThread + i);
+            }
+        });
+
+        List<Integer> snapshot = buffer.snapshot();
+        assertThat(buffer.totalAdded()).isEqualTo((long) threads * perThread);
+        assertThat(buffer.size()).isEqualTo(capacity);
+        assertThat(snapshot).hasSize(capacity);
+        assertThat(new HashSet<>(snapshot)).hasSize(capacity);
+        assertPerThreadOrder(snapshot, perThread);
+    }
+
+    @Test
+    void snapshotsDuringConcurrentAddsStayBounded() throws Exception {
+        int writers = 4;
+        int perWriter = 50_000;
+        int capacity = 256;
+        MetricsRingBuffer<Integer> buffer = new MetricsRingBuffer<>(capacity);
+        AtomicBoolean writing = new AtomicBoolean(true);
+        List<String> failures = new ArrayList<>();
+
+        ExecutorService reader = Executors.newSingleThreadExecutor();
+        Future<?> readerDone = reader.submit(() -> {
+            while (writing.get()) {
+                List<Integer> snapshot = buffer.snapshot();
+                if (snapshot.size() > capacity) {
+                    failures.add("snapshot larger than capacity: " + snapshot.size());
+                }
+                if (new HashSet<>(snapshot).size() != snapshot.size()) {
+                    failures.add("duplicate values in snapshot");
+                }
+                if (buffer.size() > capacity) {
+                    failures.add("size larger than capacity: " + buffer.size());
+                }
+            }
+        });
+
+        try {
+            runConcurrently(writers, thread -> {
+                for (int i = 0; i < perWriter; i++) {
+                    buffer.add(thread * perWriter + i);
+                }
+            });
+        } finally {
+            writing.set(false);
+            readerDone.get(30, TimeUnit.SECONDS);
+            reader.shutdown();
+        }
+
+        assertThat(failures).isEmpty();
+        assertThat(buffer.totalAdded()).isEqualTo((long) writers * perWriter);
+        assertThat(buffer.snapshot()).hasSize(capacity);
+    }
+
+    private interface ThreadBody {
+        void run(int thread);
+    }
+
+    /**
+     * 모든 스레드를 동시에 출발시키고 끝날 때까지 대기
+     */
+    private static void runConcurrently(int threads, ThreadBody body) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int thread = t;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    body.run(thread);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * 한 스레드가 추가한 값은 시퀀스를 순서대로 예약하므로 스냅샷에서도 증가 순서여야 함
+     */
+    private static void assertPerThreadOrder(List<Integer> snapshot, int perThread) {
+        int[] last = new int[snapshot.stream().mapToInt(value -> value / perThread).max().orElse(0) + 1];
+        Arrays.fill(last, -1);
+        Set<Integer> seen = new HashSet<>();
+        for (int value : snapshot) {
+            int thread = value / perThread;
+            assertThat(value).isGreaterThan(last[thread]);
+            last[thread] = value;
+            seen.add(thread);
+        }
+        assertThat(seen).isNotEmpty();
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.shared.compression;
+
+import com.example.shared.model.PayloadCompression;
+import com.github.luben.zstd.ZstdInputStream;
+import com.github.luben.zstd.ZstdOutputStream;
+import org.xerial.snappy.SnappyFramedInputStream;
+import org.xerial.snappy.SnappyFramedOutputStream;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * PayloadCompression별 압축/압축 해제 스트림 구현
+ * zstd/snappy는 네이티브 라이브러리를 사용하므로 로드에 실패한 환경에서는 isAvailable()이 false
+ */
+public final class CompressionCodecs {
+
+    private static final Map<PayloadCompression, Boolean> AVAILABILITY = new EnumMap<>(PayloadCompression.class);
+
+    private CompressionCodecs() {
+    }
+
+    /**
+     * sink에 압축해서 쓰는 스트림 (close 시 압축 스트림의 끝부분까지 기록)
+     */
+    public static OutputStream compress(PayloadCompression compression, OutputStream sink) throws IOException {
+        return switch (compression) {
+            case NONE -> sink;
+            // syncFlush: 스트리밍 응답에서 flush할 때마다 그때까지의 데이터를 내보냄
+            case GZIP -> new GZIPOutputStream(sink, 8192, true);
+            case ZSTD -> new ZstdOutputStream(sink);
+            case SNAPPY -> new SnappyFramedOutputStream(sink);
+        };
+    }
+
+    public static InputStream decompress(PayloadCompression compression, InputStream source) throws IOException {
+        return switch (compression) {
+            case NONE -> source;
+            case GZIP -> new GZIPInputStream(source, 8192);
+            case ZSTD -> new ZstdInputStream(source);
+            case SNAPPY -> new SnappyFramedInputStream(source);
+        };
+    }
+
+    /**
+     * 현재 JVM에서 사용 가능한지 (처음 호출할 때 작은 데이터를 한 번 압축해 보고 결과를 기억)
+     */
+    public static synchronized boolean isAvailable(PayloadCompression compression) {
+        return AVAILABILITY.computeIfAbsent(compression, CompressionCodecs::probe);
+    }
+
+    /**
+     * Accept-Encoding에 나열된 순서대로 처음 사용 가능한 압축 방식 (q 값은 무시, 없으면 NONE)
+     */
+    public static PayloadCompression fromAcceptEncoding(String acceptEncoding) {
+        if (acceptEncoding != null) {
+            for (String token : acceptEncoding.split(",")) {
+                PayloadCompression compression = PayloadCompression.fromEncoding(token.split(";")[0]);
+                if (compression != PayloadCompression.NONE && isAvailable(compression)) {
+                    return compression;
+                }
+            }
+        }
+        return PayloadCompression.NONE;
+    }
+
+    private static boolean probe(PayloadCompression compression) {
+        try (OutputStream out = compress(compression, new ByteArrayOutputStream())) {
+            out.write(compression.getEncoding().getBytes());
+            return true;
+        } catch (IOException | LinkageError e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,269 @@
+package com.example.shared.compression;
+
+import com.example.shared.model.CompressionMetrics;
+import com.example.shared.model.PayloadCompression;
+
+import java.io.FilterInputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 압축/압축 해제 스트림을 감싸서 압축 전/후 바이트와 코덱 시간을 압축 방식별로 누적
+ * 코덱 시간은 바깥 스트림 호출 시간에서 안쪽(소켓/버퍼) 읽기·쓰기 시간을 뺀 값이라 한 스레드에서 쓴 CPU 시간에 가까움
+ * (두 서비스가 공유하는 클래스라 각 서비스의 CompressionConfig에서 빈으로 등록)
+ */
+public class CompressionStats {
+
+    private final Map<PayloadCompression, Counters> counters = new EnumMap<>(PayloadCompression.class);
+
+    public CompressionStats() {
+        for (PayloadCompression compression : PayloadCompression.values()) {
+            counters.put(compression, new Counters());
+        }
+    }
+
+    /**
+     * sink에 압축해서 쓰는 스트림 - close할 때 메시지 1건으로 기록
+     */
+    public OutputStream meterCompress(PayloadCompression compression, OutputStream sink) throws IOException {
+        CountingOutputStream encoded = new CountingOutputStream(sink);
+        return new MeteredOutputStream(CompressionCodecs.compress(compression, encoded), encoded, counters.get(compression));
+    }
+
+    /**
+     * source를 압축 해제하며 읽는 스트림 - close할 때 메시지 1건으로 기록
+     */
+    public InputStream meterDecompress(PayloadCompression compression, InputStream source) throws IOException {
+        CountingInputStream encoded = new CountingInputStream(source);
+        return new MeteredInputStream(CompressionCodecs.decompress(compression, encoded), encoded, counters.get(compression));
+    }
+
+    /**
+     * 코덱을 거치지 않은 메시지 기록 (압축 없음 비교 기준)
+     */
+    public void record(PayloadCompression compression, long rawBytes, long encodedBytes, long codecNanos) {
+        counters.get(compression).add(rawBytes, encodedBytes, codecNanos);
+    }
+
+    public CompressionMetrics getMetrics(PayloadCompression compression) {
+        return counters.get(compression).toMetrics(compression.getEncoding());
+    }
+
+    public Map<String, CompressionMetrics> getAllMetrics() {
+        Map<String, CompressionMetrics> result = new LinkedHashMap<>();
+        counters.forEach((compression, counter) -> result.put(compression.getEncoding(), counter.toMetrics(compression.getEncoding())));
+        return result;
+    }
+
+    public void clear() {
+        counters.values().forEach(Counters::reset);
+    }
+
+    private static final class Counters {
+        private final LongAdder messages = new LongAdder();
+        private final LongAdder rawBytes = new LongAdder();
+        private final LongAdder encodedBytes = new LongAdder();
+        private final LongAdder codecNanos = new LongAdder();
+
+        void add(long raw, long encoded, long nanos) {
+            messages.increment();
+            rawBytes.add(raw);
+            encodedBytes.add(encoded);
+            codecNanos.add(nanos);
+        }
+
+        CompressionMetrics toMetrics(String encoding) {
+            return new CompressionMetrics(encoding, messages.sum(), rawBytes.sum(), encodedBytes.sum(), codecNanos.sum());
+        }
+
+        void reset() {
+            messages.reset();
+            rawBytes.reset();
+            encodedBytes.reset();
+            codecNanos.reset();
+        }
+    }
+
+    /**
+     * 압축된 쪽(sink)에 실제로 쓴 바이트와 그 호출 시간
+     */
+    private static final class CountingOutputStream extends FilterOutputStream {
+        long bytes;
+        long nanos;
+
+        CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            long start = System.nanoTime();
+            out.write(b);
+            nanos += System.nanoTime() - start;
+            bytes++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            long start = System.nanoTime();
+            out.write(b, off, len);
+            nanos += System.nanoTime() - start;
+            bytes += len;
+        }
+
+        @Override
+        public void flush() throws IOException {
+            long start = System.nanoTime();
+            out.flush();
+            nanos += System.nanoTime() - start;
+        }
+
+        @Override
+        public void close() throws IOException {
+            long start = System.nanoTime();
+            out.close();
+            nanos += System.nanoTime() - start;
+        }
+    }
+
+    private static final class MeteredOutputStream extends FilterOutputStream {
+        private final CountingOutputStream encoded;
+        private final Counters counters;
+        private long rawBytes;
+        private long nanos;
+        private boolean closed;
+
+        MeteredOutputStream(OutputStream codec, CountingOutputStream encoded, Counters counters) {
+            super(codec);
+            this.encoded = encoded;
+            this.counters = counters;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            long start = System.nanoTime();
+            out.write(b);
+            nanos += System.nanoTime() - start;
+            rawBytes++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            long start = System.nanoTime();
+            out.write(b, off, len);
+            nanos += System.nanoTime() - start;
+            rawBytes += len;
+        }
+
+        @Override
+        public void flush() throws IOException {
+            long start = System.nanoTime();
+            out.flush();
+            nanos += System.nanoTime() - start;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            long start = System.nanoTime();
+            try {
+                out.close();
+            } finally {
+                nanos += System.nanoTime() - start;
+                counters.add(rawBytes, encoded.bytes, Math.max(0, nanos - encoded.nanos));
+            }
+        }
+    }
+
+    /**
+     * 압축된 쪽(source)에서 실제로 읽은 바이트와 그 호출 시간
+     */
+    private static final class CountingInputStream extends FilterInputStream {
+        long bytes;
+        long nanos;
+
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            long start = System.nanoTime();
+            int b = in.read();
+            nanos += System.nanoTime() - start;
+            if (b >= 0) {
+                bytes++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            long start = System.nanoTime();
+            int n = in.read(b, off, len);
+            nanos += System.nanoTime() - start;
+            if (n > 0) {
+                bytes += n;
+            }
+            return n;
+        }
+    }
+
+    private static final class MeteredInputStream extends FilterInputStream {
+        private final CountingInputStream encoded;
+        private final Counters counters;
+        private long rawBytes;
+        private long nanos;
+        private boolean closed;
+
+        MeteredInputStream(InputStream codec, CountingInputStream encoded, Counters counters) {
+            super(codec);
+            this.encoded = encoded;
+            this.counters = counters;
+        }
+
+        @Override
+        public int read() throws IOException {
+            long start = System.nanoTime();
+            int b = in.read();
+            nanos += System.nanoTime() - start;
+            if (b >= 0) {
+                rawBytes++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            long start = System.nanoTime();
+            int n = in.read(b, off, len);
+            nanos += System.nanoTime() - start;
+            if (n > 0) {
+                rawBytes += n;
+            }
+            return n;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            try {
+                in.close();
+            } finally {
+                counters.add(rawBytes, encoded.bytes, Math.max(0, nanos - encoded.nanos));
+            }
+        }
+    }
+}
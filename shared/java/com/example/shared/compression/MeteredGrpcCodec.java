@@ -0,0 +1,38 @@
+package com.example.shared.compression;
+
+import com.example.shared.model.PayloadCompression;
+import io.grpc.Codec;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * gRPC 메시지 압축 코덱 - PayloadCompression 구현을 그대로 쓰고 바이트/시간을 CompressionStats에 기록
+ * (gzip도 기본 Codec.Gzip 대신 이 코덱으로 등록해서 세 방식을 같은 기준으로 측정)
+ */
+public class MeteredGrpcCodec implements Codec {
+
+    private final PayloadCompression compression;
+    private final CompressionStats compressionStats;
+
+    public MeteredGrpcCodec(PayloadCompression compression, CompressionStats compressionStats) {
+        this.compression = compression;
+        this.compressionStats = compressionStats;
+    }
+
+    @Override
+    public String getMessageEncoding() {
+        return compression.getEncoding();
+    }
+
+    @Override
+    public OutputStream compress(OutputStream os) throws IOException {
+        return compressionStats.meterCompress(compression, os);
+    }
+
+    @Override
+    public InputStream decompress(InputStream is) throws IOException {
+        return compressionStats.meterDecompress(compression, is);
+    }
+}
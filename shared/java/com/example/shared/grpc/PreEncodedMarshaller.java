@@ -0,0 +1,48 @@
+package com.example.shared.grpc;
+
+import io.grpc.Drainable;
+import io.grpc.KnownLength;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * 이미 직렬화된 protobuf 메시지 바이트를 그대로 보내는 마샬러
+ * - 캐시한 응답을 호출마다 다시 직렬화하지 않도록 서버 응답 마샬러로 사용
+ * - wire 형식은 원래 메시지와 같으므로 받는 쪽은 원래 메시지 타입의 마샬러로 그대로 파싱함
+ */
+public final class PreEncodedMarshaller implements MethodDescriptor.Marshaller<byte[]> {
+
+    @Override
+    public InputStream stream(byte[] value) {
+        return new EncodedInputStream(value);
+    }
+
+    @Override
+    public byte[] parse(InputStream stream) {
+        try {
+            return stream.readAllBytes();
+        } catch (IOException e) {
+            throw Status.INTERNAL.withDescription("Failed to read message bytes").withCause(e).asRuntimeException();
+        }
+    }
+
+    /**
+     * gRPC가 길이를 미리 알고 drainTo로 배열 전체를 전송 버퍼에 한 번에 복사
+     */
+    private static final class EncodedInputStream extends ByteArrayInputStream implements Drainable, KnownLength {
+
+        EncodedInputStream(byte[] bytes) {
+            super(bytes);
+        }
+
+        @Override
+        public int drainTo(OutputStream target) throws IOException {
+            return (int) transferTo(target);
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.example.shared.grpc;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.MessageLite;
+import com.google.protobuf.Parser;
+import com.google.protobuf.UnsafeByteOperations;
+import io.grpc.Detachable;
+import io.grpc.Drainable;
+import io.grpc.HasByteBuffer;
+import io.grpc.KnownLength;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * 기본 protobuf 마샬러 대신 쓰는 zero-copy 마샬러
+ * - parse: gRPC가 받은 Netty pooled 버퍼를 detach해서 ByteBuffer 뷰 그대로 CodedInputStream(aliasing)으로 파싱
+ *   (기본 마샬러는 메시지 전체를 힙 byte[]로 복사한 뒤 파싱 - 2MB 배치면 매 호출 humongous 할당)
+ * - stream: Drainable/KnownLength 스트림으로 gRPC 전송 버퍼에 바로 직렬화 (중간 byte[] 없음)
+ *
+ * 파싱이 끝나면 Netty 버퍼를 바로 반납하므로 bytes 필드가 있는 메시지(aliasing된 ByteString이 버퍼를 가리킴)에는 쓰면 안 됨
+ * string 필드는 aliasing과 관계없이 String으로 디코딩됨
+ */
+public final class ZeroCopyProtoMarshaller<T extends MessageLite> implements MethodDescriptor.PrototypeMarshaller<T> {
+
+    private final T prototype;
+    private final Parser<T> parser;
+
+    @SuppressWarnings("unchecked")
+    public ZeroCopyProtoMarshaller(T prototype) {
+        this.prototype = prototype;
+        this.parser = (Parser<T>) prototype.getParserForType();
+    }
+
+    /**
+     * 기본 protobuf 마샬러를 쓰는 메서드를 이 마샬러로 바꾼 MethodDescriptor (요청/응답 모두)
+     */
+    public static <ReqT, RespT> MethodDescriptor<ReqT, RespT> rebind(MethodDescriptor<ReqT, RespT> method) {
+        return method.toBuilder(wrap(method.getRequestMarshaller()), wrap(method.getResponseMarshaller())).build();
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static <T> MethodDescriptor.Marshaller<T> wrap(MethodDescriptor.Marshaller<T> marshaller) {
+        if (marshaller instanceof MethodDescriptor.PrototypeMarshaller<T> prototypeMarshaller
+                && prototypeMarshaller.getMessagePrototype() instanceof MessageLite prototype) {
+            return (MethodDescriptor.Marshaller<T>) new ZeroCopyProtoMarshaller(prototype);
+        }
+        return marshaller;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Class<T> getMessageClass() {
+        return (Class<T>) prototype.getClass();
+    }
+
+    @Override
+    public T getMessagePrototype() {
+        return prototype;
+    }
+
+    @Override
+    public InputStream stream(T value) {
+        return new MessageInputStream(value);
+    }
+
+    @Override
+    public T parse(InputStream stream) {
+        try {
+            // 압축된 메시지는 압축 해제 스트림이라 버퍼 뷰가 없으므로 일반 스트림 파싱
+            if (stream instanceof Detachable detachable && stream instanceof HasByteBuffer hasByteBuffer
+                    && hasByteBuffer.byteBufferSupported()) {
+                return parseDetached(detachable.detach());
+            }
+            return parser.parseFrom(stream);
+        } catch (IOException e) {
+            throw Status.INTERNAL.withDescription("Invalid protobuf byte sequence").withCause(e).asRuntimeException();
+        }
+    }
+
+    /**
+     * detach한 스트림의 버퍼 조각을 복사 없이 ByteString(rope)으로 이어 붙여 파싱한 뒤 버퍼 반납
+     */
+    private T parseDetached(InputStream detached) throws IOException {
+        try (detached) {
+            ByteString message = ByteString.EMPTY;
+            while (detached.available() > 0) {
+                ByteBuffer buffer = ((HasByteBuffer) detached).getByteBuffer();
+                if (buffer == null) {
+                    break;
+                }
+                int length = buffer.remaining();
+                message = message.concat(UnsafeByteOperations.unsafeWrap(buffer));
+                detached.skip(length);
+            }
+            if (detached.available() > 0) {
+                // ByteBuffer 뷰를 주지 않는 나머지 조각은 복사
+                message = message.concat(ByteString.readFrom(detached));
+            }
+
+            CodedInputStream input = message.newCodedInput();
+            input.enableAliasing(true);
+            // 메시지 크기 제한은 gRPC maxInboundMessageSize가 이미 적용함
+            input.setSizeLimit(Integer.MAX_VALUE);
+            return parser.parseFrom(input);
+        }
+    }
+
+    /**
+     * gRPC가 drainTo로 전송 버퍼에 바로 직렬화하고, read를 쓰는 경우에만 byte[]로 직렬화
+     */
+    private final class MessageInputStream extends InputStream implements Drainable, KnownLength {
+
+        private T message;
+        private ByteArrayInputStream partial;
+
+        MessageInputStream(T message) {
+            this.message = message;
+        }
+
+        @Override
+        public int drainTo(OutputStream target) throws IOException {
+            int written;
+            if (message != null) {
+                written = message.getSerializedSize();
+                message.writeTo(target);
+                message = null;
+            } else if (partial != null) {
+                written = (int) partial.transferTo(target);
+                partial = null;
+            } else {
+                written = 0;
+            }
+            return written;
+        }
+
+        @Override
+        public int read() {
+            toPartial();
+            return partial != null ? partial.read() : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            toPartial();
+            return partial != null ? partial.read(b, off, len) : -1;
+        }
+
+        @Override
+        public int available() {
+            if (message != null) {
+                return message.getSerializedSize();
+            }
+            return partial != null ? partial.available() : 0;
+        }
+
+        private void toPartial() {
+            if (message != null) {
+                partial = new ByteArrayInputStream(message.toByteArray());
+                message = null;
+            }
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.shared.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 압축 방식별 누적 통계 - 압축 전/후 바이트와 압축(해제)에 쓴 시간 (네트워크 I/O 대기 시간은 제외)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CompressionMetrics {
+    private String encoding;
+    private long messages;
+    private long rawBytes;
+    private long encodedBytes;
+    private long codecNanos;
+
+    public double getRatio() {
+        return encodedBytes == 0 ? 0 : (double) rawBytes / encodedBytes;
+    }
+
+    public double getCodecTimeMs() {
+        return codecNanos / 1_000_000.0;
+    }
+
+    /**
+     * 두 시점 스냅샷의 차이 (테스트 1회분 계산용)
+     */
+    public CompressionMetrics minus(CompressionMetrics before) {
+        if (before == null) {
+            return this;
+        }
+        return new CompressionMetrics(encoding, messages - before.messages, rawBytes - before.rawBytes,
+            encodedBytes - before.encodedBytes, codecNanos - before.codecNanos);
+    }
+}
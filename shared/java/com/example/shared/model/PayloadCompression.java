@@ -0,0 +1,36 @@
+package com.example.shared.model;
+
+/**
+ * 페이로드 압축 방식 (HTTP는 Accept-Encoding/Content-Encoding, gRPC는 grpc-encoding 헤더의 이름과 같음)
+ * 실제 압축/해제와 사용 가능 여부 확인은 CompressionCodecs가 담당
+ */
+public enum PayloadCompression {
+    NONE("identity"),
+    GZIP("gzip"),
+    ZSTD("zstd"),
+    SNAPPY("snappy");
+
+    private final String encoding;
+
+    PayloadCompression(String encoding) {
+        this.encoding = encoding;
+    }
+
+    public String getEncoding() {
+        return encoding;
+    }
+
+    /**
+     * 헤더 값의 인코딩 이름에 해당하는 압축 방식 (없거나 모르는 이름이면 NONE)
+     */
+    public static PayloadCompression fromEncoding(String encoding) {
+        if (encoding != null) {
+            for (PayloadCompression compression : values()) {
+                if (compression.encoding.equalsIgnoreCase(encoding.trim())) {
+                    return compression;
+                }
+            }
+        }
+        return NONE;
+    }
+}
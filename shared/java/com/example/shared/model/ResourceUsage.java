@@ -0,0 +1,50 @@
+package com.example.shared.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 측정 구간 동안의 리소스 사용량 (ResourceProbe로 측정)
+ * 값을 읽을 수 없는 항목은 -1
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResourceUsage {
+    // THREAD: 요청 처리 스레드 기준, PROCESS: JVM 전체 기준
+    private String scope;
+    private long allocatedBytes;
+    private long cpuTimeNanos;
+    // GC는 스레드 단위로 나눌 수 없으므로 항상 JVM 전체 기준
+    private long gcCount;
+    private long gcTimeMs;
+
+    /**
+     * 여러 구간(예: 스트리밍 onReady 실행 단위)의 사용량을 합산
+     */
+    public ResourceUsage plus(ResourceUsage other) {
+        if (other == null) {
+            return this;
+        }
+        return new ResourceUsage(
+            scope != null ? scope : other.scope,
+            sum(allocatedBytes, other.allocatedBytes),
+            sum(cpuTimeNanos, other.cpuTimeNanos),
+            sum(gcCount, other.gcCount),
+            sum(gcTimeMs, other.gcTimeMs)
+        );
+    }
+
+    public double getAllocatedMB() {
+        return allocatedBytes / (1024.0 * 1024.0);
+    }
+
+    public double getCpuTimeMs() {
+        return cpuTimeNanos / 1_000_000.0;
+    }
+
+    private static long sum(long a, long b) {
+        return a < 0 || b < 0 ? -1 : a + b;
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.shared.resource;
+
+import com.example.shared.model.ResourceUsage;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+/**
+ * 구간 단위 리소스 사용량 측정 (할당 바이트, CPU 시간, GC 횟수/시간)
+ * 힙 사용량 차이는 측정 중 GC가 돌면 음수가 되는 등 노이즈가 커서 비교 기준으로 쓰지 않음
+ *
+ * <pre>
+ * ResourceProbe probe = ResourceProbe.start(ResourceProbe.Scope.THREAD);
+ * ... 측정할 작업 ...
+ * ResourceUsage usage = probe.stop();
+ * </pre>
+ */
+public final class ResourceProbe {
+
+    public enum Scope {
+        /** 현재 스레드 기준 - 요청 하나를 한 스레드가 처리하는 경우 */
+        THREAD,
+        /** JVM 전체 기준 - 작업이 이벤트 루프/콜백 스레드에 흩어져 실행되는 경우 */
+        PROCESS
+    }
+
+    private static final com.sun.management.ThreadMXBean THREAD_BEAN =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    private static final com.sun.management.OperatingSystemMXBean OS_BEAN =
+        (com.sun.management.OperatingSystemMXBean) ManagementFactory.getOperatingSystemMXBean();
+    private static final List<GarbageCollectorMXBean> GC_BEANS = ManagementFactory.getGarbageCollectorMXBeans();
+
+    private final Scope scope;
+    private final long startAllocated;
+    private final long startCpuNanos;
+    private final long startGcCount;
+    private final long startGcTimeMs;
+
+    private ResourceProbe(Scope scope) {
+        this.scope = scope;
+        this.startAllocated = allocatedBytes(scope);
+        this.startCpuNanos = cpuTimeNanos(scope);
+        this.startGcCount = gcCount();
+        this.startGcTimeMs = gcTimeMs();
+    }
+
+    /**
+     * 측정 시작 - 가상 스레드는 스레드 단위 할당량/CPU 시간을 제공하지 않으므로 THREAD 요청이어도 PROCESS로 측정
+     */
+    public static ResourceProbe start(Scope scope) {
+        if (scope == Scope.THREAD && Thread.currentThread().isVirtual()) {
+            return new ResourceProbe(Scope.PROCESS);
+        }
+        return new ResourceProbe(scope);
+    }
+
+    /**
+     * 시작 시점부터 현재까지의 사용량 (THREAD 범위면 start를 호출한 스레드에서 호출해야 함)
+     */
+    public ResourceUsage stop() {
+        return new ResourceUsage(
+            scope.name(),
+            delta(startAllocated, allocatedBytes(scope)),
+            delta(startCpuNanos, cpuTimeNanos(scope)),
+            delta(startGcCount, gcCount()),
+            delta(startGcTimeMs, gcTimeMs())
+        );
+    }
+
+    private static long allocatedBytes(Scope scope) {
+        return scope == Scope.THREAD
+            ? THREAD_BEAN.getCurrentThreadAllocatedBytes()
+            : THREAD_BEAN.getTotalThreadAllocatedBytes();
+    }
+
+    private static long cpuTimeNanos(Scope scope) {
+        return scope == Scope.THREAD
+            ? THREAD_BEAN.getCurrentThreadCpuTime()
+            : OS_BEAN.getProcessCpuTime();
+    }
+
+    private static long gcCount() {
+        long count = 0;
+        for (GarbageCollectorMXBean gc : GC_BEANS) {
+            count += Math.max(0, gc.getCollectionCount());
+        }
+        return count;
+    }
+
+    private static long gcTimeMs() {
+        long time = 0;
+        for (GarbageCollectorMXBean gc : GC_BEANS) {
+            time += Math.max(0, gc.getCollectionTime());
+        }
+        return time;
+    }
+
+    private static long delta(long start, long end) {
+        return start < 0 || end < 0 ? -1 : end - start;
+    }
+}